@@ -0,0 +1,90 @@
+package seedu.address.commons.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.model.HealthBook;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.XmlSerializableHealthBook;
+
+/**
+ * Measures saving and loading a {@code XmlSerializableHealthBook} through {@code XmlUtil} at different book sizes.
+ * The cold benchmarks discard the cached JAXB contexts and marshallers first, as every call did before they were
+ * cached, while the warm benchmarks reuse them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class XmlUtilBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    private XmlSerializableHealthBook data;
+    private Path file;
+
+    @Setup
+    public void setUp() throws IOException, JAXBException {
+        HealthBook healthBook = new HealthBook();
+        for (int i = 0; i < size; i++) {
+            healthBook.addPatient(createPatient(i));
+        }
+        data = new XmlSerializableHealthBook(healthBook);
+        file = Files.createTempFile("XmlUtilBenchmark", ".xml");
+        XmlUtil.saveDataToFile(file, data);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public Path saveCold() throws IOException, JAXBException {
+        XmlUtil.clearCaches();
+        XmlUtil.saveDataToFile(file, data);
+        return file;
+    }
+
+    @Benchmark
+    public Path saveWarm() throws IOException, JAXBException {
+        XmlUtil.saveDataToFile(file, data);
+        return file;
+    }
+
+    @Benchmark
+    public XmlSerializableHealthBook loadCold() throws IOException, JAXBException {
+        XmlUtil.clearCaches();
+        return XmlUtil.getDataFromFile(file, XmlSerializableHealthBook.class);
+    }
+
+    @Benchmark
+    public XmlSerializableHealthBook loadWarm() throws IOException, JAXBException {
+        return XmlUtil.getDataFromFile(file, XmlSerializableHealthBook.class);
+    }
+
+    private static Patient createPatient(int i) {
+        return new Patient(new Name("Patient " + i), new Phone(String.valueOf(80000000 + i)),
+                new Email("patient" + i + "@example.com"), new Address("Blk " + i + " Clementi Ave 3"),
+                SampleDataUtil.EMPTY_REMARK, SampleDataUtil.getTagSet("Patient"), "123");
+    }
+}
@@ -0,0 +1,292 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+
+import com.google.api.client.auth.oauth2.Credential;
+import com.google.api.client.http.javanet.NetHttpTransport;
+
+import seedu.address.calendar.GoogleCalendar;
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.AddAppointmentCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RemarkCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.ViewDoctorCommand;
+import seedu.address.logic.commands.ViewPatientCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.HealthBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.doctor.Doctor;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SampleDataGenerator;
+
+/**
+ * Replays a stream of commands through {@link LogicManager#execute(String)} against a generated health book, without
+ * the UI, and reports the throughput and the latency percentiles of the commands.
+ * <p>
+ * The commands are either read from a script, one command per line, or generated from the health book: a seeded mix
+ * of the commands that find and view persons, add appointments, change remarks, and undo and redo the changes. As a
+ * user would, the generated commands name only persons shown in the person list.
+ * Appointments are added to the calendar stub of this class, so that nothing is sent to Google Calendar.
+ * <p>
+ * Run with {@code gradlew replay -PreplayArgs="--patients=100000 --commands=20000"}. The parameters are
+ * <ul>
+ *     <li>{@code --patients}, {@code --doctors}: the size of the health book, 10000 and 100 by default</li>
+ *     <li>{@code --appointments}, {@code --prescriptions}, {@code --history}: the appointments of each patient, the
+ *     prescriptions of each appointment and the medical history entries of each patient, 2, 1 and 1 by default</li>
+ *     <li>{@code --seed}: the seed of the health book and of the generated commands, 42 by default</li>
+ *     <li>{@code --commands}: the number of commands to generate, 10000 by default</li>
+ *     <li>{@code --warmup}: the number of generated commands to run first without measuring them, 2000 by default</li>
+ *     <li>{@code --script}: a file of commands to replay instead of generated ones</li>
+ * </ul>
+ */
+public class CommandReplay {
+
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final int APPOINTMENT_MINUTES = 30;
+
+    private final Logic logic;
+
+    public CommandReplay(Logic logic) {
+        this.logic = requireNonNull(logic);
+    }
+
+    /**
+     * Executes {@code commands} in order, and returns how long they took. Commands that fail are counted and timed
+     * like the others.
+     */
+    public Result replay(List<String> commands) {
+        LatencyHistogram latencies = new LatencyHistogram();
+        int failures = 0;
+        long start = System.nanoTime();
+        for (String command : commands) {
+            long commandStart = System.nanoTime();
+            try {
+                logic.execute(command);
+            } catch (CommandException | ParseException e) {
+                failures++;
+            }
+            latencies.record(System.nanoTime() - commandStart);
+        }
+        return new Result(commands.size(), failures, System.nanoTime() - start, latencies);
+    }
+
+    /**
+     * Returns {@code count} commands that act on the persons of {@code healthBook}, generated by {@code generator}.
+     * The appointments added are booked after the generated ones, one slot after another, so that they never clash.
+     * The same seed always returns the same commands.
+     */
+    public static List<String> createWorkload(HealthBook healthBook, SampleDataGenerator generator, int count,
+                                              long seed) {
+        List<Patient> patients = new ArrayList<>();
+        List<Doctor> doctors = new ArrayList<>();
+        for (Person person : healthBook.getPersonList()) {
+            if (person instanceof Patient) {
+                patients.add((Patient) person);
+            } else if (person instanceof Doctor) {
+                doctors.add((Doctor) person);
+            }
+        }
+        if (patients.isEmpty() || doctors.isEmpty()) {
+            throw new IllegalArgumentException("Cannot generate commands without patients and doctors");
+        }
+
+        Random random = new Random(seed);
+        LocalDateTime nextFreeSlot = generator.getFirstFreeAppointmentTime();
+        List<String> commands = new ArrayList<>(count);
+        // The patient last found, the only one that can be named while the person list shows what was found
+        Patient found = null;
+        while (commands.size() < count) {
+            Patient patient = found != null ? found : patients.get(random.nextInt(patients.size()));
+            Doctor doctor = doctors.get(random.nextInt(doctors.size()));
+            int kind = random.nextInt(100);
+            if (kind < 30) {
+                found = patients.get(random.nextInt(patients.size()));
+                String[] words = found.getName().fullName.split(" ");
+                commands.add(FindCommand.COMMAND_WORD + " " + words[random.nextInt(words.length)]);
+            } else if (kind < 50) {
+                commands.add(ViewPatientCommand.COMMAND_WORD + identify("n/", "p/", patient));
+            } else if (kind < 70) {
+                commands.add(RemarkCommand.COMMAND_WORD + identify("n/", "p/", patient)
+                        + " r/Seen " + commands.size());
+            } else if (kind < 90 && found != null) {
+                // Doctors are not found by finding patients
+                commands.add(ListCommand.COMMAND_WORD);
+                found = null;
+            } else if (kind < 80) {
+                commands.add(ViewDoctorCommand.COMMAND_WORD + identify("n/", "p/", doctor));
+            } else if (kind < 90) {
+                commands.add(AddAppointmentCommand.COMMAND_WORD + identify("np/", "pp/", patient)
+                        + identify("nd/", "pd/", doctor) + " d/" + DATE_TIME_FORMAT.format(nextFreeSlot));
+                nextFreeSlot = nextFreeSlot.plusMinutes(APPOINTMENT_MINUTES);
+            } else if (kind < 95) {
+                commands.add(UndoCommand.COMMAND_WORD);
+            } else {
+                commands.add(RedoCommand.COMMAND_WORD);
+            }
+        }
+        return commands;
+    }
+
+    private static String identify(String namePrefix, String phonePrefix, Person person) {
+        return " " + namePrefix + person.getName().fullName + " " + phonePrefix + person.getPhone().value;
+    }
+
+    /**
+     * Generates a health book, replays commands against it and prints the results.
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> parameters = parseParameters(args);
+        int patientCount = Integer.parseInt(parameters.getOrDefault("patients", "10000"));
+        int doctorCount = Integer.parseInt(parameters.getOrDefault("doctors", "100"));
+        long seed = Long.parseLong(parameters.getOrDefault("seed", String.valueOf(SampleDataGenerator.DEFAULT_SEED)));
+        int commandCount = Integer.parseInt(parameters.getOrDefault("commands", "10000"));
+        int warmupCount = Integer.parseInt(parameters.getOrDefault("warmup", "2000"));
+
+        // Logging every command would be measured along with it
+        Config config = new Config();
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+
+        SampleDataGenerator generator = new SampleDataGenerator(patientCount, doctorCount)
+                .withSeed(seed)
+                .withAppointmentsPerPatient(Integer.parseInt(parameters.getOrDefault("appointments", "2")))
+                .withPrescriptionsPerAppointment(Integer.parseInt(parameters.getOrDefault("prescriptions", "1")))
+                .withMedicalHistoryEntries(Integer.parseInt(parameters.getOrDefault("history", "1")));
+        long generateStart = System.nanoTime();
+        HealthBook healthBook = generator.generate();
+        System.out.println(String.format("Generated %d persons and %d appointments in %d ms",
+                healthBook.getPersonList().size(), healthBook.getAppointmentList().size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - generateStart)));
+
+        List<String> commands;
+        if (parameters.containsKey("script")) {
+            commands = Files.readAllLines(Paths.get(parameters.get("script")), StandardCharsets.UTF_8).stream()
+                    .map(String::trim)
+                    .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                    .collect(Collectors.toList());
+        } else {
+            commands = createWorkload(healthBook, generator, warmupCount + commandCount, seed);
+        }
+        int warmupEnd = Math.min(warmupCount, commands.size() / 2);
+
+        LogicManager logic = new LogicManager(new ModelManager(healthBook, new UserPrefs()), new CalendarStub());
+        CommandReplay replay = new CommandReplay(logic);
+        replay.replay(commands.subList(0, warmupEnd));
+        Result result = replay.replay(commands.subList(warmupEnd, commands.size()));
+
+        System.out.println(result);
+        System.out.println(logic.getCommandMetrics().getSummary());
+    }
+
+    /**
+     * Returns the values of parameters of the form {@code --name=value}, by name.
+     */
+    private static Map<String, String> parseParameters(String[] args) {
+        Map<String, String> parameters = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Parameters must be of the form --name=value: " + arg);
+            }
+            parameters.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return parameters;
+    }
+
+    /**
+     * The number of commands replayed, how many failed and how long they took.
+     */
+    public static class Result {
+        private final int count;
+        private final int failures;
+        private final long elapsedNanos;
+        private final LatencyHistogram latencies;
+
+        Result(int count, int failures, long elapsedNanos, LatencyHistogram latencies) {
+            this.count = count;
+            this.failures = failures;
+            this.elapsedNanos = elapsedNanos;
+            this.latencies = latencies;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public int getFailures() {
+            return failures;
+        }
+
+        public LatencyHistogram getLatencies() {
+            return latencies;
+        }
+
+        /**
+         * Returns the number of commands replayed per second.
+         */
+        public double getThroughput() {
+            return elapsedNanos == 0 ? 0 : count / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%d commands (%d failed) in %d ms, %.1f commands/s; "
+                    + "p50 %s, p90 %s, p99 %s, p99.9 %s, max %s", count, failures,
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), getThroughput(),
+                    toMillis(latencies.getPercentileNanos(50)), toMillis(latencies.getPercentileNanos(90)),
+                    toMillis(latencies.getPercentileNanos(99)), toMillis(latencies.getPercentileNanos(99.9)),
+                    toMillis(latencies.getMaxNanos()));
+        }
+
+        private static String toMillis(long nanos) {
+            return String.format(Locale.ROOT, "%.3f ms", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    /**
+     * A calendar that keeps nothing, so that replayed commands are measured without the network.
+     */
+    private static class CalendarStub implements GoogleCalendar {
+        @Override
+        public Credential getCredentials(NetHttpTransport httpTransport, String userName) {
+            return null;
+        }
+
+        @Override
+        public void registerDoctor(String userName) {
+        }
+
+        @Override
+        public void addAppointment(String userName, Appointment appointment) {
+        }
+
+        @Override
+        public void deleteAppointment(String userName, Appointment appointment) {
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DOCTOR_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DOCTOR_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PATIENT_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PATIENT_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures parsing commands as entered by the user, and tokenizing their arguments, for commands with few and with
+ * many prefixes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HealthBookParserBenchmark {
+
+    private static final String REGISTER_PATIENT = "register-patient n/John Doe p/98765432 e/johnd@example.com "
+            + "a/311, Clementi Ave 2, #02-25";
+    private static final String ADD_APPOINTMENT = "add-appointment np/John Doe pp/98765432 nd/Mary Jane "
+            + "pd/98765434 d/2018-10-17 15:00";
+    private static final String FIND = "find Alice Bob Charlie";
+    private static final String LIST = "list";
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+            PREFIX_ADDRESS, PREFIX_TAG, PREFIX_REMARK, PREFIX_PATIENT_NAME, PREFIX_PATIENT_PHONE, PREFIX_DOCTOR_NAME,
+            PREFIX_DOCTOR_PHONE, PREFIX_DATE_TIME);
+
+    @Param({"register-patient", "add-appointment", "find", "list"})
+    private String command;
+
+    private final HealthBookParser parser = new HealthBookParser();
+    private String commandText;
+    private String arguments;
+
+    @Setup
+    public void setUp() {
+        switch (command) {
+        case "register-patient":
+            commandText = REGISTER_PATIENT;
+            break;
+        case "add-appointment":
+            commandText = ADD_APPOINTMENT;
+            break;
+        case "find":
+            commandText = FIND;
+            break;
+        default:
+            commandText = LIST;
+            break;
+        }
+        int firstSpace = commandText.indexOf(' ');
+        arguments = firstSpace == -1 ? "" : commandText.substring(firstSpace);
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(commandText);
+    }
+
+    /**
+     * Tokenizes the arguments of the command with every prefix that a command with persons and appointments uses.
+     */
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return TOKENIZER.tokenizeArguments(arguments);
+    }
+}
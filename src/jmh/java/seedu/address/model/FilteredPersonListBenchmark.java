@@ -0,0 +1,65 @@
+package seedu.address.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.doctor.Doctor;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SampleDataGenerator;
+
+/**
+ * Measures changing the predicate of the filtered person list of a {@code ModelManager} with a generated health book
+ * of {@code size} patients, as the list, filter and find commands do.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FilteredPersonListBenchmark {
+
+    private static final int DOCTOR_COUNT = 20;
+    private static final Predicate<Person> IS_DOCTOR = person -> person instanceof Doctor;
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private ModelManager model;
+    private List<String> nameKeywords;
+
+    @Setup
+    public void setUp() {
+        model = new ModelManager(new SampleDataGenerator(size, DOCTOR_COUNT).generate(), new UserPrefs());
+        Person person = model.getAddressBook().getPersonList().get(DOCTOR_COUNT + size / 2);
+        nameKeywords = Arrays.asList(person.getName().fullName.split("\\s+"));
+    }
+
+    /**
+     * Shows only the doctors and then every person again, as filtering doctors and listing do.
+     */
+    @Benchmark
+    public int filterDoctorsAndShowAll() {
+        model.updateFilteredPersonList(IS_DOCTOR);
+        int doctorCount = model.getFilteredPersonList().size();
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        return doctorCount + model.getFilteredPersonList().size();
+    }
+
+    /**
+     * Shows the persons with any word of a name, as the find command does.
+     */
+    @Benchmark
+    public int findByName() {
+        model.updateFilteredPersonListByName(nameKeywords);
+        return model.getFilteredPersonList().size();
+    }
+}
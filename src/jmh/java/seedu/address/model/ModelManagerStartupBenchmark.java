@@ -0,0 +1,68 @@
+package seedu.address.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Measures the time taken to load a health book of {@code records} patients, each with one upcoming appointment,
+ * into a new model, as at startup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ModelManagerStartupBenchmark {
+
+    @Param({"100000"})
+    private int records;
+
+    private HealthBook healthBook;
+    private UserPrefs userPrefs;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Person> persons = new ArrayList<>(records);
+        List<Appointment> appointments = new ArrayList<>(records);
+        LocalDateTime start = LocalDateTime.of(2018, 11, 1, 9, 0);
+        for (int i = 0; i < records; i++) {
+            Patient patient = new Patient(new Name("Patient " + i), new Phone(String.valueOf(80000000 + i)),
+                    new Email("patient" + i + "@example.com"), new Address("Blk " + i + " Clementi Ave 3"),
+                    SampleDataUtil.EMPTY_REMARK, SampleDataUtil.getTagSet("Patient"), "123");
+            Appointment appointment = new Appointment(10000 + i, "Doctor", patient.getName().fullName,
+                    start.plusMinutes(30L * i));
+            patient.addUpcomingAppointment(appointment);
+            persons.add(patient);
+            appointments.add(appointment);
+        }
+        healthBook = new HealthBook();
+        healthBook.setPersons(persons);
+        healthBook.setAppointments(appointments);
+        healthBook.setAppointmentCounter(10000 + records);
+        userPrefs = new UserPrefs();
+    }
+
+    @Benchmark
+    public ModelManager createModelManager() {
+        return new ModelManager(healthBook, userPrefs);
+    }
+}
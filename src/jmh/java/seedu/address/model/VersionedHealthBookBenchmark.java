@@ -0,0 +1,91 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.model.patient.Patient;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Measures the time and retained heap of editing one person and committing, {@code COMMITS} times in a row, against
+ * a health book of {@code records} persons.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VersionedHealthBookBenchmark {
+
+    private static final int COMMITS = 10_000;
+
+    @Param({"20000"})
+    private int records;
+
+    @Param({"100", "10000"})
+    private int historyLimit;
+
+    private VersionedHealthBook versionedHealthBook;
+    private long heapBeforeCommits;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        List<Person> persons = new ArrayList<>(records);
+        for (int i = 0; i < records; i++) {
+            persons.add(createPatient(i, "Blk " + i + " Clementi Ave 3"));
+        }
+        HealthBook healthBook = new HealthBook();
+        healthBook.setPersons(persons);
+        versionedHealthBook = new VersionedHealthBook(healthBook, historyLimit);
+        heapBeforeCommits = usedHeap();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportRetainedHeap() {
+        System.out.printf("%nRetained heap after %d commits: %.1f MB%n", COMMITS,
+                (usedHeap() - heapBeforeCommits) / (1024.0 * 1024.0));
+    }
+
+    @Benchmark
+    public VersionedHealthBook editAndCommit() {
+        for (int i = 0; i < COMMITS; i++) {
+            int index = i % records;
+            Person target = versionedHealthBook.getPersonList().get(index);
+            versionedHealthBook.updatePerson(target, createPatient(index, "Edit " + i));
+            versionedHealthBook.commit();
+        }
+        return versionedHealthBook;
+    }
+
+    private static Patient createPatient(int i, String address) {
+        return new Patient(new Name("Patient " + i), new Phone(String.valueOf(80000000 + i)),
+                new Email("patient" + i + "@example.com"), new Address(address),
+                SampleDataUtil.EMPTY_REMARK, SampleDataUtil.getTagSet("Patient"), "123");
+    }
+
+    /**
+     * Returns the heap in use after asking the collector to reclaim unreachable objects.
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
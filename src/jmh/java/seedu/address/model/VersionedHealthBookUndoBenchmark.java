@@ -0,0 +1,70 @@
+package seedu.address.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.patient.Patient;
+import seedu.address.model.person.Address;
+import seedu.address.model.util.SampleDataGenerator;
+
+/**
+ * Measures a single edit and commit, and undoing and redoing it, against a generated health book of {@code size}
+ * patients, as the commands that change the health book and the undo and redo commands do.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VersionedHealthBookUndoBenchmark {
+
+    private static final int DOCTOR_COUNT = 20;
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private VersionedHealthBook versionedHealthBook;
+    private int edits;
+
+    @Setup
+    public void setUp() {
+        versionedHealthBook = new VersionedHealthBook(new SampleDataGenerator(size, DOCTOR_COUNT).generate());
+        // Leaves a change to undo and redo
+        editOnePerson();
+        versionedHealthBook.commit();
+    }
+
+    @Benchmark
+    public VersionedHealthBook editAndCommit() {
+        editOnePerson();
+        versionedHealthBook.commit();
+        return versionedHealthBook;
+    }
+
+    @Benchmark
+    public VersionedHealthBook undoAndRedo() {
+        versionedHealthBook.undo();
+        versionedHealthBook.redo();
+        return versionedHealthBook;
+    }
+
+    /**
+     * Changes the address of the next patient, as the edit command does.
+     */
+    private void editOnePerson() {
+        int index = DOCTOR_COUNT + edits % size;
+        Patient target = (Patient) versionedHealthBook.getPersonList().get(index);
+        Patient editedPatient = new Patient(target.getName(), target.getPhone(), target.getEmail(),
+                new Address("Blk " + edits + " Clementi Ave 3"), target.getRemark(), target.getTags(),
+                target.getTelegramId(), target.getUpcomingAppointments(), target.getPastAppointments(),
+                target.getMedicalHistory());
+        edits++;
+        versionedHealthBook.updatePerson(target, editedPatient);
+    }
+}
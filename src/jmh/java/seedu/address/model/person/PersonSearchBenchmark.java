@@ -0,0 +1,125 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.patient.Patient;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Measures ranked searches of {@code PersonSearchIndex} over persons with made up names drawn from a fixed pool, so
+ * that names share words the way real names do.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PersonSearchBenchmark {
+
+    private static final int LIMIT = 20;
+    private static final String[] FIRST_NAMES = createWords(new Random(1), 300);
+    private static final String[] LAST_NAMES = createWords(new Random(2), 800);
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private List<Person> persons;
+    private PersonSearchIndex index;
+    private String fullName;
+    private String misspelledName;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        persons = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            persons.add(createPatient(i, random));
+        }
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(persons);
+        index = uniquePersonList.getSearchIndex();
+
+        fullName = persons.get(size / 2).getName().fullName;
+        // Drops the third letter of the first name
+        misspelledName = fullName.substring(0, 2) + fullName.substring(3);
+    }
+
+    @Benchmark
+    public List<Person> fullName() {
+        return index.search(fullName, LIMIT, person -> true);
+    }
+
+    @Benchmark
+    public List<Person> misspelledName() {
+        return index.search(misspelledName, LIMIT, person -> true);
+    }
+
+    @Benchmark
+    public List<Person> namePrefix() {
+        return index.search(fullName.substring(0, 3), LIMIT, person -> true);
+    }
+
+    @Benchmark
+    public List<Person> phonePrefix() {
+        return index.search("8001", LIMIT, person -> true);
+    }
+
+    /**
+     * Searches for a single letter, which starts the words of most persons.
+     */
+    @Benchmark
+    public List<Person> commonPrefix() {
+        return index.search("a", LIMIT, person -> true);
+    }
+
+    /**
+     * Searches for a word in every address together with a rarer one.
+     */
+    @Benchmark
+    public List<Person> commonWord() {
+        return index.search("clementi 12", LIMIT, person -> true);
+    }
+
+    /**
+     * Builds the index of {@code size} persons, as the first search after loading a health book does.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public PersonSearchIndex build() {
+        PersonSearchIndex builtIndex = new PersonSearchIndex();
+        builtIndex.setPersons(persons);
+        return builtIndex;
+    }
+
+    private static Patient createPatient(int i, Random random) {
+        String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        return new Patient(new Name(name), new Phone(String.valueOf(80000000 + i)),
+                new Email("patient" + i + "@example.com"), new Address("Blk " + i + " Clementi Ave 3"),
+                SampleDataUtil.EMPTY_REMARK, SampleDataUtil.getTagSet("Patient"), "123");
+    }
+
+    private static String[] createWords(Random random, int count) {
+        String[] words = new String[count];
+        for (int i = 0; i < count; i++) {
+            StringBuilder word = new StringBuilder().append((char) ('A' + random.nextInt(26)));
+            int length = 3 + random.nextInt(6);
+            for (int j = 1; j < length; j++) {
+                word.append((char) ('a' + random.nextInt(26)));
+            }
+            words[i] = word.toString();
+        }
+        return words;
+    }
+}
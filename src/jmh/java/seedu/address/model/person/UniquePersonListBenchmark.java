@@ -0,0 +1,95 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.patient.Patient;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Measures the identity look-ups of {@code UniquePersonList} at different list sizes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private UniquePersonList uniquePersonList;
+    private List<Person> persons;
+    private Patient absentPatient;
+    private int probe;
+
+    @Setup
+    public void setUp() {
+        persons = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            persons.add(createPatient(i));
+        }
+        uniquePersonList = new UniquePersonList();
+        persons.forEach(uniquePersonList::add);
+        absentPatient = createPatient(size);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return uniquePersonList.contains(nextPerson());
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return uniquePersonList.contains(absentPatient);
+    }
+
+    @Benchmark
+    public Patient findPatient() {
+        return uniquePersonList.findPatient((Patient) nextPerson());
+    }
+
+    /**
+     * Adds a new person to the end of the list and removes it again, so that the list keeps its size.
+     */
+    @Benchmark
+    public UniquePersonList addAndRemove() {
+        uniquePersonList.add(absentPatient);
+        uniquePersonList.remove(absentPatient);
+        return uniquePersonList;
+    }
+
+    /**
+     * Builds a list of {@code size} persons one by one, as a bulk import would.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public UniquePersonList bulkAdd() {
+        UniquePersonList list = new UniquePersonList();
+        for (Person person : persons) {
+            list.add(person);
+        }
+        return list;
+    }
+
+    private Person nextPerson() {
+        probe = (probe + 7919) % size;
+        return persons.get(probe);
+    }
+
+    private static Patient createPatient(int i) {
+        return new Patient(new Name("Patient " + i), new Phone(String.valueOf(80000000 + i)),
+                new Email("patient" + i + "@example.com"), new Address("Blk " + i + " Clementi Ave 3"),
+                SampleDataUtil.EMPTY_REMARK, SampleDataUtil.getTagSet("Patient"), "123");
+    }
+}
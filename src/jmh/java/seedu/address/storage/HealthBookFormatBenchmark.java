@@ -0,0 +1,84 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.HealthBook;
+import seedu.address.model.ReadOnlyHealthBook;
+import seedu.address.model.util.SampleDataGenerator;
+
+/**
+ * Compares loading and saving a generated HealthBook of {@code size} patients in the XML and binary formats.
+ * Each patient has two appointments with one of a few doctors. The size of both files is printed when the benchmark
+ * is set up.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class HealthBookFormatBenchmark {
+
+    private static final int DOCTOR_COUNT = 20;
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private HealthBook healthBook;
+    private Path xmlFile;
+    private Path binaryFile;
+    private XmlHealthBookStorage xmlStorage;
+    private BinaryHealthBookStorage binaryStorage;
+
+    @Setup
+    public void setUp() throws IOException {
+        healthBook = new SampleDataGenerator(size, DOCTOR_COUNT).generate();
+        xmlFile = Files.createTempFile("HealthBookFormatBenchmark", ".xml");
+        binaryFile = Files.createTempFile("HealthBookFormatBenchmark", BinaryHealthBookStorage.FILE_EXTENSION);
+        xmlStorage = new XmlHealthBookStorage(xmlFile);
+        binaryStorage = new BinaryHealthBookStorage(binaryFile);
+        xmlStorage.saveAddressBook(healthBook);
+        binaryStorage.saveAddressBook(healthBook);
+        System.out.printf("%n%d patients: XML file %d bytes, binary file %d bytes%n", size, Files.size(xmlFile),
+                Files.size(binaryFile));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(xmlFile);
+        Files.deleteIfExists(binaryFile);
+    }
+
+    @Benchmark
+    public ReadOnlyHealthBook loadXml() throws DataConversionException, IOException {
+        return xmlStorage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public ReadOnlyHealthBook loadBinary() throws DataConversionException, IOException {
+        return binaryStorage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public Path saveXml() throws IOException {
+        xmlStorage.saveAddressBook(healthBook);
+        return xmlFile;
+    }
+
+    @Benchmark
+    public Path saveBinary() throws IOException {
+        binaryStorage.saveAddressBook(healthBook);
+        return binaryFile;
+    }
+}
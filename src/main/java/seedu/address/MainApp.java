@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -10,6 +11,8 @@ import com.google.common.eventbus.Subscribe;
 import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.stage.Stage;
+import seedu.address.calendar.GoogleCalendarManager;
+import seedu.address.calendar.QueuedGoogleCalendar;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
@@ -25,13 +28,18 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyHealthBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Appointment;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.BinaryHealthBookStorage;
 import seedu.address.storage.HealthBookStorage;
+import seedu.address.storage.JournaledXmlHealthBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.MappedBinaryHealthBookStorage;
+import seedu.address.storage.SaveScheduler;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
-import seedu.address.storage.XmlHealthBookStorage;
+import seedu.address.storage.XmlCalendarQueueStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -50,6 +58,7 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
     protected UserPrefs userPrefs;
+    protected QueuedGoogleCalendar googleCalendar;
 
 
     @Override
@@ -62,20 +71,37 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        HealthBookStorage healthBookStorage = new XmlHealthBookStorage(userPrefs.getHealthBookFilePath());
-        storage = new StorageManager(healthBookStorage, userPrefsStorage);
+        HealthBookStorage healthBookStorage = initHealthBookStorage(userPrefs.getHealthBookFilePath());
+        storage = new StorageManager(healthBookStorage, userPrefsStorage, Platform::runLater,
+                SaveScheduler.DEFAULT_DEBOUNCE_MILLIS);
 
         initLogging(config);
+        initAppointmentDuration(config);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model);
+        googleCalendar = new QueuedGoogleCalendar(new GoogleCalendarManager(), new XmlCalendarQueueStorage(
+                userPrefs.getHealthBookFilePath().resolveSibling(XmlCalendarQueueStorage.DEFAULT_FILE_NAME)));
+        logic = new LogicManager(model, googleCalendar);
 
         ui = new UiManager(logic, config, userPrefs);
 
         initEventsCenter();
     }
 
+    /**
+     * Returns a storage for the health book file at {@code filePath}. Files with the binary extension are stored in
+     * the binary format, memory-mapped where the platform allows it, and all others as XML with a journal of changes.
+     */
+    private HealthBookStorage initHealthBookStorage(Path filePath) {
+        if (BinaryHealthBookStorage.isBinaryFile(filePath)) {
+            return MappedBinaryHealthBookStorage.isSupported()
+                    ? new MappedBinaryHealthBookStorage(filePath)
+                    : new BinaryHealthBookStorage(filePath);
+        }
+        return new JournaledXmlHealthBookStorage(filePath);
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s health book and {@code userPrefs}. <br>
      * The data from the sample health book will be used instead if {@code storage}'s health book is not found,
@@ -105,6 +131,18 @@ public class MainApp extends Application {
         LogsCenter.init(config);
     }
 
+    /**
+     * Sets the duration of appointments from {@code config}, keeping the default if it is not positive.
+     */
+    private void initAppointmentDuration(Config config) {
+        try {
+            Appointment.setDuration(Duration.ofMinutes(config.getAppointmentDurationMinutes()));
+        } catch (IllegalArgumentException e) {
+            logger.warning(e.getMessage() + ". Using the default of " + Appointment.DEFAULT_DURATION.toMinutes()
+                    + " minutes");
+        }
+    }
+
     /**
      * Returns a {@code Config} using the file at {@code configFilePath}. <br>
      * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
@@ -173,8 +211,19 @@ public class MainApp extends Application {
         return initializedPrefs;
     }
 
+    /**
+     * Registers the app to handle events on the UI thread, and starts dispatching events to handlers that do not
+     * need the UI thread in the background.
+     */
     private void initEventsCenter() {
-        EventsCenter.getInstance().registerHandler(this);
+        EventsCenter.getInstance().registerHandler(this, EventsCenter.Category.UI);
+        EventsCenter.getInstance().startAsyncDispatch(task -> {
+            if (Platform.isFxApplicationThread()) {
+                task.run();
+            } else {
+                Platform.runLater(task);
+            }
+        });
     }
 
     @Override
@@ -187,6 +236,10 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
         ui.stop();
+        storage.flushAddressBook();
+        EventsCenter.getInstance().stopAsyncDispatch();
+        writeCommandStatistics();
+        googleCalendar.close();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
@@ -196,6 +249,21 @@ public class MainApp extends Application {
         System.exit(0);
     }
 
+    /**
+     * Writes the time taken by the commands entered to the file given in the config, if there is one.
+     */
+    private void writeCommandStatistics() {
+        Path statisticsFilePath = config.getCommandStatisticsFilePath();
+        if (statisticsFilePath == null) {
+            return;
+        }
+        try {
+            logic.getCommandMetrics().writeTo(statisticsFilePath);
+        } catch (IOException e) {
+            logger.warning("Failed to save command statistics " + StringUtil.getDetails(e));
+        }
+    }
+
     @Subscribe
     public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
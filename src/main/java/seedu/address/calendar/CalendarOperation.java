@@ -0,0 +1,70 @@
+package seedu.address.calendar;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Objects;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentId;
+
+/**
+ * A change to be made to the calendar of a doctor: an appointment event to be added, or to be deleted.
+ * The appointment is copied when the change is created, so that the change can be made later, on another thread,
+ * as it was requested.
+ * Guarantees: fields are present and not null.
+ */
+public class CalendarOperation {
+
+    /**
+     * The kinds of change that can be made to a calendar.
+     */
+    public enum Kind { ADD, DELETE }
+
+    private final Kind kind;
+    private final String userName;
+    private final Appointment appointment;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public CalendarOperation(Kind kind, String userName, Appointment appointment) {
+        requireAllNonNull(kind, userName, appointment);
+        this.kind = kind;
+        this.userName = userName;
+        this.appointment = new Appointment(new AppointmentId(appointment.getAppointmentId()),
+                appointment.getDoctor(), appointment.getPatient(), appointment.getDateTime(),
+                appointment.getStatus(), appointment.getComments(), new ArrayList<>(appointment.getPrescriptions()));
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public Appointment getAppointment() {
+        return appointment;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CalendarOperation // instanceof handles nulls
+                && kind == ((CalendarOperation) other).kind
+                && userName.equals(((CalendarOperation) other).userName)
+                && appointment.equals(((CalendarOperation) other).appointment));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, userName, appointment.getAppointmentId());
+    }
+
+    @Override
+    public String toString() {
+        return kind + " " + appointment.getAppointmentId() + " for " + userName;
+    }
+}
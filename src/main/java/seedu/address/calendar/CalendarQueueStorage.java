@@ -0,0 +1,35 @@
+package seedu.address.calendar;
+
+import java.io.IOException;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataConversionException;
+
+/**
+ * Keeps the calendar changes that are waiting to be sent, so that they survive a restart of the app.
+ */
+public interface CalendarQueueStorage {
+
+    /**
+     * Returns the waiting calendar changes in the order they were requested, or an empty list if there are none.
+     *
+     * @throws DataConversionException if the stored changes are not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    List<CalendarOperation> readOperations() throws DataConversionException, IOException;
+
+    /**
+     * Replaces the stored calendar changes with {@code operations}.
+     *
+     * @throws IOException if there was any problem writing to the storage.
+     */
+    void saveOperations(List<CalendarOperation> operations) throws IOException;
+
+    /**
+     * Moves the stored calendar changes out of the way, so that they are kept but no longer read or replaced.
+     * Does nothing if there are no stored changes.
+     *
+     * @throws IOException if there was any problem moving the stored changes.
+     */
+    void moveAside() throws IOException;
+}
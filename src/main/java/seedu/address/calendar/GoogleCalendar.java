@@ -2,6 +2,7 @@ package seedu.address.calendar;
 
 import java.io.IOException;
 import java.security.GeneralSecurityException;
+import java.util.List;
 
 import com.google.api.client.auth.oauth2.Credential;
 import com.google.api.client.http.javanet.NetHttpTransport;
@@ -39,4 +40,19 @@ public interface GoogleCalendar {
      */
     public void deleteAppointment(String userName, Appointment appointment) throws IOException,
             GeneralSecurityException;
+
+    /**
+     * Makes every change in {@code operations} to the primary calendar of the doctor {@code userName}, in order.
+     * Implementations may send the changes together in fewer requests, as long as the calendar ends up the same.
+     */
+    default void syncAppointments(String userName, List<CalendarOperation> operations)
+            throws IOException, GeneralSecurityException {
+        for (CalendarOperation operation : operations) {
+            if (operation.getKind() == CalendarOperation.Kind.ADD) {
+                addAppointment(userName, operation.getAppointment());
+            } else {
+                deleteAppointment(userName, operation.getAppointment());
+            }
+        }
+    }
 }
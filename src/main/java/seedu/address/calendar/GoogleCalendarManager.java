@@ -4,20 +4,30 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.security.GeneralSecurityException;
-import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
 
 import com.google.api.client.auth.oauth2.Credential;
 import com.google.api.client.extensions.java6.auth.oauth2.AuthorizationCodeInstalledApp;
 import com.google.api.client.extensions.jetty.auth.oauth2.LocalServerReceiver;
 import com.google.api.client.googleapis.auth.oauth2.GoogleAuthorizationCodeFlow;
 import com.google.api.client.googleapis.auth.oauth2.GoogleClientSecrets;
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
 import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
+import com.google.api.client.googleapis.json.GoogleJsonError;
 import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
 import com.google.api.client.http.javanet.NetHttpTransport;
 import com.google.api.client.json.JsonFactory;
 import com.google.api.client.json.jackson2.JacksonFactory;
@@ -30,12 +40,20 @@ import com.google.api.services.calendar.model.EventDateTime;
 import com.google.common.base.Charsets;
 import com.google.common.io.BaseEncoding;
 
+import seedu.address.calendar.exceptions.CalendarChangesRejectedException;
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.appointment.Appointment;
 
 /**
  * Manages all information transaction between doctor's google calendar and HealthBook.
+ * <p>
+ * One HTTP transport is shared by every request, and the calendar client of each doctor is cached together with
+ * the doctor's credentials, so that repeated calls reuse connections and tokens. The latency of every call is kept.
  */
 public class GoogleCalendarManager implements GoogleCalendar {
+    public static final int MAX_CACHED_CLIENTS = 16;
+
     private static final String APPLICATION_NAME = "HealthBook";
     private static final JsonFactory JSON_FACTORY = JacksonFactory.getDefaultInstance();
     private static final String TOKENS_DIRECTORY_PATH = "tokens";
@@ -46,101 +64,354 @@ public class GoogleCalendarManager implements GoogleCalendar {
      */
     private static final List<String> SCOPES = Collections.singletonList(CalendarScopes.CALENDAR_EVENTS);
     private static final String CREDENTIALS_FILE_PATH = "credentials.json";
+    private static final String PRIMARY_CALENDAR = "primary";
+    private static final int HTTP_FORBIDDEN = 403;
+    private static final int HTTP_NOT_FOUND = 404;
+    private static final int HTTP_REQUEST_TIMEOUT = 408;
+    private static final int HTTP_CONFLICT = 409;
+    private static final int HTTP_GONE = 410;
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+    private static final int HTTP_SERVER_ERROR = 500;
+    /** Reasons given with {@code HTTP_FORBIDDEN} when a calendar refuses requests for a while, not for good. */
+    private static final List<String> RATE_LIMIT_REASONS = Arrays.asList("rateLimitExceeded", "userRateLimitExceeded");
+
+    private static final Logger logger = LogsCenter.getLogger(GoogleCalendarManager.class);
+
+    /**
+     * The calls to the calendar whose latencies are kept.
+     */
+    public enum Call { REGISTER_DOCTOR, ADD_APPOINTMENT, DELETE_APPOINTMENT, SYNC_APPOINTMENTS }
+
+    private final String rootUrl;
+    private final Map<Call, LatencyHistogram> latencies = new EnumMap<>(Call.class);
+
+    /** The calendar clients of the doctors that used the calendar most recently, least recently used first. */
+    private final Map<String, Calendar> clients = new LinkedHashMap<String, Calendar>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Calendar> eldest) {
+            return size() > MAX_CACHED_CLIENTS;
+        }
+    };
+
+    /** The transport shared by every client, so that connections to the calendar are pooled and reused. */
+    private NetHttpTransport httpTransport;
+    private GoogleAuthorizationCodeFlow flow;
+    private long clientCacheHits;
+    private long clientCacheMisses;
+
+    public GoogleCalendarManager() {
+        this(null, null);
+    }
+
+    /**
+     * Creates a manager that sends requests through {@code httpTransport} to the calendar API at {@code rootUrl}.
+     * Google's trusted transport and calendar API are used for whichever is null.
+     */
+    GoogleCalendarManager(NetHttpTransport httpTransport, String rootUrl) {
+        this.httpTransport = httpTransport;
+        this.rootUrl = rootUrl;
+        for (Call call : Call.values()) {
+            latencies.put(call, new LatencyHistogram());
+        }
+    }
 
     @Override
     public Credential getCredentials(final NetHttpTransport httpTransport, String userName) throws IOException {
-        /// Load client secrets.
-        InputStream in = getClass().getClassLoader().getResourceAsStream(CREDENTIALS_FILE_PATH);
-        InputStreamReader inStreamReader = new InputStreamReader(in);
-        GoogleClientSecrets clientSecrets = GoogleClientSecrets.load(JSON_FACTORY, inStreamReader);
-
-        // Build flow and trigger user authorization request.
-        GoogleAuthorizationCodeFlow flow = new GoogleAuthorizationCodeFlow.Builder(
-            httpTransport, JSON_FACTORY, clientSecrets, SCOPES)
-            .setDataStoreFactory(new FileDataStoreFactory(new java.io.File(TOKENS_DIRECTORY_PATH)))
-            .setAccessType("offline")
-            .build();
-
+        // Trigger user authorization request, unless a token of the user is stored already.
         LocalServerReceiver receiver = new LocalServerReceiver.Builder().setPort(8888).build();
-        return new AuthorizationCodeInstalledApp(flow, receiver).authorize(userName);
+        return new AuthorizationCodeInstalledApp(getFlow(httpTransport), receiver).authorize(userName);
+    }
+
+    public LatencyHistogram getLatencies(Call call) {
+        return latencies.get(call);
+    }
+
+    public synchronized long getClientCacheHits() {
+        return clientCacheHits;
+    }
+
+    public synchronized long getClientCacheMisses() {
+        return clientCacheMisses;
+    }
+
+    /**
+     * Returns a summary of the calls so far, for logging.
+     */
+    public synchronized String getStatistics() {
+        StringBuilder builder = new StringBuilder(String.format("client cache %d hits, %d misses",
+                clientCacheHits, clientCacheMisses));
+        for (Call call : Call.values()) {
+            builder.append(", ").append(call).append(' ').append(latencies.get(call));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns the calendar client of the doctor {@code userName}, authorizing the doctor if the client is not
+     * cached already. The least recently used client is evicted once {@link #MAX_CACHED_CLIENTS} are cached.
+     */
+    Calendar getService(String userName) throws IOException, GeneralSecurityException {
+        NetHttpTransport transport;
+        synchronized (this) {
+            Calendar service = clients.get(userName);
+            if (service != null) {
+                clientCacheHits++;
+                return service;
+            }
+            clientCacheMisses++;
+            transport = getTransport();
+        }
+
+        // Authorization may wait for the doctor to sign in, so other doctors' clients are not held up meanwhile
+        Calendar.Builder builder = new Calendar.Builder(transport, JSON_FACTORY, getCredentials(transport, userName))
+                .setApplicationName(APPLICATION_NAME);
+        if (rootUrl != null) {
+            builder.setRootUrl(rootUrl);
+        }
+        Calendar service = builder.build();
+        synchronized (this) {
+            clients.put(userName, service);
+        }
+        logger.fine("Created calendar client for " + userName);
+        return service;
+    }
+
+    private synchronized NetHttpTransport getTransport() throws IOException, GeneralSecurityException {
+        if (httpTransport == null) {
+            httpTransport = GoogleNetHttpTransport.newTrustedTransport();
+        }
+        return httpTransport;
+    }
+
+    /**
+     * Returns the authorization flow, loading the client secrets and the token store the first time only.
+     */
+    private synchronized GoogleAuthorizationCodeFlow getFlow(NetHttpTransport httpTransport) throws IOException {
+        if (flow == null) {
+            // Load client secrets.
+            InputStream in = getClass().getClassLoader().getResourceAsStream(CREDENTIALS_FILE_PATH);
+            InputStreamReader inStreamReader = new InputStreamReader(in);
+            GoogleClientSecrets clientSecrets = GoogleClientSecrets.load(JSON_FACTORY, inStreamReader);
+
+            flow = new GoogleAuthorizationCodeFlow.Builder(httpTransport, JSON_FACTORY, clientSecrets, SCOPES)
+                    .setDataStoreFactory(new FileDataStoreFactory(new java.io.File(TOKENS_DIRECTORY_PATH)))
+                    .setAccessType("offline")
+                    .build();
+        }
+        return flow;
     }
 
     @Override
     public void registerDoctor(String userName) throws IOException, GeneralSecurityException {
-        final NetHttpTransport httpTransport = GoogleNetHttpTransport.newTrustedTransport();
-        Calendar service = new Calendar.Builder(httpTransport, JSON_FACTORY, getCredentials(httpTransport, userName))
-                .setApplicationName(APPLICATION_NAME)
-                .build();
+        long start = System.nanoTime();
+        try {
+            getService(userName);
+        } finally {
+            getLatencies(Call.REGISTER_DOCTOR).record(System.nanoTime() - start);
+        }
     }
 
     @Override
     public void addAppointment(String userName, Appointment appointment) throws IOException, GeneralSecurityException {
-        final NetHttpTransport httpTransport = GoogleNetHttpTransport.newTrustedTransport();
-        Calendar service = new Calendar.Builder(httpTransport, JSON_FACTORY, getCredentials(httpTransport, userName))
-                .setApplicationName(APPLICATION_NAME)
-                .build();
-
-        // Configure Start Date and Time
-        LocalDateTime appointmentDateTime = appointment.getDateTime();
-        ZonedDateTime zdt = appointmentDateTime.atZone(ZoneId.systemDefault());
-        Date startOutput = Date.from(zdt.toInstant());
-        Date endOutput = new Date(startOutput.getTime() + 3600 * 1000);
-        EventDateTime startDateTime = new EventDateTime();
-        startDateTime.setDateTime(new DateTime(startOutput));
-        EventDateTime endDateTime = new EventDateTime();
-        endDateTime.setDateTime(new DateTime(endOutput));
-
-        // Configure Event Id
-        String eventId = "healthbook" + Integer.toString(appointment.getAppointmentId());
-        String eventIdEncoded = BaseEncoding.base32Hex().encode(eventId.getBytes(Charsets.US_ASCII)).toLowerCase();
-
-        // Configure Event
-        Event appointmentToAdd = new Event();
-        appointmentToAdd.setStart(startDateTime);
-        appointmentToAdd.setEnd(endDateTime);
-        appointmentToAdd.setId(eventIdEncoded);
-        appointmentToAdd.setDescription("Comments: " + appointment.getComments());
-        appointmentToAdd.setSummary("Appointment with " + appointment.getPatient());
-
-        // Find existing event with same eventId. Deleted eventId is not deleted entirely but cancelled and hidden
-        Event event = null;
+        long start = System.nanoTime();
         try {
-            event = service.events().get("primary", eventIdEncoded).execute();
-        } catch (GoogleJsonResponseException e) {
-            if (e.getDetails().getCode() == 400) { // No Event Found
-                event = null;
+            Calendar service = getService(userName);
+            Event appointmentToAdd = toEvent(appointment);
+            String eventIdEncoded = appointmentToAdd.getId();
+
+            // Find existing event with same eventId. Deleted eventId is not deleted entirely but cancelled and hidden
+            Event event = null;
+            try {
+                event = service.events().get(PRIMARY_CALENDAR, eventIdEncoded).execute();
+            } catch (GoogleJsonResponseException e) {
+                event = null; // No Event Found
             }
-        }
 
-        if (event == null) {
-            // Insert new Event
-            service.events().insert("primary", appointmentToAdd).execute();
-        } else {
-            service.events().update("primary", eventIdEncoded, appointmentToAdd).execute();
+            if (event == null) {
+                // Insert new Event
+                service.events().insert(PRIMARY_CALENDAR, appointmentToAdd).execute();
+            } else {
+                service.events().update(PRIMARY_CALENDAR, eventIdEncoded, appointmentToAdd).execute();
+            }
+        } finally {
+            getLatencies(Call.ADD_APPOINTMENT).record(System.nanoTime() - start);
         }
     }
 
     @Override
     public void deleteAppointment(String userName, Appointment appointment)
             throws IOException, GeneralSecurityException {
-        final NetHttpTransport httpTransport = GoogleNetHttpTransport.newTrustedTransport();
-        Calendar service = new Calendar.Builder(httpTransport, JSON_FACTORY, getCredentials(httpTransport, userName))
-                .setApplicationName(APPLICATION_NAME)
-                .build();
+        long start = System.nanoTime();
+        try {
+            Calendar service = getService(userName);
+            String eventIdEncoded = encodeEventId(appointment);
 
-        // Configure Event Id
-        String eventId = "healthbook" + Integer.toString(appointment.getAppointmentId());
-        String eventIdEncoded = BaseEncoding.base32Hex().encode(eventId.getBytes(Charsets.US_ASCII)).toLowerCase();
+            // Delete Event. An event that is already gone has nothing left to delete
+            service.events().delete(PRIMARY_CALENDAR, eventIdEncoded).execute();
+        } catch (GoogleJsonResponseException e) {
+            if (e.getStatusCode() != HTTP_NOT_FOUND && e.getStatusCode() != HTTP_GONE) {
+                throw e;
+            }
+        } finally {
+            getLatencies(Call.DELETE_APPOINTMENT).record(System.nanoTime() - start);
+        }
+    }
 
+    /**
+     * Makes the changes in {@code operations} with one batch request, instead of a request or two per change.
+     * <p>
+     * Only the last change to each appointment is sent, as the requests in a batch can be handled in any order.
+     * An appointment is added by inserting its event, and the events that exist already are updated with a second
+     * batch request. Events that are already gone are not deleted again.
+     *
+     * @throws CalendarChangesRejectedException if the calendar refused changes in a way that sending them again
+     *     will not fix. Every other change was made.
+     * @throws IOException if any other change could not be made. Every change may then be sent again.
+     */
+    @Override
+    public void syncAppointments(String userName, List<CalendarOperation> operations)
+            throws IOException, GeneralSecurityException {
+        long start = System.nanoTime();
         try {
-            // Delete Event
-            service.events().delete("primary", eventIdEncoded).execute();
-        } catch (GoogleJsonResponseException e) {
-            if (e.getDetails().getCode() == 410) {
-                return;
+            syncAppointments(getService(userName), operations);
+        } catch (HttpResponseException e) {
+            GoogleJsonError details = e instanceof GoogleJsonResponseException
+                    ? ((GoogleJsonResponseException) e).getDetails() : null;
+            if (!isRetryable(e.getStatusCode(), details)) {
+                throw new CalendarChangesRejectedException(operations, e);
+            }
+            throw e;
+        } finally {
+            getLatencies(Call.SYNC_APPOINTMENTS).record(System.nanoTime() - start);
+        }
+    }
+
+    private void syncAppointments(Calendar service, List<CalendarOperation> operations) throws IOException {
+        Map<String, CalendarOperation> lastOperations = new LinkedHashMap<>();
+        for (CalendarOperation operation : operations) {
+            String eventId = encodeEventId(operation.getAppointment());
+            lastOperations.remove(eventId);
+            lastOperations.put(eventId, operation);
+        }
+
+        List<Event> existingEvents = new ArrayList<>();
+        List<String> failures = new ArrayList<>();
+        List<CalendarOperation> rejected = new ArrayList<>();
+        BatchRequest batch = service.batch();
+        for (Map.Entry<String, CalendarOperation> entry : lastOperations.entrySet()) {
+            CalendarOperation operation = entry.getValue();
+            if (operation.getKind() == CalendarOperation.Kind.ADD) {
+                Event event = toEvent(operation.getAppointment());
+                service.events().insert(PRIMARY_CALENDAR, event).queue(batch, new JsonBatchCallback<Event>() {
+                    @Override
+                    public void onSuccess(Event inserted, HttpHeaders responseHeaders) {}
+
+                    @Override
+                    public void onFailure(GoogleJsonError error, HttpHeaders responseHeaders) {
+                        if (error.getCode() == HTTP_CONFLICT) { // Event exists, or was deleted and is hidden
+                            existingEvents.add(event);
+                        } else {
+                            addFailure(operation, error, failures, rejected);
+                        }
+                    }
+                });
+            } else {
+                service.events().delete(PRIMARY_CALENDAR, entry.getKey()).queue(batch, new JsonBatchCallback<Void>() {
+                    @Override
+                    public void onSuccess(Void deleted, HttpHeaders responseHeaders) {}
+
+                    @Override
+                    public void onFailure(GoogleJsonError error, HttpHeaders responseHeaders) {
+                        if (error.getCode() != HTTP_NOT_FOUND && error.getCode() != HTTP_GONE) {
+                            addFailure(operation, error, failures, rejected);
+                        }
+                    }
+                });
+            }
+        }
+        batch.execute();
+
+        if (!existingEvents.isEmpty()) {
+            BatchRequest updates = service.batch();
+            for (Event event : existingEvents) {
+                service.events().update(PRIMARY_CALENDAR, event.getId(), event).queue(updates,
+                        new JsonBatchCallback<Event>() {
+                            @Override
+                            public void onSuccess(Event updated, HttpHeaders responseHeaders) {}
+
+                            @Override
+                            public void onFailure(GoogleJsonError error, HttpHeaders responseHeaders) {
+                                addFailure(lastOperations.get(event.getId()), error, failures, rejected);
+                            }
+                        });
             }
+            updates.execute();
+        }
+
+        if (failures.isEmpty()) {
+            return;
+        }
+        String message = failures.size() + " of " + lastOperations.size()
+                + " calendar changes failed, the first with: " + failures.get(0);
+        if (failures.size() > rejected.size()) {
+            // Some of the failed changes may be made if they are sent again
+            throw new IOException(message);
+        }
+        throw new CalendarChangesRejectedException(rejected, message);
+    }
+
+    /**
+     * Records that {@code operation} failed with {@code error}, in {@code rejected} as well if sending it again will
+     * not make it succeed.
+     */
+    private static void addFailure(CalendarOperation operation, GoogleJsonError error, List<String> failures,
+                                   List<CalendarOperation> rejected) {
+        failures.add(error.getMessage());
+        if (!isRetryable(error.getCode(), error)) {
+            rejected.add(operation);
         }
+    }
 
+    /**
+     * Returns true if a request that failed with HTTP status {@code statusCode} may succeed if it is sent again
+     * later: the server failed, took too long, or refused requests for a while. The {@code details} of the error,
+     * if any, tell a rate limit from other refusals.
+     */
+    private static boolean isRetryable(int statusCode, GoogleJsonError details) {
+        if (statusCode == HTTP_REQUEST_TIMEOUT || statusCode == HTTP_TOO_MANY_REQUESTS
+                || statusCode >= HTTP_SERVER_ERROR) {
+            return true;
+        }
+        return statusCode == HTTP_FORBIDDEN && details != null && details.getErrors() != null
+                && details.getErrors().stream().anyMatch(info -> RATE_LIMIT_REASONS.contains(info.getReason()));
+    }
 
+    /**
+     * Returns the calendar event of {@code appointment}, lasting the appointment duration from its date and time.
+     */
+    private static Event toEvent(Appointment appointment) {
+        ZonedDateTime zdt = appointment.getDateTime().atZone(ZoneId.systemDefault());
+        Date startOutput = Date.from(zdt.toInstant());
+        Date endOutput = Date.from(zdt.plusSeconds(Appointment.getDurationSeconds()).toInstant());
+        EventDateTime startDateTime = new EventDateTime();
+        startDateTime.setDateTime(new DateTime(startOutput));
+        EventDateTime endDateTime = new EventDateTime();
+        endDateTime.setDateTime(new DateTime(endOutput));
+
+        Event event = new Event();
+        event.setStart(startDateTime);
+        event.setEnd(endDateTime);
+        event.setId(encodeEventId(appointment));
+        event.setDescription("Comments: " + appointment.getComments());
+        event.setSummary("Appointment with " + appointment.getPatient());
+        return event;
+    }
+
+    /**
+     * Returns the calendar event ID of {@code appointment}, encoded from its appointment ID.
+     */
+    private static String encodeEventId(Appointment appointment) {
+        String eventId = "healthbook" + Integer.toString(appointment.getAppointmentId());
+        return BaseEncoding.base32Hex().encode(eventId.getBytes(Charsets.US_ASCII)).toLowerCase();
     }
 }
@@ -0,0 +1,383 @@
+package seedu.address.calendar;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import com.google.api.client.auth.oauth2.Credential;
+import com.google.api.client.http.javanet.NetHttpTransport;
+
+import seedu.address.calendar.exceptions.CalendarChangesRejectedException;
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.appointment.Appointment;
+
+/**
+ * A {@code GoogleCalendar} that sends appointment changes to another {@code GoogleCalendar} in the background, so
+ * that commands do not wait for the calendar to respond.
+ * <p>
+ * Added and deleted appointments are put in a queue and the call returns at once. A background thread sends the
+ * queue in order, taking up to {@link #MAX_BATCH_SIZE} changes of the same doctor together through
+ * {@link GoogleCalendar#syncAppointments(String, List)}. The changes of each doctor are sent in the order they were
+ * made, but the calendars of different doctors do not wait for each other.
+ * <p>
+ * A batch that fails stays in the queue and is sent again after a delay that doubles with every failure in a row for
+ * that doctor, up to {@link #MAX_RETRY_DELAY_MILLIS}, so changes made while offline are sent once the calendar can be
+ * reached again. The changes of other doctors are sent in the meantime. Sending a change again is safe, as adding an
+ * appointment replaces its event and deleting an event that is gone does nothing. Changes that the calendar rejects
+ * for good, as told by a {@link CalendarChangesRejectedException}, or that fail with an error that is not an
+ * {@code IOException}, are not sent again. They are logged and kept aside instead, and can be listed with
+ * {@link #getRejectedOperations()}.
+ * <p>
+ * The queue is kept in a {@link CalendarQueueStorage} after every change to it, and read back when created, so
+ * changes that were not sent before the app closed are sent on the next start. It is stored on a thread of its own,
+ * so that changes made while a batch is being sent are stored without waiting for the calendar. Stored changes that
+ * cannot be read are moved aside rather than replaced, and the queue is not stored at all if they cannot be moved.
+ * <p>
+ * Registering a doctor still goes to the other calendar directly, as it needs the doctor to sign in.
+ */
+public class QueuedGoogleCalendar implements GoogleCalendar {
+
+    public static final int MAX_BATCH_SIZE = 50;
+    public static final long INITIAL_RETRY_DELAY_MILLIS = 1000;
+    public static final long MAX_RETRY_DELAY_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private static final long CLOSE_TIMEOUT_SECONDS = 5;
+    private static final Logger logger = LogsCenter.getLogger(QueuedGoogleCalendar.class);
+
+    private final GoogleCalendar calendar;
+    private final CalendarQueueStorage storage;
+    private final long initialRetryDelayMillis;
+    private final ScheduledExecutorService worker;
+    private final ExecutorService saver;
+    private final LatencyHistogram syncLatencies = new LatencyHistogram();
+
+    /** The changes that have not been sent yet, oldest first. Only the worker removes changes from the queue. */
+    private final Deque<CalendarOperation> pending = new ArrayDeque<>();
+    /** The doctors whose last batch failed, with when to send their changes again. */
+    private final Map<String, Retry> retries = new HashMap<>();
+    /** The changes that the calendar rejected, oldest first. */
+    private final List<CalendarOperation> rejected = new ArrayList<>();
+    /** The next batch to be sent, or null if none is due. */
+    private ScheduledFuture<?> scheduledSync;
+    private long scheduledSyncNanos;
+    private boolean isSaveScheduled;
+    /** True if the stored changes could not be read or moved aside, so storing the queue would lose them. */
+    private boolean isStorageUnsafe;
+    private long sentCount;
+    private long batchCount;
+    private long failedBatchCount;
+
+    /**
+     * Creates a queue that sends changes to {@code calendar}, starting with the changes left in {@code storage}.
+     */
+    public QueuedGoogleCalendar(GoogleCalendar calendar, CalendarQueueStorage storage) {
+        this(calendar, storage, INITIAL_RETRY_DELAY_MILLIS);
+    }
+
+    /**
+     * Creates a queue that waits {@code initialRetryDelayMillis} before sending a failed batch the first time.
+     */
+    QueuedGoogleCalendar(GoogleCalendar calendar, CalendarQueueStorage storage, long initialRetryDelayMillis) {
+        requireNonNull(calendar);
+        requireNonNull(storage);
+        this.calendar = calendar;
+        this.storage = storage;
+        this.initialRetryDelayMillis = initialRetryDelayMillis;
+        this.worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "HealthBook calendar sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.saver = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "HealthBook calendar queue save");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        synchronized (this) {
+            readStoredOperations();
+            if (!pending.isEmpty()) {
+                logger.info("Sending " + pending.size() + " calendar changes left from the last session");
+                scheduleSync(System.nanoTime());
+            }
+        }
+    }
+
+    @Override
+    public Credential getCredentials(NetHttpTransport httpTransport, String userName) throws IOException {
+        return calendar.getCredentials(httpTransport, userName);
+    }
+
+    @Override
+    public void registerDoctor(String userName) throws IOException, GeneralSecurityException {
+        calendar.registerDoctor(userName);
+    }
+
+    @Override
+    public void addAppointment(String userName, Appointment appointment) {
+        enqueue(new CalendarOperation(CalendarOperation.Kind.ADD, userName, appointment));
+    }
+
+    @Override
+    public void deleteAppointment(String userName, Appointment appointment) {
+        enqueue(new CalendarOperation(CalendarOperation.Kind.DELETE, userName, appointment));
+    }
+
+    @Override
+    public void syncAppointments(String userName, List<CalendarOperation> operations) {
+        for (CalendarOperation operation : operations) {
+            enqueue(operation);
+        }
+    }
+
+    /**
+     * Stops sending changes, waiting a short while for a batch that is being sent, and stores the changes that
+     * have not been sent yet. No changes can be sent afterwards.
+     */
+    public void close() {
+        worker.shutdownNow();
+        saver.shutdown();
+        try {
+            worker.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            saver.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+        save();
+        logger.info("Stopped calendar sync: " + getStatistics());
+    }
+
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    public synchronized long getSentCount() {
+        return sentCount;
+    }
+
+    public synchronized long getBatchCount() {
+        return batchCount;
+    }
+
+    /**
+     * Returns the changes that the calendar rejected and that will not be sent again, oldest first.
+     */
+    public synchronized List<CalendarOperation> getRejectedOperations() {
+        return new ArrayList<>(rejected);
+    }
+
+    public LatencyHistogram getSyncLatencies() {
+        return syncLatencies;
+    }
+
+    /**
+     * Returns a summary of the changes sent so far, for logging.
+     */
+    public synchronized String getStatistics() {
+        return String.format("%d changes sent in %d batches (%d failed), %d rejected, %d waiting, batch latency %s",
+                sentCount, batchCount, failedBatchCount, rejected.size(), pending.size(), syncLatencies);
+    }
+
+    /**
+     * Returns how long to wait before sending a batch again after {@code failedAttempts} failures in a row.
+     */
+    long getRetryDelayMillis(int failedAttempts) {
+        long delay = initialRetryDelayMillis;
+        for (int i = 1; i < failedAttempts && delay < MAX_RETRY_DELAY_MILLIS; i++) {
+            delay *= 2;
+        }
+        return Math.min(delay, MAX_RETRY_DELAY_MILLIS);
+    }
+
+    private synchronized void enqueue(CalendarOperation operation) {
+        pending.addLast(operation);
+        scheduleSave();
+        Retry retry = retries.get(operation.getUserName());
+        scheduleSync(retry == null ? System.nanoTime() : retry.retryNanos);
+    }
+
+    /**
+     * Sends the next batch at {@code syncNanos}, as given by {@link System#nanoTime()}, unless a batch is due to be
+     * sent by then already.
+     */
+    private synchronized void scheduleSync(long syncNanos) {
+        if (pending.isEmpty() || worker.isShutdown()) {
+            return;
+        }
+        if (scheduledSync != null) {
+            if (scheduledSyncNanos - syncNanos <= 0) {
+                return;
+            }
+            scheduledSync.cancel(false);
+        }
+        scheduledSyncNanos = syncNanos;
+        scheduledSync = worker.schedule(this::syncNextBatch, Math.max(0, syncNanos - System.nanoTime()),
+                TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Sends the next batch as soon as a doctor with waiting changes is not waiting to send them again.
+     */
+    private synchronized void scheduleNextSync() {
+        long syncNanos = Long.MAX_VALUE;
+        long now = System.nanoTime();
+        for (CalendarOperation operation : pending) {
+            Retry retry = retries.get(operation.getUserName());
+            if (retry == null) {
+                syncNanos = now;
+                break;
+            }
+            if (syncNanos == Long.MAX_VALUE || retry.retryNanos - syncNanos < 0) {
+                syncNanos = retry.retryNanos;
+            }
+        }
+        scheduleSync(syncNanos);
+    }
+
+    /**
+     * Stores the queue on the saving thread, together with any other change made to it in the meantime.
+     */
+    private synchronized void scheduleSave() {
+        if (isSaveScheduled || saver.isShutdown()) {
+            return;
+        }
+        isSaveScheduled = true;
+        saver.execute(this::save);
+    }
+
+    /**
+     * Adds the changes in the storage to the queue, or moves them aside if they cannot be read.
+     */
+    private synchronized void readStoredOperations() {
+        try {
+            pending.addAll(storage.readOperations());
+            return;
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Unable to read waiting calendar changes, they will not be sent: " + e.getMessage());
+        }
+        try {
+            storage.moveAside();
+        } catch (IOException ioe) {
+            isStorageUnsafe = true;
+            logger.warning("Unable to move unreadable calendar changes aside, waiting changes will not be stored: "
+                    + ioe.getMessage());
+        }
+    }
+
+    private void save() {
+        List<CalendarOperation> operations;
+        synchronized (this) {
+            isSaveScheduled = false;
+            if (isStorageUnsafe) {
+                return;
+            }
+            operations = new ArrayList<>(pending);
+        }
+        try {
+            storage.saveOperations(operations);
+        } catch (IOException ioe) {
+            logger.warning("Failed to store waiting calendar changes: " + ioe.getMessage());
+        }
+    }
+
+    /**
+     * Sends the oldest changes of the doctor with the oldest change that is not waiting to be sent again, removing
+     * them from the queue if they were sent or rejected, or trying again later if they failed otherwise.
+     */
+    private void syncNextBatch() {
+        List<CalendarOperation> batch = new ArrayList<>();
+        synchronized (this) {
+            scheduledSync = null;
+            long now = System.nanoTime();
+            for (CalendarOperation operation : pending) {
+                if (batch.isEmpty() && isWaitingToRetry(operation.getUserName(), now)) {
+                    continue;
+                }
+                if (batch.isEmpty() || operation.getUserName().equals(batch.get(0).getUserName())) {
+                    batch.add(operation);
+                }
+                if (batch.size() == MAX_BATCH_SIZE) {
+                    break;
+                }
+            }
+            if (batch.isEmpty()) {
+                scheduleNextSync();
+                return;
+            }
+        }
+
+        String userName = batch.get(0).getUserName();
+        List<CalendarOperation> rejectedInBatch = Collections.emptyList();
+        long start = System.nanoTime();
+        try {
+            calendar.syncAppointments(userName, batch);
+        } catch (CalendarChangesRejectedException e) {
+            rejectedInBatch = e.getRejectedOperations();
+            logRejected(rejectedInBatch, e);
+        } catch (IOException e) {
+            synchronized (this) {
+                failedBatchCount++;
+                Retry retry = retries.computeIfAbsent(userName, name -> new Retry());
+                retry.failedAttempts++;
+                long delayMillis = getRetryDelayMillis(retry.failedAttempts);
+                retry.retryNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+                logger.warning("Failed to send " + batch.size() + " calendar changes for " + userName
+                        + ", trying again in " + delayMillis + " ms: " + e.getMessage());
+                scheduleNextSync();
+            }
+            return;
+        } catch (GeneralSecurityException | RuntimeException e) {
+            rejectedInBatch = batch;
+            logRejected(rejectedInBatch, e);
+        }
+        syncLatencies.record(System.nanoTime() - start);
+
+        synchronized (this) {
+            Set<CalendarOperation> done = Collections.newSetFromMap(new IdentityHashMap<>());
+            done.addAll(batch);
+            pending.removeIf(done::contains);
+            rejected.addAll(rejectedInBatch);
+            retries.remove(userName);
+            sentCount += batch.size() - rejectedInBatch.size();
+            batchCount++;
+            scheduleSave();
+            scheduleNextSync();
+        }
+    }
+
+    private synchronized boolean isWaitingToRetry(String userName, long now) {
+        Retry retry = retries.get(userName);
+        return retry != null && retry.retryNanos - now > 0;
+    }
+
+    private static void logRejected(List<CalendarOperation> operations, Exception e) {
+        logger.warning("Calendar rejected " + operations.size() + " changes, which will not be sent again: "
+                + operations + ": " + e.getMessage());
+    }
+
+    /**
+     * The failures in a row of the batches of a doctor, and when to send the changes of the doctor again.
+     */
+    private static class Retry {
+        private int failedAttempts;
+        private long retryNanos;
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.address.calendar.exceptions;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.calendar.CalendarOperation;
+
+/**
+ * Signals that the calendar refused some changes in a way that sending them again will not fix, such as a malformed
+ * change or a doctor who no longer allows access to their calendar. The other changes sent with them were made.
+ */
+public class CalendarChangesRejectedException extends IOException {
+
+    private final List<CalendarOperation> rejectedOperations;
+
+    public CalendarChangesRejectedException(List<CalendarOperation> rejectedOperations, String message) {
+        super(message);
+        this.rejectedOperations = new ArrayList<>(rejectedOperations);
+    }
+
+    public CalendarChangesRejectedException(List<CalendarOperation> rejectedOperations, Throwable cause) {
+        super(cause.getMessage(), cause);
+        this.rejectedOperations = new ArrayList<>(rejectedOperations);
+    }
+
+    public List<CalendarOperation> getRejectedOperations() {
+        return Collections.unmodifiableList(rejectedOperations);
+    }
+}
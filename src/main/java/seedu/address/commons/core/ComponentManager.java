@@ -18,8 +18,15 @@ public abstract class ComponentManager {
     }
 
     public ComponentManager(EventsCenter eventsCenter) {
+        this(eventsCenter, EventsCenter.Category.SYNCHRONOUS);
+    }
+
+    /**
+     * Registers the event handlers in {@code eventsCenter} to run on the thread of {@code category}.
+     */
+    public ComponentManager(EventsCenter eventsCenter, EventsCenter.Category category) {
         this.eventsCenter = eventsCenter;
-        eventsCenter.registerHandler(this);
+        eventsCenter.registerHandler(this, category);
     }
 
     protected void raise(BaseEvent event) {
@@ -16,6 +16,8 @@ public class Config {
     private String appTitle = "Health Book";
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private int appointmentDurationMinutes = 30;
+    private Path commandStatisticsFilePath = null;
 
     public String getAppTitle() {
         return appTitle;
@@ -41,6 +43,26 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public int getAppointmentDurationMinutes() {
+        return appointmentDurationMinutes;
+    }
+
+    public void setAppointmentDurationMinutes(int appointmentDurationMinutes) {
+        this.appointmentDurationMinutes = appointmentDurationMinutes;
+    }
+
+    /**
+     * Returns the file that the time taken by commands is written to when the app exits, or null if it is not
+     * written.
+     */
+    public Path getCommandStatisticsFilePath() {
+        return commandStatisticsFilePath;
+    }
+
+    public void setCommandStatisticsFilePath(Path commandStatisticsFilePath) {
+        this.commandStatisticsFilePath = commandStatisticsFilePath;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,12 +76,15 @@ public class Config {
 
         return Objects.equals(appTitle, o.appTitle)
                 && Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && appointmentDurationMinutes == o.appointmentDurationMinutes
+                && Objects.equals(commandStatisticsFilePath, o.commandStatisticsFilePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, appointmentDurationMinutes,
+                commandStatisticsFilePath);
     }
 
     @Override
@@ -68,6 +93,8 @@ public class Config {
         sb.append("App title : " + appTitle);
         sb.append("\nCurrent log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nAppointment duration in minutes : " + appointmentDurationMinutes);
+        sb.append("\nCommand statistics file Location : " + commandStatisticsFilePath);
         return sb.toString();
     }
 
@@ -1,21 +1,72 @@
 package seedu.address.commons.core;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
+import com.google.common.eventbus.AsyncEventBus;
 import com.google.common.eventbus.EventBus;
 
 import seedu.address.commons.events.BaseEvent;
 
 /**
  * Manages the event dispatching of the app.
+ * <p>
+ * Every handler is registered in a {@link Category}, which decides the thread its handler methods run on. Until
+ * {@link #startAsyncDispatch(Executor)} is called, handlers of every category run on the thread that posts the
+ * event, before {@link #post(BaseEvent)} returns. Afterwards, UI handlers run on the UI thread and storage and
+ * analytics handlers each run on a background thread of their category, so that a slow handler does not hold up the
+ * thread that posted the event. Handlers of one category see events in the order they were posted.
+ * <p>
+ * The number of events waiting for each category, and the time taken by each class of handler, are kept for
+ * finding slow handlers.
  */
 public class EventsCenter {
+
+    /**
+     * The kind of work a handler does, which decides the thread its handler methods run on.
+     */
+    public enum Category {
+        /** Always handled on the thread that posts the event, before the post returns. */
+        SYNCHRONOUS,
+        /** Handled on the UI thread. */
+        UI,
+        STORAGE,
+        ANALYTICS
+    }
+
+    /** Number of events that can wait for a background category before posting them waits for room. */
+    public static final int MAX_QUEUED_EVENTS = 1024;
+
     private static final Logger logger = LogsCenter.getLogger(EventsCenter.class);
+    private static final long STOP_TIMEOUT_SECONDS = 5;
     private static EventsCenter instance;
-    private final EventBus eventBus;
+
+    private final List<EventBus> eventBuses = new CopyOnWriteArrayList<>();
+    private final Map<Category, Dispatcher> dispatchers = new EnumMap<>(Category.class);
+    private final Map<String, LatencyHistogram> handlerLatencies = new ConcurrentHashMap<>();
+    /** Events posted by a handler on this thread, which are dispatched after the event being handled. */
+    private final ThreadLocal<Queue<BaseEvent>> postedEvents = ThreadLocal.withInitial(ArrayDeque::new);
+    private final ThreadLocal<Boolean> isDispatching = ThreadLocal.withInitial(() -> false);
 
     private EventsCenter() {
-        eventBus = new EventBus();
+        for (Category category : Category.values()) {
+            dispatchers.put(category, new Dispatcher());
+        }
     }
 
     public static EventsCenter getInstance() {
@@ -25,21 +76,226 @@ public class EventsCenter {
         return instance;
     }
 
+    /**
+     * Drops every registered handler, after the handlers still waiting for events have handled them.
+     */
     public static void clearSubscribers() {
+        if (instance != null) {
+            instance.stopAsyncDispatch();
+        }
         instance = null;
     }
 
+    /**
+     * Registers {@code handler} so that its handler methods run on the thread that posts each event.
+     */
     public void registerHandler(Object handler) {
+        registerHandler(handler, Category.SYNCHRONOUS);
+    }
+
+    /**
+     * Registers {@code handler} so that its handler methods run on the thread of {@code category}.
+     */
+    public void registerHandler(Object handler, Category category) {
+        requireNonNull(handler);
+        requireNonNull(category);
+        Dispatcher dispatcher = dispatchers.get(category);
+        LatencyHistogram latencies = handlerLatencies.computeIfAbsent(handler.getClass().getName(),
+                unused -> new LatencyHistogram());
+        // Each handler has a bus of its own, so that the time taken by its handler methods can be told apart
+        EventBus eventBus = new AsyncEventBus(handler.getClass().getName(),
+                task -> dispatcher.execute(task, latencies));
         eventBus.register(handler);
+        eventBuses.add(eventBus);
     }
 
     /**
      * Posts an event to the event bus.
+     * An event posted by a handler on the thread it was posted on is dispatched once every handler on the thread
+     * has seen the event being handled.
      */
     public <E extends BaseEvent> EventsCenter post(E event) {
         logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
-        eventBus.post(event);
+        Queue<BaseEvent> events = postedEvents.get();
+        events.add(event);
+        if (isDispatching.get()) {
+            return this;
+        }
+        isDispatching.set(true);
+        try {
+            BaseEvent next;
+            while ((next = events.poll()) != null) {
+                for (EventBus eventBus : eventBuses) {
+                    eventBus.post(next);
+                }
+            }
+        } finally {
+            isDispatching.remove();
+        }
         return this;
     }
 
+    /**
+     * Runs the handlers of the UI category on {@code uiExecutor}, and the handlers of the storage and analytics
+     * categories each on a background thread of their own.
+     * {@code uiExecutor} should run tasks submitted on the UI thread right away, so that the UI follows a command
+     * before the next one is entered.
+     */
+    public synchronized void startAsyncDispatch(Executor uiExecutor) {
+        requireNonNull(uiExecutor);
+        dispatchers.get(Category.UI).setExecutor(uiExecutor);
+        for (Category category : new Category[] {Category.STORAGE, Category.ANALYTICS}) {
+            dispatchers.get(category).setExecutor(createBackgroundExecutor(category));
+        }
+    }
+
+    /**
+     * Waits until the background categories have handled every event posted so far, and handles later events on
+     * the thread that posts them again.
+     */
+    public synchronized void stopAsyncDispatch() {
+        boolean wasAsync = false;
+        for (Dispatcher dispatcher : dispatchers.values()) {
+            Executor executor = dispatcher.setExecutor(null);
+            wasAsync |= executor != null;
+            if (executor instanceof ThreadPoolExecutor) {
+                ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) executor;
+                threadPoolExecutor.shutdown();
+                try {
+                    if (!threadPoolExecutor.awaitTermination(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                        logger.warning("Gave up waiting for events to be handled: " + getStatistics());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        if (wasAsync) {
+            logger.info("Stopped dispatching events in the background: " + getStatistics());
+        }
+    }
+
+    /**
+     * Waits until the handlers of {@code category} have handled every event posted so far.
+     * Must not be called by a handler of {@code category}.
+     */
+    public void awaitHandled(Category category) {
+        Executor executor = dispatchers.get(category).executor;
+        if (!(executor instanceof ThreadPoolExecutor)) {
+            return;
+        }
+        FutureTask<Void> marker = new FutureTask<>(() -> { }, null);
+        executor.execute(marker);
+        try {
+            marker.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the number of events waiting to be handled by the handlers of {@code category}.
+     */
+    public int getQueuedCount(Category category) {
+        return dispatchers.get(category).queued.get();
+    }
+
+    /**
+     * Returns the largest number of events that have waited to be handled by the handlers of {@code category}.
+     */
+    public int getMaxQueuedCount(Category category) {
+        return dispatchers.get(category).maxQueued.get();
+    }
+
+    /**
+     * Returns the time taken by the handler methods of the handlers of class {@code handlerClass}.
+     */
+    public LatencyHistogram getHandlerLatencies(Class<?> handlerClass) {
+        return handlerLatencies.computeIfAbsent(handlerClass.getName(), unused -> new LatencyHistogram());
+    }
+
+    /**
+     * Returns a summary of the events waiting and the time taken by the handlers, for logging.
+     */
+    public String getStatistics() {
+        StringBuilder statistics = new StringBuilder();
+        for (Map.Entry<Category, Dispatcher> entry : dispatchers.entrySet()) {
+            statistics.append(String.format("%s: %d waiting, at most %d; ", entry.getKey(),
+                    entry.getValue().queued.get(), entry.getValue().maxQueued.get()));
+        }
+        handlerLatencies.entrySet().stream()
+                .filter(entry -> entry.getValue().getCount() > 0)
+                .sorted((first, second) -> Long.compare(second.getValue().getMaxNanos(),
+                        first.getValue().getMaxNanos()))
+                .forEach(entry -> statistics.append(String.format("%s %s; ", entry.getKey(), entry.getValue())));
+        return statistics.toString().trim();
+    }
+
+    /**
+     * Returns an executor that runs tasks one at a time on a thread of its own, and makes the thread that submits
+     * a task wait while {@code MAX_QUEUED_EVENTS} tasks are waiting already, keeping the order of the tasks.
+     */
+    private static ThreadPoolExecutor createBackgroundExecutor(Category category) {
+        return new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(MAX_QUEUED_EVENTS),
+            runnable -> {
+                Thread thread = new Thread(runnable, "HealthBook " + category.name().toLowerCase() + " events");
+                thread.setDaemon(true);
+                return thread;
+            }, (task, executor) -> {
+                if (executor.isShutdown()) {
+                    task.run();
+                    return;
+                }
+                try {
+                    executor.getQueue().put(task);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    task.run();
+                }
+            });
+    }
+
+    /**
+     * Runs the handler methods of one category, on the thread that posts the event until it is given an executor.
+     */
+    private static class Dispatcher {
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger maxQueued = new AtomicInteger();
+        private volatile Executor executor;
+
+        /**
+         * Uses {@code executor} for the tasks submitted from now on, or the thread that submits them if it is null.
+         * Returns the executor used until now.
+         */
+        Executor setExecutor(Executor executor) {
+            Executor previous = this.executor;
+            this.executor = executor;
+            return previous;
+        }
+
+        /**
+         * Runs {@code task}, which calls a handler method, and records the time it takes in {@code latencies}.
+         */
+        void execute(Runnable task, LatencyHistogram latencies) {
+            Runnable timedTask = () -> {
+                queued.decrementAndGet();
+                long start = System.nanoTime();
+                try {
+                    task.run();
+                } finally {
+                    latencies.record(System.nanoTime() - start);
+                }
+            };
+            Executor current = executor;
+            if (current == null) {
+                queued.incrementAndGet();
+                timedTask.run();
+            } else {
+                maxQueued.accumulateAndGet(queued.incrementAndGet(), Math::max);
+                current.execute(timedTask);
+            }
+        }
+    }
 }
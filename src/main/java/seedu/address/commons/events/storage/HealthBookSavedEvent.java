@@ -0,0 +1,24 @@
+package seedu.address.commons.events.storage;
+
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * Indicates that changes to the HealthBook were written to the hard disk
+ */
+public class HealthBookSavedEvent extends BaseEvent {
+
+    /** Time taken to write the changes, in nanoseconds. */
+    public final long durationNanos;
+
+    public HealthBookSavedEvent(long durationNanos) {
+        this.durationNanos = durationNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "saved in " + TimeUnit.NANOSECONDS.toMillis(durationNanos) + "ms";
+    }
+
+}
@@ -3,19 +3,34 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.FileNotFoundException;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLStreamReader;
 
 /**
  * Helps with reading from and writing to XML files.
+ *
+ * Building a {@code JAXBContext} inspects the bound classes reflectively, which costs far more than converting a small
+ * file. Contexts are thread-safe, so one is built for each class and shared. Marshallers and unmarshallers are not
+ * thread-safe, so each thread keeps its own for each class and reuses them.
  */
 public class XmlUtil {
 
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Map<Class<?>, Marshaller>> marshallers = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<Class<?>, Unmarshaller>> unmarshallers =
+            ThreadLocal.withInitial(HashMap::new);
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -37,8 +52,7 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
+        Unmarshaller um = getUnmarshaller(classToConvert);
 
         return ((T) um.unmarshal(file.toFile()));
     }
@@ -61,11 +75,119 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
+        Marshaller m = getMarshaller(data.getClass());
         m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        m.setProperty(Marshaller.JAXB_FRAGMENT, false);
 
         m.marshal(data, file.toFile());
     }
 
+    /**
+     * Returns the xml data in {@code xml} as an object of the specified type.
+     *
+     * @param xml            A single xml element containing data that match the {@code classToConvert}.
+     *                       Cannot be null.
+     * @param classToConvert The class corresponding to the xml data.
+     *                       Cannot be null.
+     * @throws JAXBException Thrown if {@code xml} does not have the correct format.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T getDataFromString(String xml, Class<T> classToConvert) throws JAXBException {
+
+        requireNonNull(xml);
+        requireNonNull(classToConvert);
+
+        Unmarshaller um = getUnmarshaller(classToConvert);
+
+        return ((T) um.unmarshal(new StringReader(xml)));
+    }
+
+    /**
+     * Returns the xml element that {@code reader} is at as an object of the specified type, and moves
+     * {@code reader} past the end of the element. Lets a large document be converted one element at a time.
+     *
+     * @param reader         Positioned at the start of an element containing data that match the
+     *                       {@code classToConvert}. Cannot be null.
+     * @param classToConvert The class corresponding to the xml data.
+     *                       Cannot be null.
+     * @throws JAXBException Thrown if the element does not have the correct format.
+     */
+    public static <T> T getDataFromReader(XMLStreamReader reader, Class<T> classToConvert) throws JAXBException {
+
+        requireNonNull(reader);
+        requireNonNull(classToConvert);
+
+        return getUnmarshaller(classToConvert).unmarshal(reader, classToConvert).getValue();
+    }
+
+    /**
+     * Returns the data as a single xml element, without an xml declaration or formatting.
+     *
+     * @throws JAXBException Thrown if there is an error during converting the data into xml.
+     */
+    public static <T> String convertDataToString(T data) throws JAXBException {
+
+        requireNonNull(data);
+
+        Marshaller m = getMarshaller(data.getClass());
+        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, false);
+        m.setProperty(Marshaller.JAXB_FRAGMENT, true);
+
+        StringWriter writer = new StringWriter();
+        m.marshal(data, writer);
+        return writer.toString();
+    }
+
+    /**
+     * Returns the shared context for {@code type}, building it the first time it is needed.
+     */
+    private static JAXBContext getContext(Class<?> type) throws JAXBException {
+        JAXBContext context = contexts.get(type);
+        if (context == null) {
+            // Two threads may both build a context, but only the first one stored is ever used.
+            JAXBContext newContext = JAXBContext.newInstance(type);
+            context = contexts.putIfAbsent(type, newContext);
+            if (context == null) {
+                context = newContext;
+            }
+        }
+        return context;
+    }
+
+    /**
+     * Returns the current thread's marshaller for {@code type}.
+     */
+    private static Marshaller getMarshaller(Class<?> type) throws JAXBException {
+        Map<Class<?>, Marshaller> threadMarshallers = marshallers.get();
+        Marshaller marshaller = threadMarshallers.get(type);
+        if (marshaller == null) {
+            marshaller = getContext(type).createMarshaller();
+            threadMarshallers.put(type, marshaller);
+        }
+        return marshaller;
+    }
+
+    /**
+     * Returns the current thread's unmarshaller for {@code type}.
+     */
+    private static Unmarshaller getUnmarshaller(Class<?> type) throws JAXBException {
+        Map<Class<?>, Unmarshaller> threadUnmarshallers = unmarshallers.get();
+        Unmarshaller unmarshaller = threadUnmarshallers.get(type);
+        if (unmarshaller == null) {
+            unmarshaller = getContext(type).createUnmarshaller();
+            threadUnmarshallers.put(type, unmarshaller);
+        }
+        return unmarshaller;
+    }
+
+    /**
+     * Discards every cached context, and the current thread's marshallers and unmarshallers, so that the next
+     * conversion starts cold. Other threads keep theirs until they are garbage collected.
+     */
+    static void clearCaches() {
+        contexts.clear();
+        marshallers.remove();
+        unmarshallers.remove();
+    }
+
 }
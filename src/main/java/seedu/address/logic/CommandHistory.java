@@ -6,15 +6,19 @@ import java.util.LinkedList;
 import java.util.List;
 
 /**
- * Stores the history of commands executed.
+ * Stores the history of commands executed, and how long they took.
  */
 public class CommandHistory {
     private LinkedList<String> userInputHistory;
+    private final CommandMetrics metrics = new CommandMetrics();
 
     public CommandHistory() {
         userInputHistory = new LinkedList<>();
     }
 
+    /**
+     * Creates a copy of the commands entered in {@code commandHistory}, without the time they took.
+     */
     public CommandHistory(CommandHistory commandHistory) {
         userInputHistory = new LinkedList<>(commandHistory.userInputHistory);
     }
@@ -34,6 +38,10 @@ public class CommandHistory {
         return new LinkedList<>(userInputHistory);
     }
 
+    public CommandMetrics getMetrics() {
+        return metrics;
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -0,0 +1,259 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.commons.events.storage.HealthBookSavedEvent;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Records how long the commands entered take, for each command word.
+ * <p>
+ * The time taken by a command is split into phases: parsing it, executing it, changing the model and committing the
+ * changes while executing it, and saving the changes afterwards. Saves write the changes of several commands
+ * together, so the time taken by a save is counted under the last command that changed the model before it.
+ * Safe for use by several threads.
+ */
+public class CommandMetrics {
+
+    /**
+     * A part of the work done for a command.
+     */
+    public enum Phase {
+        PARSE,
+        EXECUTE,
+        MUTATE,
+        COMMIT,
+        SAVE
+    }
+
+    /** Command word under which the commands that do not name a known command are counted. */
+    public static final String INVALID_COMMAND_WORD = "(invalid)";
+
+    private static final String CSV_HEADER = "command,runs,failures,phase,count,mean_ms,p50_ms,p90_ms,p99_ms,max_ms\n";
+
+    private final Map<String, CommandWordMetrics> metricsByWord = new ConcurrentSkipListMap<>();
+    private volatile String lastChangingCommandWord;
+
+    /**
+     * Records that a command of {@code commandWord} was entered, and whether it succeeded.
+     */
+    public void recordRun(String commandWord, boolean isSuccessful) {
+        CommandWordMetrics metrics = getMetrics(commandWord);
+        metrics.runCount.incrementAndGet();
+        if (!isSuccessful) {
+            metrics.failureCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Records that {@code phase} of a command of {@code commandWord} took {@code nanos} nanoseconds.
+     */
+    public void record(String commandWord, Phase phase, long nanos) {
+        requireNonNull(phase);
+        getMetrics(commandWord).getLatencies(phase).record(nanos);
+        if (phase == Phase.MUTATE) {
+            lastChangingCommandWord = commandWord;
+        }
+    }
+
+    /**
+     * Counts the time taken by a save under the last command that changed the model.
+     */
+    @Subscribe
+    public void handleHealthBookSavedEvent(HealthBookSavedEvent event) {
+        String commandWord = lastChangingCommandWord;
+        if (commandWord != null) {
+            record(commandWord, Phase.SAVE, event.durationNanos);
+        }
+    }
+
+    /**
+     * Returns the command words that commands have been entered for, in alphabetical order.
+     */
+    public List<String> getCommandWords() {
+        return new ArrayList<>(metricsByWord.keySet());
+    }
+
+    public long getRunCount(String commandWord) {
+        CommandWordMetrics metrics = metricsByWord.get(commandWord);
+        return metrics == null ? 0 : metrics.runCount.get();
+    }
+
+    public long getFailureCount(String commandWord) {
+        CommandWordMetrics metrics = metricsByWord.get(commandWord);
+        return metrics == null ? 0 : metrics.failureCount.get();
+    }
+
+    /**
+     * Returns the time taken by {@code phase} of the commands of {@code commandWord}.
+     */
+    public LatencyHistogram getLatencies(String commandWord, Phase phase) {
+        CommandWordMetrics metrics = metricsByWord.get(commandWord);
+        return metrics == null ? new LatencyHistogram() : metrics.getLatencies(phase);
+    }
+
+    /**
+     * Returns one line for each command word, with the median and 99th percentile of each of its phases, from the
+     * command word whose executions took the longest.
+     */
+    public String getSummary() {
+        List<String> commandWords = getCommandWords();
+        commandWords.sort(Comparator.comparingLong((String commandWord) ->
+                getLatencies(commandWord, Phase.EXECUTE).getPercentileNanos(99)).reversed());
+        StringBuilder summary = new StringBuilder();
+        for (String commandWord : commandWords) {
+            summary.append(String.format("%s: %d run(s), %d failed", commandWord, getRunCount(commandWord),
+                    getFailureCount(commandWord)));
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram latencies = getLatencies(commandWord, phase);
+                if (latencies.getCount() > 0) {
+                    summary.append(String.format("; %s p50 %s, p99 %s", toName(phase),
+                            toMillis(latencies.getPercentileNanos(50)), toMillis(latencies.getPercentileNanos(99))));
+                }
+            }
+            summary.append('\n');
+        }
+        return summary.toString().trim();
+    }
+
+    /**
+     * Returns the counts and percentiles of every phase of the commands of {@code commandWord}.
+     */
+    public String getDetails(String commandWord) {
+        StringBuilder details = new StringBuilder(String.format("%s: %d run(s), %d failed", commandWord,
+                getRunCount(commandWord), getFailureCount(commandWord)));
+        for (Phase phase : Phase.values()) {
+            details.append(String.format("\n%s: %s", toName(phase), getLatencies(commandWord, phase)));
+        }
+        return details.toString();
+    }
+
+    /**
+     * Returns the metrics as comma separated values, with one row for each phase of each command word.
+     */
+    public String toCsv() {
+        StringBuilder csv = new StringBuilder(CSV_HEADER);
+        for (String commandWord : getCommandWords()) {
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram latencies = getLatencies(commandWord, phase);
+                csv.append(String.join(",", commandWord, String.valueOf(getRunCount(commandWord)),
+                        String.valueOf(getFailureCount(commandWord)), toName(phase),
+                        String.valueOf(latencies.getCount()), toMillis(latencies.getMeanNanos()),
+                        toMillis(latencies.getPercentileNanos(50)), toMillis(latencies.getPercentileNanos(90)),
+                        toMillis(latencies.getPercentileNanos(99)), toMillis(latencies.getMaxNanos())));
+                csv.append('\n');
+            }
+        }
+        return csv.toString();
+    }
+
+    /**
+     * Returns the metrics as a JSON object, with a member for each command word.
+     */
+    public String toJson() throws IOException {
+        Map<String, JsonCommandWordMetrics> members = new LinkedHashMap<>();
+        for (String commandWord : getCommandWords()) {
+            members.put(commandWord, new JsonCommandWordMetrics(this, commandWord));
+        }
+        return JsonUtil.toJsonString(members);
+    }
+
+    /**
+     * Writes the metrics to {@code file}, as JSON if its name ends with {@code .json} and as comma separated values
+     * otherwise.
+     */
+    public void writeTo(Path file) throws IOException {
+        requireNonNull(file);
+        boolean isJson = file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".json");
+        FileUtil.createIfMissing(file);
+        FileUtil.writeToFile(file, isJson ? toJson() : toCsv());
+    }
+
+    private CommandWordMetrics getMetrics(String commandWord) {
+        requireNonNull(commandWord);
+        return metricsByWord.computeIfAbsent(commandWord, unused -> new CommandWordMetrics());
+    }
+
+    private static String toName(Phase phase) {
+        return phase.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    /**
+     * Returns {@code nanos} in milliseconds, rounded to the microsecond as in {@link #toMillis(long)}.
+     */
+    private static double toMillisValue(long nanos) {
+        return Math.round(nanos / (double) TimeUnit.MICROSECONDS.toNanos(1)) / 1000.0;
+    }
+
+    /**
+     * JSON-friendly form of the counts and latencies of the commands of one command word.
+     */
+    private static class JsonCommandWordMetrics {
+        private final long runs;
+        private final long failures;
+        private final Map<String, JsonLatencies> phases = new LinkedHashMap<>();
+
+        JsonCommandWordMetrics(CommandMetrics metrics, String commandWord) {
+            runs = metrics.getRunCount(commandWord);
+            failures = metrics.getFailureCount(commandWord);
+            for (Phase phase : Phase.values()) {
+                phases.put(toName(phase), new JsonLatencies(metrics.getLatencies(commandWord, phase)));
+            }
+        }
+    }
+
+    /**
+     * JSON-friendly form of the latencies of one phase, in milliseconds.
+     */
+    private static class JsonLatencies {
+        private final long count;
+        private final double meanMs;
+        private final double p50Ms;
+        private final double p90Ms;
+        private final double p99Ms;
+        private final double maxMs;
+
+        JsonLatencies(LatencyHistogram latencies) {
+            count = latencies.getCount();
+            meanMs = toMillisValue(latencies.getMeanNanos());
+            p50Ms = toMillisValue(latencies.getPercentileNanos(50));
+            p90Ms = toMillisValue(latencies.getPercentileNanos(90));
+            p99Ms = toMillisValue(latencies.getPercentileNanos(99));
+            maxMs = toMillisValue(latencies.getMaxNanos());
+        }
+    }
+
+    /**
+     * The counts and latencies of the commands of one command word.
+     */
+    private static class CommandWordMetrics {
+        private final AtomicLong runCount = new AtomicLong();
+        private final AtomicLong failureCount = new AtomicLong();
+        private final Map<Phase, LatencyHistogram> latencies = new EnumMap<>(Phase.class);
+
+        synchronized LatencyHistogram getLatencies(Phase phase) {
+            return latencies.computeIfAbsent(phase, unused -> new LatencyHistogram());
+        }
+    }
+}
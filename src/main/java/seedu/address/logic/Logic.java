@@ -1,9 +1,12 @@
 package seedu.address.logic;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.appointment.AppointmentSeries;
 import seedu.address.model.person.Person;
 
 /**
@@ -22,6 +25,12 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /** Returns the recurring appointment series in which {@code person} is the doctor or the patient */
+    List<AppointmentSeries> getAppointmentSeries(Person person);
+
     /** Returns the list of input entered by the user, encapsulated in a {@code ListElementPointer} object */
     ListElementPointer getHistorySnapshot();
+
+    /** Returns the time taken by the commands entered so far */
+    CommandMetrics getCommandMetrics();
 }
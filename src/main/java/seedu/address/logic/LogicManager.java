@@ -1,11 +1,15 @@
 package seedu.address.logic;
 
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.calendar.GoogleCalendar;
 import seedu.address.calendar.GoogleCalendarManager;
 import seedu.address.commons.core.ComponentManager;
+import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
@@ -13,6 +17,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.HealthBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.appointment.AppointmentSeries;
 import seedu.address.model.person.Person;
 
 /**
@@ -27,30 +32,78 @@ public class LogicManager extends ComponentManager implements Logic {
     private final GoogleCalendar googleCalendar;
 
     public LogicManager(Model model) {
+        this(model, new GoogleCalendarManager());
+    }
+
+    public LogicManager(Model model, GoogleCalendar googleCalendar) {
         this.model = model;
         history = new CommandHistory();
         healthBookParser = new HealthBookParser();
-        googleCalendar = new GoogleCalendarManager();
+        this.googleCalendar = googleCalendar;
+        eventsCenter.registerHandler(history.getMetrics(), EventsCenter.Category.ANALYTICS);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        CommandMetrics metrics = history.getMetrics();
+        String commandWord = getCommandWord(commandText);
+        boolean isSuccessful = false;
         try {
-            Command command = healthBookParser.parseCommand(commandText);
-            return command.execute(model, history, googleCalendar);
+            Command command;
+            long parseStart = System.nanoTime();
+            try {
+                command = healthBookParser.parseCommand(commandText);
+            } catch (ParseException pe) {
+                if (commandWord.isEmpty() || MESSAGE_UNKNOWN_COMMAND.equals(pe.getMessage())) {
+                    commandWord = CommandMetrics.INVALID_COMMAND_WORD;
+                }
+                throw pe;
+            } finally {
+                metrics.record(commandWord, CommandMetrics.Phase.PARSE, System.nanoTime() - parseStart);
+            }
+
+            Model timedModel = new TimedModel(model, metrics, commandWord);
+            long executeStart = System.nanoTime();
+            try {
+                CommandResult result = command.execute(timedModel, history, googleCalendar);
+                isSuccessful = true;
+                return result;
+            } finally {
+                metrics.record(commandWord, CommandMetrics.Phase.EXECUTE, System.nanoTime() - executeStart);
+            }
         } finally {
+            metrics.recordRun(commandWord, isSuccessful);
             history.add(commandText);
         }
     }
 
+    @Override
+    public CommandMetrics getCommandMetrics() {
+        return history.getMetrics();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public List<AppointmentSeries> getAppointmentSeries(Person person) {
+        return model.getAppointmentSeries(person);
+    }
+
     @Override
     public ListElementPointer getHistorySnapshot() {
         return new ListElementPointer(history.getHistory());
     }
+
+    private static String getCommandWord(String commandText) {
+        String trimmedText = commandText.trim();
+        int end = 0;
+        while (end < trimmedText.length() && !Character.isWhitespace(trimmedText.charAt(end))) {
+            end++;
+        }
+        return trimmedText.substring(0, end);
+    }
 }
@@ -0,0 +1,212 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import javafx.collections.ObservableList;
+
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyHealthBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentSeries;
+import seedu.address.model.doctor.Doctor;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * A {@code Model} that passes every call on to another model, and records the time taken by the calls that change
+ * the model, and by the calls that commit the changes, as phases of the commands of one command word.
+ * The calls that only read the model or change the filtered lists are not timed.
+ */
+class TimedModel implements Model {
+
+    private final Model model;
+    private final CommandMetrics metrics;
+    private final String commandWord;
+
+    TimedModel(Model model, CommandMetrics metrics, String commandWord) {
+        requireNonNull(model);
+        requireNonNull(metrics);
+        requireNonNull(commandWord);
+        this.model = model;
+        this.metrics = metrics;
+        this.commandWord = commandWord;
+    }
+
+    @Override
+    public void resetData(ReadOnlyHealthBook newData) {
+        time(CommandMetrics.Phase.MUTATE, () -> model.resetData(newData));
+    }
+
+    @Override
+    public ReadOnlyHealthBook getAddressBook() {
+        return model.getAddressBook();
+    }
+
+    @Override
+    public boolean hasPerson(Person person) {
+        return model.hasPerson(person);
+    }
+
+    @Override
+    public void deletePerson(Person target) {
+        time(CommandMetrics.Phase.MUTATE, () -> model.deletePerson(target));
+    }
+
+    @Override
+    public void addPerson(Person person) {
+        time(CommandMetrics.Phase.MUTATE, () -> model.addPerson(person));
+    }
+
+    @Override
+    public void addPatient(Patient patient) {
+        time(CommandMetrics.Phase.MUTATE, () -> model.addPatient(patient));
+    }
+
+    @Override
+    public void addDoctor(Doctor doctor) {
+        time(CommandMetrics.Phase.MUTATE, () -> model.addDoctor(doctor));
+    }
+
+    @Override
+    public void updatePerson(Person target, Person editedPerson) {
+        time(CommandMetrics.Phase.MUTATE, () -> model.updatePerson(target, editedPerson));
+    }
+
+    @Override
+    public void setAppointment(Appointment target, Appointment editedAppointment) {
+        time(CommandMetrics.Phase.MUTATE, () -> model.setAppointment(target, editedAppointment));
+    }
+
+    @Override
+    public List<Person> getFilteredPersons(Name name, Phone phone) {
+        return model.getFilteredPersons(name, phone);
+    }
+
+    @Override
+    public Optional<Patient> getFilteredPatientWithAppointment(Appointment appointment) {
+        return model.getFilteredPatientWithAppointment(appointment);
+    }
+
+    @Override
+    public Optional<Doctor> getFilteredDoctorWithAppointment(Appointment appointment) {
+        return model.getFilteredDoctorWithAppointment(appointment);
+    }
+
+    @Override
+    public ObservableList<Person> getFilteredPersonList() {
+        return model.getFilteredPersonList();
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate) {
+        model.updateFilteredPersonList(predicate);
+    }
+
+    @Override
+    public void updateFilteredPersonListByName(List<String> keywords) {
+        model.updateFilteredPersonListByName(keywords);
+    }
+
+    @Override
+    public void updateFilteredPersonListBySearch(String query, int limit) {
+        model.updateFilteredPersonListBySearch(query, limit);
+    }
+
+    @Override
+    public List<Person> searchPersons(String query, int limit, Predicate<Person> filter) {
+        return model.searchPersons(query, limit, filter);
+    }
+
+    @Override
+    public ObservableList<Appointment> getFilteredAppointmentList() {
+        return model.getFilteredAppointmentList();
+    }
+
+    @Override
+    public void updateFilteredAppointmentList(Predicate<Appointment> predicate) {
+        model.updateFilteredAppointmentList(predicate);
+    }
+
+    @Override
+    public int getAppointmentCounter() {
+        return model.getAppointmentCounter();
+    }
+
+    @Override
+    public void incrementAppointmentCounter() {
+        time(CommandMetrics.Phase.MUTATE, model::incrementAppointmentCounter);
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return model.canUndoAddressBook();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return model.canRedoAddressBook();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        time(CommandMetrics.Phase.MUTATE, model::undoAddressBook);
+    }
+
+    @Override
+    public void redoAddressBook() {
+        time(CommandMetrics.Phase.MUTATE, model::redoAddressBook);
+    }
+
+    @Override
+    public void addAppointment(Appointment appointment) {
+        time(CommandMetrics.Phase.MUTATE, () -> model.addAppointment(appointment));
+    }
+
+    @Override
+    public void addAppointments(List<Appointment> appointments) {
+        time(CommandMetrics.Phase.MUTATE, () -> model.addAppointments(appointments));
+    }
+
+    @Override
+    public void addAppointmentSeries(AppointmentSeries series) {
+        time(CommandMetrics.Phase.MUTATE, () -> model.addAppointmentSeries(series));
+    }
+
+    @Override
+    public List<AppointmentSeries> getAppointmentSeries(Person person) {
+        return model.getAppointmentSeries(person);
+    }
+
+    @Override
+    public void deleteAppointment(Appointment appointment, Patient patient, Doctor doctor) {
+        time(CommandMetrics.Phase.MUTATE, () -> model.deleteAppointment(appointment, patient, doctor));
+    }
+
+    @Override
+    public void completeAppointment(Appointment appointment, Patient patient, Doctor doctor) {
+        time(CommandMetrics.Phase.MUTATE, () -> model.completeAppointment(appointment, patient, doctor));
+    }
+
+    @Override
+    public void commitAddressBook() {
+        time(CommandMetrics.Phase.COMMIT, model::commitAddressBook);
+    }
+
+    /**
+     * Runs {@code call} and records the time it took as {@code phase}, even if it throws.
+     */
+    private void time(CommandMetrics.Phase phase, Runnable call) {
+        long start = System.nanoTime();
+        try {
+            call.run();
+        } finally {
+            metrics.record(commandWord, phase, System.nanoTime() - start);
+        }
+    }
+}
@@ -12,7 +12,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PATIENT_PHONE;
 import java.io.IOException;
 import java.security.GeneralSecurityException;
 import java.time.LocalDateTime;
-import java.util.List;
 
 import seedu.address.calendar.GoogleCalendar;
 import seedu.address.commons.core.EventsCenter;
@@ -26,7 +25,6 @@ import seedu.address.model.appointment.exceptions.InvalidSecurityAccessException
 import seedu.address.model.doctor.Doctor;
 import seedu.address.model.patient.Patient;
 import seedu.address.model.person.Name;
-import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 
 /**
@@ -97,51 +95,23 @@ public class AddAppointmentCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history, GoogleCalendar googleCalendar)
             throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
-        Patient patient = null;
-        Doctor doctor = null;
-
-        for (Person person : lastShownList) {
-            if (person.getName().equals(patientName) && person instanceof Patient) {
-                if (patientPhoneNumber != null) {
-                    if (person.getPhone().equals(patientPhoneNumber)) {
-                        patient = (Patient) person; // Name and Phone number unique
-                    }
-                } else {
-                    if ((patient != null && patient.getName().equals(patientName))
-                            || (doctor != null && doctor.getName().equals(patientName))) {
-                        throw new CommandException(MESSAGE_DUPLICATE_PATIENT);
-                    } else {
-                        patient = (Patient) person;
-                    }
-                }
-            }
-            if (person.getName().equals(doctorName) && person instanceof Doctor) {
-                if (doctorPhoneNumber != null) {
-                    if (person.getPhone().equals(doctorPhoneNumber)) {
-                        doctor = (Doctor) person; // Name and Phone number unique
-                    }
-                } else {
-                    if ((patient != null && patient.getName().equals(doctorName))
-                            || (doctor != null && doctor.getName().equals(doctorName))) {
-                        throw new CommandException(MESSAGE_DUPLICATE_DOCTOR);
-                    } else {
-                        doctor = (Doctor) person;
-                    }
-                }
-            }
-        }
-
-        if (patient == null) {
-            throw new CommandException(MESSAGE_INVALID_PATIENT);
-        }
-        if (doctor == null) {
-            throw new CommandException(MESSAGE_INVALID_DOCTOR);
-        }
+        Patient patient = findPerson(model, Patient.class, patientName, patientPhoneNumber,
+                MESSAGE_INVALID_PATIENT, MESSAGE_DUPLICATE_PATIENT);
+        Doctor doctor = findPerson(model, Doctor.class, doctorName, doctorPhoneNumber,
+                MESSAGE_INVALID_DOCTOR, MESSAGE_DUPLICATE_DOCTOR);
 
         Appointment appointment = new Appointment(model.getAppointmentCounter(), doctor.getName().toString(),
                 patient.getName().toString(), dateTime);
 
+        if (doctor.hasClashForAppointment(appointment)
+                || model.getAppointmentSeries(doctor).stream().anyMatch(series -> series.hasClash(appointment))) {
+            throw new CommandException(MESSAGE_DOCTOR_CLASH_APPOINTMENT);
+        }
+        if (patient.hasClashForAppointment(appointment)
+                || model.getAppointmentSeries(patient).stream().anyMatch(series -> series.hasClash(appointment))) {
+            throw new CommandException(MESSAGE_PATIENT_CLASH_APPOINTMENT);
+        }
+
         try {
             googleCalendar.addAppointment(doctor.getName().toString() + doctor.getPhone().toString(),
                     appointment);
@@ -151,13 +121,6 @@ public class AddAppointmentCommand extends Command {
             throw new InvalidInputOutputException();
         }
 
-        if (doctor.hasClashForAppointment(appointment)) {
-            throw new CommandException(MESSAGE_DOCTOR_CLASH_APPOINTMENT);
-        }
-        if (patient.hasClashForAppointment(appointment)) {
-            throw new CommandException(MESSAGE_PATIENT_CLASH_APPOINTMENT);
-        }
-
         doctor.addUpcomingAppointment(appointment);
         patient.addUpcomingAppointment(appointment);
         model.incrementAppointmentCounter();
@@ -0,0 +1,134 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DOCTOR_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DOCTOR_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INTERVAL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PATIENT_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PATIENT_PHONE;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+
+import seedu.address.calendar.GoogleCalendar;
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.events.ui.PersonPanelSelectionChangedEvent;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentSeries;
+import seedu.address.model.appointment.exceptions.InvalidInputOutputException;
+import seedu.address.model.appointment.exceptions.InvalidSecurityAccessException;
+import seedu.address.model.doctor.Doctor;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.person.Person;
+
+/**
+ * Adds a recurring appointment between a patient and a doctor to the health book.
+ * The series is checked for clashes through its recurrence rule, without creating its occurrences.
+ */
+public class AddAppointmentSeriesCommand extends Command {
+
+    public static final String COMMAND_WORD = "add-series";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds a recurring appointment to the health book.\n"
+            + "Parameters: "
+            + PREFIX_PATIENT_NAME + "PATIENT_NAME "
+            + "[" + PREFIX_PATIENT_PHONE + "PATIENT_PHONE] "
+            + PREFIX_DOCTOR_NAME + "DOCTOR_NAME "
+            + "[" + PREFIX_DOCTOR_PHONE + "DOCTOR_PHONE] "
+            + PREFIX_DATE_TIME + "FIRST_DATE_TIME "
+            + PREFIX_INTERVAL + "INTERVAL_IN_DAYS "
+            + PREFIX_COUNT + "NUMBER_OF_APPOINTMENTS\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_PATIENT_NAME + "John Doe "
+            + PREFIX_DOCTOR_NAME + "Mary Jane "
+            + PREFIX_DATE_TIME + "2018-10-17 15:00 "
+            + PREFIX_INTERVAL + "7 "
+            + PREFIX_COUNT + "52";
+
+    public static final String MESSAGE_SUCCESS = "New series of %1$d appointments added: %2$s";
+    public static final String MESSAGE_OVERLAPPING_OCCURRENCES =
+            "The appointments of this series are too close together and would clash with each other.";
+
+    private final BookingRequest firstBooking;
+    private final int intervalDays;
+    private final int count;
+
+    /**
+     * Creates an AddAppointmentSeriesCommand to book {@code count} appointments as {@code firstBooking}, each
+     * {@code intervalDays} days after the one before.
+     */
+    public AddAppointmentSeriesCommand(BookingRequest firstBooking, int intervalDays, int count) {
+        requireNonNull(firstBooking);
+        this.firstBooking = firstBooking;
+        this.intervalDays = intervalDays;
+        this.count = count;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history, GoogleCalendar googleCalendar)
+            throws CommandException {
+        requireNonNull(model);
+        Patient patient = findPerson(model, Patient.class, firstBooking.getPatientName(),
+                firstBooking.getPatientPhone(), AddAppointmentCommand.MESSAGE_INVALID_PATIENT,
+                AddAppointmentCommand.MESSAGE_DUPLICATE_PATIENT);
+        Doctor doctor = findPerson(model, Doctor.class, firstBooking.getDoctorName(), firstBooking.getDoctorPhone(),
+                AddAppointmentCommand.MESSAGE_INVALID_DOCTOR, AddAppointmentCommand.MESSAGE_DUPLICATE_DOCTOR);
+
+        AppointmentSeries series = new AppointmentSeries(model.getAppointmentCounter(), doctor.getName().toString(),
+                doctor.getPhone().toString(), patient.getName().toString(), patient.getPhone().toString(),
+                firstBooking.getDateTime(), intervalDays, count);
+        if (!series.isSpacedOut()) {
+            throw new CommandException(MESSAGE_OVERLAPPING_OCCURRENCES);
+        }
+        if (hasClash(model, doctor, doctor.getUpcomingAppointments(), series)) {
+            throw new CommandException(AddAppointmentCommand.MESSAGE_DOCTOR_CLASH_APPOINTMENT);
+        }
+        if (hasClash(model, patient, patient.getUpcomingAppointments(), series)) {
+            throw new CommandException(AddAppointmentCommand.MESSAGE_PATIENT_CLASH_APPOINTMENT);
+        }
+
+        try {
+            for (Appointment occurrence : series.getOccurrences()) {
+                googleCalendar.addAppointment(doctor.getName().toString() + doctor.getPhone().toString(), occurrence);
+            }
+        } catch (GeneralSecurityException e) {
+            throw new InvalidSecurityAccessException();
+        } catch (IOException e) {
+            throw new InvalidInputOutputException();
+        }
+
+        model.addAppointmentSeries(series);
+        model.commitAddressBook();
+
+        EventsCenter.getInstance().post(new PersonPanelSelectionChangedEvent(patient));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, count, series));
+    }
+
+    /**
+     * Returns true if any occurrence of {@code series} clashes with one of the {@code upcomingAppointments} of
+     * {@code person}, or with an occurrence of another series of the person.
+     */
+    private static boolean hasClash(Model model, Person person, Iterable<Appointment> upcomingAppointments,
+                                    AppointmentSeries series) {
+        for (Appointment appointment : upcomingAppointments) {
+            if (series.hasClash(appointment)) {
+                return true;
+            }
+        }
+        return model.getAppointmentSeries(person).stream().anyMatch(series::hasClash);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AddAppointmentSeriesCommand // instanceof handles nulls
+                && firstBooking.equals(((AddAppointmentSeriesCommand) other).firstBooking)
+                && intervalDays == ((AddAppointmentSeriesCommand) other).intervalDays
+                && count == ((AddAppointmentSeriesCommand) other).count);
+    }
+}
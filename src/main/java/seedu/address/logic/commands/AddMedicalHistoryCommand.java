@@ -8,7 +8,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.ArrayList;
-import java.util.List;
 
 import seedu.address.calendar.GoogleCalendar;
 import seedu.address.commons.core.EventsCenter;
@@ -23,7 +22,6 @@ import seedu.address.model.patient.Patient;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
-import seedu.address.model.tag.Tag;
 
 /**
  * add medical history for a patient specified by index in healthbook
@@ -77,34 +75,12 @@ public class AddMedicalHistoryCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history, GoogleCalendar googleCalendar)
             throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        Person personToEdit = null;
-        boolean personExist = false;
-        for (Person person : lastShownList) {
-            if (person.getName().equals(name)) {
-                if (phone != null) {
-                    if (person.getPhone().equals(phone)) {
-                        personToEdit = person;
-                        personExist = true;
-                    }
-                } else {
-                    if (personToEdit != null && personToEdit.getName().equals(name)) {
-                        throw new CommandException(MESSAGE_DUPLICATE_PATIENT);
-                    } else {
-                        personToEdit = person;
-                        personExist = true;
-                    }
-                }
-            }
-        }
-        if (!personExist) {
+        if (model.getFilteredPersons(name, phone).isEmpty()) {
             throw new CommandException(MESSAGE_INVALID_ADD_MEDICAL_HISTORY_NO_MATCH_NAME);
         }
-        if (!(personToEdit.getTags().contains(new Tag("Patient")))) {
-            throw new CommandException(MESSAGE_INVALID_ADD_MEDICAL_HISTORY);
-        }
-        Patient patientToEdit = (Patient) personToEdit;
+        // Only patients have a medical history, so the name is not ambiguous if the other persons are doctors
+        Patient patientToEdit = findPerson(model, Patient.class, name, phone,
+                MESSAGE_INVALID_ADD_MEDICAL_HISTORY, MESSAGE_DUPLICATE_PATIENT);
         if (allergies.size() == 0 && conditions.size() == 0) {
             throw new CommandException(MESSAGE_INVALID_ADD_MEDICAL_HISTORY_NO_INFO);
         }
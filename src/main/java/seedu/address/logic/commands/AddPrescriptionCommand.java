@@ -23,7 +23,6 @@ import seedu.address.model.appointment.Prescription;
 import seedu.address.model.doctor.Doctor;
 import seedu.address.model.patient.Allergy;
 import seedu.address.model.patient.Patient;
-import seedu.address.model.person.Person;
 
 /**
  * Adds a prescription to an appointment
@@ -101,28 +100,8 @@ public class AddPrescriptionCommand extends Command {
         model.setAppointment(appointmentToEdit, editedAppointment);
 
         // checking for patient and doctor
-        List<Person> personList = model.getFilteredPersonList();
-        Doctor doctorToEdit = null;
-        Patient patientToEdit = null;
-        for (Person person : personList) {
-            if (person instanceof Doctor) {
-                if (appointmentToEdit.getDoctor().equals(person.getName().toString())) {
-                    if ((((Doctor) person).hasAppointment(id))) {
-                        doctorToEdit = (Doctor) person;
-                    }
-                }
-            }
-            if (person instanceof Patient) {
-                if (appointmentToEdit.getPatient().equals(person.getName().toString())) {
-                    if (((Patient) person).hasAppointment(id)) {
-                        patientToEdit = (Patient) person;
-                    }
-                }
-            }
-            if (doctorToEdit != null && patientToEdit != null) {
-                break;
-            }
-        }
+        Doctor doctorToEdit = model.getFilteredDoctorWithAppointment(appointmentToEdit).orElse(null);
+        Patient patientToEdit = model.getFilteredPatientWithAppointment(appointmentToEdit).orElse(null);
 
         // Doctor only stores upcoming appts while patients store both upcoming and past appt
         if (appointmentToEdit.getStatus().equals("UPCOMING")) {
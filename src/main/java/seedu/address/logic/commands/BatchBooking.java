@@ -0,0 +1,119 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.calendar.GoogleCalendar;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentSeries;
+import seedu.address.model.appointment.ScheduleIndex;
+import seedu.address.model.appointment.exceptions.InvalidInputOutputException;
+import seedu.address.model.appointment.exceptions.InvalidSecurityAccessException;
+import seedu.address.model.doctor.Doctor;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.person.Person;
+
+/**
+ * Books many appointments at once, all or none of them.
+ * <p>
+ * The patients and doctors are found among the listed persons, as every command finds them. Every booking is checked
+ * against the upcoming appointments and appointment series of its patient and doctor, and against the bookings
+ * before it in the batch, before any of them is made. The bookings are then added as a single
+ * change to the model and a single commit, so that they are saved once and undone together.
+ */
+public class BatchBooking {
+
+    public static final String MESSAGE_INVALID_BOOKING = "Booking %1$d (%2$s): %3$s";
+
+    private final Model model;
+
+    public BatchBooking(Model model) {
+        requireNonNull(model);
+        this.model = model;
+    }
+
+    /**
+     * Books an appointment for each of {@code requests} and commits them, or books none of them if any cannot be
+     * booked. Returns the appointments booked, in the order of {@code requests}.
+     *
+     * @throws CommandException if a patient or doctor cannot be found, or an appointment would clash.
+     */
+    public List<Appointment> book(List<BookingRequest> requests, GoogleCalendar googleCalendar)
+            throws CommandException {
+        requireNonNull(requests);
+        List<Appointment> appointments = new ArrayList<>(requests.size());
+        List<Patient> patients = new ArrayList<>(requests.size());
+        List<Doctor> doctors = new ArrayList<>(requests.size());
+        Map<Person, ScheduleIndex> bookedInBatch = new IdentityHashMap<>();
+
+        int appointmentCounter = model.getAppointmentCounter();
+        for (int i = 0; i < requests.size(); i++) {
+            BookingRequest request = requests.get(i);
+            try {
+                Patient patient = Command.findPerson(model, Patient.class, request.getPatientName(),
+                        request.getPatientPhone(), AddAppointmentCommand.MESSAGE_INVALID_PATIENT,
+                        AddAppointmentCommand.MESSAGE_DUPLICATE_PATIENT);
+                Doctor doctor = Command.findPerson(model, Doctor.class, request.getDoctorName(),
+                        request.getDoctorPhone(), AddAppointmentCommand.MESSAGE_INVALID_DOCTOR,
+                        AddAppointmentCommand.MESSAGE_DUPLICATE_DOCTOR);
+                Appointment appointment = new Appointment(appointmentCounter + i, doctor.getName().toString(),
+                        patient.getName().toString(), request.getDateTime());
+                checkClash(doctor, doctor.getSchedule(), model.getAppointmentSeries(doctor), appointment,
+                        bookedInBatch, AddAppointmentCommand.MESSAGE_DOCTOR_CLASH_APPOINTMENT);
+                checkClash(patient, patient.getSchedule(), model.getAppointmentSeries(patient), appointment,
+                        bookedInBatch, AddAppointmentCommand.MESSAGE_PATIENT_CLASH_APPOINTMENT);
+                appointments.add(appointment);
+                patients.add(patient);
+                doctors.add(doctor);
+            } catch (CommandException e) {
+                throw new CommandException(String.format(MESSAGE_INVALID_BOOKING, i + 1, request, e.getMessage()));
+            }
+        }
+
+        for (int i = 0; i < appointments.size(); i++) {
+            Doctor doctor = doctors.get(i);
+            try {
+                googleCalendar.addAppointment(doctor.getName().toString() + doctor.getPhone().toString(),
+                        appointments.get(i));
+            } catch (GeneralSecurityException e) {
+                throw new InvalidSecurityAccessException();
+            } catch (IOException e) {
+                throw new InvalidInputOutputException();
+            }
+        }
+
+        for (int i = 0; i < appointments.size(); i++) {
+            doctors.get(i).addUpcomingAppointment(appointments.get(i));
+            patients.get(i).addUpcomingAppointment(appointments.get(i));
+        }
+        model.addAppointments(appointments);
+        model.commitAddressBook();
+        return appointments;
+    }
+
+    /**
+     * Throws a {@code CommandException} with {@code clashMessage} if {@code appointment} clashes with an upcoming
+     * appointment or appointment series of {@code person}, or with one booked for the person earlier in the batch.
+     * Otherwise records the appointment as booked for the person.
+     */
+    private static void checkClash(Person person, ScheduleIndex schedule, List<AppointmentSeries> series,
+                                   Appointment appointment, Map<Person, ScheduleIndex> bookedInBatch,
+                                   String clashMessage) throws CommandException {
+        long start = appointment.getStartSecond();
+        long duration = Appointment.getDurationSeconds();
+        ScheduleIndex booked = bookedInBatch.computeIfAbsent(person, unused -> new ScheduleIndex());
+        if (schedule.hasClash(start, duration) || booked.hasClash(start, duration)
+                || series.stream().anyMatch(personSeries -> personSeries.hasClash(start, duration))) {
+            throw new CommandException(clashMessage);
+        }
+        booked.add(start);
+    }
+}
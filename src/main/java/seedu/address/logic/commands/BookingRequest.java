@@ -0,0 +1,79 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+
+/**
+ * A request to book an appointment between a patient and a doctor, as given by the user.
+ * The phones are only needed if there are several patients or doctors with the same name, and may be null.
+ */
+public class BookingRequest {
+
+    private final Name patientName;
+    private final Phone patientPhone;
+    private final Name doctorName;
+    private final Phone doctorPhone;
+    private final LocalDateTime dateTime;
+
+    public BookingRequest(Name patientName, Phone patientPhone, Name doctorName, Phone doctorPhone,
+                          LocalDateTime dateTime) {
+        requireAllNonNull(patientName, doctorName, dateTime);
+        this.patientName = patientName;
+        this.patientPhone = patientPhone;
+        this.doctorName = doctorName;
+        this.doctorPhone = doctorPhone;
+        this.dateTime = dateTime;
+    }
+
+    public Name getPatientName() {
+        return patientName;
+    }
+
+    public Phone getPatientPhone() {
+        return patientPhone;
+    }
+
+    public Name getDoctorName() {
+        return doctorName;
+    }
+
+    public Phone getDoctorPhone() {
+        return doctorPhone;
+    }
+
+    public LocalDateTime getDateTime() {
+        return dateTime;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof BookingRequest)) {
+            return false;
+        }
+
+        BookingRequest otherRequest = (BookingRequest) other;
+        return patientName.equals(otherRequest.patientName)
+                && Objects.equals(patientPhone, otherRequest.patientPhone)
+                && doctorName.equals(otherRequest.doctorName)
+                && Objects.equals(doctorPhone, otherRequest.doctorPhone)
+                && dateTime.equals(otherRequest.dateTime);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(patientName, patientPhone, doctorName, doctorPhone, dateTime);
+    }
+
+    @Override
+    public String toString() {
+        return patientName + " with " + doctorName + " at " + dateTime;
+    }
+}
@@ -1,9 +1,15 @@
 package seedu.address.logic.commands;
 
+import java.util.List;
+import java.util.function.Predicate;
+
 import seedu.address.calendar.GoogleCalendar;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -20,4 +26,43 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model, CommandHistory history, GoogleCalendar googleCalendar)
             throws CommandException;
+
+    /**
+     * Returns the only person in the filtered person list of {@code model} of {@code type} with {@code name}, and with
+     * {@code phone} unless it is null.
+     *
+     * @see #findPerson(Model, Name, Phone, Predicate, String, String)
+     */
+    protected static <T extends Person> T findPerson(Model model, Class<T> type, Name name, Phone phone,
+                                                     String notFoundMessage, String ambiguousMessage)
+            throws CommandException {
+        return type.cast(findPerson(model, name, phone, type::isInstance, notFoundMessage, ambiguousMessage));
+    }
+
+    /**
+     * Returns the only person in the filtered person list of {@code model} accepted by {@code filter} with
+     * {@code name}, and with {@code phone} unless it is null. This is how every command resolves a person it is given
+     * by name: a name that several accepted persons share must be given with a phone.
+     *
+     * @throws CommandException with {@code notFoundMessage} if there is no such person, or with
+     *         {@code ambiguousMessage} if there are several of them.
+     */
+    protected static Person findPerson(Model model, Name name, Phone phone, Predicate<Person> filter,
+                                       String notFoundMessage, String ambiguousMessage) throws CommandException {
+        Person found = null;
+        List<Person> namesakes = model.getFilteredPersons(name, phone);
+        for (Person person : namesakes) {
+            if (!filter.test(person)) {
+                continue;
+            }
+            if (found != null) {
+                throw new CommandException(ambiguousMessage);
+            }
+            found = person;
+        }
+        if (found == null) {
+            throw new CommandException(notFoundMessage);
+        }
+        return found;
+    }
 }
@@ -5,7 +5,6 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
 import java.security.GeneralSecurityException;
-import java.util.Iterator;
 import java.util.List;
 
 import seedu.address.calendar.GoogleCalendar;
@@ -20,7 +19,6 @@ import seedu.address.model.appointment.exceptions.InvalidInputOutputException;
 import seedu.address.model.appointment.exceptions.InvalidSecurityAccessException;
 import seedu.address.model.doctor.Doctor;
 import seedu.address.model.patient.Patient;
-import seedu.address.model.person.Person;
 
 /**
  * Deletes a patient's appointment to the health book.
@@ -55,9 +53,6 @@ public class DeleteAppointmentCommand extends Command {
             throws CommandException {
         requireNonNull(model);
         List<Appointment> appointmentList = model.getFilteredAppointmentList();
-        List<Person> personList = model.getFilteredPersonList();
-        Patient patient = null;
-        Doctor doctor = null;
 
         Appointment appointment = appointmentList.stream()
                 .filter(appt -> appt.getAppointmentId() == appointmentId)
@@ -72,27 +67,10 @@ public class DeleteAppointmentCommand extends Command {
             throw new CommandException(MESSAGE_COMPLETED_APPOINTMENT);
         }
 
-        for (Person person : personList) {
-            if (person instanceof Patient) {
-                Iterator<Appointment> iterator = ((Patient) person).getUpcomingAppointments().iterator();
-                while (iterator.hasNext()) {
-                    if (iterator.next().getAppointmentId() == appointmentId) {
-                        patient = (Patient) person;
-                    }
-                }
-            }
-            if (person instanceof Doctor) {
-                Iterator<Appointment> itr = ((Doctor) person).getUpcomingAppointments().iterator();
-                while (itr.hasNext()) {
-                    if (itr.next().getAppointmentId() == appointmentId) {
-                        doctor = (Doctor) person;
-                    }
-                }
-            }
-            if (patient != null && doctor != null) {
-                break;
-            }
-        }
+        Patient patient = model.getFilteredPatientWithAppointment(appointment)
+                .filter(found -> found.hasUpcomingAppointment(appointmentId))
+                .orElse(null);
+        Doctor doctor = model.getFilteredDoctorWithAppointment(appointment).orElse(null);
 
         if (patient == null || doctor == null) {
             throw new CommandException(MESSAGE_INVALID_APPOINTMENT_INDEX);
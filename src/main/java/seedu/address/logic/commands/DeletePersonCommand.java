@@ -2,8 +2,6 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
-
 import seedu.address.calendar.GoogleCalendar;
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.events.ui.PersonPanelSelectionChangedEvent;
@@ -52,28 +50,9 @@ public class DeletePersonCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history, GoogleCalendar googleCalendar)
             throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
-        Person personToDelete = null;
-
-        for (Person person : lastShownList) {
-            if (person.getName().equals(name) && person.getTags().contains(tag)) {
-                if (phone != null) {
-                    if (person.getPhone().equals(phone)) {
-                        personToDelete = person;
-                    }
-                } else {
-                    if (personToDelete != null && personToDelete.getName().equals(name)) {
-                        throw new CommandException(String.format(MESSAGE_DUPLICATE_DELETE_PERSON,
-                                tag.tagName, tag.tagName, tag.tagName));
-                    } else {
-                        personToDelete = person;
-                    }
-                }
-            }
-        }
-        if (personToDelete == null) {
-            throw new CommandException(String.format(MESSAGE_INVALID_DELETE_PERSON, tag.tagName));
-        }
+        Person personToDelete = findPerson(model, name, phone, person -> person.getTags().contains(tag),
+                String.format(MESSAGE_INVALID_DELETE_PERSON, tag.tagName),
+                String.format(MESSAGE_DUPLICATE_DELETE_PERSON, tag.tagName, tag.tagName, tag.tagName));
 
         model.deletePerson(personToDelete);
         model.commitAddressBook();
@@ -1,6 +1,9 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SEARCH;
+
+import java.util.Objects;
 
 import seedu.address.calendar.GoogleCalendar;
 import seedu.address.commons.core.Messages;
@@ -10,7 +13,8 @@ import seedu.address.model.person.NameContainsKeywordsPredicate;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive. In search mode, lists the persons whose names, phones, emails or addresses
+ * best match the query instead, allowing for partial and misspelled words.
  */
 public class FindCommand extends Command {
 
@@ -19,18 +23,40 @@ public class FindCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Alternatively, lists the " + FindCommand.MAX_SEARCH_RESULTS + " persons whose name, phone, email or "
+            + "address best match the query, even if some words are partial or misspelled.\n"
+            + "Parameters: " + PREFIX_SEARCH + "QUERY\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_SEARCH + "alce 9435";
+
+    /** The most persons listed by a search. */
+    public static final int MAX_SEARCH_RESULTS = 20;
 
     private final NameContainsKeywordsPredicate predicate;
+    private final String searchQuery;
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
         this.predicate = predicate;
+        this.searchQuery = null;
+    }
+
+    /**
+     * Creates a FindCommand that lists the persons that best match {@code searchQuery}.
+     */
+    public FindCommand(String searchQuery) {
+        requireNonNull(searchQuery);
+        this.predicate = null;
+        this.searchQuery = searchQuery;
     }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history, GoogleCalendar googleCalendar) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        if (searchQuery != null) {
+            model.updateFilteredPersonListBySearch(searchQuery, MAX_SEARCH_RESULTS);
+        } else {
+            model.updateFilteredPersonListByName(predicate.getKeywords());
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -39,6 +65,7 @@ public class FindCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicate.equals(((FindCommand) other).predicate)); // state check
+                && Objects.equals(predicate, ((FindCommand) other).predicate) // state check
+                && Objects.equals(searchQuery, ((FindCommand) other).searchQuery));
     }
 }
@@ -0,0 +1,156 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DOCTOR_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DOCTOR_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_DATE_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PATIENT_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PATIENT_PHONE;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.calendar.GoogleCalendar;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.doctor.Doctor;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.schedule.FreeSlot;
+import seedu.address.model.schedule.FreeSlotFinder;
+
+/**
+ * Finds the earliest free appointment slots in a time window, across all doctors or for a given doctor, and
+ * optionally for a given patient.
+ */
+public class FindSlotCommand extends Command {
+
+    public static final String COMMAND_WORD = "find-slot";
+
+    public static final int DEFAULT_SLOT_COUNT = 5;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the earliest free appointment slots between "
+            + "two dates and times.\n"
+            + "Parameters: "
+            + PREFIX_DATE_TIME + "FROM_DATE_TIME "
+            + PREFIX_END_DATE_TIME + "UNTIL_DATE_TIME "
+            + "[" + PREFIX_DURATION + "DURATION_IN_MINUTES] "
+            + "[" + PREFIX_COUNT + "NUMBER_OF_SLOTS] "
+            + "[" + PREFIX_DOCTOR_NAME + "DOCTOR_NAME] "
+            + "[" + PREFIX_DOCTOR_PHONE + "DOCTOR_PHONE] "
+            + "[" + PREFIX_PATIENT_NAME + "PATIENT_NAME] "
+            + "[" + PREFIX_PATIENT_PHONE + "PATIENT_PHONE] \n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_DATE_TIME + "2018-10-17 09:00 "
+            + PREFIX_END_DATE_TIME + "2018-10-17 18:00 "
+            + PREFIX_COUNT + "3 "
+            + PREFIX_PATIENT_NAME + "John Doe ";
+
+    public static final String MESSAGE_SUCCESS = "%1$d free slots found:";
+    public static final String MESSAGE_NO_SLOTS = "No free slots found";
+    public static final String MESSAGE_INVALID_PATIENT = "This patient does not exist in the HealthBook";
+    public static final String MESSAGE_INVALID_DOCTOR = "This doctor does not exist in the HealthBook";
+    public static final String MESSAGE_DUPLICATE_DOCTOR =
+            "There are multiple doctors with this name. Please enter doctor's number to identify the unique doctor";
+    public static final String MESSAGE_DUPLICATE_PATIENT =
+            "There are multiple patients with this name. Please enter patients's number to identify the unique patient";
+
+    private static final DateTimeFormatter SLOT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final LocalDateTime from;
+    private final LocalDateTime until;
+    private final Duration duration;
+    private final int count;
+    private final Name doctorName;
+    private final Phone doctorPhone;
+    private final Name patientName;
+    private final Phone patientPhone;
+
+    /**
+     * Creates a FindSlotCommand for {@code count} slots of {@code duration} between {@code from} and {@code until}.
+     * A null {@code duration} stands for the duration of an appointment. The doctor and patient are optional, and
+     * their phones are only needed if there are several persons with the same name.
+     */
+    public FindSlotCommand(LocalDateTime from, LocalDateTime until, Duration duration, int count,
+                           Name doctorName, Phone doctorPhone, Name patientName, Phone patientPhone) {
+        requireNonNull(from);
+        requireNonNull(until);
+        this.from = from;
+        this.until = until;
+        this.duration = duration;
+        this.count = count;
+        this.doctorName = doctorName;
+        this.doctorPhone = doctorPhone;
+        this.patientName = patientName;
+        this.patientPhone = patientPhone;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history, GoogleCalendar googleCalendar)
+            throws CommandException {
+        requireNonNull(model);
+        List<Doctor> doctors;
+        if (doctorName != null) {
+            doctors = Collections.singletonList(findPerson(model, Doctor.class, doctorName, doctorPhone,
+                    MESSAGE_INVALID_DOCTOR, MESSAGE_DUPLICATE_DOCTOR));
+        } else {
+            doctors = new ArrayList<>();
+            for (Person person : model.getAddressBook().getPersonList()) {
+                if (person instanceof Doctor) {
+                    doctors.add((Doctor) person);
+                }
+            }
+        }
+        Patient patient = patientName == null
+                ? null
+                : findPerson(model, Patient.class, patientName, patientPhone,
+                        MESSAGE_INVALID_PATIENT, MESSAGE_DUPLICATE_PATIENT);
+
+        FreeSlotFinder finder = new FreeSlotFinder(from, until,
+                duration == null ? Appointment.getDuration() : duration, count);
+        List<FreeSlot> slots = finder.find(doctors, patient, model::getAppointmentSeries);
+        if (slots.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_SLOTS);
+        }
+
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_SUCCESS, slots.size()));
+        for (FreeSlot slot : slots) {
+            builder.append('\n').append(SLOT_FORMAT.format(slot.getStart()))
+                    .append(' ').append(slot.getDoctor().getName())
+                    .append(" (").append(slot.getDoctor().getPhone()).append(')');
+        }
+        return new CommandResult(builder.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof FindSlotCommand)) {
+            return false;
+        }
+
+        FindSlotCommand otherCommand = (FindSlotCommand) other;
+        return from.equals(otherCommand.from)
+                && until.equals(otherCommand.until)
+                && Objects.equals(duration, otherCommand.duration)
+                && count == otherCommand.count
+                && Objects.equals(doctorName, otherCommand.doctorName)
+                && Objects.equals(doctorPhone, otherCommand.doctorPhone)
+                && Objects.equals(patientName, otherCommand.patientName)
+                && Objects.equals(patientPhone, otherCommand.patientPhone);
+    }
+}
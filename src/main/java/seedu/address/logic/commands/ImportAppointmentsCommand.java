@@ -0,0 +1,49 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.calendar.GoogleCalendar;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Books all the appointments listed in a file, as a single change that is undone as a whole.
+ */
+public class ImportAppointmentsCommand extends Command {
+
+    public static final String COMMAND_WORD = "import-appointments";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Books all the appointments listed in a file. "
+            + "Either all of them are booked, or none if any of them cannot be.\n"
+            + "Each line of the file holds one appointment as "
+            + "PATIENT_NAME,[PATIENT_PHONE],DOCTOR_NAME,[DOCTOR_PHONE],DATE_TIME\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/transfers.csv";
+
+    public static final String MESSAGE_SUCCESS = "%1$d appointments added";
+
+    private final List<BookingRequest> requests;
+
+    public ImportAppointmentsCommand(List<BookingRequest> requests) {
+        requireNonNull(requests);
+        this.requests = requests;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history, GoogleCalendar googleCalendar)
+            throws CommandException {
+        requireNonNull(model);
+        int booked = new BatchBooking(model).book(requests, googleCalendar).size();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, booked));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportAppointmentsCommand // instanceof handles nulls
+                && requests.equals(((ImportAppointmentsCommand) other).requests));
+    }
+}
@@ -7,8 +7,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.List;
-
 import seedu.address.calendar.GoogleCalendar;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -68,28 +66,8 @@ public class RemarkCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history, GoogleCalendar googleCalendar)
             throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
-        Person personToEdit = null;
-
-        for (Person person : lastShownList) {
-            if (person.getName().equals(name)) {
-                if (phone != null) {
-                    if (person.getPhone().equals(phone)) {
-                        personToEdit = person; // name and phone is unique
-                    }
-                } else {
-                    if (personToEdit != null) { // duplicate found but no phone provided
-                        throw new CommandException(MESSAGE_DUPLICATE_PERSON);
-                    } else {
-                        personToEdit = person;
-                    }
-                }
-            }
-        }
-
-        if (personToEdit == null) {
-            throw new CommandException(MESSAGE_INVALID_PERSON_FAILURE);
-        }
+        Person personToEdit = findPerson(model, name, phone, person -> true,
+                MESSAGE_INVALID_PERSON_FAILURE, MESSAGE_DUPLICATE_PERSON);
 
         if (personToEdit instanceof Patient) {
             Patient patientToEdit = (Patient) personToEdit;
@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.calendar.GoogleCalendar;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.CommandMetrics;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long the commands entered since the app was launched took, for each command word.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows how long the commands entered so far took, slowest first, "
+            + "or every phase of the commands of one command word.\n"
+            + "Parameters: [COMMAND_WORD]\n"
+            + "Example: " + COMMAND_WORD + " add-appointment";
+
+    public static final String MESSAGE_SUCCESS = "Time taken by commands (median and 99th percentile in ms):\n%1$s";
+    public static final String MESSAGE_NO_STATS = "You have not yet entered any commands.";
+    public static final String MESSAGE_NO_STATS_FOR_COMMAND = "You have not yet entered any %1$s commands.";
+
+    private final String commandWord;
+
+    /**
+     * Creates a {@code StatsCommand} that shows every command word.
+     */
+    public StatsCommand() {
+        this("");
+    }
+
+    /**
+     * Creates a {@code StatsCommand} that shows the commands of {@code commandWord}, or every command word if it is
+     * empty.
+     */
+    public StatsCommand(String commandWord) {
+        this.commandWord = requireNonNull(commandWord);
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history, GoogleCalendar googleCalendar)
+            throws CommandException {
+        requireNonNull(history);
+        CommandMetrics metrics = history.getMetrics();
+
+        if (commandWord.isEmpty()) {
+            if (metrics.getCommandWords().isEmpty()) {
+                return new CommandResult(MESSAGE_NO_STATS);
+            }
+            return new CommandResult(String.format(MESSAGE_SUCCESS, metrics.getSummary()));
+        }
+
+        if (metrics.getRunCount(commandWord) == 0) {
+            throw new CommandException(String.format(MESSAGE_NO_STATS_FOR_COMMAND, commandWord));
+        }
+        return new CommandResult(metrics.getDetails(commandWord));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StatsCommand // instanceof handles nulls
+                && commandWord.equals(((StatsCommand) other).commandWord));
+    }
+}
@@ -3,8 +3,10 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SEARCH;
 
 import java.util.List;
+import java.util.Objects;
 
 import seedu.address.calendar.GoogleCalendar;
 import seedu.address.commons.core.EventsCenter;
@@ -30,7 +32,11 @@ public class ViewDoctorCommand extends Command {
             + PREFIX_NAME + "NAME "
             + "[" + PREFIX_PHONE + "PHONE] \n"
             + "Example: " + COMMAND_WORD + " "
-            + PREFIX_NAME + "John Doe ";
+            + PREFIX_NAME + "John Doe \n"
+            + "Alternatively, views the doctor whose name, phone, email or address best matches the query, "
+            + "even if some words are partial or misspelled.\n"
+            + "Parameters: " + PREFIX_SEARCH + "QUERY\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_SEARCH + "jon doe";
 
     public static final String MESSAGE_SUCCESS = "Viewing Doctor: %1$s";
     public static final String MESSAGE_INVALID_DOCTOR = "This doctor does not exist in the HealthBook";
@@ -39,38 +45,41 @@ public class ViewDoctorCommand extends Command {
 
     private final Name name;
     private final Phone phone;
+    private final String searchQuery;
 
     public ViewDoctorCommand(Name name, Phone phone) {
         this.name = name;
         this.phone = phone;
+        this.searchQuery = null;
+    }
+
+    /**
+     * Creates a ViewDoctorCommand that views the doctor that best matches {@code searchQuery}.
+     */
+    public ViewDoctorCommand(String searchQuery) {
+        requireNonNull(searchQuery);
+        this.name = null;
+        this.phone = null;
+        this.searchQuery = searchQuery;
     }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history, GoogleCalendar googleCalendar)
             throws CommandException {
         requireNonNull(model);
-        List<Person> personList = model.getFilteredPersonList();
-        Doctor doctorToView = null;
-        for (Person person : personList) {
-            if (person.getName().equals(name) && person instanceof Doctor) {
-                if (phone != null) {
-                    if (person.getPhone().equals(phone)) {
-                        doctorToView = (Doctor) person;
-                    }
-                } else {
-                    if (doctorToView != null && doctorToView.getName().equals(name)) {
-                        throw new CommandException(MESSAGE_DUPLICATE_VIEW_DOCTOR);
-                    } else {
-                        doctorToView = (Doctor) person;
-                    }
-                }
+        if (searchQuery != null) {
+            List<Person> matches = model.searchPersons(searchQuery, 1, person -> person instanceof Doctor);
+            if (matches.isEmpty()) {
+                throw new CommandException(MESSAGE_INVALID_DOCTOR);
             }
+            return view((Doctor) matches.get(0));
         }
 
-        if (doctorToView == null) {
-            throw new CommandException(MESSAGE_INVALID_DOCTOR);
-        }
+        return view(findPerson(model, Doctor.class, name, phone,
+                MESSAGE_INVALID_DOCTOR, MESSAGE_DUPLICATE_VIEW_DOCTOR));
+    }
 
+    private CommandResult view(Doctor doctorToView) {
         EventsCenter.getInstance().post(new PersonPanelSelectionChangedEvent(doctorToView));
         return new CommandResult(String.format(MESSAGE_SUCCESS, doctorToView.getName()));
     }
@@ -79,6 +88,7 @@ public class ViewDoctorCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ViewDoctorCommand // instanceof handles nulls
-                && name.equals(((ViewDoctorCommand) other).name)); // state check
+                && Objects.equals(name, ((ViewDoctorCommand) other).name) // state check
+                && Objects.equals(searchQuery, ((ViewDoctorCommand) other).searchQuery));
     }
 }
@@ -3,8 +3,10 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SEARCH;
 
 import java.util.List;
+import java.util.Objects;
 
 import seedu.address.calendar.GoogleCalendar;
 import seedu.address.commons.core.EventsCenter;
@@ -30,7 +32,11 @@ public class ViewPatientCommand extends Command {
             + PREFIX_NAME + "NAME "
             + "[" + PREFIX_PHONE + "PHONE] \n"
             + "Example: " + COMMAND_WORD + " "
-            + PREFIX_NAME + "John Doe ";
+            + PREFIX_NAME + "John Doe \n"
+            + "Alternatively, views the patient whose name, phone, email or address best matches the query, "
+            + "even if some words are partial or misspelled.\n"
+            + "Parameters: " + PREFIX_SEARCH + "QUERY\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_SEARCH + "jon doe";
 
     public static final String MESSAGE_SUCCESS = "Viewing Patient: %1$s";
     public static final String MESSAGE_INVALID_PATIENT = "This patient does not exist in the HealthBook";
@@ -39,38 +45,41 @@ public class ViewPatientCommand extends Command {
 
     private final Name name;
     private final Phone phone;
+    private final String searchQuery;
 
     public ViewPatientCommand(Name name, Phone phone) {
         this.name = name;
         this.phone = phone;
+        this.searchQuery = null;
+    }
+
+    /**
+     * Creates a ViewPatientCommand that views the patient that best matches {@code searchQuery}.
+     */
+    public ViewPatientCommand(String searchQuery) {
+        requireNonNull(searchQuery);
+        this.name = null;
+        this.phone = null;
+        this.searchQuery = searchQuery;
     }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history, GoogleCalendar googleCalendar)
             throws CommandException {
         requireNonNull(model);
-        List<Person> personList = model.getFilteredPersonList();
-        Patient patientToView = null;
-        for (Person person : personList) {
-            if (person.getName().equals(name) && person instanceof Patient) {
-                if (phone != null) {
-                    if (person.getPhone().equals(phone)) {
-                        patientToView = (Patient) person;
-                    }
-                } else {
-                    if (patientToView != null && patientToView.getName().equals(name)) {
-                        throw new CommandException(MESSAGE_DUPLICATE_VIEW_PATIENT);
-                    } else {
-                        patientToView = (Patient) person;
-                    }
-                }
+        if (searchQuery != null) {
+            List<Person> matches = model.searchPersons(searchQuery, 1, person -> person instanceof Patient);
+            if (matches.isEmpty()) {
+                throw new CommandException(MESSAGE_INVALID_PATIENT);
             }
+            return view((Patient) matches.get(0));
         }
 
-        if (patientToView == null) {
-            throw new CommandException(MESSAGE_INVALID_PATIENT);
-        }
+        return view(findPerson(model, Patient.class, name, phone,
+                MESSAGE_INVALID_PATIENT, MESSAGE_DUPLICATE_VIEW_PATIENT));
+    }
 
+    private CommandResult view(Patient patientToView) {
         EventsCenter.getInstance().post(new PersonPanelSelectionChangedEvent(patientToView));
         return new CommandResult(String.format(MESSAGE_SUCCESS, patientToView.getName()));
     }
@@ -79,6 +88,7 @@ public class ViewPatientCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ViewPatientCommand // instanceof handles nulls
-                && name.equals(((ViewPatientCommand) other).name)); // state check
+                && Objects.equals(name, ((ViewPatientCommand) other).name) // state check
+                && Objects.equals(searchQuery, ((ViewPatientCommand) other).searchQuery));
     }
 }
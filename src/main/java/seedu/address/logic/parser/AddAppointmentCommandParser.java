@@ -19,6 +19,10 @@ import seedu.address.model.person.Phone;
  * Parses input arguments and creates a new AddAppointmentCommand object
  */
 public class AddAppointmentCommandParser implements Parser<AddAppointmentCommand> {
+
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_PATIENT_NAME, PREFIX_PATIENT_PHONE,
+            PREFIX_DOCTOR_NAME, PREFIX_DOCTOR_PHONE, PREFIX_DATE_TIME);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddAppointmentCommand
      * and returns an AddAppointmentCommand object for execution.
@@ -26,9 +30,7 @@ public class AddAppointmentCommandParser implements Parser<AddAppointmentCommand
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddAppointmentCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_PATIENT_NAME, PREFIX_PATIENT_PHONE,
-                        PREFIX_DOCTOR_NAME, PREFIX_DOCTOR_PHONE, PREFIX_DATE_TIME);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(args);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_PATIENT_NAME, PREFIX_DOCTOR_NAME, PREFIX_DATE_TIME)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -19,6 +19,9 @@ import seedu.address.model.appointment.Prescription;
  */
 public class AddPrescriptionCommandParser implements Parser<AddPrescriptionCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_MEDICINE_NAME, PREFIX_DOSAGE,
+            PREFIX_CONSUMPTION_PER_DAY);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddPrescriptionCommand
      * and returns an AddPrescriptionCommand object for execution.
@@ -26,9 +29,7 @@ public class AddPrescriptionCommandParser implements Parser<AddPrescriptionComma
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddPrescriptionCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_MEDICINE_NAME, PREFIX_DOSAGE,
-                        PREFIX_CONSUMPTION_PER_DAY);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(args);
 
         int id;
 
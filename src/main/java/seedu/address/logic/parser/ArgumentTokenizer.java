@@ -1,9 +1,9 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -12,137 +12,156 @@ import java.util.stream.Collectors;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  *    in the above example.<br>
+ * <p>
+ * A tokenizer recognizes the prefixes it is created with in one pass over the arguments string, by walking a trie of
+ * the prefixes from every space. Creating the trie takes longer than tokenizing a command, so parsers keep the
+ * tokenizer for their prefixes. A tokenizer does not change once created, and can be used by several threads.
  */
 public class ArgumentTokenizer {
 
-    /**
-     * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
-     * respective argument values. Only the given prefixes will be recognized in the arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to tokenize the arguments string with
-     * @return           ArgumentMultimap object that maps prefixes to their arguments
-     */
-    public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
+    /** Marks the preamble in the {@code ArgumentMultimap}, as in {@link ArgumentMultimap#getPreamble()}. */
+    private static final Prefix PREAMBLE = new Prefix("");
+    private static final int NO_PREFIX = -1;
 
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
+    private final Prefix[] prefixes;
+    /** The characters leading out of each state of the trie, the root being state 0. */
+    private final char[][] transitionChars;
+    /** The states that the characters in {@code transitionChars} lead to. */
+    private final int[][] transitionStates;
+    /** The index in {@code prefixes} of the prefix spelled out by each state, or {@code NO_PREFIX}. */
+    private final int[] prefixOfState;
 
     /**
-     * {@see findAllPrefixPositions}
+     * Creates a tokenizer that recognizes only {@code prefixes} in the arguments strings it tokenizes.
      */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+    public ArgumentTokenizer(Prefix... prefixes) {
+        requireNonNull(prefixes);
+        this.prefixes = prefixes.clone();
+
+        List<StringBuilder> chars = new ArrayList<>();
+        List<List<Integer>> states = new ArrayList<>();
+        List<Integer> prefixOfStates = new ArrayList<>();
+        chars.add(new StringBuilder());
+        states.add(new ArrayList<>());
+        prefixOfStates.add(NO_PREFIX);
+        for (int i = 0; i < prefixes.length; i++) {
+            String prefix = prefixes[i].getPrefix();
+            int state = 0;
+            for (int j = 0; j < prefix.length(); j++) {
+                int transition = chars.get(state).indexOf(String.valueOf(prefix.charAt(j)));
+                if (transition >= 0) {
+                    state = states.get(state).get(transition);
+                    continue;
+                }
+                chars.get(state).append(prefix.charAt(j));
+                states.get(state).add(chars.size());
+                state = chars.size();
+                chars.add(new StringBuilder());
+                states.add(new ArrayList<>());
+                prefixOfStates.add(NO_PREFIX);
+            }
+            if (prefixOfStates.get(state) == NO_PREFIX) {
+                prefixOfStates.set(state, i);
+            }
         }
 
-        return positions;
+        transitionChars = new char[chars.size()][];
+        transitionStates = new int[chars.size()][];
+        prefixOfState = new int[chars.size()];
+        for (int state = 0; state < chars.size(); state++) {
+            transitionChars[state] = chars.get(state).toString().toCharArray();
+            transitionStates[state] = states.get(state).stream().mapToInt(Integer::intValue).toArray();
+            prefixOfState[state] = prefixOfStates.get(state);
+        }
     }
 
     /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
+     * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
+     * respective argument values. Only the given prefixes will be recognized in the arguments string.
      *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
+     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
+     * @param prefixes   Prefixes to tokenize the arguments string with
+     * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
+    public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
+        return new ArgumentTokenizer(prefixes).tokenizeArguments(argsString);
     }
 
     /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
+     * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps the prefixes of this
+     * tokenizer to their respective argument values.
+     * A prefix is recognized only after a space. Where several prefixes start at the same place, the longest is
+     * recognized.
      *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
+     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
+     * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
+    public ArgumentMultimap tokenizeArguments(String argsString) {
         ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+        Prefix currentPrefix = PREAMBLE;
+        int valueStart = 0;
+        int i = 0;
+        while (i < argsString.length()) {
+            int prefixIndex = argsString.charAt(i) == ' ' ? matchPrefix(argsString, i + 1) : NO_PREFIX;
+            if (prefixIndex == NO_PREFIX) {
+                i++;
+                continue;
+            }
+            argMultimap.put(currentPrefix, extractArgumentValue(argsString, valueStart, i + 1));
+            currentPrefix = prefixes[prefixIndex];
+            valueStart = i + 1 + currentPrefix.getPrefix().length();
+            i = valueStart;
         }
-
+        argMultimap.put(currentPrefix, extractArgumentValue(argsString, valueStart, argsString.length()));
         return argMultimap;
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
+     * Returns the index of the longest prefix that {@code argsString} has at {@code fromIndex}, or {@code NO_PREFIX}
+     * if it has none of the prefixes there.
      */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
+    private int matchPrefix(String argsString, int fromIndex) {
+        int state = 0;
+        int prefixIndex = prefixOfState[state];
+        for (int i = fromIndex; i < argsString.length(); i++) {
+            state = nextState(state, argsString.charAt(i));
+            if (state == -1) {
+                break;
+            }
+            if (prefixOfState[state] != NO_PREFIX) {
+                prefixIndex = prefixOfState[state];
+            }
+        }
+        return prefixIndex;
     }
 
     /**
-     * Represents a prefix's position in an arguments string.
+     * Returns the state that {@code c} leads to from {@code state}, or -1 if no prefix goes on with {@code c}.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
+    private int nextState(int state, char c) {
+        char[] chars = transitionChars[state];
+        for (int i = 0; i < chars.length; i++) {
+            if (chars[i] == c) {
+                return transitionStates[state][i];
+            }
         }
+        return -1;
+    }
 
-        int getStartPosition() {
-            return startPosition;
+    /**
+     * Returns the value of the argument between {@code start} and {@code end} in the arguments string, without
+     * leading and trailing whitespaces, as {@link String#trim()} would.
+     */
+    private static String extractArgumentValue(String argsString, int start, int end) {
+        int valueStart = start;
+        int valueEnd = end;
+        while (valueStart < valueEnd && argsString.charAt(valueStart) <= ' ') {
+            valueStart++;
         }
-
-        Prefix getPrefix() {
-            return prefix;
+        while (valueEnd > valueStart && argsString.charAt(valueEnd - 1) <= ' ') {
+            valueEnd--;
         }
+        return argsString.substring(valueStart, valueEnd);
     }
 
 }
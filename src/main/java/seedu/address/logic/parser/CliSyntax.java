@@ -19,6 +19,11 @@ public class CliSyntax {
     public static final Prefix PREFIX_DOCTOR_NAME = new Prefix("nd/");
     public static final Prefix PREFIX_DOCTOR_PHONE = new Prefix("pd/");
     public static final Prefix PREFIX_DATE_TIME = new Prefix("d/");
+    public static final Prefix PREFIX_END_DATE_TIME = new Prefix("ed/");
+    public static final Prefix PREFIX_DURATION = new Prefix("du/");
+    public static final Prefix PREFIX_COUNT = new Prefix("cnt/");
+    public static final Prefix PREFIX_INTERVAL = new Prefix("ev/");
+    public static final Prefix PREFIX_SEARCH = new Prefix("s/");
 
     public static final Prefix PREFIX_INDEX = new Prefix("pi/");
     public static final Prefix PREFIX_MEDICINE_NAME = new Prefix("pn/");
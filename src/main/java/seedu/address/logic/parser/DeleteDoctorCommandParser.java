@@ -16,14 +16,15 @@ import seedu.address.model.person.Phone;
  */
 public class DeleteDoctorCommandParser implements Parser<DeleteDoctorCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_NAME, PREFIX_PHONE);
+
     /**
      * Parses the given {@code String} of arguments in the context of the DeleteDoctorCommand
      * and returns an DeleteDoctorCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public DeleteDoctorCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(args);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME)
                 || !argMultimap.getPreamble().isEmpty()) {
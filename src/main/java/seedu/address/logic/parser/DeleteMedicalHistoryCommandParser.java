@@ -25,14 +25,17 @@ import seedu.address.model.person.Phone;
  * Parses input arguments and creates a new DeleteMedicalHistoryCommand object
  */
 public class DeleteMedicalHistoryCommandParser implements Parser<DeleteMedicalHistoryCommand> {
+
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_NAME, PREFIX_PHONE, PREFIX_ALLERGY,
+            PREFIX_CONDITION);
+
     /**
      * Parses the given {@code String} of arguments in the context of the DeleteMedicalHistoryCommand
      * and returns an DeleteMedicalHistoryCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public DeleteMedicalHistoryCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_ALLERGY, PREFIX_CONDITION);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(args);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
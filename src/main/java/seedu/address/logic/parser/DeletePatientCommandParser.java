@@ -16,14 +16,15 @@ import seedu.address.model.person.Phone;
  */
 public class DeletePatientCommandParser implements Parser<DeletePatientCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_NAME, PREFIX_PHONE);
+
     /**
      * Parses the given {@code String} of arguments in the context of the DeletePatientCommand
      * and returns an DeletePatientCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public DeletePatientCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(args);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -15,6 +15,9 @@ import seedu.address.model.appointment.MedicineName;
  * Parses input arguments and creates a new DeletePrescriptionCommand object
  */
 public class DeletePrescriptionCommandParser implements Parser<DeletePrescriptionCommand> {
+
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_MEDICINE_NAME);
+
     /**
      * Parses the given {@code String} of arguments in the context of the DeletePrescriptionCommand
      * and returns a DeleteAppointmentCommand object for execution
@@ -23,7 +26,7 @@ public class DeletePrescriptionCommandParser implements Parser<DeletePrescriptio
      */
     public DeletePrescriptionCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultiMap = ArgumentTokenizer.tokenize(args, PREFIX_MEDICINE_NAME);
+        ArgumentMultimap argMultiMap = TOKENIZER.tokenizeArguments(args);
 
         int id;
 
@@ -0,0 +1,84 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DOCTOR_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DOCTOR_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_DATE_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PATIENT_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PATIENT_PHONE;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import seedu.address.logic.commands.FindSlotCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+
+/**
+ * Parses input arguments and creates a new FindSlotCommand object
+ */
+public class FindSlotCommandParser implements Parser<FindSlotCommand> {
+
+    public static final String MESSAGE_INVALID_WINDOW = "The end date and time must be after the start.";
+
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_DATE_TIME, PREFIX_END_DATE_TIME,
+            PREFIX_DURATION, PREFIX_COUNT, PREFIX_DOCTOR_NAME, PREFIX_DOCTOR_PHONE, PREFIX_PATIENT_NAME,
+            PREFIX_PATIENT_PHONE);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindSlotCommand
+     * and returns a FindSlotCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindSlotCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(args);
+
+        if (!argMultimap.getValue(PREFIX_DATE_TIME).isPresent()
+                || !argMultimap.getValue(PREFIX_END_DATE_TIME).isPresent()
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindSlotCommand.MESSAGE_USAGE));
+        }
+
+        LocalDateTime from = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_DATE_TIME).get());
+        LocalDateTime until = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_END_DATE_TIME).get());
+        if (!until.isAfter(from)) {
+            throw new ParseException(MESSAGE_INVALID_WINDOW);
+        }
+        Duration duration = null;
+        if (argMultimap.getValue(PREFIX_DURATION).isPresent()) {
+            duration = ParserUtil.parseDuration(argMultimap.getValue(PREFIX_DURATION).get());
+        }
+        int count = FindSlotCommand.DEFAULT_SLOT_COUNT;
+        if (argMultimap.getValue(PREFIX_COUNT).isPresent()) {
+            count = ParserUtil.parseSlotCount(argMultimap.getValue(PREFIX_COUNT).get());
+        }
+
+        Name doctorName = null;
+        if (argMultimap.getValue(PREFIX_DOCTOR_NAME).isPresent()) {
+            doctorName = ParserUtil.parseName(argMultimap.getValue(PREFIX_DOCTOR_NAME).get());
+        }
+        Phone doctorPhone = null;
+        if (argMultimap.getValue(PREFIX_DOCTOR_PHONE).isPresent()) {
+            doctorPhone = ParserUtil.parsePhone(argMultimap.getValue(PREFIX_DOCTOR_PHONE).get());
+        }
+        Name patientName = null;
+        if (argMultimap.getValue(PREFIX_PATIENT_NAME).isPresent()) {
+            patientName = ParserUtil.parseName(argMultimap.getValue(PREFIX_PATIENT_NAME).get());
+        }
+        Phone patientPhone = null;
+        if (argMultimap.getValue(PREFIX_PATIENT_PHONE).isPresent()) {
+            patientPhone = ParserUtil.parsePhone(argMultimap.getValue(PREFIX_PATIENT_PHONE).get());
+        }
+        if ((doctorPhone != null && doctorName == null) || (patientPhone != null && patientName == null)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindSlotCommand.MESSAGE_USAGE));
+        }
+
+        return new FindSlotCommand(from, until, duration, count, doctorName, doctorPhone, patientName,
+                patientPhone);
+    }
+}
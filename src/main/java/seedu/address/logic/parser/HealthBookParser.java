@@ -7,6 +7,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.AddAppointmentCommand;
+import seedu.address.logic.commands.AddAppointmentSeriesCommand;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddMedicalHistoryCommand;
 import seedu.address.logic.commands.AddPrescriptionCommand;
@@ -23,14 +24,17 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FilterDoctorCommand;
 import seedu.address.logic.commands.FilterPatientCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindSlotCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.ImportAppointmentsCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RegisterDoctorCommand;
 import seedu.address.logic.commands.RegisterPatientCommand;
 import seedu.address.logic.commands.RemarkCommand;
 import seedu.address.logic.commands.SelectCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.ViewDoctorCommand;
 import seedu.address.logic.commands.ViewPatientCommand;
@@ -101,6 +105,9 @@ public class HealthBookParser {
         case HistoryCommand.COMMAND_WORD:
             return new HistoryCommand();
 
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand(arguments.trim());
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
@@ -137,6 +144,15 @@ public class HealthBookParser {
         case CompleteAppointmentCommand.COMMAND_WORD:
             return new CompleteAppointmentCommandParser().parse(arguments);
 
+        case ImportAppointmentsCommand.COMMAND_WORD:
+            return new ImportAppointmentsCommandParser().parse(arguments);
+
+        case AddAppointmentSeriesCommand.COMMAND_WORD:
+            return new AddAppointmentSeriesCommandParser().parse(arguments);
+
+        case FindSlotCommand.COMMAND_WORD:
+            return new FindSlotCommandParser().parse(arguments);
+
         case ViewPatientCommand.COMMAND_WORD:
             return new ViewPatientCommandParser().parse(arguments);
 
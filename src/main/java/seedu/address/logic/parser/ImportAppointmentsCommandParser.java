@@ -0,0 +1,91 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.BookingRequest;
+import seedu.address.logic.commands.ImportAppointmentsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Phone;
+
+/**
+ * Parses input arguments and creates a new ImportAppointmentsCommand object, reading the appointments from the
+ * file named by the arguments.
+ * <p>
+ * Each line of the file holds one appointment as {@code PATIENT_NAME,PATIENT_PHONE,DOCTOR_NAME,DOCTOR_PHONE,
+ * DATE_TIME}, where either phone may be left empty. Blank lines and lines starting with {@code #} are skipped.
+ */
+public class ImportAppointmentsCommandParser implements Parser<ImportAppointmentsCommand> {
+
+    public static final String MESSAGE_UNREADABLE_FILE = "Could not read the file %1$s";
+    public static final String MESSAGE_INVALID_LINE = "Line %1$d: %2$s";
+    public static final String MESSAGE_WRONG_FIELD_COUNT =
+            "Expected PATIENT_NAME,[PATIENT_PHONE],DOCTOR_NAME,[DOCTOR_PHONE],DATE_TIME";
+
+    private static final int FIELD_COUNT = 5;
+    private static final String COMMENT_MARKER = "#";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportAppointmentsCommand
+     * and returns an ImportAppointmentsCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format, or the file cannot be read
+     */
+    public ImportAppointmentsCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportAppointmentsCommand.MESSAGE_USAGE));
+        }
+
+        List<String> lines;
+        try {
+            Path filePath = Paths.get(trimmedArgs);
+            lines = Files.readAllLines(filePath);
+        } catch (IOException | InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_UNREADABLE_FILE, trimmedArgs), e);
+        }
+        return new ImportAppointmentsCommand(parseRequests(lines));
+    }
+
+    /**
+     * Parses each of {@code lines} that is not blank or a comment into a {@code BookingRequest}.
+     *
+     * @throws ParseException if a line is not in the expected format
+     */
+    public static List<BookingRequest> parseRequests(List<String> lines) throws ParseException {
+        List<BookingRequest> requests = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_MARKER)) {
+                continue;
+            }
+            try {
+                requests.add(parseRequest(line));
+            } catch (ParseException e) {
+                throw new ParseException(String.format(MESSAGE_INVALID_LINE, i + 1, e.getMessage()), e);
+            }
+        }
+        return requests;
+    }
+
+    private static BookingRequest parseRequest(String line) throws ParseException {
+        String[] fields = line.split(",", -1);
+        if (fields.length != FIELD_COUNT) {
+            throw new ParseException(MESSAGE_WRONG_FIELD_COUNT);
+        }
+        return new BookingRequest(ParserUtil.parseName(fields[0]), parseOptionalPhone(fields[1]),
+                ParserUtil.parseName(fields[2]), parseOptionalPhone(fields[3]), ParserUtil.parseDateTime(fields[4]));
+    }
+
+    private static Phone parseOptionalPhone(String phone) throws ParseException {
+        return phone.trim().isEmpty() ? null : ParserUtil.parsePhone(phone);
+    }
+}
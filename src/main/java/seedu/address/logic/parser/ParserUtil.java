@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -12,6 +13,7 @@ import java.util.Set;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.appointment.AppointmentSeries;
 import seedu.address.model.appointment.ConsumptionPerDay;
 import seedu.address.model.appointment.Dosage;
 import seedu.address.model.appointment.MedicineName;
@@ -29,6 +31,8 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
     public static final String MESSAGE_INVALID_ID = "Appointment does not exist.";
+    public static final String MESSAGE_INVALID_DURATION = "Duration is not a non-zero unsigned number of minutes.";
+    public static final String MESSAGE_INVALID_SLOT_COUNT = "Number of slots is not a non-zero unsigned integer.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -176,6 +180,68 @@ public class ParserUtil {
         return Integer.parseInt(trimmedId);
     }
 
+    /**
+     * Parses a {@code String minutes} into a {@code Duration}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code minutes} is not a non-zero unsigned integer.
+     */
+    public static Duration parseDuration(String minutes) throws ParseException {
+        requireNonNull(minutes);
+        String trimmedMinutes = minutes.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedMinutes)) {
+            throw new ParseException(MESSAGE_INVALID_DURATION);
+        }
+        return Duration.ofMinutes(Integer.parseInt(trimmedMinutes));
+    }
+
+    /**
+     * Parses a {@code String count} of slots into an {@code int}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code count} is not a non-zero unsigned integer.
+     */
+    public static int parseSlotCount(String count) throws ParseException {
+        requireNonNull(count);
+        String trimmedCount = count.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedCount)) {
+            throw new ParseException(MESSAGE_INVALID_SLOT_COUNT);
+        }
+        return Integer.parseInt(trimmedCount);
+    }
+
+    /**
+     * Parses a {@code String intervalDays} between the occurrences of an appointment series into an {@code int}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code intervalDays} is not a valid interval.
+     */
+    public static int parseIntervalDays(String intervalDays) throws ParseException {
+        requireNonNull(intervalDays);
+        String trimmedIntervalDays = intervalDays.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedIntervalDays)
+                || !AppointmentSeries.isValidIntervalDays(Integer.parseInt(trimmedIntervalDays))) {
+            throw new ParseException(AppointmentSeries.MESSAGE_SERIES_CONSTRAINTS);
+        }
+        return Integer.parseInt(trimmedIntervalDays);
+    }
+
+    /**
+     * Parses a {@code String count} of occurrences of an appointment series into an {@code int}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code count} is not a valid number of occurrences.
+     */
+    public static int parseOccurrenceCount(String count) throws ParseException {
+        requireNonNull(count);
+        String trimmedCount = count.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedCount)
+                || !AppointmentSeries.isValidCount(Integer.parseInt(trimmedCount))) {
+            throw new ParseException(AppointmentSeries.MESSAGE_SERIES_CONSTRAINTS);
+        }
+        return Integer.parseInt(trimmedCount);
+    }
+
     /**
      * Parses a {@code String medicineName} into a {@code MedicineName}.
      * Leading and trailing whitespaces will be trimmed.
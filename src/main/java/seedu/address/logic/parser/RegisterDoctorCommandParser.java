@@ -25,14 +25,16 @@ import seedu.address.model.tag.Tag;
  */
 public class RegisterDoctorCommandParser implements Parser<RegisterDoctorCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+            PREFIX_ADDRESS, PREFIX_TAG);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddDoctorCommand
      * and returns an AddDoctorCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public RegisterDoctorCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(args);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_ADDRESS, PREFIX_PHONE, PREFIX_EMAIL)
                 || !argMultimap.getPreamble().isEmpty()) {
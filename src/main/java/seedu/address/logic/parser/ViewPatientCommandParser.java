@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SEARCH;
 
 import java.util.stream.Stream;
 
@@ -16,14 +17,24 @@ import seedu.address.model.person.Phone;
  */
 public class ViewPatientCommandParser implements Parser<ViewPatientCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_NAME, PREFIX_PHONE, PREFIX_SEARCH);
+
     /**
      * Parses the given {@code String} of arguments in the context of the ViewPatientCommand
      * and returns an ViewPatientCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public ViewPatientCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(args);
+        if (!arePrefixesPresent(argMultimap, PREFIX_NAME) && arePrefixesPresent(argMultimap, PREFIX_SEARCH)
+                && argMultimap.getPreamble().isEmpty()) {
+            String query = argMultimap.getValue(PREFIX_SEARCH).get().trim();
+            if (query.isEmpty()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewPatientCommand.MESSAGE_USAGE));
+            }
+            return new ViewPatientCommand(query);
+        }
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME)
                 || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewPatientCommand.MESSAGE_USAGE));
@@ -2,15 +2,27 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentSeries;
+import seedu.address.model.appointment.AppointmentSeriesList;
 import seedu.address.model.appointment.UniqueAppointmentList;
 import seedu.address.model.doctor.Doctor;
+import seedu.address.model.history.ListEdit;
 import seedu.address.model.patient.Patient;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIdentity;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.tag.Tag;
 
@@ -22,6 +34,7 @@ public class HealthBook implements ReadOnlyHealthBook {
 
     private final UniquePersonList persons;
     private final UniqueAppointmentList appointments;
+    private final AppointmentSeriesList appointmentSeries;
     private int appointmentCounter;
 
     /*
@@ -34,6 +47,7 @@ public class HealthBook implements ReadOnlyHealthBook {
     {
         persons = new UniquePersonList();
         appointments = new UniqueAppointmentList();
+        appointmentSeries = new AppointmentSeriesList();
         appointmentCounter = 10000;
     }
 
@@ -66,6 +80,14 @@ public class HealthBook implements ReadOnlyHealthBook {
         this.appointments.setAppointments(appointments);
     }
 
+    /**
+     * Replaces the contents of the appointment series list with {@code appointmentSeries}.
+     * {@code appointmentSeries} must not contain the same series twice.
+     */
+    public void setAppointmentSeries(List<AppointmentSeries> appointmentSeries) {
+        this.appointmentSeries.setAppointmentSeries(appointmentSeries);
+    }
+
     /**
      * Replaces the contents of the appointment counter with {@code appointmentCounter}.
      */
@@ -81,9 +103,43 @@ public class HealthBook implements ReadOnlyHealthBook {
 
         setPersons(newData.getPersonList());
         setAppointments(newData.getAppointmentList());
+        setAppointmentSeries(newData.getAppointmentSeriesList());
         setAppointmentCounter(newData.getAppointmentCounter());
     }
 
+    /**
+     * Sets the recorders that receive every subsequent change to the person, appointment and appointment series
+     * lists.
+     */
+    void setEditRecorders(Consumer<ListEdit<Person>> personEditRecorder,
+                          Consumer<ListEdit<Appointment>> appointmentEditRecorder,
+                          Consumer<ListEdit<AppointmentSeries>> seriesEditRecorder) {
+        persons.setEditRecorder(personEditRecorder);
+        appointments.setEditRecorder(appointmentEditRecorder);
+        appointmentSeries.setEditRecorder(seriesEditRecorder);
+    }
+
+    /**
+     * Applies {@code edit} to the person list.
+     */
+    void applyPersonEdit(ListEdit<Person> edit) {
+        persons.replaceRange(edit.getFrom(), edit.getFrom() + edit.getRemoved().size(), edit.getAdded());
+    }
+
+    /**
+     * Applies {@code edit} to the appointment list.
+     */
+    void applyAppointmentEdit(ListEdit<Appointment> edit) {
+        appointments.replaceRange(edit.getFrom(), edit.getFrom() + edit.getRemoved().size(), edit.getAdded());
+    }
+
+    /**
+     * Applies {@code edit} to the appointment series list.
+     */
+    void applySeriesEdit(ListEdit<AppointmentSeries> edit) {
+        appointmentSeries.replaceRange(edit.getFrom(), edit.getFrom() + edit.getRemoved().size(), edit.getAdded());
+    }
+
     //// person-level operations
 
     /**
@@ -146,39 +202,26 @@ public class HealthBook implements ReadOnlyHealthBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
+        // The counterpart of each appointment is found through the reverse index of appointments, so that removing a
+        // busy doctor takes time in proportion to the doctor's appointments.
         if (key.getTags().contains(new Tag("Patient"))) {
             for (Appointment patientApp : ((Patient) key).getUpcomingAppointments()) {
-                outerloop:
-                for (Person person : persons) {
-                    if (person.getTags().contains(new Tag("Doctor"))) {
-                        Doctor doctor = ((Doctor) person);
-                        for (Appointment doctorApp : doctor.getUpcomingAppointments()) {
-                            if (patientApp.getAppointmentId() == doctorApp.getAppointmentId()) {
-                                doctor.deleteAppointment(patientApp);
-                                appointments.remove(patientApp);
-                                break outerloop;
-                            }
-                        }
-                    }
-                }
+                persons.findDoctorWithAppointment(patientApp.getAppointmentId()).ifPresent(doctor -> {
+                    doctor.deleteAppointment(patientApp);
+                    appointments.remove(patientApp);
+                });
             }
         } else if (key.getTags().contains(new Tag("Doctor"))) {
             for (Appointment doctorApp : ((Doctor) key).getUpcomingAppointments()) {
-                outerloop:
-                for (Person person : persons) {
-                    if (person.getTags().contains(new Tag("Patient"))) {
-                        Patient patient = ((Patient) person);
-                        for (Appointment patientApp : patient.getUpcomingAppointments()) {
-                            if (patientApp.getAppointmentId() == doctorApp.getAppointmentId()) {
-                                patient.deleteAppointment(doctorApp);
-                                appointments.remove(doctorApp);
-                                break outerloop;
-                            }
-                        }
-                    }
-                }
+                persons.findPatientWithAppointment(doctorApp.getAppointmentId()).ifPresent(patient -> {
+                    patient.deleteAppointment(doctorApp);
+                    appointments.remove(doctorApp);
+                });
             }
         }
+        for (AppointmentSeries series : new ArrayList<>(getAppointmentSeriesOf(key))) {
+            appointmentSeries.remove(series);
+        }
         persons.remove(key);
     }
 
@@ -188,6 +231,36 @@ public class HealthBook implements ReadOnlyHealthBook {
      */
     public void addAppointment(Appointment appointment) {
         appointments.add(appointment);
+        persons.indexAppointment(appointment);
+    }
+
+    /**
+     * Adds all {@code appointments} to this {@code HealthBook} as a single edit.
+     */
+    public void addAppointments(List<Appointment> appointments) {
+        this.appointments.addAll(appointments);
+        appointments.forEach(persons::indexAppointment);
+    }
+
+    /**
+     * Adds a recurring appointment {@code series} to this {@code HealthBook}.
+     * The series must not take up the appointment IDs of another series.
+     */
+    public void addAppointmentSeries(AppointmentSeries series) {
+        appointmentSeries.add(series);
+    }
+
+    /**
+     * Returns the appointment series in which {@code person} is the doctor, if {@code person} is a doctor, or the
+     * patient, if {@code person} is a patient.
+     */
+    public List<AppointmentSeries> getAppointmentSeriesOf(Person person) {
+        if (person.getTags().contains(new Tag("Patient"))) {
+            return appointmentSeries.getSeriesOfPatient(PersonIdentity.of(person));
+        } else if (person.getTags().contains(new Tag("Doctor"))) {
+            return appointmentSeries.getSeriesOfDoctor(PersonIdentity.of(person));
+        }
+        return Collections.emptyList();
     }
 
     /**
@@ -229,11 +302,51 @@ public class HealthBook implements ReadOnlyHealthBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the patient with the upcoming appointment {@code appointmentId}, if any.
+     */
+    public Optional<Patient> findPatientWithAppointment(int appointmentId) {
+        return persons.findPatientWithAppointment(appointmentId);
+    }
+
+    /**
+     * Returns the doctor with the upcoming appointment {@code appointmentId}, if any.
+     */
+    public Optional<Doctor> findDoctorWithAppointment(int appointmentId) {
+        return persons.findDoctorWithAppointment(appointmentId);
+    }
+
+    /**
+     * Returns the persons with {@code name}, and with {@code phone} unless it is null.
+     */
+    public List<Person> getPersons(Name name, Phone phone) {
+        return persons.getPersons(name, phone);
+    }
+
+    /**
+     * Returns the index of the persons by the words of their names.
+     */
+    public NameIndex getNameIndex() {
+        return persons.getNameIndex();
+    }
+
+    /**
+     * Returns the index of the persons by the words of their names, phones, emails and addresses.
+     */
+    public PersonSearchIndex getSearchIndex() {
+        return persons.getSearchIndex();
+    }
+
     @Override
     public ObservableList<Appointment> getAppointmentList() {
         return appointments.asUnmodifiableObservableList();
     }
 
+    @Override
+    public ObservableList<AppointmentSeries> getAppointmentSeriesList() {
+        return appointmentSeries.asUnmodifiableObservableList();
+    }
+
     @Override
     public int getAppointmentCounter() {
         return appointmentCounter;
@@ -246,6 +359,8 @@ public class HealthBook implements ReadOnlyHealthBook {
                 && persons.equals(((HealthBook) other).persons))
                 && (other instanceof HealthBook
                 && appointments.equals(((HealthBook) other).appointments))
+                && (other instanceof HealthBook
+                && appointmentSeries.equals(((HealthBook) other).appointmentSeries))
                 && (other instanceof HealthBook // instanceof handles nulls
                 && appointmentCounter == (((HealthBook) other).appointmentCounter));
     }
@@ -1,13 +1,18 @@
 package seedu.address.model;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentSeries;
 import seedu.address.model.doctor.Doctor;
 import seedu.address.model.patient.Patient;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 
 /**
  * The API of the Model component.
@@ -74,6 +79,26 @@ public interface Model {
      */
     void setAppointment(Appointment target, Appointment editedAppointment);
 
+    /**
+     * Returns the persons in the filtered person list with {@code name}, ignoring case, and with {@code phone} unless
+     * it is null. The persons are looked up by name and phone instead of going through the list.
+     *
+     * @throws NullPointerException if {@code name} is null.
+     */
+    List<Person> getFilteredPersons(Name name, Phone phone);
+
+    /**
+     * Returns the patient in the filtered person list who has {@code appointment}, upcoming or past, if any.
+     * The patient is looked up by the appointment instead of going through the list.
+     */
+    Optional<Patient> getFilteredPatientWithAppointment(Appointment appointment);
+
+    /**
+     * Returns the doctor in the filtered person list who has {@code appointment} as an upcoming appointment, if any.
+     * The doctor is looked up by the appointment instead of going through the list.
+     */
+    Optional<Doctor> getFilteredDoctorWithAppointment(Appointment appointment);
+
     /**
      * Returns an unmodifiable view of the filtered person list
      */
@@ -86,6 +111,30 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to the persons whose name contains any of {@code keywords},
+     * ignoring case, looked up in the index of names.
+     *
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    void updateFilteredPersonListByName(List<String> keywords);
+
+    /**
+     * Updates the filtered person list to the {@code limit} persons that best match {@code query} in the search
+     * index, best match first. The list keeps these persons until its filter is next updated.
+     *
+     * @throws NullPointerException if {@code query} is null.
+     */
+    void updateFilteredPersonListBySearch(String query, int limit);
+
+    /**
+     * Returns up to {@code limit} persons in the health book that match {@code query} and {@code filter} in the
+     * search index, best match first.
+     *
+     * @throws NullPointerException if {@code query} or {@code filter} is null.
+     */
+    List<Person> searchPersons(String query, int limit, Predicate<Person> filter);
+
     /**
      * Returns an unmodifiable view of the filtered appointment list
      */
@@ -133,6 +182,23 @@ public interface Model {
      */
     void addAppointment(Appointment appointment);
 
+    /**
+     * Adds all {@code appointments} as a single change, and moves the appointment counter past them.
+     * The appointments must be numbered from the current appointment counter onwards.
+     */
+    void addAppointments(List<Appointment> appointments);
+
+    /**
+     * Adds the recurring appointment {@code series}, and moves the appointment counter past its occurrences.
+     * The occurrences must be numbered from the current appointment counter onwards.
+     */
+    void addAppointmentSeries(AppointmentSeries series);
+
+    /**
+     * Returns the recurring appointment series in which {@code person} is the doctor or the patient.
+     */
+    List<AppointmentSeries> getAppointmentSeries(Person person);
+
     /**
      * Deletes appointment.
      */
@@ -3,21 +3,30 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.HealthBookChangedEvent;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentSeries;
 import seedu.address.model.doctor.Doctor;
 import seedu.address.model.patient.Patient;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -27,6 +36,7 @@ public class ModelManager extends ComponentManager implements Model {
 
     private final VersionedHealthBook versionedAddressBook;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
     private final FilteredList<Appointment> filteredAppointment;
     private int appointmentCounter;
 
@@ -38,8 +48,9 @@ public class ModelManager extends ComponentManager implements Model {
         requireAllNonNull(addressBook, userPrefs);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
-        versionedAddressBook = new VersionedHealthBook(addressBook);
+        versionedAddressBook = new VersionedHealthBook(addressBook, userPrefs.getUndoHistoryLimit());
         filteredPersons = new FilteredList<>(versionedAddressBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
         filteredAppointment = new FilteredList<>(versionedAddressBook.getAppointmentList());
         appointmentCounter = versionedAddressBook.getAppointmentCounter();
     }
@@ -122,6 +133,30 @@ public class ModelManager extends ComponentManager implements Model {
         indicateAddressBookChanged();
     }
 
+    @Override
+    public void addAppointments(List<Appointment> appointments) {
+        requireAllNonNull(appointments);
+        versionedAddressBook.addAppointments(appointments);
+        appointmentCounter += appointments.size();
+        versionedAddressBook.setAppointmentCounter(appointmentCounter);
+        indicateAddressBookChanged();
+    }
+
+    @Override
+    public void addAppointmentSeries(AppointmentSeries series) {
+        requireNonNull(series);
+        versionedAddressBook.addAppointmentSeries(series);
+        appointmentCounter += series.getCount();
+        versionedAddressBook.setAppointmentCounter(appointmentCounter);
+        indicateAddressBookChanged();
+    }
+
+    @Override
+    public List<AppointmentSeries> getAppointmentSeries(Person person) {
+        requireNonNull(person);
+        return versionedAddressBook.getAppointmentSeriesOf(person);
+    }
+
     @Override
     public void deleteAppointment(Appointment appointment, Patient patient, Doctor doctor) {
         requireAllNonNull(appointment);
@@ -143,21 +178,85 @@ public class ModelManager extends ComponentManager implements Model {
 
     //=========== Filtered Person List Accessors =============================================================
 
+    @Override
+    public List<Person> getFilteredPersons(Name name, Phone phone) {
+        requireNonNull(name);
+        List<Person> persons = versionedAddressBook.getPersons(name, phone);
+        Predicate<? super Person> predicate = filteredPersons.getPredicate();
+        if (predicate == null || persons.stream().allMatch(predicate)) {
+            return persons;
+        }
+        return persons.stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<Patient> getFilteredPatientWithAppointment(Appointment appointment) {
+        requireNonNull(appointment);
+        int appointmentId = appointment.getAppointmentId();
+        Optional<Patient> patient = versionedAddressBook.findPatientWithAppointment(appointmentId);
+        if (!patient.isPresent() && Name.isValidName(appointment.getPatient())) {
+            // Only upcoming appointments are indexed, so patients with past appointments are found by name
+            patient = versionedAddressBook.getPersons(new Name(appointment.getPatient()), null).stream()
+                    .filter(person -> person instanceof Patient && ((Patient) person).hasAppointment(appointmentId))
+                    .map(person -> (Patient) person)
+                    .findFirst();
+        }
+        return patient.filter(this::isInFilteredPersonList);
+    }
+
+    @Override
+    public Optional<Doctor> getFilteredDoctorWithAppointment(Appointment appointment) {
+        requireNonNull(appointment);
+        return versionedAddressBook.findDoctorWithAppointment(appointment.getAppointmentId())
+                .filter(this::isInFilteredPersonList);
+    }
+
+    private boolean isInFilteredPersonList(Person person) {
+        Predicate<? super Person> predicate = filteredPersons.getPredicate();
+        return predicate == null || predicate.test(person);
+    }
+
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
-     * {@code versionedAddressBook}
+     * {@code versionedAddressBook}, in the order of the last search if the list shows its results
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return FXCollections.unmodifiableObservableList(filteredPersons);
+        return FXCollections.unmodifiableObservableList(sortedPersons);
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        sortedPersons.setComparator(null);
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredPersonListByName(List<String> keywords) {
+        requireNonNull(keywords);
+        sortedPersons.setComparator(null);
+        filteredPersons.setPredicate(versionedAddressBook.getNameIndex().anyWordMatcher(keywords));
+    }
+
+    @Override
+    public void updateFilteredPersonListBySearch(String query, int limit) {
+        requireNonNull(query);
+        List<Person> results = searchPersons(query, limit, PREDICATE_SHOW_ALL_PERSONS);
+        Map<Person, Integer> ranks = new IdentityHashMap<>();
+        for (int i = 0; i < results.size(); i++) {
+            ranks.put(results.get(i), i);
+        }
+        filteredPersons.setPredicate(ranks::containsKey);
+        sortedPersons.setComparator((first, second) -> ranks.get(first) - ranks.get(second));
+    }
+
+    @Override
+    public List<Person> searchPersons(String query, int limit, Predicate<Person> filter) {
+        requireAllNonNull(query, filter);
+        return versionedAddressBook.getSearchIndex().search(query, limit, filter);
+    }
+
     //=========== Filtered Appointment List Accessors ========================================================
 
     /**
@@ -237,7 +336,7 @@ public class ModelManager extends ComponentManager implements Model {
         // state check
         ModelManager other = (ModelManager) obj;
         return versionedAddressBook.equals(other.versionedAddressBook)
-                && filteredPersons.equals(other.filteredPersons);
+                && sortedPersons.equals(other.sortedPersons);
     }
 
 }
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentSeries;
 import seedu.address.model.person.Person;
 
 /**
@@ -21,6 +22,11 @@ public interface ReadOnlyHealthBook {
      */
     ObservableList<Appointment> getAppointmentList();
 
+    /**
+     * Returns an unmodifiable view of the recurring appointment series list.
+     */
+    ObservableList<AppointmentSeries> getAppointmentSeriesList();
+
     /**
      * Returns an current appointment.
      */
@@ -13,6 +13,7 @@ public class UserPrefs {
 
     private GuiSettings guiSettings;
     private Path healthBookFilePath = Paths.get("data" , "healthbook.xml");
+    private int undoHistoryLimit = VersionedHealthBook.DEFAULT_HISTORY_LIMIT;
 
     public UserPrefs() {
         setGuiSettings(500, 500, 0, 0);
@@ -38,6 +39,14 @@ public class UserPrefs {
         this.healthBookFilePath = healthBookFilePath;
     }
 
+    public int getUndoHistoryLimit() {
+        return undoHistoryLimit;
+    }
+
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -50,12 +59,13 @@ public class UserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return Objects.equals(guiSettings, o.guiSettings)
-                && Objects.equals(healthBookFilePath, o.healthBookFilePath);
+                && Objects.equals(healthBookFilePath, o.healthBookFilePath)
+                && undoHistoryLimit == o.undoHistoryLimit;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, healthBookFilePath);
+        return Objects.hash(guiSettings, healthBookFilePath, undoHistoryLimit);
     }
 
     @Override
@@ -63,6 +73,7 @@ public class UserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings.toString());
         sb.append("\nLocal data file location : " + healthBookFilePath);
+        sb.append("\nUndo history limit : " + undoHistoryLimit);
         return sb.toString();
     }
 
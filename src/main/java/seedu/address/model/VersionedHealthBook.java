@@ -3,34 +3,68 @@ package seedu.address.model;
 import java.util.ArrayList;
 import java.util.List;
 
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentSeries;
+import seedu.address.model.history.ListEdit;
+import seedu.address.model.person.Person;
+
 /**
  * {@code HealthBook} that keeps track of its own history.
+ * <p>
+ * Instead of copying the whole health book on every commit, the history keeps one {@code Revision} per commit,
+ * holding only the list edits made since the previous commit. Undo and redo replay these edits backwards and
+ * forwards, so that committing costs time and memory in proportion to the records changed.
+ * At most {@code historyLimit} commits can be undone; older revisions are dropped.
  */
 public class VersionedHealthBook extends HealthBook {
 
-    private final List<ReadOnlyHealthBook> addressBookStateList;
+    public static final int DEFAULT_HISTORY_LIMIT = 100;
+
+    /** {@code revisions.get(i)} leads from state {@code i} to state {@code i + 1}. */
+    private final List<Revision> revisions;
+    private final int historyLimit;
     private int currentStatePointer;
 
+    /** Edits made since the state at {@code currentStatePointer} was committed. */
+    private Revision pendingRevision;
+    private boolean isReplaying;
+
     public VersionedHealthBook(ReadOnlyHealthBook initialState) {
+        this(initialState, DEFAULT_HISTORY_LIMIT);
+    }
+
+    public VersionedHealthBook(ReadOnlyHealthBook initialState, int historyLimit) {
         super(initialState);
+        if (historyLimit < 0) {
+            throw new IllegalArgumentException("History limit cannot be negative: " + historyLimit);
+        }
 
-        addressBookStateList = new ArrayList<>();
-        addressBookStateList.add(new HealthBook(initialState));
+        this.historyLimit = historyLimit;
+        revisions = new ArrayList<>();
         currentStatePointer = 0;
+        pendingRevision = new Revision(getAppointmentCounter());
+        setEditRecorders(this::recordPersonEdit, this::recordAppointmentEdit, this::recordSeriesEdit);
     }
 
     /**
-     * Saves a copy of the current {@code HealthBook} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves the current {@code HealthBook} state as a new state at the end of the state list.
+     * Undone states are removed from the state list, and the oldest state is dropped if the history is full.
      */
     public void commit() {
         removeStatesAfterCurrentPointer();
-        addressBookStateList.add(new HealthBook(this));
+        pendingRevision.counterAfter = getAppointmentCounter();
+        revisions.add(pendingRevision);
         currentStatePointer++;
+        pendingRevision = new Revision(getAppointmentCounter());
+
+        if (revisions.size() > historyLimit) {
+            revisions.subList(0, revisions.size() - historyLimit).clear();
+            currentStatePointer = revisions.size();
+        }
     }
 
     private void removeStatesAfterCurrentPointer() {
-        addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size()).clear();
+        revisions.subList(currentStatePointer, revisions.size()).clear();
     }
 
     /**
@@ -41,7 +75,10 @@ public class VersionedHealthBook extends HealthBook {
             throw new NoUndoableStateException();
         }
         currentStatePointer--;
-        resetData(addressBookStateList.get(currentStatePointer));
+        replay(() -> {
+            pendingRevision.undo(this);
+            revisions.get(currentStatePointer).undo(this);
+        });
     }
 
     /**
@@ -51,8 +88,42 @@ public class VersionedHealthBook extends HealthBook {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
+        replay(() -> {
+            pendingRevision.undo(this);
+            revisions.get(currentStatePointer).redo(this);
+        });
         currentStatePointer++;
-        resetData(addressBookStateList.get(currentStatePointer));
+    }
+
+    /**
+     * Runs {@code replayer} without recording the edits it makes, then starts a new pending revision.
+     */
+    private void replay(Runnable replayer) {
+        isReplaying = true;
+        try {
+            replayer.run();
+        } finally {
+            isReplaying = false;
+        }
+        pendingRevision = new Revision(getAppointmentCounter());
+    }
+
+    private void recordPersonEdit(ListEdit<Person> edit) {
+        if (!isReplaying) {
+            pendingRevision.personEdits.add(edit);
+        }
+    }
+
+    private void recordAppointmentEdit(ListEdit<Appointment> edit) {
+        if (!isReplaying) {
+            pendingRevision.appointmentEdits.add(edit);
+        }
+    }
+
+    private void recordSeriesEdit(ListEdit<AppointmentSeries> edit) {
+        if (!isReplaying) {
+            pendingRevision.seriesEdits.add(edit);
+        }
     }
 
     /**
@@ -66,7 +137,7 @@ public class VersionedHealthBook extends HealthBook {
      * Returns true if {@code redo()} has address book states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < addressBookStateList.size() - 1;
+        return currentStatePointer < revisions.size();
     }
 
     @Override
@@ -85,8 +156,74 @@ public class VersionedHealthBook extends HealthBook {
 
         // state check
         return super.equals(otherVersionedAddressBook)
-                && addressBookStateList.equals(otherVersionedAddressBook.addressBookStateList)
-                && currentStatePointer == otherVersionedAddressBook.currentStatePointer;
+                && currentStatePointer == otherVersionedAddressBook.currentStatePointer
+                && revisions.size() == otherVersionedAddressBook.revisions.size()
+                && getStates().equals(otherVersionedAddressBook.getStates());
+    }
+
+    /**
+     * Returns a copy of every committed state in the history, from the oldest to the newest.
+     * This replays the whole history, so it is only meant for comparing histories.
+     */
+    private List<HealthBook> getStates() {
+        HealthBook currentState = new HealthBook(this);
+        pendingRevision.undo(currentState);
+
+        List<HealthBook> states = new ArrayList<>();
+        HealthBook state = new HealthBook(currentState);
+        for (int i = currentStatePointer - 1; i >= 0; i--) {
+            revisions.get(i).undo(state);
+            states.add(0, new HealthBook(state));
+        }
+        states.add(currentState);
+        state = new HealthBook(currentState);
+        for (int i = currentStatePointer; i < revisions.size(); i++) {
+            revisions.get(i).redo(state);
+            states.add(new HealthBook(state));
+        }
+        return states;
+    }
+
+    /**
+     * The edits that lead from one committed state to the next.
+     */
+    private static class Revision {
+        private final List<ListEdit<Person>> personEdits = new ArrayList<>();
+        private final List<ListEdit<Appointment>> appointmentEdits = new ArrayList<>();
+        private final List<ListEdit<AppointmentSeries>> seriesEdits = new ArrayList<>();
+        private final int counterBefore;
+        private int counterAfter;
+
+        Revision(int counterBefore) {
+            this.counterBefore = counterBefore;
+            this.counterAfter = counterBefore;
+        }
+
+        /**
+         * Reverts the edits of this revision on {@code healthBook}, latest edit first.
+         */
+        void undo(HealthBook healthBook) {
+            for (int i = personEdits.size() - 1; i >= 0; i--) {
+                healthBook.applyPersonEdit(personEdits.get(i).inverse());
+            }
+            for (int i = appointmentEdits.size() - 1; i >= 0; i--) {
+                healthBook.applyAppointmentEdit(appointmentEdits.get(i).inverse());
+            }
+            for (int i = seriesEdits.size() - 1; i >= 0; i--) {
+                healthBook.applySeriesEdit(seriesEdits.get(i).inverse());
+            }
+            healthBook.setAppointmentCounter(counterBefore);
+        }
+
+        /**
+         * Reapplies the edits of this revision on {@code healthBook}, in the order they were made.
+         */
+        void redo(HealthBook healthBook) {
+            personEdits.forEach(healthBook::applyPersonEdit);
+            appointmentEdits.forEach(healthBook::applyAppointmentEdit);
+            seriesEdits.forEach(healthBook::applySeriesEdit);
+            healthBook.setAppointmentCounter(counterAfter);
+        }
     }
 
     /**
@@ -1,6 +1,8 @@
 package seedu.address.model.appointment;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -10,6 +12,11 @@ import java.util.List;
  */
 public class Appointment implements Comparable<Appointment> {
 
+    public static final Duration DEFAULT_DURATION = Duration.ofMinutes(30);
+
+    /** How long every appointment lasts, in seconds. */
+    private static long durationSeconds = DEFAULT_DURATION.getSeconds();
+
     private AppointmentId appointmentId;
     private String doctor;
     private String patient;
@@ -113,23 +120,35 @@ public class Appointment implements Comparable<Appointment> {
      * Returns true if {@code appointments} has the clash with appointmentId.
      */
     public boolean hasClashAppointment(Appointment toCheck) {
-        LocalDateTime lowerBound = this.dateTime;
-        LocalDateTime upperBound = this.dateTime.plusMinutes(30);
-        LocalDateTime timeToCheckStart = toCheck.getDateTime();
-        LocalDateTime timeToCheckEnd = toCheck.getDateTime().plusMinutes(30);
-
-        // Check if start of appointment toCheck is between current appointment.
-        if (timeToCheckStart.equals(lowerBound)
-                || (timeToCheckStart.isAfter(lowerBound) && timeToCheckStart.isBefore(upperBound))) {
-            return true;
-        }
+        return Math.abs(getStartSecond() - toCheck.getStartSecond()) < durationSeconds;
+    }
 
-        // Check if end of appointment toCheck is between current appointment.
-        if (timeToCheckEnd.equals(upperBound)
-                || (timeToCheckEnd.isAfter(lowerBound) && timeToCheckEnd.isBefore(upperBound))) {
-            return true;
+    /**
+     * Returns the start of this appointment in seconds since the epoch, taking the local time as UTC.
+     * Only used to compare appointments with each other, so the time zone does not matter.
+     */
+    public long getStartSecond() {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    public static Duration getDuration() {
+        return Duration.ofSeconds(durationSeconds);
+    }
+
+    public static long getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    /**
+     * Sets how long every appointment lasts, which decides which appointments clash.
+     *
+     * @throws IllegalArgumentException if {@code duration} is not positive.
+     */
+    public static void setDuration(Duration duration) {
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Appointment duration must be positive: " + duration);
         }
-        return false;
+        durationSeconds = duration.getSeconds();
     }
 
     /**
@@ -0,0 +1,151 @@
+package seedu.address.model.appointment;
+
+import java.util.Arrays;
+
+/**
+ * A map from appointment IDs to list positions, backed by primitive arrays so that neither keys nor values are boxed.
+ * Collisions are resolved by linear probing, and removals shift the following entries back so that no tombstones
+ * are left behind.
+ */
+public class AppointmentIdMap {
+
+    /** Value returned by {@link #get(int)} when the ID is not in the map. */
+    public static final int NOT_FOUND = -1;
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int EMPTY_KEY = Integer.MIN_VALUE;
+
+    private int[] keys;
+    private int[] values;
+    private int size;
+
+    public AppointmentIdMap() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty map that holds {@code expectedSize} entries without resizing.
+     */
+    public AppointmentIdMap(int expectedSize) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < 2 * expectedSize) {
+            capacity *= 2;
+        }
+        allocate(capacity);
+    }
+
+    /**
+     * Creates a map with the same entries as {@code toBeCopied}.
+     */
+    public AppointmentIdMap(AppointmentIdMap toBeCopied) {
+        keys = toBeCopied.keys.clone();
+        values = toBeCopied.values.clone();
+        size = toBeCopied.size;
+    }
+
+    /**
+     * Returns the position stored for {@code appointmentId}, or {@link #NOT_FOUND} if there is none.
+     */
+    public int get(int appointmentId) {
+        int mask = keys.length - 1;
+        for (int slot = hash(appointmentId) & mask; keys[slot] != EMPTY_KEY; slot = (slot + 1) & mask) {
+            if (keys[slot] == appointmentId) {
+                return values[slot];
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    public boolean containsKey(int appointmentId) {
+        return get(appointmentId) != NOT_FOUND;
+    }
+
+    /**
+     * Stores {@code position} for {@code appointmentId}, replacing any position stored before.
+     */
+    public void put(int appointmentId, int position) {
+        if (appointmentId == EMPTY_KEY) {
+            throw new IllegalArgumentException("Appointment ID " + appointmentId + " cannot be indexed");
+        }
+        if (2 * (size + 1) > keys.length) {
+            resize(2 * keys.length);
+        }
+        int mask = keys.length - 1;
+        int slot = hash(appointmentId) & mask;
+        while (keys[slot] != EMPTY_KEY) {
+            if (keys[slot] == appointmentId) {
+                values[slot] = position;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = appointmentId;
+        values[slot] = position;
+        size++;
+    }
+
+    /**
+     * Removes the entry for {@code appointmentId}, if any.
+     */
+    public void remove(int appointmentId) {
+        int mask = keys.length - 1;
+        int slot = hash(appointmentId) & mask;
+        while (keys[slot] != appointmentId) {
+            if (keys[slot] == EMPTY_KEY) {
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        // Shift back every following entry of the probe run that would otherwise become unreachable.
+        int gap = slot;
+        for (int next = (gap + 1) & mask; keys[next] != EMPTY_KEY; next = (next + 1) & mask) {
+            int home = hash(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+        }
+        keys[gap] = EMPTY_KEY;
+        size--;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all entries from the map.
+     */
+    public void clear() {
+        Arrays.fill(keys, EMPTY_KEY);
+        size = 0;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, EMPTY_KEY);
+        size = 0;
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY_KEY) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    /**
+     * Spreads consecutive IDs across the table, since appointment IDs are handed out by a counter.
+     */
+    private static int hash(int appointmentId) {
+        int h = appointmentId * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
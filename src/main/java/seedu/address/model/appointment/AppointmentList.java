@@ -0,0 +1,211 @@
+package seedu.address.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A list of appointments that keeps an index from appointment ID to position, so that an appointment can be found
+ * by its ID without scanning the list. Used for the appointment queues of patients and doctors.
+ * <p>
+ * Unlike {@link UniqueAppointmentList}, the same ID may appear more than once. The index then points at the first
+ * appointment with that ID, which is the one a scan from the front of the list would have found.
+ * <p>
+ * The start times of the appointments are also kept in a {@link ScheduleIndex}, so that whether a new appointment
+ * clashes with any of them is found without comparing it against each one.
+ */
+public class AppointmentList extends AbstractList<Appointment> implements RandomAccess {
+
+    private final List<Appointment> appointments;
+    private final AppointmentIdMap positions = new AppointmentIdMap();
+    private final ScheduleIndex schedule = new ScheduleIndex();
+    private boolean hasDuplicateIds;
+
+    public AppointmentList() {
+        appointments = new ArrayList<>();
+    }
+
+    public AppointmentList(Collection<Appointment> appointments) {
+        requireNonNull(appointments);
+        this.appointments = new ArrayList<>(appointments.size());
+        addAll(appointments);
+    }
+
+    /**
+     * Returns {@code appointments} itself if it is already an {@code AppointmentList}, so that persons built from
+     * another person's appointments keep sharing them. Otherwise returns an indexed copy of {@code appointments}.
+     */
+    public static AppointmentList of(List<Appointment> appointments) {
+        if (appointments instanceof AppointmentList) {
+            return (AppointmentList) appointments;
+        }
+        return new AppointmentList(appointments);
+    }
+
+    /**
+     * Returns the position of the first appointment with {@code appointmentId}, or -1 if there is none.
+     */
+    public int indexOfId(int appointmentId) {
+        return positions.get(appointmentId);
+    }
+
+    public boolean containsId(int appointmentId) {
+        return positions.containsKey(appointmentId);
+    }
+
+    /**
+     * Returns the first appointment with {@code appointmentId}, or null if there is none.
+     */
+    public Appointment findById(int appointmentId) {
+        int index = positions.get(appointmentId);
+        return index == AppointmentIdMap.NOT_FOUND ? null : appointments.get(index);
+    }
+
+    /**
+     * Removes the first appointment with {@code appointmentId} and returns it, or returns null if there is none.
+     */
+    public Appointment removeById(int appointmentId) {
+        int index = positions.get(appointmentId);
+        return index == AppointmentIdMap.NOT_FOUND ? null : remove(index);
+    }
+
+    /**
+     * Returns true if {@code appointment} clashes with any appointment in this list.
+     *
+     * @see Appointment#hasClashAppointment(Appointment)
+     */
+    public boolean hasClash(Appointment appointment) {
+        return schedule.hasClash(appointment.getStartSecond(), Appointment.getDurationSeconds());
+    }
+
+    /**
+     * Returns the start times of the appointments in this list. The index is kept in step with the list, and must
+     * not be changed by the caller.
+     */
+    public ScheduleIndex getSchedule() {
+        return schedule;
+    }
+
+    @Override
+    public Appointment get(int index) {
+        return appointments.get(index);
+    }
+
+    @Override
+    public int size() {
+        return appointments.size();
+    }
+
+    @Override
+    public Appointment set(int index, Appointment appointment) {
+        requireNonNull(appointment);
+        Appointment replaced = appointments.set(index, appointment);
+        schedule.remove(replaced.getStartSecond());
+        schedule.add(appointment.getStartSecond());
+        if (replaced.getAppointmentId() != appointment.getAppointmentId()) {
+            unindex(replaced.getAppointmentId(), index);
+            index(appointment.getAppointmentId(), index);
+        }
+        return replaced;
+    }
+
+    @Override
+    public void add(int index, Appointment appointment) {
+        requireNonNull(appointment);
+        appointments.add(index, appointment);
+        schedule.add(appointment.getStartSecond());
+        modCount++;
+        for (int i = index + 1; i < appointments.size(); i++) {
+            int appointmentId = appointments.get(i).getAppointmentId();
+            if (positions.get(appointmentId) == i - 1) {
+                positions.put(appointmentId, i);
+            }
+        }
+        index(appointment.getAppointmentId(), index);
+    }
+
+    @Override
+    public Appointment remove(int index) {
+        Appointment removed = appointments.remove(index);
+        schedule.remove(removed.getStartSecond());
+        modCount++;
+        int removedId = removed.getAppointmentId();
+        boolean isFirstWithId = positions.get(removedId) == index;
+        if (isFirstWithId) {
+            positions.remove(removedId);
+        }
+        for (int i = index; i < appointments.size(); i++) {
+            int appointmentId = appointments.get(i).getAppointmentId();
+            if (appointmentId == removedId && isFirstWithId) {
+                positions.put(appointmentId, i);
+                isFirstWithId = false;
+            } else if (positions.get(appointmentId) == i + 1) {
+                positions.put(appointmentId, i);
+            }
+        }
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        appointments.clear();
+        positions.clear();
+        schedule.clear();
+        hasDuplicateIds = false;
+        modCount++;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (hasDuplicateIds || !(o instanceof Appointment)) {
+            return super.indexOf(o);
+        }
+        int index = positions.get(((Appointment) o).getAppointmentId());
+        return index != AppointmentIdMap.NOT_FOUND && appointments.get(index).equals(o)
+                ? index
+                : AppointmentIdMap.NOT_FOUND;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) != AppointmentIdMap.NOT_FOUND;
+    }
+
+    /**
+     * Records that an appointment with {@code appointmentId} now sits at {@code index}, unless an earlier
+     * appointment already has that ID.
+     */
+    private void index(int appointmentId, int index) {
+        int existing = positions.get(appointmentId);
+        if (existing == AppointmentIdMap.NOT_FOUND || existing > index) {
+            positions.put(appointmentId, index);
+        }
+        if (existing != AppointmentIdMap.NOT_FOUND && existing != index) {
+            hasDuplicateIds = true;
+        }
+    }
+
+    /**
+     * Records that the appointment with {@code appointmentId} at {@code index} is gone, falling back to the next
+     * appointment with the same ID if there is one.
+     */
+    private void unindex(int appointmentId, int index) {
+        if (positions.get(appointmentId) != index) {
+            return;
+        }
+        positions.remove(appointmentId);
+        if (!hasDuplicateIds) {
+            return;
+        }
+        for (int i = index + 1; i < appointments.size(); i++) {
+            if (appointments.get(i).getAppointmentId() == appointmentId) {
+                positions.put(appointmentId, i);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package seedu.address.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.PersonIdentity;
+import seedu.address.model.person.Phone;
+
+/**
+ * Represents a recurring appointment in the health book: {@code count} appointments between the same doctor and
+ * patient, the first at {@code start} and each following one {@code intervalDays} days after the one before.
+ * <p>
+ * Only the recurrence rule is kept. Occurrence {@code i} has the appointment ID {@code firstAppointmentId + i}, and is
+ * only created as an {@code Appointment} when it is asked for. Whether a time clashes with the series is worked out
+ * from the rule, without going through the occurrences.
+ * <p>
+ * The doctor and the patient are kept by name and phone, so that a series can be told apart from the series of
+ * another person with the same name.
+ * Guarantees: details are present and not null, field values are validated, immutable.
+ */
+public class AppointmentSeries {
+
+    public static final int MAX_INTERVAL_DAYS = 365;
+    public static final int MAX_COUNT = 1000;
+    public static final String MESSAGE_SERIES_CONSTRAINTS = "A series must repeat every 1 to " + MAX_INTERVAL_DAYS
+            + " days, from 1 to " + MAX_COUNT + " times";
+
+    private static final long SECONDS_PER_DAY = 24 * 60 * 60;
+
+    private final int firstAppointmentId;
+    private final String doctor;
+    private final String doctorPhone;
+    private final String patient;
+    private final String patientPhone;
+    private final PersonIdentity doctorIdentity;
+    private final PersonIdentity patientIdentity;
+    private final LocalDateTime start;
+    private final int intervalDays;
+    private final int count;
+
+    /**
+     * Every field must be present and not null.
+     *
+     * @throws IllegalArgumentException if a name, a phone, {@code intervalDays} or {@code count} is not a valid
+     *     value.
+     */
+    public AppointmentSeries(int firstAppointmentId, String doctor, String doctorPhone, String patient,
+                             String patientPhone, LocalDateTime start, int intervalDays, int count) {
+        requireAllNonNull(doctor, doctorPhone, patient, patientPhone, start);
+        if (!isValidIntervalDays(intervalDays) || !isValidCount(count)) {
+            throw new IllegalArgumentException(MESSAGE_SERIES_CONSTRAINTS);
+        }
+        this.firstAppointmentId = firstAppointmentId;
+        this.doctor = doctor;
+        this.doctorPhone = doctorPhone;
+        this.patient = patient;
+        this.patientPhone = patientPhone;
+        this.doctorIdentity = PersonIdentity.of(new Name(doctor), new Phone(doctorPhone));
+        this.patientIdentity = PersonIdentity.of(new Name(patient), new Phone(patientPhone));
+        this.start = start;
+        this.intervalDays = intervalDays;
+        this.count = count;
+    }
+
+    /**
+     * Returns true if a series can repeat every {@code intervalDays} days.
+     */
+    public static boolean isValidIntervalDays(int intervalDays) {
+        return intervalDays > 0 && intervalDays <= MAX_INTERVAL_DAYS;
+    }
+
+    /**
+     * Returns true if a series can have {@code count} occurrences.
+     */
+    public static boolean isValidCount(int count) {
+        return count > 0 && count <= MAX_COUNT;
+    }
+
+    public int getFirstAppointmentId() {
+        return firstAppointmentId;
+    }
+
+    public int getLastAppointmentId() {
+        return firstAppointmentId + count - 1;
+    }
+
+    public String getDoctor() {
+        return doctor;
+    }
+
+    public String getDoctorPhone() {
+        return doctorPhone;
+    }
+
+    public PersonIdentity getDoctorIdentity() {
+        return doctorIdentity;
+    }
+
+    public String getPatient() {
+        return patient;
+    }
+
+    public String getPatientPhone() {
+        return patientPhone;
+    }
+
+    public PersonIdentity getPatientIdentity() {
+        return patientIdentity;
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public int getIntervalDays() {
+        return intervalDays;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns true if both series take up any of the same appointment IDs.
+     */
+    public boolean isSameSeries(AppointmentSeries other) {
+        return other == this
+                || (other != null
+                && firstAppointmentId <= other.getLastAppointmentId()
+                && other.firstAppointmentId <= getLastAppointmentId());
+    }
+
+    /**
+     * Returns occurrence {@code index} of this series, counting from 0.
+     *
+     * @throws IndexOutOfBoundsException if there is no such occurrence.
+     */
+    public Appointment getOccurrence(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Occurrence " + index + " of " + count);
+        }
+        return new Appointment(firstAppointmentId + index, doctor, patient,
+                start.plusDays((long) intervalDays * index));
+    }
+
+    /**
+     * Returns the occurrences of this series, in order, as a list that creates each occurrence when it is read.
+     */
+    public List<Appointment> getOccurrences() {
+        return new Occurrences();
+    }
+
+    /**
+     * Returns the occurrences of this series that have not ended by {@code time}, in order, as a list that creates
+     * each occurrence when it is read.
+     */
+    public List<Appointment> getOccurrencesFrom(LocalDateTime time) {
+        requireNonNull(time);
+        long firstStart = firstStartAfter(time.toEpochSecond(ZoneOffset.UTC) - Appointment.getDurationSeconds());
+        int fromIndex = firstStart == Long.MAX_VALUE ? count : (int) ((firstStart - getStartSecond()) / period());
+        return getOccurrences().subList(fromIndex, count);
+    }
+
+    /**
+     * Returns the start of the first occurrence in seconds since the epoch, as {@link Appointment#getStartSecond()}.
+     */
+    public long getStartSecond() {
+        return start.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * Returns the start of the last occurrence in seconds since the epoch.
+     */
+    public long getEndSecond() {
+        return getStartSecond() + (count - 1) * period();
+    }
+
+    /**
+     * Returns the earliest occurrence start later than {@code time}, or {@code Long.MAX_VALUE} if there is none.
+     * As with {@link ScheduleIndex#firstStartAfter(long)}, times are in seconds since the epoch.
+     */
+    public long firstStartAfter(long time) {
+        long firstStart = getStartSecond();
+        if (time < firstStart) {
+            return firstStart;
+        }
+        long index = Math.floorDiv(time - firstStart, period()) + 1;
+        return index < count ? firstStart + index * period() : Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns true if an appointment of {@code duration} seconds starting at {@code start} overlaps any occurrence,
+     * all appointments being of the same duration.
+     */
+    public boolean hasClash(long start, long duration) {
+        return firstStartAfter(start - duration) < start + duration;
+    }
+
+    /**
+     * Returns true if {@code appointment} overlaps any occurrence.
+     */
+    public boolean hasClash(Appointment appointment) {
+        return hasClash(appointment.getStartSecond(), Appointment.getDurationSeconds());
+    }
+
+    /**
+     * Returns true if any occurrence of {@code other} overlaps any occurrence of this series.
+     * Only the occurrences of the shorter series within the time both series span are checked, each in constant time.
+     */
+    public boolean hasClash(AppointmentSeries other) {
+        AppointmentSeries shorter = count <= other.count ? this : other;
+        AppointmentSeries longer = shorter == this ? other : this;
+        long duration = Appointment.getDurationSeconds();
+        long time = shorter.firstStartAfter(longer.getStartSecond() - duration);
+        long end = longer.getEndSecond() + duration;
+        while (time < end) {
+            if (longer.hasClash(time, duration)) {
+                return true;
+            }
+            time = shorter.firstStartAfter(time);
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the occurrences of this series are far enough apart not to clash with each other.
+     */
+    public boolean isSpacedOut() {
+        return count == 1 || period() >= Appointment.getDurationSeconds();
+    }
+
+    private long period() {
+        return intervalDays * SECONDS_PER_DAY;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof AppointmentSeries)) {
+            return false;
+        }
+
+        AppointmentSeries otherSeries = (AppointmentSeries) other;
+        return firstAppointmentId == otherSeries.firstAppointmentId
+                && doctor.equals(otherSeries.doctor)
+                && doctorPhone.equals(otherSeries.doctorPhone)
+                && patient.equals(otherSeries.patient)
+                && patientPhone.equals(otherSeries.patientPhone)
+                && start.equals(otherSeries.start)
+                && intervalDays == otherSeries.intervalDays
+                && count == otherSeries.count;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(firstAppointmentId, doctor, doctorPhone, patient, patientPhone, start, intervalDays,
+                count);
+    }
+
+    @Override
+    public String toString() {
+        return patient + " with " + doctor + " from " + start + ", every " + intervalDays + " days, " + count
+                + " times";
+    }
+
+    /**
+     * The occurrences of this series, each created when it is read.
+     */
+    private class Occurrences extends AbstractList<Appointment> implements RandomAccess {
+        @Override
+        public Appointment get(int index) {
+            return getOccurrence(index);
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
+    }
+}
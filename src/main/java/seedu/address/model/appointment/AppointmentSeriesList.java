@@ -0,0 +1,191 @@
+package seedu.address.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
+import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
+import seedu.address.model.history.ListEdit;
+import seedu.address.model.person.PersonIdentity;
+
+/**
+ * A list of appointment series that does not allow nulls, or two series that take up the same appointment IDs.
+ * <p>
+ * The series of every doctor and of every patient are indexed by their identity, so that the clash checks for one
+ * person only go through that person's series. Doctors and patients are indexed apart, so a patient is never given
+ * the series of a doctor with the same name and phone.
+ * <p>
+ * As in {@code UniqueAppointmentList}, changes to the list can be reported to an edit recorder as {@link ListEdit}s,
+ * and replayed through {@link #replaceRange(int, int, List)}.
+ *
+ * @see AppointmentSeries#isSameSeries(AppointmentSeries)
+ */
+public class AppointmentSeriesList implements Iterable<AppointmentSeries> {
+
+    private final ObservableList<AppointmentSeries> internalList = FXCollections.observableArrayList();
+    private final Map<PersonIdentity, List<AppointmentSeries>> seriesByDoctor = new HashMap<>();
+    private final Map<PersonIdentity, List<AppointmentSeries>> seriesByPatient = new HashMap<>();
+    private Consumer<ListEdit<AppointmentSeries>> editRecorder;
+
+    /**
+     * Returns true if the list contains a series that takes up any of the appointment IDs of {@code toCheck}.
+     */
+    public boolean contains(AppointmentSeries toCheck) {
+        requireNonNull(toCheck);
+        return internalList.stream().anyMatch(toCheck::isSameSeries);
+    }
+
+    /**
+     * Adds a series to the list.
+     * The series must not already exist in the list.
+     */
+    public void add(AppointmentSeries toAdd) {
+        requireNonNull(toAdd);
+        replaceRange(internalList.size(), internalList.size(), Collections.singletonList(toAdd));
+    }
+
+    /**
+     * Removes the equivalent series from the list.
+     * The series must exist in the list.
+     */
+    public void remove(AppointmentSeries toRemove) {
+        requireNonNull(toRemove);
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
+            throw new AppointmentNotFoundException();
+        }
+        replaceRange(index, index + 1, Collections.emptyList());
+    }
+
+    /**
+     * Replaces the contents of this list with {@code series}.
+     * {@code series} must not contain the same series twice.
+     */
+    public void setAppointmentSeries(List<AppointmentSeries> series) {
+        replaceRange(0, internalList.size(), series);
+    }
+
+    /**
+     * Replaces the series from position {@code from} (inclusive) to {@code to} (exclusive) with {@code series}.
+     * The series in {@code series} must not be the same as each other, or as a series outside the replaced range.
+     */
+    public void replaceRange(int from, int to, List<AppointmentSeries> series) {
+        requireAllNonNull(series);
+        if (from < 0 || to > internalList.size() || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") of " + internalList.size());
+        }
+        for (int i = 0; i < series.size(); i++) {
+            AppointmentSeries toAdd = series.get(i);
+            for (int j = 0; j < internalList.size(); j++) {
+                if ((j < from || j >= to) && internalList.get(j).isSameSeries(toAdd)) {
+                    throw new DuplicateAppointmentException();
+                }
+            }
+            for (int j = 0; j < i; j++) {
+                if (series.get(j).isSameSeries(toAdd)) {
+                    throw new DuplicateAppointmentException();
+                }
+            }
+        }
+
+        ListEdit<AppointmentSeries> edit =
+                editRecorder == null ? null : new ListEdit<>(from, internalList.subList(from, to), series);
+        internalList.subList(from, to).forEach(this::unindex);
+        if (from == 0 && to == internalList.size()) {
+            internalList.setAll(series);
+        } else {
+            internalList.subList(from, to).clear();
+            internalList.addAll(from, series);
+        }
+        series.forEach(this::index);
+        if (edit != null) {
+            editRecorder.accept(edit);
+        }
+    }
+
+    /**
+     * Returns the series in which the doctor is {@code doctor}, as an unmodifiable list.
+     */
+    public List<AppointmentSeries> getSeriesOfDoctor(PersonIdentity doctor) {
+        requireNonNull(doctor);
+        return getSeriesOf(seriesByDoctor, doctor);
+    }
+
+    /**
+     * Returns the series in which the patient is {@code patient}, as an unmodifiable list.
+     */
+    public List<AppointmentSeries> getSeriesOfPatient(PersonIdentity patient) {
+        requireNonNull(patient);
+        return getSeriesOf(seriesByPatient, patient);
+    }
+
+    private static List<AppointmentSeries> getSeriesOf(Map<PersonIdentity, List<AppointmentSeries>> seriesByPerson,
+                                                       PersonIdentity person) {
+        List<AppointmentSeries> series = seriesByPerson.get(person);
+        return series == null ? Collections.emptyList() : Collections.unmodifiableList(series);
+    }
+
+    /**
+     * Sets the recorder that receives every subsequent change to this list, or stops recording if
+     * {@code editRecorder} is null.
+     */
+    public void setEditRecorder(Consumer<ListEdit<AppointmentSeries>> editRecorder) {
+        this.editRecorder = editRecorder;
+    }
+
+    /**
+     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<AppointmentSeries> asUnmodifiableObservableList() {
+        return FXCollections.unmodifiableObservableList(internalList);
+    }
+
+    private void index(AppointmentSeries series) {
+        seriesByDoctor.computeIfAbsent(series.getDoctorIdentity(), doctor -> new ArrayList<>()).add(series);
+        seriesByPatient.computeIfAbsent(series.getPatientIdentity(), patient -> new ArrayList<>()).add(series);
+    }
+
+    private void unindex(AppointmentSeries series) {
+        unindex(seriesByDoctor, series.getDoctorIdentity(), series);
+        unindex(seriesByPatient, series.getPatientIdentity(), series);
+    }
+
+    private static void unindex(Map<PersonIdentity, List<AppointmentSeries>> seriesByPerson, PersonIdentity person,
+                                AppointmentSeries series) {
+        List<AppointmentSeries> personSeries = seriesByPerson.get(person);
+        if (personSeries == null) {
+            return;
+        }
+        personSeries.remove(series);
+        if (personSeries.isEmpty()) {
+            seriesByPerson.remove(person);
+        }
+    }
+
+    @Override
+    public Iterator<AppointmentSeries> iterator() {
+        return internalList.iterator();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AppointmentSeriesList // instanceof handles nulls
+                && internalList.equals(((AppointmentSeriesList) other).internalList));
+    }
+
+    @Override
+    public int hashCode() {
+        return internalList.hashCode();
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.model.appointment;
+
+import java.util.Arrays;
+
+/**
+ * The start times of a person's appointments, kept sorted in a primitive array so that whether a slot clashes with
+ * any of them is answered by a binary search, without boxing or allocating.
+ * <p>
+ * Start times are in seconds since the epoch, see {@link Appointment#getStartSecond()}. The same start time may be
+ * added more than once.
+ */
+public class ScheduleIndex {
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private long[] starts = new long[DEFAULT_CAPACITY];
+    private int size;
+
+    /**
+     * Adds an appointment starting at {@code start}.
+     */
+    public void add(long start) {
+        if (size == starts.length) {
+            starts = Arrays.copyOf(starts, 2 * starts.length);
+        }
+        int index = firstIndexAfter(start);
+        System.arraycopy(starts, index, starts, index + 1, size - index);
+        starts[index] = start;
+        size++;
+    }
+
+    /**
+     * Removes one appointment starting at {@code start}, if there is any.
+     */
+    public void remove(long start) {
+        int index = firstIndexAfter(start - 1);
+        if (index == size || starts[index] != start) {
+            return;
+        }
+        System.arraycopy(starts, index + 1, starts, index, size - index - 1);
+        size--;
+    }
+
+    /**
+     * Returns true if an appointment of {@code duration} seconds starting at {@code start} overlaps any appointment
+     * in the index, all appointments being of the same duration.
+     */
+    public boolean hasClash(long start, long duration) {
+        int index = firstIndexAfter(start - duration);
+        return index < size && starts[index] < start + duration;
+    }
+
+    /**
+     * Returns the earliest start time later than {@code time}, or {@code Long.MAX_VALUE} if there is none.
+     */
+    public long firstStartAfter(long time) {
+        int index = firstIndexAfter(time);
+        return index < size ? starts[index] : Long.MAX_VALUE;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all appointments from the index.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns the position of the first start time later than {@code time}, or {@code size} if there is none.
+     */
+    private int firstIndexAfter(long time) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] <= time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -3,13 +3,16 @@ package seedu.address.model.appointment;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
 import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
+import seedu.address.model.history.ListEdit;
 
 /**
  * A list of appointments that enforces uniqueness between its elements and does not allow nulls.
@@ -19,6 +22,12 @@ import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
  * However, the removal of a appointment uses Appointment#equals(Object) so as to ensure that the appointment with
  * exactly the same fields will be removed.
  * <p>
+ * Since appointment IDs are unique within the list, an {@code AppointmentIdMap} from ID to position is kept in step
+ * with the backing list, so that appointments are found by their ID without scanning the list.
+ * <p>
+ * Changes to the list can be reported to an edit recorder as {@link ListEdit}s, and replayed through
+ * {@link #replaceRange(int, int, List)}.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see Appointment#isSameAppointment(Appointment)
@@ -26,13 +35,15 @@ import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
 public class UniqueAppointmentList implements Iterable<Appointment> {
 
     private final ObservableList<Appointment> internalList = FXCollections.observableArrayList();
+    private AppointmentIdMap positions = new AppointmentIdMap();
+    private Consumer<ListEdit<Appointment>> editRecorder;
 
     /**
      * Returns true if the list contains an equivalent appointment as the given argument.
      */
     public boolean contains(Appointment toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameAppointment);
+        return positions.containsKey(toCheck.getAppointmentId());
     }
 
     /**
@@ -44,7 +55,19 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
         if (contains(toAdd)) {
             throw new DuplicateAppointmentException();
         }
+        ListEdit<Appointment> edit =
+                createEdit(internalList.size(), internalList.size(), Collections.singletonList(toAdd));
+        positions.put(toAdd.getAppointmentId(), internalList.size());
         internalList.add(toAdd);
+        record(edit);
+    }
+
+    /**
+     * Adds all {@code appointments} to the end of the list, as a single edit.
+     * None of the appointments may already exist in the list, or have the same ID as each other.
+     */
+    public void addAll(List<Appointment> appointments) {
+        replaceRange(internalList.size(), internalList.size(), appointments);
     }
 
     /**
@@ -53,7 +76,7 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
      */
     public void setToComplete(Appointment toComplete) {
         requireNonNull(toComplete);
-        int index = internalList.indexOf(toComplete);
+        int index = indexOf(toComplete);
         if (index == -1) {
             throw new AppointmentNotFoundException();
         }
@@ -70,7 +93,7 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
     public void setAppointment(Appointment target, Appointment editedAppointment) {
         requireAllNonNull(target, editedAppointment);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new AppointmentNotFoundException();
         }
@@ -78,7 +101,11 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
         if (!target.isSameAppointment(editedAppointment) && contains(editedAppointment)) {
             throw new DuplicateAppointmentException();
         }
+        ListEdit<Appointment> edit = createEdit(index, index + 1, Collections.singletonList(editedAppointment));
+        positions.remove(target.getAppointmentId());
+        positions.put(editedAppointment.getAppointmentId(), index);
         internalList.set(index, editedAppointment);
+        record(edit);
     }
 
     /**
@@ -87,22 +114,26 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
      */
     public void remove(Appointment toRemove) {
         requireNonNull(toRemove);
-        Appointment appointmentToBeDeletedInList = null;
-        for (Appointment appt : internalList) {
-            if (appt.getAppointmentId() == toRemove.getAppointmentId()) {
-                appointmentToBeDeletedInList = appt;
-            }
-        }
-        if (appointmentToBeDeletedInList == null) {
+        int index = positions.get(toRemove.getAppointmentId());
+        if (index == AppointmentIdMap.NOT_FOUND) {
             throw new AppointmentNotFoundException();
         }
 
-        internalList.remove(appointmentToBeDeletedInList);
+        ListEdit<Appointment> edit = createEdit(index, index + 1, Collections.emptyList());
+        positions.remove(toRemove.getAppointmentId());
+        internalList.remove(index);
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getAppointmentId(), i);
+        }
+        record(edit);
     }
 
     public void setAppointments(UniqueAppointmentList replacement) {
         requireNonNull(replacement);
+        ListEdit<Appointment> edit = createEdit(0, internalList.size(), replacement.internalList);
         internalList.setAll(replacement.internalList);
+        positions = new AppointmentIdMap(replacement.positions);
+        record(edit);
     }
 
     /**
@@ -111,11 +142,69 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
      */
     public void setAppointments(List<Appointment> appointments) {
         requireAllNonNull(appointments);
-        if (!appointmentsAreUnique(appointments)) {
-            throw new DuplicateAppointmentException();
+        AppointmentIdMap newPositions = new AppointmentIdMap(appointments.size());
+        for (int i = 0; i < appointments.size(); i++) {
+            int appointmentId = appointments.get(i).getAppointmentId();
+            if (newPositions.containsKey(appointmentId)) {
+                throw new DuplicateAppointmentException();
+            }
+            newPositions.put(appointmentId, i);
         }
 
+        ListEdit<Appointment> edit = createEdit(0, internalList.size(), appointments);
+        positions = newPositions;
         internalList.setAll(appointments);
+        record(edit);
+    }
+
+    /**
+     * Replaces the appointments from position {@code from} (inclusive) to {@code to} (exclusive) with
+     * {@code appointments}.
+     * The appointments in {@code appointments} must not have the same ID as each other, or as an appointment outside
+     * the replaced range.
+     */
+    public void replaceRange(int from, int to, List<Appointment> appointments) {
+        requireAllNonNull(appointments);
+        if (from < 0 || to > internalList.size() || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") of " + internalList.size());
+        }
+
+        AppointmentIdMap seen = new AppointmentIdMap(appointments.size());
+        for (Appointment appointment : appointments) {
+            int appointmentId = appointment.getAppointmentId();
+            int position = positions.get(appointmentId);
+            if (seen.containsKey(appointmentId)
+                    || (position != AppointmentIdMap.NOT_FOUND && (position < from || position >= to))) {
+                throw new DuplicateAppointmentException();
+            }
+            seen.put(appointmentId, 0);
+        }
+
+        ListEdit<Appointment> edit = createEdit(from, to, appointments);
+        for (int i = from; i < to; i++) {
+            positions.remove(internalList.get(i).getAppointmentId());
+        }
+        if (from == 0 && to == internalList.size()) {
+            internalList.setAll(appointments);
+        } else {
+            internalList.subList(from, to).clear();
+            internalList.addAll(from, appointments);
+        }
+        // Positions after the range only move if the range changes size.
+        int reindexEnd = to - from == appointments.size() ? from + appointments.size() : internalList.size();
+        for (int i = from; i < reindexEnd; i++) {
+            positions.put(internalList.get(i).getAppointmentId(), i);
+        }
+        record(edit);
+    }
+
+    /**
+     * Sets the recorder that receives every subsequent change to this list, or stops recording if
+     * {@code editRecorder} is null.
+     * Completing an appointment changes the appointment itself rather than the list, so it is not recorded.
+     */
+    public void setEditRecorder(Consumer<ListEdit<Appointment>> editRecorder) {
+        this.editRecorder = editRecorder;
     }
 
     /**
@@ -143,16 +232,27 @@ public class UniqueAppointmentList implements Iterable<Appointment> {
     }
 
     /**
-     * Returns true if {@code appointments} contains only unique appointments.
+     * Returns the edit that replaces the appointments from {@code from} to {@code to} with {@code added}, or null if
+     * no recorder is set. It must be created before the list changes, since it copies the appointments being replaced.
      */
-    private boolean appointmentsAreUnique(List<Appointment> appointments) {
-        for (int i = 0; i < appointments.size() - 1; i++) {
-            for (int j = i + 1; j < appointments.size(); j++) {
-                if (appointments.get(i).isSameAppointment(appointments.get(j))) {
-                    return false;
-                }
-            }
+    private ListEdit<Appointment> createEdit(int from, int to, List<Appointment> added) {
+        return editRecorder == null ? null : new ListEdit<>(from, internalList.subList(from, to), added);
+    }
+
+    private void record(ListEdit<Appointment> edit) {
+        if (edit != null && editRecorder != null) {
+            editRecorder.accept(edit);
         }
-        return true;
+    }
+
+    /**
+     * Returns the position of the appointment equal to {@code appointment}, or -1 if there is none.
+     * An equal appointment has the same ID, so only the position indexed for that ID needs to be compared.
+     */
+    private int indexOf(Appointment appointment) {
+        int index = positions.get(appointment.getAppointmentId());
+        return index != AppointmentIdMap.NOT_FOUND && internalList.get(index).equals(appointment)
+                ? index
+                : AppointmentIdMap.NOT_FOUND;
     }
 }
@@ -1,10 +1,11 @@
 package seedu.address.model.doctor;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentList;
+import seedu.address.model.appointment.ScheduleIndex;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -19,25 +20,32 @@ import seedu.address.model.tag.Tag;
  */
 public class Doctor extends Person {
     // Variables
-    private List<Appointment> upcomingAppointments;
+    private AppointmentList upcomingAppointments;
 
     // Constructor
     public Doctor(Name name, Phone phone, Email email, Address address, Remark remark,
                   Set<Tag> tags) {
         super(name, phone, email, address, remark, tags);
-        upcomingAppointments = new ArrayList<>();
+        upcomingAppointments = new AppointmentList();
     }
 
     public Doctor(Name name, Phone phone, Email email, Address address, Remark remark,
                   Set<Tag> tags, List<Appointment> upcomingAppointments) {
         super(name, phone, email, address, remark, tags);
-        this.upcomingAppointments = upcomingAppointments;
+        this.upcomingAppointments = AppointmentList.of(upcomingAppointments);
     }
 
     public List<Appointment> getUpcomingAppointments() {
         return upcomingAppointments;
     }
 
+    /**
+     * Returns the start times of the doctor's upcoming appointments.
+     */
+    public ScheduleIndex getSchedule() {
+        return upcomingAppointments.getSchedule();
+    }
+
     /**
      * Adds an upcoming appointment to the doctor's queue of upcoming appointment.
      * The appointment is also added into Doctor's google calendar
@@ -50,33 +58,16 @@ public class Doctor extends Person {
      * Deletes appointment from doctor's queue of upcoming appointment.
      */
     public void deleteAppointment(Appointment appointment) {
-        Appointment apptToBeDeleted = null;
-        for (Appointment appt : upcomingAppointments) {
-            if (appt.getAppointmentId() == appointment.getAppointmentId()) {
-                apptToBeDeleted = appt;
-                break;
-            }
-        }
-        upcomingAppointments.remove(apptToBeDeleted);
+        upcomingAppointments.removeById(appointment.getAppointmentId());
     }
 
     /**
      * Updates appointment from doctor's queue of appointment.
      */
     public void setAppointment(Appointment target, Appointment editedAppointment) {
-        int indexToBeEdited = -1;
-        boolean inUpComingAppointments = false;
-
-        for (Appointment appt : upcomingAppointments) {
-            if (appt.getAppointmentId() == target.getAppointmentId()) {
-                indexToBeEdited = upcomingAppointments.indexOf(appt);
-                inUpComingAppointments = true;
-                break;
-            }
-        }
-
-        if (inUpComingAppointments) {
-            upcomingAppointments.set(indexToBeEdited, editedAppointment);
+        int index = upcomingAppointments.indexOfId(target.getAppointmentId());
+        if (index != -1) {
+            upcomingAppointments.set(index, editedAppointment);
         }
     }
 
@@ -86,37 +77,21 @@ public class Doctor extends Person {
      * appointments
      */
     public void completeUpcomingAppointment(Appointment targetAppointment) {
-        Appointment appointmentToRemove = null;
-        for (Appointment app : upcomingAppointments) {
-            if (app.isSameAppointment(targetAppointment)) {
-                appointmentToRemove = app;
-            }
-        }
+        Appointment appointmentToRemove = upcomingAppointments.removeById(targetAppointment.getAppointmentId());
         appointmentToRemove.completeAppointment();
-        upcomingAppointments.remove(appointmentToRemove);
     }
 
     /**
      * Check if the doctor contains a certain appointment by {@code appointmentId}
      */
     public boolean hasAppointment(int appointmentId) {
-        for (Appointment app : upcomingAppointments) {
-            if (app.getAppointmentId() == appointmentId) {
-                return true;
-            }
-        }
-        return false;
+        return upcomingAppointments.containsId(appointmentId);
     }
 
     /**
      * Check if appointment clash with any upcoming appointments by {@code targetAppointment}
      */
     public boolean hasClashForAppointment(Appointment appointmentToCheck) {
-        for (Appointment app : upcomingAppointments) {
-            if (app.hasClashAppointment(appointmentToCheck)) {
-                return true; // There is a clash in the appointments
-            }
-        }
-        return false;
+        return upcomingAppointments.hasClash(appointmentToCheck);
     }
 }
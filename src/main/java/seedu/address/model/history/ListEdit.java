@@ -0,0 +1,86 @@
+package seedu.address.model.history;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents a single change to a list: the elements in {@code removed} starting at position {@code from} were
+ * replaced by the elements in {@code added}.
+ * Guarantees: immutable; the element lists are copies taken when the edit is made.
+ */
+public final class ListEdit<T> {
+
+    private final int from;
+    private final List<T> removed;
+    private final List<T> added;
+
+    public ListEdit(int from, List<? extends T> removed, List<? extends T> added) {
+        requireAllNonNull(removed, added);
+        if (from < 0) {
+            throw new IllegalArgumentException("Edit position cannot be negative: " + from);
+        }
+        this.from = from;
+        this.removed = copyOf(removed);
+        this.added = copyOf(added);
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public List<T> getRemoved() {
+        return removed;
+    }
+
+    public List<T> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns the edit that reverts this edit.
+     */
+    public ListEdit<T> inverse() {
+        return new ListEdit<>(from, added, removed);
+    }
+
+    private static <T> List<T> copyOf(List<? extends T> elements) {
+        switch (elements.size()) {
+        case 0:
+            return Collections.emptyList();
+        case 1:
+            return Collections.singletonList(elements.get(0));
+        default:
+            return Collections.unmodifiableList(new ArrayList<>(elements));
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ListEdit)) {
+            return false;
+        }
+
+        ListEdit<?> otherEdit = (ListEdit<?>) other;
+        return from == otherEdit.from
+                && removed.equals(otherEdit.removed)
+                && added.equals(otherEdit.added);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, removed, added);
+    }
+
+    @Override
+    public String toString() {
+        return "at " + from + " replace " + removed + " with " + added;
+    }
+}
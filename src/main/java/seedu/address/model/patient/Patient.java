@@ -1,10 +1,15 @@
 package seedu.address.model.patient;
 
-import java.util.ArrayList;
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentList;
+import seedu.address.model.appointment.ScheduleIndex;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -21,8 +26,10 @@ public class Patient extends Person {
     // Variables
     private String telegramId;
     private MedicalHistory medicalHistory;
-    private List<Appointment> upcomingAppointments;
-    private List<Appointment> pastAppointments;
+    private AppointmentList upcomingAppointments;
+    private AppointmentList pastAppointments;
+    /** Loads the medical history and past appointments when they are first needed, or null once they are loaded. */
+    private Supplier<PatientDetails> detailsLoader;
 
     // Constructor
 
@@ -30,8 +37,8 @@ public class Patient extends Person {
                    Set<Tag> tags, String telegramId) {
         super(name, phone, email, address, remark, tags);
         setTelegramId(telegramId);
-        upcomingAppointments = new ArrayList<>();
-        pastAppointments = new ArrayList<>();
+        upcomingAppointments = new AppointmentList();
+        pastAppointments = new AppointmentList();
         this.medicalHistory = new MedicalHistory();
     }
 
@@ -40,8 +47,8 @@ public class Patient extends Person {
                    List<Appointment> pastAppointments) {
         super(name, phone, email, address, remark, tags);
         setTelegramId(telegramId);
-        this.upcomingAppointments = upcomingAppointments;
-        this.pastAppointments = pastAppointments;
+        this.upcomingAppointments = AppointmentList.of(upcomingAppointments);
+        this.pastAppointments = AppointmentList.of(pastAppointments);
         this.medicalHistory = new MedicalHistory();
     }
 
@@ -50,33 +57,65 @@ public class Patient extends Person {
                    List<Appointment> pastAppointments, MedicalHistory medicalHistory) {
         super(name, phone, email, address, remark, tags);
         setTelegramId(telegramId);
-        this.upcomingAppointments = upcomingAppointments;
-        this.pastAppointments = pastAppointments;
+        this.upcomingAppointments = AppointmentList.of(upcomingAppointments);
+        this.pastAppointments = AppointmentList.of(pastAppointments);
         this.medicalHistory = medicalHistory;
 
     }
 
+    /**
+     * Constructs a patient whose medical history and past appointments are only loaded by {@code detailsLoader}
+     * when they are first needed.
+     */
+    public Patient(Name name, Phone phone, Email email, Address address, Remark remark,
+                   Set<Tag> tags, String telegramId, List<Appointment> upcomingAppointments,
+                   Supplier<PatientDetails> detailsLoader) {
+        super(name, phone, email, address, remark, tags);
+        requireNonNull(detailsLoader);
+        setTelegramId(telegramId);
+        this.upcomingAppointments = AppointmentList.of(upcomingAppointments);
+        this.detailsLoader = detailsLoader;
+    }
+
     public List<Appointment> getUpcomingAppointments() {
         return upcomingAppointments;
     }
 
     public List<Appointment> getPastAppointments() {
+        loadDetails();
         return pastAppointments;
     }
 
+    /**
+     * Returns the start times of the patient's upcoming appointments.
+     */
+    public ScheduleIndex getSchedule() {
+        return upcomingAppointments.getSchedule();
+    }
+
     public String getTelegramId() {
         return telegramId;
     }
 
     public MedicalHistory getMedicalHistory() {
+        loadDetails();
         return medicalHistory;
     }
 
+    /**
+     * Returns the loader of the medical history and past appointments of this patient, if they have not been
+     * loaded yet.
+     */
+    public Optional<Supplier<PatientDetails>> getDetailsLoader() {
+        return Optional.ofNullable(detailsLoader);
+    }
+
     public void setTelegramId(String telegramId) {
         this.telegramId = telegramId;
     }
 
     public void setMedicalHistory(MedicalHistory medicalHistory) {
+        loadDetails();
         this.medicalHistory = medicalHistory;
     }
 
@@ -84,6 +123,7 @@ public class Patient extends Person {
      * Adds allergy into the medical history of patient
      */
     public void addAllergy(String allergy) {
+        loadDetails();
         medicalHistory.addAllergy(new Allergy(allergy));
     }
 
@@ -91,6 +131,7 @@ public class Patient extends Person {
      * Adds condition into the medical history of patient
      */
     public void addCondition(String condition) {
+        loadDetails();
         medicalHistory.addCondition(new Condition(condition));
     }
 
@@ -105,14 +146,7 @@ public class Patient extends Person {
      * Deletes appointment from patient's queue of upcoming appointment.
      */
     public void deleteAppointment(Appointment appointment) {
-        Appointment apptToBeDeleted = null;
-        for (Appointment appt : upcomingAppointments) {
-            if (appt.getAppointmentId() == appointment.getAppointmentId()) {
-                apptToBeDeleted = appt;
-                break;
-            }
-        }
-        upcomingAppointments.remove(apptToBeDeleted);
+        upcomingAppointments.removeById(appointment.getAppointmentId());
     }
 
     /**
@@ -120,32 +154,16 @@ public class Patient extends Person {
      * Currently only for prescription
      */
     public void setAppointment(Appointment target, Appointment editedAppointment) {
-        int indexToBeDeleted = -1;
-        boolean inUpComingAppointments = false;
-        boolean inPastAppointments = false;
-
-        for (Appointment appt : upcomingAppointments) {
-            if (appt.getAppointmentId() == target.getAppointmentId()) {
-                indexToBeDeleted = upcomingAppointments.indexOf(appt);
-                inUpComingAppointments = true;
-                break;
-            }
+        int index = upcomingAppointments.indexOfId(target.getAppointmentId());
+        if (index != -1) {
+            upcomingAppointments.set(index, editedAppointment);
+            return;
         }
 
-        if (indexToBeDeleted == -1 && !inUpComingAppointments) {
-            for (Appointment pastAppt : pastAppointments) {
-                if (pastAppt.getAppointmentId() == target.getAppointmentId()) {
-                    indexToBeDeleted = pastAppointments.indexOf(pastAppt);
-                    System.out.println(indexToBeDeleted);
-                    inPastAppointments = true;
-                    break;
-                }
-            }
-        }
-        if (inUpComingAppointments) {
-            upcomingAppointments.set(indexToBeDeleted, editedAppointment);
-        } else if (inPastAppointments) {
-            pastAppointments.set(indexToBeDeleted, editedAppointment);
+        loadDetails();
+        index = pastAppointments.indexOfId(target.getAppointmentId());
+        if (index != -1) {
+            pastAppointments.set(index, editedAppointment);
         }
     }
 
@@ -155,14 +173,9 @@ public class Patient extends Person {
      * appointments
      */
     public void completeUpcomingAppointment(Appointment targetAppointment) {
-        Appointment appointmentToRemove = null;
-        for (Appointment app : upcomingAppointments) {
-            if (app.isSameAppointment(targetAppointment)) {
-                appointmentToRemove = app;
-            }
-        }
+        Appointment appointmentToRemove = upcomingAppointments.removeById(targetAppointment.getAppointmentId());
         appointmentToRemove.completeAppointment();
-        upcomingAppointments.remove(appointmentToRemove);
+        loadDetails();
         pastAppointments.add(appointmentToRemove);
     }
 
@@ -170,29 +183,38 @@ public class Patient extends Person {
      * Check if the patient contains a certain appointment by {@code appointmentId}
      */
     public boolean hasAppointment(int appointmentId) {
-        for (Appointment app : upcomingAppointments) {
-            if (app.getAppointmentId() == appointmentId) {
-                return true;
-            }
+        if (upcomingAppointments.containsId(appointmentId)) {
+            return true;
         }
+        loadDetails();
+        return pastAppointments.containsId(appointmentId);
+    }
 
-        for (Appointment app : pastAppointments) {
-            if (app.getAppointmentId() == appointmentId) {
-                return true;
-            }
-        }
-        return false;
+    /**
+     * Returns true if the patient has an upcoming appointment with {@code appointmentId}.
+     * Unlike {@link #hasAppointment(int)}, this does not load the past appointments.
+     */
+    public boolean hasUpcomingAppointment(int appointmentId) {
+        return upcomingAppointments.containsId(appointmentId);
     }
 
     /**
      * Check if appointment clash with any upcoming appointments by {@code targetAppointment}
      */
     public boolean hasClashForAppointment(Appointment appointmentToCheck) {
-        for (Appointment app : upcomingAppointments) {
-            if (app.hasClashAppointment(appointmentToCheck)) {
-                return true; // There is a clash in the appointments
-            }
+        return upcomingAppointments.hasClash(appointmentToCheck);
+    }
+
+    /**
+     * Loads the medical history and past appointments of this patient if they have not been loaded yet.
+     */
+    private void loadDetails() {
+        if (detailsLoader == null) {
+            return;
         }
-        return false;
+        PatientDetails details = detailsLoader.get();
+        pastAppointments = AppointmentList.of(details.getPastAppointments());
+        medicalHistory = details.getMedicalHistory();
+        detailsLoader = null;
     }
 }
@@ -0,0 +1,31 @@
+package seedu.address.model.patient;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+
+import seedu.address.model.appointment.Appointment;
+
+/**
+ * The details of a {@code Patient} that are only needed when the patient is looked at closely: the medical history
+ * and the past appointments.
+ */
+public class PatientDetails {
+
+    private final List<Appointment> pastAppointments;
+    private final MedicalHistory medicalHistory;
+
+    public PatientDetails(List<Appointment> pastAppointments, MedicalHistory medicalHistory) {
+        requireAllNonNull(pastAppointments, medicalHistory);
+        this.pastAppointments = pastAppointments;
+        this.medicalHistory = medicalHistory;
+    }
+
+    public List<Appointment> getPastAppointments() {
+        return pastAppointments;
+    }
+
+    public MedicalHistory getMedicalHistory() {
+        return medicalHistory;
+    }
+}
@@ -0,0 +1,159 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An inverted index from the words of person names to the persons whose name contains them, ignoring case.
+ * It also indexes the persons by their whole names, for commands that name the person they act on.
+ * <p>
+ * The index is kept up to date by the {@link UniquePersonList} that owns it, so a name search looks up one set of
+ * persons per keyword instead of splitting the name of every person. Persons are indexed by reference, as it is
+ * the person objects in the list that are filtered.
+ */
+public class NameIndex {
+
+    /** Maps every lower case word of a name to the persons whose name contains it. */
+    private final Map<String, Set<Person>> postings = new HashMap<>();
+    /** Maps every lower case full name to the persons with that name. Most names belong to one person. */
+    private final Map<String, List<Person>> personsByName = new HashMap<>();
+    private long modificationCount;
+
+    /**
+     * Returns the persons whose name contains any of {@code words}, ignoring case.
+     * Each word must be a single word, as in {@link seedu.address.commons.util.StringUtil#containsWordIgnoreCase}.
+     */
+    public Set<Person> getPersonsWithAnyWord(Collection<String> words) {
+        requireNonNull(words);
+        Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String word : words) {
+            Set<Person> posting = postings.get(normalize(word));
+            if (posting != null) {
+                persons.addAll(posting);
+            }
+        }
+        return persons;
+    }
+
+    /**
+     * Returns a predicate that tests if a person in the list is one whose name contains any of {@code words},
+     * ignoring case. The persons that match are looked up in this index again only after the index changes.
+     */
+    public Predicate<Person> anyWordMatcher(Collection<String> words) {
+        requireNonNull(words);
+        return new AnyWordMatcher(words);
+    }
+
+    /**
+     * Returns the persons with {@code name}, compared as {@link Name#equals(Object)} does.
+     */
+    public List<Person> getPersonsWithName(Name name) {
+        requireNonNull(name);
+        List<Person> persons = personsByName.get(nameKey(name));
+        return persons == null ? Collections.emptyList() : Collections.unmodifiableList(persons);
+    }
+
+    /**
+     * Returns the number of changes made to this index so far.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Indexes {@code person} under each word of its name.
+     */
+    void add(Person person) {
+        for (String word : wordsOf(person)) {
+            postings.computeIfAbsent(word, unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(person);
+        }
+        personsByName.computeIfAbsent(nameKey(person.getName()), unused -> new ArrayList<>(1)).add(person);
+        modificationCount++;
+    }
+
+    /**
+     * Removes {@code person}, the same object that was added, from the index.
+     */
+    void remove(Person person) {
+        for (String word : wordsOf(person)) {
+            Set<Person> posting = postings.get(word);
+            if (posting != null) {
+                posting.remove(person);
+                if (posting.isEmpty()) {
+                    postings.remove(word);
+                }
+            }
+        }
+        String nameKey = nameKey(person.getName());
+        List<Person> namesakes = personsByName.get(nameKey);
+        if (namesakes != null) {
+            namesakes.removeIf(namesake -> namesake == person);
+            if (namesakes.isEmpty()) {
+                personsByName.remove(nameKey);
+            }
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the contents of this index with {@code persons}.
+     */
+    void setPersons(List<Person> persons) {
+        postings.clear();
+        personsByName.clear();
+        persons.forEach(this::add);
+        modificationCount++;
+    }
+
+    private static List<String> wordsOf(Person person) {
+        List<String> words = new ArrayList<>();
+        for (String word : person.getName().fullName.split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(normalize(word));
+            }
+        }
+        return words;
+    }
+
+    private static String nameKey(Name name) {
+        // As in Name#equals
+        return name.fullName.toLowerCase();
+    }
+
+    private static String normalize(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Tests persons against the union of the postings of its words, which is worked out again only after the index
+     * changes.
+     */
+    private class AnyWordMatcher implements Predicate<Person> {
+        private final List<String> words;
+        private Set<Person> matches;
+        private long matchesModificationCount;
+
+        AnyWordMatcher(Collection<String> words) {
+            this.words = new ArrayList<>(words);
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (matches == null || matchesModificationCount != modificationCount) {
+                matches = getPersonsWithAnyWord(words);
+                matchesModificationCount = modificationCount;
+            }
+            return matches.contains(person);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents the identity fields of a {@code Person}, i.e. the fields compared by {@link Person#isSamePerson(Person)}.
+ * Two persons are the same person if and only if their {@code PersonIdentity} objects are equal, which allows the
+ * identity to be used as a key in hash-based indexes.
+ * Guarantees: immutable.
+ */
+public final class PersonIdentity {
+
+    private final String name;
+    private final String phone;
+    private final int hash;
+
+    private PersonIdentity(Name name, Phone phone) {
+        // Name#equals is case insensitive, so the name is normalised before it takes part in the key.
+        this.name = name.fullName.toLowerCase();
+        this.phone = phone.value;
+        this.hash = 31 * this.name.hashCode() + this.phone.hashCode();
+    }
+
+    /**
+     * Returns the identity of {@code person}.
+     */
+    public static PersonIdentity of(Person person) {
+        requireNonNull(person);
+        return new PersonIdentity(person.getName(), person.getPhone());
+    }
+
+    /**
+     * Returns the identity of a person with the given {@code name} and {@code phone}.
+     */
+    public static PersonIdentity of(Name name, Phone phone) {
+        requireNonNull(name);
+        requireNonNull(phone);
+        return new PersonIdentity(name, phone);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PersonIdentity)) {
+            return false;
+        }
+
+        PersonIdentity otherIdentity = (PersonIdentity) other;
+        return hash == otherIdentity.hash
+                && name.equals(otherIdentity.name)
+                && phone.equals(otherIdentity.phone);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return name + " Phone: " + phone;
+    }
+}
@@ -0,0 +1,395 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * A search index over the names, phones, emails and addresses of persons, for searches that tolerate partial and
+ * misspelled words, such as those typed at a reception desk.
+ * <p>
+ * Every field is split into lower case words, which are kept in a sorted dictionary of terms. The dictionary serves
+ * the role of a trie: the terms that start with a prefix are a contiguous range of it. Words of at least
+ * {@link #MIN_FUZZY_LENGTH} letters are also kept in a BK-tree by their edit distance, so the terms within a small
+ * edit distance of a misspelled word are found without comparing against every term.
+ * <p>
+ * A search scores every person against each word of the query by the best way one of the person's terms matches
+ * it, weighted by the field of the term, and returns the persons with the highest total scores. Like
+ * {@link NameIndex}, the index is kept up to date by the {@link UniquePersonList} that owns it.
+ */
+public class PersonSearchIndex {
+
+    /** The shortest word that is matched with typos. Shorter words are too close to too many other words. */
+    public static final int MIN_FUZZY_LENGTH = 3;
+
+    /**
+     * The most persons that the terms of one word are read for. A word that more persons have, such as a street name
+     * or a one letter prefix, only adds to the scores of persons found through the other words of the query.
+     */
+    public static final int MAX_WORD_POSTINGS = 5000;
+
+    private static final int EXACT_SCORE = 4;
+    private static final int PREFIX_SCORE = 3;
+    private static final int ONE_TYPO_SCORE = 2;
+    private static final int TWO_TYPOS_SCORE = 1;
+
+    /**
+     * The fields that are searched, with the weight of a match in each.
+     */
+    private enum Field {
+        NAME(4), PHONE(3), EMAIL(2), ADDRESS(1);
+
+        private final int weight;
+
+        Field(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    /** Maps every term to the persons that have it, with the weight of the heaviest field they have it in. */
+    private final NavigableMap<String, Map<Person, Integer>> terms = new TreeMap<>();
+    private BkTree typoTree = new BkTree();
+    /** The number of terms in {@code typoTree} that are no longer in {@code terms}. */
+    private int removedTypoTerms;
+
+    /**
+     * Returns up to {@code limit} persons that match {@code query} and {@code filter}, best match first.
+     * Persons with the same score are ordered by name.
+     */
+    public List<Person> search(String query, int limit, Predicate<Person> filter) {
+        requireNonNull(query);
+        requireNonNull(filter);
+        List<String> words = new ArrayList<>(wordsOf(query));
+        Map<String, Integer> postingCounts = new HashMap<>();
+        words.forEach(word -> postingCounts.put(word, countPostings(word)));
+        // The rarest words go first, so that the persons they find are there for the common words to add to.
+        words.sort(Comparator.comparing(postingCounts::get));
+
+        Map<Person, Integer> scores = new IdentityHashMap<>();
+        for (String word : words) {
+            if (postingCounts.get(word) > MAX_WORD_POSTINGS) {
+                scoreCommonWord(word, scores);
+                continue;
+            }
+            Map<Person, Integer> wordScores = new IdentityHashMap<>();
+            scoreExact(word, wordScores);
+            scorePrefix(word, wordScores);
+            scoreTypos(word, wordScores);
+            wordScores.forEach((person, score) -> scores.merge(person, score, Integer::sum));
+        }
+        return top(scores, limit, filter);
+    }
+
+    /**
+     * Indexes the fields of {@code person}.
+     */
+    void add(Person person) {
+        termsOf(person).forEach((term, weight) -> {
+            Map<Person, Integer> posting = terms.get(term);
+            if (posting == null) {
+                // Most terms, such as phones, belong to one person
+                posting = new IdentityHashMap<>(1);
+                terms.put(term, posting);
+                if (isTypoTerm(term)) {
+                    typoTree.add(term);
+                }
+            }
+            posting.put(person, weight);
+        });
+    }
+
+    /**
+     * Removes {@code person}, the same object that was added, from the index.
+     */
+    void remove(Person person) {
+        for (String term : termsOf(person).keySet()) {
+            Map<Person, Integer> posting = terms.get(term);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(person);
+            if (posting.isEmpty()) {
+                terms.remove(term);
+                if (isTypoTerm(term)) {
+                    removedTypoTerms++;
+                }
+            }
+        }
+        // The BK-tree cannot remove terms, so it is rebuilt once most of its terms are gone.
+        if (removedTypoTerms > typoTree.size() / 2) {
+            rebuildTypoTree();
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with {@code persons}.
+     */
+    void setPersons(List<Person> persons) {
+        terms.clear();
+        typoTree = new BkTree();
+        removedTypoTerms = 0;
+        persons.forEach(this::add);
+    }
+
+    private void scoreExact(String word, Map<Person, Integer> wordScores) {
+        Map<Person, Integer> posting = terms.get(word);
+        if (posting != null) {
+            posting.forEach((person, weight) -> wordScores.merge(person, weight * EXACT_SCORE, Math::max));
+        }
+    }
+
+    private void scorePrefix(String word, Map<Person, Integer> wordScores) {
+        for (Map<Person, Integer> posting : termsStartingWith(word, false).values()) {
+            posting.forEach((person, weight) -> wordScores.merge(person, weight * PREFIX_SCORE, Math::max));
+        }
+    }
+
+    /**
+     * Adds the score of {@code word}, which too many persons have, to the persons in {@code scores} who have it
+     * exactly. If no other word found any person, the first {@link #MAX_WORD_POSTINGS} persons who have it are
+     * scored instead.
+     */
+    private void scoreCommonWord(String word, Map<Person, Integer> scores) {
+        Map<Person, Integer> posting = terms.getOrDefault(word, Collections.emptyMap());
+        if (scores.isEmpty()) {
+            Map<Person, Integer> wordScores = new IdentityHashMap<>();
+            for (Map<Person, Integer> prefixPosting : termsStartingWith(word, true).values()) {
+                for (Map.Entry<Person, Integer> entry : prefixPosting.entrySet()) {
+                    int score = entry.getValue() * (prefixPosting == posting ? EXACT_SCORE : PREFIX_SCORE);
+                    wordScores.merge(entry.getKey(), score, Math::max);
+                    if (wordScores.size() == MAX_WORD_POSTINGS) {
+                        scores.putAll(wordScores);
+                        return;
+                    }
+                }
+            }
+            scores.putAll(wordScores);
+            return;
+        }
+        for (Map.Entry<Person, Integer> entry : scores.entrySet()) {
+            Integer weight = posting.get(entry.getKey());
+            if (weight != null) {
+                entry.setValue(entry.getValue() + weight * EXACT_SCORE);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of persons who have a term that starts with {@code word}, counting only up to just over
+     * {@link #MAX_WORD_POSTINGS}.
+     */
+    private int countPostings(String word) {
+        int count = 0;
+        for (Map<Person, Integer> posting : termsStartingWith(word, true).values()) {
+            count += posting.size();
+            if (count > MAX_WORD_POSTINGS) {
+                break;
+            }
+        }
+        return count;
+    }
+
+    private NavigableMap<String, Map<Person, Integer>> termsStartingWith(String word, boolean isWordIncluded) {
+        return terms.subMap(word, isWordIncluded, word + Character.MAX_VALUE, false);
+    }
+
+    private void scoreTypos(String word, Map<Person, Integer> wordScores) {
+        if (word.length() < MIN_FUZZY_LENGTH) {
+            return;
+        }
+        int maxDistance = word.length() < 6 ? 1 : 2;
+        typoTree.forEachWithin(word, maxDistance, (term, distance) -> {
+            Map<Person, Integer> posting = terms.get(term);
+            if (distance == 0 || posting == null) {
+                return;
+            }
+            int score = distance == 1 ? ONE_TYPO_SCORE : TWO_TYPOS_SCORE;
+            posting.forEach((person, weight) -> wordScores.merge(person, weight * score, Math::max));
+        });
+    }
+
+    /**
+     * Returns the {@code limit} persons in {@code filter} with the highest scores, highest first.
+     */
+    private static List<Person> top(Map<Person, Integer> scores, int limit, Predicate<Person> filter) {
+        Comparator<Map.Entry<Person, Integer>> byRank = Map.Entry.<Person, Integer>comparingByValue().reversed()
+                .thenComparing(entry -> entry.getKey().getName().fullName);
+        PriorityQueue<Map.Entry<Person, Integer>> best = new PriorityQueue<>(byRank.reversed());
+        for (Map.Entry<Person, Integer> entry : scores.entrySet()) {
+            if (!filter.test(entry.getKey())) {
+                continue;
+            }
+            best.add(entry);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        List<Map.Entry<Person, Integer>> ranked = new ArrayList<>(best);
+        ranked.sort(byRank);
+        List<Person> persons = new ArrayList<>(ranked.size());
+        ranked.forEach(entry -> persons.add(entry.getKey()));
+        return persons;
+    }
+
+    private void rebuildTypoTree() {
+        typoTree = new BkTree();
+        removedTypoTerms = 0;
+        terms.keySet().stream().filter(PersonSearchIndex::isTypoTerm).forEach(typoTree::add);
+    }
+
+    /**
+     * Returns true if typos are tolerated in {@code term}, which are words of letters only. Numbers such as phones,
+     * and words with numbers such as the user part of many emails, are only matched exactly or by prefix.
+     */
+    private static boolean isTypoTerm(String term) {
+        return term.length() >= MIN_FUZZY_LENGTH && term.chars().allMatch(Character::isLetter);
+    }
+
+    /**
+     * Returns the terms of the fields of {@code person}, with the weight of the heaviest field each is in.
+     */
+    private static Map<String, Integer> termsOf(Person person) {
+        Map<String, Integer> personTerms = new HashMap<>();
+        addTerms(personTerms, person.getName().fullName, Field.NAME);
+        addTerms(personTerms, person.getPhone().value, Field.PHONE);
+        addTerms(personTerms, person.getEmail().value, Field.EMAIL);
+        addTerms(personTerms, person.getAddress().value, Field.ADDRESS);
+        return personTerms;
+    }
+
+    private static void addTerms(Map<String, Integer> personTerms, String value, Field field) {
+        for (String word : wordsOf(value)) {
+            personTerms.merge(word, field.weight, Math::max);
+        }
+    }
+
+    /**
+     * Returns the distinct lower case words of {@code text}, split at every character that is not a letter or digit.
+     */
+    private static Set<String> wordsOf(String text) {
+        Set<String> words = new LinkedHashSet<>();
+        String lowerCase = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lowerCase.length(); i++) {
+            boolean isWordCharacter = i < lowerCase.length() && Character.isLetterOrDigit(lowerCase.charAt(i));
+            if (isWordCharacter && start < 0) {
+                start = i;
+            } else if (!isWordCharacter && start >= 0) {
+                words.add(lowerCase.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns the edit distance between {@code a} and {@code b}: the number of letters that must be inserted,
+     * deleted or replaced to turn one into the other.
+     */
+    static int editDistance(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int replace = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(replace, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    /**
+     * Receives a term found in a {@code BkTree}, and its edit distance from the word searched for.
+     */
+    @FunctionalInterface
+    private interface TermConsumer {
+        void accept(String term, int distance);
+    }
+
+    /**
+     * A BK-tree of terms: the children of every node are keyed by their edit distance from it. By the triangle
+     * inequality, the terms within {@code d} of a word can only be under the children whose key is within {@code d}
+     * of the word's distance from the node, which prunes most of the tree.
+     */
+    private static class BkTree {
+        private Node root;
+        private int size;
+
+        void add(String term) {
+            size++;
+            if (root == null) {
+                root = new Node(term);
+                return;
+            }
+            Node node = root;
+            while (true) {
+                int distance = editDistance(term, node.term);
+                if (distance == 0) {
+                    size--;
+                    return;
+                }
+                Node child = node.children.get(distance);
+                if (child == null) {
+                    node.children.put(distance, new Node(term));
+                    return;
+                }
+                node = child;
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        void forEachWithin(String word, int maxDistance, TermConsumer consumer) {
+            if (root == null) {
+                return;
+            }
+            Deque<Node> toVisit = new ArrayDeque<>(Collections.singletonList(root));
+            while (!toVisit.isEmpty()) {
+                Node node = toVisit.pop();
+                int distance = editDistance(word, node.term);
+                if (distance <= maxDistance) {
+                    consumer.accept(node.term, distance);
+                }
+                for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                    if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                        toVisit.push(child.getValue());
+                    }
+                }
+            }
+        }
+
+        private static class Node {
+            private final String term;
+            private final Map<Integer, Node> children = new HashMap<>(4);
+
+            Node(String term) {
+                this.term = term;
+            }
+        }
+    }
+}
@@ -3,12 +3,23 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentIdMap;
 import seedu.address.model.doctor.Doctor;
+import seedu.address.model.history.ListEdit;
 import seedu.address.model.patient.Patient;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -22,18 +33,69 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Every person in the list is indexed by its {@link PersonIdentity}, so identity checks and look-ups run in constant
+ * time instead of scanning the list. As persons in the list have unique identities, a person that is equal to
+ * another person in the list must also have the same identity, so the same index also serves look-ups by
+ * Person#equals(Object). Building the index for a replacement list also finds any duplicates in a single pass.
+ *
+ * The persons are also indexed by the words of their names in a {@link NameIndex}, for name searches, and by the
+ * words of all their fields in a {@link PersonSearchIndex}, for searches that tolerate partial and misspelled words.
+ * Patients and doctors are also found by the IDs of their upcoming appointments, so that removing a person can
+ * remove the other side of each of its appointments without going through every person.
+ *
+ * Every change to the list can be reported to an edit recorder as a {@link ListEdit}, and replayed later through
+ * {@link #replaceRange(int, int, List)}, which is how the undo history is kept without copying the list.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
 
+    /** Identities of the persons in {@code internalList}, in the same order. */
+    private List<PersonIdentity> identities = new ArrayList<>();
+
+    /** Maps the identity of each person to its position in {@code internalList}. */
+    private Map<PersonIdentity, Integer> positions = new HashMap<>();
+
+    /** The persons in {@code internalList} by the words of their names. */
+    private final NameIndex nameIndex = new NameIndex();
+
+    /** The persons in {@code internalList} by the words of their fields, for searches. */
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
+
+    /**
+     * True if {@code searchIndex} is built again from the whole list when it is next used. Replacing the whole list
+     * only marks the search index out of date, so that loading a health book does not wait for it.
+     */
+    private boolean isSearchIndexStale;
+
+    /**
+     * A number for each person in {@code internalList}, given when the person enters the list and kept until it
+     * leaves, so that it does not change when other persons move.
+     */
+    private Map<PersonIdentity, Integer> personIds = new HashMap<>();
+    private Map<Integer, PersonIdentity> identitiesByPersonId = new HashMap<>();
+    private int nextPersonId;
+
+    /**
+     * The numbers in {@code personIds} of the patients and doctors by the IDs of their upcoming appointments.
+     * Patients and doctors take on and give up appointments in place, so an entry is only a hint that is checked when
+     * it is used. Appointments are entered when the person is added, or when the appointment is added through
+     * {@link #indexAppointment(Appointment)}, and only the entries of a person that leaves the list are removed.
+     */
+    private AppointmentIdMap patientsByAppointment = new AppointmentIdMap();
+    private AppointmentIdMap doctorsByAppointment = new AppointmentIdMap();
+
+    /** Receives every change made to the list, if set. */
+    private Consumer<ListEdit<Person>> editRecorder;
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positions.containsKey(PersonIdentity.of(toCheck));
     }
 
     /**
@@ -42,10 +104,17 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        PersonIdentity identity = PersonIdentity.of(toAdd);
+        if (positions.containsKey(identity)) {
             throw new DuplicatePersonException();
         }
+        ListEdit<Person> edit = createEdit(internalList.size(), internalList.size(), Collections.singletonList(toAdd));
+        positions.put(identity, internalList.size());
+        identities.add(identity);
+        index(toAdd);
+        indexAppointments(toAdd, enter(identity));
         internalList.add(toAdd);
+        record(edit);
     }
 
     /**
@@ -56,16 +125,26 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        PersonIdentity editedIdentity = PersonIdentity.of(editedPerson);
+        if (!target.isSamePerson(editedPerson) && positions.containsKey(editedIdentity)) {
             throw new DuplicatePersonException();
         }
 
+        ListEdit<Person> edit = createEdit(index, index + 1, Collections.singletonList(editedPerson));
+        positions.remove(identities.get(index));
+        positions.put(editedIdentity, index);
+        unindex(internalList.get(index));
+        unindexAppointments(internalList.get(index), leave(identities.get(index)));
+        identities.set(index, editedIdentity);
+        index(editedPerson);
+        indexAppointments(editedPerson, enter(editedIdentity));
         internalList.set(index, editedPerson);
+        record(edit);
     }
 
     /**
@@ -74,14 +153,39 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        ListEdit<Person> edit = createEdit(index, index + 1, Collections.emptyList());
+        PersonIdentity identity = identities.remove(index);
+        positions.remove(identity);
+        unindex(internalList.get(index));
+        unindexAppointments(internalList.get(index), leave(identity));
+        internalList.remove(index);
+        for (int i = index; i < identities.size(); i++) {
+            positions.put(identities.get(i), i);
+        }
+        record(edit);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        ListEdit<Person> edit = createEdit(0, internalList.size(), replacement.internalList);
+        identities.clear();
+        identities.addAll(replacement.identities);
+        positions.clear();
+        positions.putAll(replacement.positions);
+        personIds = new HashMap<>(replacement.personIds);
+        identitiesByPersonId = new HashMap<>(replacement.identitiesByPersonId);
+        nextPersonId = replacement.nextPersonId;
+        nameIndex.setPersons(replacement.internalList);
+        patientsByAppointment = new AppointmentIdMap(replacement.patientsByAppointment);
+        doctorsByAppointment = new AppointmentIdMap(replacement.doctorsByAppointment);
+        isSearchIndexStale = true;
         internalList.setAll(replacement.internalList);
+        record(edit);
     }
 
     /**
@@ -90,13 +194,88 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        List<PersonIdentity> newIdentities = new ArrayList<>(persons.size());
+        Map<PersonIdentity, Integer> newPositions = new HashMap<>(2 * persons.size());
+        for (Person person : persons) {
+            PersonIdentity identity = PersonIdentity.of(person);
+            if (newPositions.putIfAbsent(identity, newIdentities.size()) != null) {
+                throw new DuplicatePersonException();
+            }
+            newIdentities.add(identity);
         }
 
+        ListEdit<Person> edit = createEdit(0, internalList.size(), persons);
+        identities = newIdentities;
+        positions = newPositions;
+        nameIndex.setPersons(persons);
+        personIds.clear();
+        identitiesByPersonId.clear();
+        patientsByAppointment.clear();
+        doctorsByAppointment.clear();
+        for (int i = 0; i < persons.size(); i++) {
+            indexAppointments(persons.get(i), enter(newIdentities.get(i)));
+        }
+        isSearchIndexStale = true;
         internalList.setAll(persons);
+        record(edit);
     }
 
+    /**
+     * Replaces the persons from position {@code from} (inclusive) to {@code to} (exclusive) with {@code persons}.
+     * The persons in {@code persons} must not be the same as each other, or as a person outside the replaced range.
+     */
+    public void replaceRange(int from, int to, List<Person> persons) {
+        requireAllNonNull(persons);
+        if (from < 0 || to > internalList.size() || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") of " + internalList.size());
+        }
+
+        List<PersonIdentity> newIdentities = new ArrayList<>(persons.size());
+        Set<PersonIdentity> seen = new HashSet<>();
+        for (Person person : persons) {
+            PersonIdentity identity = PersonIdentity.of(person);
+            Integer position = positions.get(identity);
+            if (!seen.add(identity) || (position != null && (position < from || position >= to))) {
+                throw new DuplicatePersonException();
+            }
+            newIdentities.add(identity);
+        }
+
+        ListEdit<Person> edit = createEdit(from, to, persons);
+        List<PersonIdentity> replacedIdentities = identities.subList(from, to);
+        for (int i = from; i < to; i++) {
+            unindex(internalList.get(i));
+            unindexAppointments(internalList.get(i), leave(identities.get(i)));
+        }
+        replacedIdentities.forEach(positions::remove);
+        replacedIdentities.clear();
+        identities.addAll(from, newIdentities);
+        // Positions after the range only move if the range changes size.
+        int reindexEnd = to - from == persons.size() ? from + persons.size() : identities.size();
+        for (int i = from; i < reindexEnd; i++) {
+            positions.put(identities.get(i), i);
+        }
+
+        persons.forEach(this::index);
+        for (int i = 0; i < persons.size(); i++) {
+            indexAppointments(persons.get(i), enter(newIdentities.get(i)));
+        }
+        if (from == 0 && to == internalList.size()) {
+            internalList.setAll(persons);
+        } else {
+            internalList.subList(from, to).clear();
+            internalList.addAll(from, persons);
+        }
+        record(edit);
+    }
+
+    /**
+     * Sets the recorder that receives every subsequent change to this list, or stops recording if
+     * {@code editRecorder} is null.
+     */
+    public void setEditRecorder(Consumer<ListEdit<Person>> editRecorder) {
+        this.editRecorder = editRecorder;
+    }
 
     /**
      * Finds the patient in the list with {@code persons}.
@@ -104,12 +283,11 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public Patient findPatient(Patient patient) {
         requireNonNull(patient);
-        for (Person p : internalList) {
-            if (p instanceof Patient && p.equals(patient)) {
-                return (Patient) p;
-            }
+        int index = indexOf(patient);
+        if (index == -1 || !(internalList.get(index) instanceof Patient)) {
+            throw new PersonNotFoundException();
         }
-        throw new PersonNotFoundException();
+        return (Patient) internalList.get(index);
     }
 
     /**
@@ -118,12 +296,87 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public Doctor findDoctor(Doctor doctor) {
         requireNonNull(doctor);
-        for (Person d : internalList) {
-            if (d instanceof Doctor && d.equals(doctor)) {
-                return (Doctor) d;
+        int index = indexOf(doctor);
+        if (index == -1 || !(internalList.get(index) instanceof Doctor)) {
+            throw new PersonNotFoundException();
+        }
+        return (Doctor) internalList.get(index);
+    }
+
+    /**
+     * Returns the persons in the list with {@code name}, and with {@code phone} unless it is null, in constant time.
+     * There is at most one such person if {@code phone} is given, as persons are identified by name and phone.
+     */
+    public List<Person> getPersons(Name name, Phone phone) {
+        requireNonNull(name);
+        if (phone == null) {
+            return nameIndex.getPersonsWithName(name);
+        }
+        Integer index = positions.get(PersonIdentity.of(name, phone));
+        return index == null ? Collections.emptyList() : Collections.singletonList(internalList.get(index));
+    }
+
+    /**
+     * Records that the patient and the doctor of {@code appointment}, who must already have taken it on as an
+     * upcoming appointment, own it. They are looked up by the names kept in the appointment.
+     */
+    public void indexAppointment(Appointment appointment) {
+        requireNonNull(appointment);
+        int appointmentId = appointment.getAppointmentId();
+        for (Person person : getPersonsNamed(appointment.getPatient())) {
+            if (person instanceof Patient && ((Patient) person).hasUpcomingAppointment(appointmentId)) {
+                patientsByAppointment.put(appointmentId, personIds.get(PersonIdentity.of(person)));
+            }
+        }
+        for (Person person : getPersonsNamed(appointment.getDoctor())) {
+            if (person instanceof Doctor && ((Doctor) person).hasAppointment(appointmentId)) {
+                doctorsByAppointment.put(appointmentId, personIds.get(PersonIdentity.of(person)));
             }
         }
-        throw new PersonNotFoundException();
+    }
+
+    /**
+     * Returns the patient in the list with the upcoming appointment {@code appointmentId}, if any.
+     */
+    public Optional<Patient> findPatientWithAppointment(int appointmentId) {
+        Person person = getIndexedOwner(patientsByAppointment, appointmentId);
+        if (person instanceof Patient && ((Patient) person).hasUpcomingAppointment(appointmentId)) {
+            return Optional.of((Patient) person);
+        }
+        patientsByAppointment.remove(appointmentId);
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the doctor in the list with the upcoming appointment {@code appointmentId}, if any.
+     */
+    public Optional<Doctor> findDoctorWithAppointment(int appointmentId) {
+        Person person = getIndexedOwner(doctorsByAppointment, appointmentId);
+        if (person instanceof Doctor && ((Doctor) person).hasAppointment(appointmentId)) {
+            return Optional.of((Doctor) person);
+        }
+        doctorsByAppointment.remove(appointmentId);
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the index of the persons in the list by the words of their names.
+     * The index is updated before the list changes, so listeners of the list see the index of the changed list.
+     */
+    public NameIndex getNameIndex() {
+        return nameIndex;
+    }
+
+    /**
+     * Returns the search index of the persons in the list. Like the name index, it is updated before the list changes,
+     * except that it is only built after the whole list is replaced when it is asked for.
+     */
+    public PersonSearchIndex getSearchIndex() {
+        if (isSearchIndexStale) {
+            searchIndex.setPersons(internalList);
+            isSearchIndexStale = false;
+        }
+        return searchIndex;
     }
 
     /**
@@ -151,16 +404,108 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the edit that replaces the persons from {@code from} to {@code to} with {@code added}, or null if no
+     * recorder is set. It must be created before the list changes, since it copies the persons being replaced.
+     */
+    private ListEdit<Person> createEdit(int from, int to, List<Person> added) {
+        return editRecorder == null ? null : new ListEdit<>(from, internalList.subList(from, to), added);
+    }
+
+    private void index(Person person) {
+        nameIndex.add(person);
+        if (!isSearchIndexStale) {
+            searchIndex.add(person);
+        }
+    }
+
+    private void unindex(Person person) {
+        nameIndex.remove(person);
+        if (!isSearchIndexStale) {
+            searchIndex.remove(person);
+        }
+    }
+
+    /**
+     * Gives the person with {@code identity}, which is entering the list, a new number, and returns it.
+     */
+    private int enter(PersonIdentity identity) {
+        int personId = nextPersonId++;
+        personIds.put(identity, personId);
+        identitiesByPersonId.put(personId, identity);
+        return personId;
+    }
+
+    /**
+     * Takes back the number of the person with {@code identity}, which is leaving the list, and returns it.
+     */
+    private int leave(PersonIdentity identity) {
+        int personId = personIds.remove(identity);
+        identitiesByPersonId.remove(personId);
+        return personId;
+    }
+
+    /**
+     * Records that {@code person}, numbered {@code personId}, owns its upcoming appointments.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private void indexAppointments(Person person, int personId) {
+        AppointmentIdMap owners = appointmentOwners(person);
+        for (Appointment appointment : getUpcomingAppointments(person)) {
+            owners.put(appointment.getAppointmentId(), personId);
+        }
+    }
+
+    /**
+     * Removes the entries of the upcoming appointments of {@code person} that still point at {@code personId}.
+     */
+    private void unindexAppointments(Person person, int personId) {
+        AppointmentIdMap owners = appointmentOwners(person);
+        for (Appointment appointment : getUpcomingAppointments(person)) {
+            if (owners.get(appointment.getAppointmentId()) == personId) {
+                owners.remove(appointment.getAppointmentId());
             }
         }
-        return true;
+    }
+
+    private AppointmentIdMap appointmentOwners(Person person) {
+        return person instanceof Doctor ? doctorsByAppointment : patientsByAppointment;
+    }
+
+    private static List<Appointment> getUpcomingAppointments(Person person) {
+        if (person instanceof Patient) {
+            return ((Patient) person).getUpcomingAppointments();
+        } else if (person instanceof Doctor) {
+            return ((Doctor) person).getUpcomingAppointments();
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Returns the person in the list with the number {@code owners} has for {@code appointmentId}, or null.
+     */
+    private Person getIndexedOwner(AppointmentIdMap owners, int appointmentId) {
+        PersonIdentity identity = identitiesByPersonId.get(owners.get(appointmentId));
+        Integer index = identity == null ? null : positions.get(identity);
+        return index == null ? null : internalList.get(index);
+    }
+
+    private List<Person> getPersonsNamed(String name) {
+        return Name.isValidName(name) ? nameIndex.getPersonsWithName(new Name(name)) : Collections.emptyList();
+    }
+
+    private void record(ListEdit<Person> edit) {
+        if (edit != null && editRecorder != null) {
+            editRecorder.accept(edit);
+        }
+    }
+
+    /**
+     * Returns the position of the person in the list that is equal to {@code person}, or -1 if there is no such person.
+     */
+    private int indexOf(Person person) {
+        Integer index = positions.get(PersonIdentity.of(person));
+        if (index == null || !internalList.get(index).equals(person)) {
+            return -1;
+        }
+        return index;
     }
 }
@@ -0,0 +1,49 @@
+package seedu.address.model.schedule;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import seedu.address.model.doctor.Doctor;
+
+/**
+ * A time at which a doctor is free to take an appointment.
+ */
+public class FreeSlot {
+
+    private final Doctor doctor;
+    private final LocalDateTime start;
+
+    public FreeSlot(Doctor doctor, LocalDateTime start) {
+        requireAllNonNull(doctor, start);
+        this.doctor = doctor;
+        this.start = start;
+    }
+
+    public Doctor getDoctor() {
+        return doctor;
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FreeSlot // instanceof handles nulls
+                && doctor.equals(((FreeSlot) other).doctor)
+                && start.equals(((FreeSlot) other).start));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(doctor, start);
+    }
+
+    @Override
+    public String toString() {
+        return start + " " + doctor.getName() + " (" + doctor.getPhone() + ")";
+    }
+}
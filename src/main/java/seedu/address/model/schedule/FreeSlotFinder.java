@@ -0,0 +1,185 @@
+package seedu.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.Collectors;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentSeries;
+import seedu.address.model.appointment.ScheduleIndex;
+import seedu.address.model.doctor.Doctor;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.person.Person;
+
+/**
+ * Finds the earliest free slots in a time window across a number of doctors.
+ * <p>
+ * Each doctor's {@link ScheduleIndex} is searched on its own, in parallel on the common fork-join pool, by jumping
+ * from one clashing appointment to the end of it, so only the appointments near a candidate slot are looked at.
+ * The earliest slots of each doctor are then merged through a priority queue.
+ * <p>
+ * A slot is free if an appointment of the given duration could be booked at its start without clashing with any
+ * upcoming appointment or appointment series occurrence of the doctor, or of the patient if one is given. Slots
+ * shorter than an appointment are widened to the length of an appointment, since that is how long the booked
+ * appointment will be. The slots found for one doctor follow each other without overlapping.
+ */
+public class FreeSlotFinder {
+
+    private final long from;
+    private final long until;
+    private final long length;
+    private final int count;
+
+    /**
+     * Creates a finder for at most {@code count} slots of {@code duration} that start no earlier than {@code from}
+     * and end no later than {@code until}.
+     *
+     * @throws IllegalArgumentException if {@code duration} or {@code count} is not positive.
+     */
+    public FreeSlotFinder(LocalDateTime from, LocalDateTime until, Duration duration, int count) {
+        requireAllNonNull(from, until, duration);
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Slot duration must be positive: " + duration);
+        }
+        if (count <= 0) {
+            throw new IllegalArgumentException("Number of slots must be positive: " + count);
+        }
+        this.from = toSecond(from);
+        this.until = toSecond(until);
+        this.length = Math.max(duration.getSeconds(), Appointment.getDurationSeconds());
+        this.count = count;
+    }
+
+    /**
+     * Returns the earliest free slots of any of {@code doctors}, earliest first. Slots at the same time are in the
+     * order of their doctors in {@code doctors}.
+     */
+    public List<FreeSlot> find(List<Doctor> doctors) {
+        return find(doctors, null);
+    }
+
+    /**
+     * Returns the earliest slots at which both {@code patient} and any of {@code doctors} are free, earliest first.
+     * The patient is ignored if null.
+     */
+    public List<FreeSlot> find(List<Doctor> doctors, Patient patient) {
+        return find(doctors, patient, person -> Collections.emptyList());
+    }
+
+    /**
+     * Returns the earliest slots at which both {@code patient} and any of {@code doctors} are free, earliest first,
+     * taking the occurrences of the appointment series that {@code seriesOf} gives for each person as busy too.
+     * The patient is ignored if null.
+     */
+    public List<FreeSlot> find(List<Doctor> doctors, Patient patient,
+                               Function<Person, List<AppointmentSeries>> seriesOf) {
+        requireAllNonNull(doctors, seriesOf);
+        List<LongUnaryOperator> patientBusy = patient == null ? Collections.emptyList() : busyTimes(patient, seriesOf);
+        List<List<LongUnaryOperator>> doctorBusy = doctors.stream()
+                .map(doctor -> busyTimes(doctor, seriesOf))
+                .collect(Collectors.toList());
+        List<long[]> starts = doctorBusy.parallelStream()
+                .map(busy -> findStarts(busy, patientBusy))
+                .collect(Collectors.toList());
+        return merge(doctors, starts);
+    }
+
+    /**
+     * Returns the appointment start times that keep {@code person} busy, each as a function from a time to the first
+     * start later than it, as {@link ScheduleIndex#firstStartAfter(long)}.
+     */
+    private static List<LongUnaryOperator> busyTimes(Person person,
+                                                     Function<Person, List<AppointmentSeries>> seriesOf) {
+        List<LongUnaryOperator> busyTimes = new ArrayList<>();
+        ScheduleIndex schedule = person instanceof Doctor
+                ? ((Doctor) person).getSchedule()
+                : ((Patient) person).getSchedule();
+        busyTimes.add(schedule::firstStartAfter);
+        for (AppointmentSeries series : seriesOf.apply(person)) {
+            busyTimes.add(series::firstStartAfter);
+        }
+        return busyTimes;
+    }
+
+    /**
+     * Returns the start times of the earliest slots that are free in all of {@code doctorBusy} and
+     * {@code patientBusy}.
+     */
+    private long[] findStarts(List<LongUnaryOperator> doctorBusy, List<LongUnaryOperator> patientBusy) {
+        long busy = Appointment.getDurationSeconds();
+        long[] starts = new long[count];
+        int found = 0;
+        long start = from;
+        while (found < count && start <= until - length) {
+            // An appointment clashes if it starts less than an appointment's length before the slot.
+            long next = Math.max(clashEnd(doctorBusy, start, busy), clashEnd(patientBusy, start, busy));
+            if (next == start) {
+                starts[found++] = start;
+                next = start + length;
+            }
+            start = next;
+        }
+        return Arrays.copyOf(starts, found);
+    }
+
+    /**
+     * Returns the latest end of the first appointment in each of {@code busyTimes} that clashes with a slot at
+     * {@code start}, or {@code start} if there is none.
+     */
+    private long clashEnd(List<LongUnaryOperator> busyTimes, long start, long busy) {
+        long end = start;
+        for (LongUnaryOperator firstStartAfter : busyTimes) {
+            long clash = firstStartAfter.applyAsLong(start - busy);
+            if (clash < start + length) {
+                end = Math.max(end, clash + busy);
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Merges the sorted slot start times of each doctor into the earliest {@code count} slots overall.
+     */
+    private List<FreeSlot> merge(List<Doctor> doctors, List<long[]> starts) {
+        // Each entry is a cursor {doctor position, position in the doctor's start times}.
+        PriorityQueue<int[]> queue = new PriorityQueue<>(Math.max(1, doctors.size()), (a, b) -> {
+            int byStart = Long.compare(starts.get(a[0])[a[1]], starts.get(b[0])[b[1]]);
+            return byStart != 0 ? byStart : Integer.compare(a[0], b[0]);
+        });
+        for (int i = 0; i < doctors.size(); i++) {
+            if (starts.get(i).length > 0) {
+                queue.add(new int[] {i, 0});
+            }
+        }
+
+        List<FreeSlot> slots = new ArrayList<>(count);
+        while (slots.size() < count && !queue.isEmpty()) {
+            int[] cursor = queue.poll();
+            long[] doctorStarts = starts.get(cursor[0]);
+            slots.add(new FreeSlot(doctors.get(cursor[0]), toDateTime(doctorStarts[cursor[1]])));
+            if (++cursor[1] < doctorStarts.length) {
+                queue.add(cursor);
+            }
+        }
+        return slots;
+    }
+
+    private static long toSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime toDateTime(long second) {
+        return LocalDateTime.ofEpochSecond(second, 0, ZoneOffset.UTC);
+    }
+}
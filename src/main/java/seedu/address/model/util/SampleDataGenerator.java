@@ -0,0 +1,234 @@
+package seedu.address.model.util;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.HealthBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentId;
+import seedu.address.model.appointment.ConsumptionPerDay;
+import seedu.address.model.appointment.Dosage;
+import seedu.address.model.appointment.MedicineName;
+import seedu.address.model.appointment.Prescription;
+import seedu.address.model.appointment.Status;
+import seedu.address.model.doctor.Doctor;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * Generates {@code HealthBook}s of made up patients and doctors, of any size, for measuring the app with more data
+ * than {@link SampleDataUtil} has.
+ * <p>
+ * Names are drawn from a fixed pool of made up words, so that persons share words in their names the way real
+ * persons do. Each patient has the same number of upcoming appointments, spread over the doctors in turn, and the
+ * same number of prescriptions for each appointment and entries in their medical history. By default, each patient
+ * has two appointments with one prescription each and one allergy. The same seed and sizes always generate the same
+ * health book.
+ */
+public class SampleDataGenerator {
+
+    public static final int FIRST_APPOINTMENT_ID = 10000;
+    public static final LocalDateTime FIRST_APPOINTMENT_TIME = LocalDateTime.of(2018, 10, 1, 9, 0);
+
+    public static final long DEFAULT_SEED = 42;
+
+    private static final int APPOINTMENT_MINUTES = 30;
+    private static final String[] FIRST_NAMES = createWords(new Random(1), 300);
+    private static final String[] LAST_NAMES = createWords(new Random(2), 800);
+    private static final String[] STREETS = {"Clementi Ave 3", "Geylang Street 29", "Serangoon Ave 2",
+        "Tampines Street 21", "Jurong West Street 41", "Bedok North Ave 1"};
+    private static final String[] MEDICINES = {"Panadol", "Ibuprofen", "Amoxicillin", "Loratadine", "Omeprazole"};
+    private static final String[] ALLERGIES = {"penicillin", "peanuts", "milk", "latex", "aspirin", "shellfish"};
+    private static final String[] CONDITIONS = {"hypertension", "diabetes", "asthma", "eczema", "migraine"};
+
+    private final int patientCount;
+    private final int doctorCount;
+    private long seed = DEFAULT_SEED;
+    private int appointmentsPerPatient = 2;
+    private int prescriptionsPerAppointment = 1;
+    private int medicalHistoryEntries = 1;
+
+    /**
+     * Creates a generator of health books with {@code patientCount} patients and {@code doctorCount} doctors.
+     * There must be at least one doctor if there are patients, for their appointments.
+     */
+    public SampleDataGenerator(int patientCount, int doctorCount) {
+        if (patientCount < 0 || doctorCount < 0 || (patientCount > 0 && doctorCount == 0)) {
+            throw new IllegalArgumentException(String.format(
+                    "Cannot generate %d patients and %d doctors", patientCount, doctorCount));
+        }
+        this.patientCount = patientCount;
+        this.doctorCount = doctorCount;
+    }
+
+    /**
+     * Generates health books from {@code seed}, so that different seeds generate different names and addresses.
+     */
+    public SampleDataGenerator withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Gives each patient {@code appointmentsPerPatient} upcoming appointments.
+     */
+    public SampleDataGenerator withAppointmentsPerPatient(int appointmentsPerPatient) {
+        this.appointmentsPerPatient = requireNotNegative(appointmentsPerPatient, "appointments per patient");
+        return this;
+    }
+
+    /**
+     * Gives each appointment {@code prescriptionsPerAppointment} prescriptions of different medicines.
+     */
+    public SampleDataGenerator withPrescriptionsPerAppointment(int prescriptionsPerAppointment) {
+        this.prescriptionsPerAppointment = requireNotNegative(prescriptionsPerAppointment,
+                "prescriptions per appointment");
+        return this;
+    }
+
+    /**
+     * Gives each patient {@code medicalHistoryEntries} allergies and conditions, alternately.
+     */
+    public SampleDataGenerator withMedicalHistoryEntries(int medicalHistoryEntries) {
+        this.medicalHistoryEntries = requireNotNegative(medicalHistoryEntries, "medical history entries");
+        return this;
+    }
+
+    public int getAppointmentsPerPatient() {
+        return appointmentsPerPatient;
+    }
+
+    /**
+     * Returns the time of the first appointment slot after the appointments that this generator generates, so that
+     * appointments can be added from then on without clashing with them.
+     */
+    public LocalDateTime getFirstFreeAppointmentTime() {
+        return FIRST_APPOINTMENT_TIME.plusMinutes((long) APPOINTMENT_MINUTES * patientCount * appointmentsPerPatient);
+    }
+
+    /**
+     * Returns a new health book with the patients and doctors of this generator, and their appointments.
+     */
+    public HealthBook generate() {
+        Random random = new Random(seed);
+        List<Person> persons = new ArrayList<>(doctorCount + patientCount);
+        List<Doctor> doctors = new ArrayList<>(doctorCount);
+        for (int i = 0; i < doctorCount; i++) {
+            Doctor doctor = createDoctor(i, random);
+            doctors.add(doctor);
+            persons.add(doctor);
+        }
+
+        List<Appointment> appointments = new ArrayList<>(patientCount * appointmentsPerPatient);
+        int appointmentId = FIRST_APPOINTMENT_ID;
+        for (int i = 0; i < patientCount; i++) {
+            Patient patient = createPatient(i, random);
+            addMedicalHistory(patient, random);
+            for (int j = 0; j < appointmentsPerPatient; j++) {
+                int slot = appointmentsPerPatient * i + j;
+                Doctor doctor = doctors.get(slot % doctorCount);
+                Appointment appointment = createAppointment(appointmentId++, doctor, patient,
+                        FIRST_APPOINTMENT_TIME.plusMinutes((long) APPOINTMENT_MINUTES * slot));
+                patient.addUpcomingAppointment(appointment);
+                doctor.addUpcomingAppointment(appointment);
+                appointments.add(appointment);
+            }
+            persons.add(patient);
+        }
+
+        HealthBook healthBook = new HealthBook();
+        healthBook.setPersons(persons);
+        healthBook.setAppointments(appointments);
+        healthBook.setAppointmentCounter(appointmentId);
+        return healthBook;
+    }
+
+    private static Patient createPatient(int i, Random random) {
+        return new Patient(createName(random), new Phone(String.valueOf(80000000 + i)),
+                new Email("patient" + i + "@example.com"), createAddress(i, random),
+                SampleDataUtil.EMPTY_REMARK, SampleDataUtil.getTagSet("Patient"), "123");
+    }
+
+    private static Doctor createDoctor(int i, Random random) {
+        return new Doctor(createName(random), new Phone(String.valueOf(60000000 + i)),
+                new Email("doctor" + i + "@example.com"), new Address("Clinic " + i),
+                SampleDataUtil.EMPTY_REMARK, SampleDataUtil.getTagSet("Doctor"));
+    }
+
+    /**
+     * Adds the allergies and conditions of a patient, starting from a random one of each and cycling through them.
+     * Entries beyond the number of known allergies or conditions are numbered to keep them different.
+     */
+    private void addMedicalHistory(Patient patient, Random random) {
+        int firstAllergy = random.nextInt(ALLERGIES.length);
+        int firstCondition = random.nextInt(CONDITIONS.length);
+        for (int k = 0; k < medicalHistoryEntries; k++) {
+            int n = k / 2;
+            if (k % 2 == 0) {
+                patient.addAllergy(pick(ALLERGIES, firstAllergy + n, n));
+            } else {
+                patient.addCondition(pick(CONDITIONS, firstCondition + n, n));
+            }
+        }
+    }
+
+    private Appointment createAppointment(int appointmentId, Doctor doctor, Patient patient,
+                                          LocalDateTime dateTime) {
+        List<Prescription> prescriptions = new ArrayList<>(prescriptionsPerAppointment);
+        for (int k = 0; k < prescriptionsPerAppointment; k++) {
+            MedicineName medicine = new MedicineName(pick(MEDICINES, appointmentId + k, k));
+            prescriptions.add(new Prescription(appointmentId, medicine, new Dosage("2"), new ConsumptionPerDay("3")));
+        }
+        return new Appointment(new AppointmentId(appointmentId), doctor.getName().fullName,
+                patient.getName().fullName, dateTime, Status.UPCOMING, null, prescriptions);
+    }
+
+    /**
+     * Returns the word of {@code words} at {@code index}, counting from the start again past the end, and numbered
+     * if the {@code n}th pick has gone through all the words already.
+     */
+    private static String pick(String[] words, int index, int n) {
+        String word = words[index % words.length];
+        int round = n / words.length;
+        return round == 0 ? word : word + " " + (round + 1);
+    }
+
+    private static int requireNotNegative(int count, String description) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Number of " + description + " cannot be negative: " + count);
+        }
+        return count;
+    }
+
+    private static Name createName(Random random) {
+        return new Name(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                + LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+    }
+
+    private static Address createAddress(int i, Random random) {
+        return new Address("Blk " + (i % 1000 + 1) + " " + STREETS[random.nextInt(STREETS.length)]
+                + ", #" + String.format("%02d-%02d", random.nextInt(20) + 1, random.nextInt(99) + 1));
+    }
+
+    /**
+     * Returns {@code count} made up capitalized words of 3 to 8 letters.
+     */
+    private static String[] createWords(Random random, int count) {
+        String[] words = new String[count];
+        for (int i = 0; i < count; i++) {
+            StringBuilder word = new StringBuilder().append((char) ('A' + random.nextInt(26)));
+            int length = 3 + random.nextInt(6);
+            for (int j = 1; j < length; j++) {
+                word.append((char) ('a' + random.nextInt(26)));
+            }
+            words[i] = word.toString();
+        }
+        return words;
+    }
+}
@@ -0,0 +1,694 @@
+package seedu.address.storage;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.HealthBook;
+import seedu.address.model.ReadOnlyHealthBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentId;
+import seedu.address.model.appointment.AppointmentSeries;
+import seedu.address.model.appointment.ConsumptionPerDay;
+import seedu.address.model.appointment.Dosage;
+import seedu.address.model.appointment.MedicineName;
+import seedu.address.model.appointment.Prescription;
+import seedu.address.model.appointment.Status;
+import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
+import seedu.address.model.doctor.Doctor;
+import seedu.address.model.patient.Allergy;
+import seedu.address.model.patient.Condition;
+import seedu.address.model.patient.MedicalHistory;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.PatientDetails;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Encodes a HealthBook in the compact binary format of {@code BinaryHealthBookStorage}, and decodes it back.
+ * <p>
+ * The data starts with a header of {@link #MAGIC} and {@link #VERSION}, followed by the appointment counter, the
+ * appointment list, the person list and then the appointment series list. Numbers are written as varints, so that
+ * small numbers such as counts and appointment IDs take a byte or two, and each date and time as the difference from
+ * the one before it.
+ * <p>
+ * Names, tags, medicine names, allergies and conditions repeat throughout a health book, so each has a table of the
+ * values written so far. A value is written in full the first time only, and as its position in the table
+ * afterwards. An appointment kept by a person that is the same as one in the appointment list is written as a
+ * reference to it, but decoded as a copy of its own, as the XML format does.
+ * <p>
+ * The medical history and past appointments of each patient are written as a block of their own after its length,
+ * with their own tables. Decoding lazily skips over these blocks, and decodes each block only when its patient's
+ * details are first needed. A block that was never decoded is copied as it is when encoding again.
+ * <p>
+ * Each appointment series is written as its recurrence rule, and the name and phone of its doctor and patient.
+ */
+final class BinaryHealthBookCodec {
+
+    static final byte[] MAGIC = {'H', 'B', 'K', 'B'};
+    static final int VERSION = 1;
+
+    static final String MESSAGE_NOT_BINARY_FORMAT = "Data is not in the binary HealthBook format.";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Binary HealthBook format version %d is not supported.";
+    static final String MESSAGE_TRUNCATED = "Binary HealthBook data ends unexpectedly.";
+    static final String MESSAGE_INVALID_REFERENCE = "Binary HealthBook data refers to a value it does not have.";
+
+    private static final int KIND_PERSON = 0;
+    private static final int KIND_DOCTOR = 1;
+    private static final int KIND_PATIENT = 2;
+    private static final Status[] STATUSES = Status.values();
+    private static final int HEALTH_BOOK_CAPACITY = 8192;
+    private static final int DETAILS_CAPACITY = 64;
+
+    private BinaryHealthBookCodec() {}
+
+    /**
+     * Returns {@code healthBook} in the binary format.
+     */
+    static byte[] encode(ReadOnlyHealthBook healthBook) {
+        return new Encoder(HEALTH_BOOK_CAPACITY).encode(healthBook);
+    }
+
+    /**
+     * Returns the HealthBook in {@code data}.
+     *
+     * @throws IllegalValueException if {@code data} is not in the binary format, or violates data constraints.
+     */
+    static HealthBook decode(ByteBuffer data) throws IllegalValueException {
+        return decode(data, false);
+    }
+
+    /**
+     * Returns the HealthBook in {@code data}, leaving the medical history and past appointments of each patient to
+     * be decoded from {@code data} when they are first needed.
+     * {@code data} must not be changed afterwards.
+     *
+     * @throws IllegalValueException if {@code data} is not in the binary format, or violates data constraints.
+     */
+    static HealthBook decodeLazily(ByteBuffer data) throws IllegalValueException {
+        return decode(data, true);
+    }
+
+    private static HealthBook decode(ByteBuffer data, boolean isLazy) throws IllegalValueException {
+        try {
+            return new Decoder(data.duplicate(), isLazy).decode();
+        } catch (IllegalArgumentException iae) {
+            // Thrown by the model when a value does not meet its constraints
+            throw new IllegalValueException(iae.getMessage());
+        }
+    }
+
+    /**
+     * Returns true if {@code a} and {@code b} have the same values in every field, including their prescriptions.
+     */
+    private static boolean isSameContent(Appointment a, Appointment b) {
+        if (a.getAppointmentId() != b.getAppointmentId() || !a.getDoctor().equals(b.getDoctor())
+                || !a.getPatient().equals(b.getPatient()) || !a.getDateTime().equals(b.getDateTime())
+                || a.getStatus() != b.getStatus() || !Objects.equals(a.getComments(), b.getComments())
+                || a.getPrescriptions().size() != b.getPrescriptions().size()) {
+            return false;
+        }
+        for (int i = 0; i < a.getPrescriptions().size(); i++) {
+            Prescription p = a.getPrescriptions().get(i);
+            Prescription q = b.getPrescriptions().get(i);
+            if (p.getId() != q.getId()
+                    || !p.getMedicineName().getFullMedicineName().equals(q.getMedicineName().getFullMedicineName())
+                    || !p.getDosage().getValue().equals(q.getDosage().getValue())
+                    || !p.getConsumptionPerDay().getValue().equals(q.getConsumptionPerDay().getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes a HealthBook into a growing byte array.
+     */
+    private static class Encoder {
+
+        private final Map<String, Integer> names = new HashMap<>();
+        private final Map<String, Integer> tags = new HashMap<>();
+        private final Map<String, Integer> medicineNames = new HashMap<>();
+        private final Map<String, Integer> allergies = new HashMap<>();
+        private final Map<String, Integer> conditions = new HashMap<>();
+        /** Positions in the appointment list by appointment ID, for persons to refer to. */
+        private final Map<Integer, Integer> appointmentPositions = new HashMap<>();
+
+        private List<? extends Appointment> appointmentList;
+        private byte[] bytes;
+        private int size;
+        private long previousSeconds;
+
+        Encoder(int initialCapacity) {
+            bytes = new byte[initialCapacity];
+        }
+
+        byte[] encode(ReadOnlyHealthBook healthBook) {
+            writeBytes(MAGIC);
+            writeInt(VERSION);
+            writeInt(healthBook.getAppointmentCounter());
+
+            appointmentList = healthBook.getAppointmentList();
+            writeInt(appointmentList.size());
+            for (int i = 0; i < appointmentList.size(); i++) {
+                Appointment appointment = appointmentList.get(i);
+                appointmentPositions.putIfAbsent(appointment.getAppointmentId(), i);
+                writeAppointment(appointment);
+            }
+
+            List<Person> persons = healthBook.getPersonList();
+            writeInt(persons.size());
+            for (Person person : persons) {
+                writePerson(person);
+            }
+
+            List<AppointmentSeries> seriesList = healthBook.getAppointmentSeriesList();
+            writeInt(seriesList.size());
+            for (AppointmentSeries series : seriesList) {
+                writeInt(series.getFirstAppointmentId());
+                writeShared(names, series.getDoctor());
+                writeString(series.getDoctorPhone());
+                writeShared(names, series.getPatient());
+                writeString(series.getPatientPhone());
+                writeDateTime(series.getStart());
+                writeInt(series.getIntervalDays());
+                writeInt(series.getCount());
+            }
+            return Arrays.copyOf(bytes, size);
+        }
+
+        private void writePerson(Person person) {
+            if (person instanceof Doctor) {
+                writeInt(KIND_DOCTOR);
+            } else if (person instanceof Patient) {
+                writeInt(KIND_PATIENT);
+            } else {
+                writeInt(KIND_PERSON);
+            }
+            writeShared(names, person.getName().fullName);
+            writeString(person.getPhone().value);
+            writeString(person.getEmail().value);
+            writeString(person.getAddress().value);
+            writeString(person.getRemark().value);
+            writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                writeShared(tags, tag.tagName);
+            }
+
+            if (person instanceof Doctor) {
+                writePersonAppointments(((Doctor) person).getUpcomingAppointments());
+            } else if (person instanceof Patient) {
+                Patient patient = (Patient) person;
+                writeNullableString(patient.getTelegramId());
+                writePersonAppointments(patient.getUpcomingAppointments());
+                writeDetails(patient);
+            }
+        }
+
+        /**
+         * Writes the medical history and past appointments of {@code patient} as a block of their own, preceded by
+         * its length. Details that were never loaded from a file are copied from it as they are.
+         */
+        private void writeDetails(Patient patient) {
+            Optional<ByteBuffer> unloadedDetails = patient.getDetailsLoader()
+                    .filter(loader -> loader instanceof LazyDetails)
+                    .map(loader -> ((LazyDetails) loader).getEncoded());
+            if (unloadedDetails.isPresent()) {
+                writeInt(unloadedDetails.get().remaining());
+                writeBuffer(unloadedDetails.get());
+                return;
+            }
+
+            Encoder detailsEncoder = new Encoder(DETAILS_CAPACITY);
+            detailsEncoder.writePersonAppointments(patient.getPastAppointments());
+            MedicalHistory medicalHistory = patient.getMedicalHistory();
+            detailsEncoder.writeInt(medicalHistory.getAllergies().size());
+            for (Allergy allergy : medicalHistory.getAllergies()) {
+                detailsEncoder.writeShared(detailsEncoder.allergies, allergy.getAllergy());
+            }
+            detailsEncoder.writeInt(medicalHistory.getConditions().size());
+            for (Condition condition : medicalHistory.getConditions()) {
+                detailsEncoder.writeShared(detailsEncoder.conditions, condition.getCondition());
+            }
+            writeInt(detailsEncoder.size);
+            ensureCapacity(detailsEncoder.size);
+            System.arraycopy(detailsEncoder.bytes, 0, bytes, size, detailsEncoder.size);
+            size += detailsEncoder.size;
+        }
+
+        /**
+         * Writes each of {@code appointments} as one more than its position in the appointment list if it is the
+         * same as the one there, or as 0 followed by the appointment otherwise.
+         */
+        private void writePersonAppointments(List<Appointment> appointments) {
+            writeInt(appointments.size());
+            for (Appointment appointment : appointments) {
+                Integer position = appointmentPositions.get(appointment.getAppointmentId());
+                if (position != null && isSameContent(appointment, appointmentList.get(position))) {
+                    writeInt(position + 1);
+                } else {
+                    writeInt(0);
+                    writeAppointment(appointment);
+                }
+            }
+        }
+
+        private void writeAppointment(Appointment appointment) {
+            writeInt(appointment.getAppointmentId());
+            writeShared(names, appointment.getDoctor());
+            writeShared(names, appointment.getPatient());
+            writeDateTime(appointment.getDateTime());
+            writeInt(appointment.getStatus().ordinal());
+            writeNullableString(appointment.getComments());
+            writeInt(appointment.getPrescriptions().size());
+            for (Prescription prescription : appointment.getPrescriptions()) {
+                writeInt(prescription.getId());
+                writeShared(medicineNames, prescription.getMedicineName().getFullMedicineName());
+                writeString(prescription.getDosage().getValue());
+                writeString(prescription.getConsumptionPerDay().getValue());
+            }
+        }
+
+        /**
+         * Writes the seconds of {@code dateTime} as the zigzag-encoded difference from the previous date and time,
+         * shifted left by one bit to flag whether its nanoseconds follow.
+         */
+        private void writeDateTime(LocalDateTime dateTime) {
+            long seconds = dateTime.toEpochSecond(ZoneOffset.UTC);
+            long delta = seconds - previousSeconds;
+            previousSeconds = seconds;
+            int nanos = dateTime.getNano();
+            writeVarint((((delta << 1) ^ (delta >> 63)) << 1) | (nanos == 0 ? 0 : 1));
+            if (nanos != 0) {
+                writeInt(nanos);
+            }
+        }
+
+        /**
+         * Writes {@code value} as its position in {@code table} plus one if it was written before, or as 0 followed
+         * by the value otherwise.
+         */
+        private void writeShared(Map<String, Integer> table, String value) {
+            Integer position = table.get(value);
+            if (position != null) {
+                writeInt(position + 1);
+                return;
+            }
+            table.put(value, table.size());
+            writeInt(0);
+            writeString(value);
+        }
+
+        /**
+         * Writes {@code value} as 0 if it is null, or as its length plus one followed by its UTF-8 bytes.
+         */
+        private void writeNullableString(String value) {
+            if (value == null) {
+                writeInt(0);
+                return;
+            }
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeInt(utf8.length + 1);
+            writeBytes(utf8);
+        }
+
+        private void writeString(String value) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeInt(utf8.length);
+            writeBytes(utf8);
+        }
+
+        /**
+         * Writes {@code value} as an unsigned varint, so that negative values take five bytes.
+         */
+        private void writeInt(int value) {
+            writeVarint(value & 0xFFFFFFFFL);
+        }
+
+        /**
+         * Writes the unsigned {@code value} seven bits at a time, lowest first, with the top bit of each byte set
+         * if more bytes follow.
+         */
+        private void writeVarint(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        private void writeBuffer(ByteBuffer values) {
+            int length = values.remaining();
+            ensureCapacity(length);
+            values.duplicate().get(bytes, size, length);
+            size += length;
+        }
+
+        private void writeBytes(byte[] values) {
+            ensureCapacity(values.length);
+            System.arraycopy(values, 0, bytes, size, values.length);
+            size += values.length;
+        }
+
+        private void ensureCapacity(int extra) {
+            if (size + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+            }
+        }
+    }
+
+    /**
+     * The medical history and past appointments of a patient, decoded from their block in a buffer the first time
+     * they are needed. The buffer is usually a view of a memory-mapped file, so nothing is read from the file
+     * before then.
+     */
+    private static class LazyDetails implements Supplier<PatientDetails> {
+
+        private final ByteBuffer encoded;
+
+        LazyDetails(ByteBuffer encoded) {
+            this.encoded = encoded;
+        }
+
+        ByteBuffer getEncoded() {
+            return encoded.duplicate();
+        }
+
+        @Override
+        public PatientDetails get() {
+            try {
+                return new Decoder(getEncoded(), false).readDetails();
+            } catch (IllegalValueException | IllegalArgumentException e) {
+                throw new IllegalStateException("Patient details cannot be read: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Reads a HealthBook from a buffer. Values that are shared through a table are converted to the model once,
+     * and the converted value is reused for every later reference.
+     */
+    private static class Decoder {
+
+        private final ByteBuffer buffer;
+        private final boolean isLazy;
+        private final List<String> names = new ArrayList<>();
+        private final List<Tag> tags = new ArrayList<>();
+        private final List<MedicineName> medicineNames = new ArrayList<>();
+        private final List<Allergy> allergies = new ArrayList<>();
+        private final List<Condition> conditions = new ArrayList<>();
+
+        private List<Appointment> appointmentList;
+        private long previousSeconds;
+
+        /**
+         * Creates a decoder of {@code buffer} that leaves the details of patients to be decoded when they are first
+         * needed if {@code isLazy}, instead of decoding them straight away.
+         */
+        Decoder(ByteBuffer buffer, boolean isLazy) {
+            this.buffer = buffer;
+            this.isLazy = isLazy;
+        }
+
+        HealthBook decode() throws IllegalValueException {
+            byte[] magic = new byte[MAGIC.length];
+            if (buffer.remaining() < MAGIC.length || !Arrays.equals(readBytes(magic), MAGIC)) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_FORMAT);
+            }
+            int version = readInt();
+            if (version != VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            int appointmentCounter = readInt();
+
+            int appointmentCount = readCount();
+            appointmentList = new ArrayList<>(appointmentCount);
+            for (int i = 0; i < appointmentCount; i++) {
+                appointmentList.add(readAppointment());
+            }
+
+            int personCount = readCount();
+            List<Person> persons = new ArrayList<>(personCount);
+            for (int i = 0; i < personCount; i++) {
+                persons.add(readPerson());
+            }
+
+            int seriesCount = readCount();
+            List<AppointmentSeries> seriesList = new ArrayList<>(seriesCount);
+            for (int i = 0; i < seriesCount; i++) {
+                seriesList.add(readSeries());
+            }
+
+            HealthBook healthBook = new HealthBook();
+            try {
+                healthBook.setPersons(persons);
+            } catch (DuplicatePersonException dpe) {
+                throw new IllegalValueException(XmlSerializableHealthBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            healthBook.setAppointments(appointmentList);
+            try {
+                healthBook.setAppointmentSeries(seriesList);
+            } catch (DuplicateAppointmentException dae) {
+                throw new IllegalValueException(XmlSerializableHealthBook.MESSAGE_DUPLICATE_SERIES);
+            }
+            healthBook.setAppointmentCounter(appointmentCounter);
+            return healthBook;
+        }
+
+        private Person readPerson() throws IllegalValueException {
+            int kind = readInt();
+            Name name = new Name(readShared(names, Function.identity()));
+            Phone phone = new Phone(readString());
+            Email email = new Email(readString());
+            Address address = new Address(readString());
+            Remark remark = new Remark(readString());
+            int tagCount = readCount();
+            Set<Tag> personTags = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                personTags.add(readShared(tags, Tag::new));
+            }
+
+            switch (kind) {
+            case KIND_DOCTOR:
+                return new Doctor(name, phone, email, address, remark, personTags, readPersonAppointments());
+            case KIND_PATIENT:
+                String telegramId = readNullableString();
+                List<Appointment> upcomingAppointments = readPersonAppointments();
+                ByteBuffer encodedDetails = readBlock();
+                if (isLazy) {
+                    return new Patient(name, phone, email, address, remark, personTags, telegramId,
+                            upcomingAppointments, new LazyDetails(encodedDetails));
+                }
+                PatientDetails details = new Decoder(encodedDetails, false).readDetails();
+                return new Patient(name, phone, email, address, remark, personTags, telegramId,
+                        upcomingAppointments, details.getPastAppointments(), details.getMedicalHistory());
+            case KIND_PERSON:
+                return new Person(name, phone, email, address, remark, personTags);
+            default:
+                throw new IllegalValueException(MESSAGE_INVALID_REFERENCE);
+            }
+        }
+
+        /**
+         * Reads the past appointments and medical history of a patient from their block. The block has tables of its
+         * own, and cannot refer to the appointment list.
+         */
+        private PatientDetails readDetails() throws IllegalValueException {
+            appointmentList = new ArrayList<>();
+            List<Appointment> pastAppointments = readPersonAppointments();
+            int allergyCount = readCount();
+            ArrayList<Allergy> patientAllergies = new ArrayList<>(allergyCount);
+            for (int i = 0; i < allergyCount; i++) {
+                patientAllergies.add(readShared(allergies, Allergy::new));
+            }
+            int conditionCount = readCount();
+            ArrayList<Condition> patientConditions = new ArrayList<>(conditionCount);
+            for (int i = 0; i < conditionCount; i++) {
+                patientConditions.add(readShared(conditions, Condition::new));
+            }
+            return new PatientDetails(pastAppointments, new MedicalHistory(patientAllergies, patientConditions));
+        }
+
+        private List<Appointment> readPersonAppointments() throws IllegalValueException {
+            int count = readCount();
+            List<Appointment> appointments = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int reference = readInt();
+                if (reference == 0) {
+                    appointments.add(readAppointment());
+                } else if (reference > 0 && reference <= appointmentList.size()) {
+                    appointments.add(copyOf(appointmentList.get(reference - 1)));
+                } else {
+                    throw new IllegalValueException(MESSAGE_INVALID_REFERENCE);
+                }
+            }
+            return appointments;
+        }
+
+        private Appointment readAppointment() throws IllegalValueException {
+            int appointmentId = readInt();
+            String doctor = readShared(names, Function.identity());
+            String patient = readShared(names, Function.identity());
+            LocalDateTime dateTime = readDateTime();
+            int status = readInt();
+            if (status < 0 || status >= STATUSES.length) {
+                throw new IllegalValueException(MESSAGE_INVALID_REFERENCE);
+            }
+            String comments = readNullableString();
+            int prescriptionCount = readCount();
+            List<Prescription> prescriptions = new ArrayList<>(prescriptionCount);
+            for (int i = 0; i < prescriptionCount; i++) {
+                int prescriptionId = readInt();
+                MedicineName medicineName = readShared(medicineNames, MedicineName::new);
+                prescriptions.add(new Prescription(prescriptionId, medicineName, new Dosage(readString()),
+                        new ConsumptionPerDay(readString())));
+            }
+            return new Appointment(new AppointmentId(appointmentId), doctor, patient, dateTime,
+                    STATUSES[status], comments, prescriptions);
+        }
+
+        private AppointmentSeries readSeries() throws IllegalValueException {
+            int firstAppointmentId = readInt();
+            String doctor = readShared(names, Function.identity());
+            String doctorPhone = readString();
+            String patient = readShared(names, Function.identity());
+            String patientPhone = readString();
+            LocalDateTime start = readDateTime();
+            int intervalDays = readInt();
+            int count = readInt();
+            if (!AppointmentSeries.isValidIntervalDays(intervalDays) || !AppointmentSeries.isValidCount(count)) {
+                throw new IllegalValueException(AppointmentSeries.MESSAGE_SERIES_CONSTRAINTS);
+            }
+            return new AppointmentSeries(firstAppointmentId, doctor, doctorPhone, patient, patientPhone, start,
+                    intervalDays, count);
+        }
+
+        private static Appointment copyOf(Appointment appointment) {
+            return new Appointment(new AppointmentId(appointment.getAppointmentId()), appointment.getDoctor(),
+                    appointment.getPatient(), appointment.getDateTime(), appointment.getStatus(),
+                    appointment.getComments(), new ArrayList<>(appointment.getPrescriptions()));
+        }
+
+        private LocalDateTime readDateTime() throws IllegalValueException {
+            long value = readVarint();
+            long zigzag = value >>> 1;
+            long seconds = previousSeconds + ((zigzag >>> 1) ^ -(zigzag & 1));
+            previousSeconds = seconds;
+            int nanos = (value & 1) == 0 ? 0 : readInt();
+            try {
+                return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+            } catch (DateTimeException dte) {
+                throw new IllegalValueException(dte.getMessage());
+            }
+        }
+
+        /**
+         * Reads a value shared through {@code table}, converting it with {@code converter} if it is new.
+         */
+        private <T> T readShared(List<T> table, Function<String, T> converter) throws IllegalValueException {
+            int reference = readInt();
+            if (reference == 0) {
+                T value = converter.apply(readString());
+                table.add(value);
+                return value;
+            }
+            if (reference < 0 || reference > table.size()) {
+                throw new IllegalValueException(MESSAGE_INVALID_REFERENCE);
+            }
+            return table.get(reference - 1);
+        }
+
+        /**
+         * Returns a view of the block that follows its length, and moves past it.
+         */
+        private ByteBuffer readBlock() throws IllegalValueException {
+            int length = readCount();
+            ByteBuffer block = buffer.slice();
+            block.limit(length);
+            buffer.position(buffer.position() + length);
+            return block;
+        }
+
+        private String readNullableString() throws IllegalValueException {
+            int length = readInt();
+            return length == 0 ? null : readString(length - 1);
+        }
+
+        private String readString() throws IllegalValueException {
+            return readString(readInt());
+        }
+
+        private String readString(int length) throws IllegalValueException {
+            if (length < 0 || length > buffer.remaining()) {
+                throw new IllegalValueException(MESSAGE_TRUNCATED);
+            }
+            if (buffer.hasArray()) {
+                String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                        StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + length);
+                return value;
+            }
+            return new String(readBytes(new byte[length]), StandardCharsets.UTF_8);
+        }
+
+        private byte[] readBytes(byte[] values) {
+            buffer.get(values);
+            return values;
+        }
+
+        /**
+         * Reads a count of elements that follow, each of which takes at least one byte.
+         */
+        private int readCount() throws IllegalValueException {
+            int count = readInt();
+            if (count < 0 || count > buffer.remaining()) {
+                throw new IllegalValueException(MESSAGE_TRUNCATED);
+            }
+            return count;
+        }
+
+        private int readInt() throws IllegalValueException {
+            long value = readVarint();
+            if (value > 0xFFFFFFFFL) {
+                throw new IllegalValueException(MESSAGE_INVALID_REFERENCE);
+            }
+            return (int) value;
+        }
+
+        private long readVarint() throws IllegalValueException {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                if (!buffer.hasRemaining()) {
+                    throw new IllegalValueException(MESSAGE_TRUNCATED);
+                }
+                byte b = buffer.get();
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IllegalValueException(MESSAGE_INVALID_REFERENCE);
+        }
+    }
+}
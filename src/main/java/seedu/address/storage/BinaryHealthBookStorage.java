@@ -0,0 +1,125 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.HealthBook;
+import seedu.address.model.ReadOnlyHealthBook;
+
+/**
+ * A class to access HealthBook data stored in a compact binary file on the hard disk.
+ * The file is much smaller than the XML file of the same HealthBook, and faster to read and write.
+ *
+ * @see BinaryHealthBookCodec for the format of the file.
+ */
+public class BinaryHealthBookStorage implements HealthBookStorage {
+
+    /** File extension that marks a HealthBook file as binary instead of XML. */
+    public static final String FILE_EXTENSION = ".hbk";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryHealthBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryHealthBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if {@code filePath} names a binary HealthBook file.
+     */
+    public static boolean isBinaryFile(Path filePath) {
+        return filePath.getFileName() != null && filePath.getFileName().toString().endsWith(FILE_EXTENSION);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyHealthBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyHealthBook> readAddressBook(Path filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("HealthBook file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(readFile(filePath));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the HealthBook in the existing file at {@code filePath}.
+     *
+     * @throws IllegalValueException if the file is not in the binary format, or violates data constraints.
+     */
+    protected HealthBook readFile(Path filePath) throws IOException, IllegalValueException {
+        return BinaryHealthBookCodec.decode(ByteBuffer.wrap(Files.readAllBytes(filePath)));
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyHealthBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyHealthBook)}
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveAddressBook(ReadOnlyHealthBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        writeToFile(filePath, BinaryHealthBookCodec.encode(addressBook));
+    }
+
+    @Override
+    public PendingSave prepareSave(ReadOnlyHealthBook addressBook) {
+        requireNonNull(addressBook);
+        byte[] data = BinaryHealthBookCodec.encode(addressBook);
+        return () -> writeToFile(filePath, data);
+    }
+
+    /**
+     * Replaces the file at {@code filePath} with {@code data}.
+     * The data is written to a temporary file first, so that a crash leaves either the old or the new file.
+     */
+    private static void writeToFile(Path filePath, byte[] data) throws IOException {
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        FileUtil.createIfMissing(tempPath);
+        Files.write(tempPath, data);
+        try {
+            Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+}
@@ -0,0 +1,102 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.Prescription;
+import seedu.address.model.doctor.Doctor;
+import seedu.address.model.patient.Allergy;
+import seedu.address.model.patient.Condition;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Computes 64-bit fingerprints of the saved contents of persons and appointments, so that changes made to them in
+ * place can be found without keeping a copy of everything that was saved.
+ * Two objects with the same saved contents have the same fingerprint. Objects with different contents have
+ * different fingerprints, except for the rare 64-bit hash collision.
+ */
+final class ContentFingerprint {
+
+    private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+
+    private long hash = OFFSET_BASIS;
+
+    private ContentFingerprint() {}
+
+    /**
+     * Returns the fingerprint of every field of {@code person} that is saved to the file.
+     */
+    static long of(Person person) {
+        ContentFingerprint fingerprint = new ContentFingerprint();
+        fingerprint.add(person.getClass().getName())
+                .add(person.getName().fullName)
+                .add(person.getPhone().value)
+                .add(person.getEmail().value)
+                .add(person.getAddress().value)
+                .add(person.getRemark().value);
+        for (Tag tag : person.getTags()) {
+            fingerprint.add(tag.tagName);
+        }
+        if (person instanceof Patient) {
+            Patient patient = (Patient) person;
+            fingerprint.addAppointments(patient.getUpcomingAppointments())
+                    .addAppointments(patient.getPastAppointments());
+            for (Allergy allergy : patient.getMedicalHistory().getAllergies()) {
+                fingerprint.add(allergy.getAllergy());
+            }
+            fingerprint.add(";");
+            for (Condition condition : patient.getMedicalHistory().getConditions()) {
+                fingerprint.add(condition.getCondition());
+            }
+        } else if (person instanceof Doctor) {
+            fingerprint.addAppointments(((Doctor) person).getUpcomingAppointments());
+        }
+        return fingerprint.hash;
+    }
+
+    /**
+     * Returns the fingerprint of every field of {@code appointment} that is saved to the file.
+     */
+    static long of(Appointment appointment) {
+        return new ContentFingerprint().addAppointment(appointment).hash;
+    }
+
+    private ContentFingerprint addAppointments(List<Appointment> appointments) {
+        add(String.valueOf(appointments.size()));
+        for (Appointment appointment : appointments) {
+            addAppointment(appointment);
+        }
+        return this;
+    }
+
+    private ContentFingerprint addAppointment(Appointment appointment) {
+        add(String.valueOf(appointment.getAppointmentId()))
+                .add(appointment.getDoctor())
+                .add(appointment.getPatient())
+                .add(String.valueOf(appointment.getDateTime()))
+                .add(appointment.getStatus().name())
+                .add(appointment.getComments());
+        for (Prescription prescription : appointment.getPrescriptions()) {
+            add(String.valueOf(prescription.getId())).add(prescription.toString());
+        }
+        return add(";");
+    }
+
+    /**
+     * Mixes {@code value} into the fingerprint using FNV-1a, followed by a separator so that adjacent values cannot
+     * run into each other.
+     */
+    private ContentFingerprint add(String value) {
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                hash = (hash ^ value.charAt(i)) * PRIME;
+            }
+        }
+        hash = (hash ^ (value == null ? 0x1 : 0x0)) * PRIME;
+        hash = (hash ^ 0xffff) * PRIME;
+        return this;
+    }
+}
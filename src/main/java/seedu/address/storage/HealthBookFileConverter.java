@@ -0,0 +1,58 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyHealthBook;
+
+/**
+ * Converts HealthBook files between the XML and binary formats.
+ * The format of each file is given by its extension, see {@link BinaryHealthBookStorage#isBinaryFile(Path)}.
+ */
+public class HealthBookFileConverter {
+
+    public static final String MESSAGE_USAGE = "Usage: HealthBookFileConverter SOURCE_FILE TARGET_FILE\n"
+            + "Files ending with " + BinaryHealthBookStorage.FILE_EXTENSION + " are binary, all others are XML.";
+
+    private HealthBookFileConverter() {}
+
+    /**
+     * Reads the HealthBook in {@code source} and writes it to {@code target}, in the format of each file.
+     *
+     * @throws FileNotFoundException if {@code source} does not exist.
+     * @throws DataConversionException if {@code source} is not in the correct format.
+     */
+    public static void convert(Path source, Path target) throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        ReadOnlyHealthBook healthBook = storageFor(source).readAddressBook()
+                .orElseThrow(() -> new FileNotFoundException("File not found : " + source));
+        storageFor(target).saveAddressBook(healthBook);
+    }
+
+    /**
+     * Returns a storage for the HealthBook file at {@code filePath}, in the format given by its extension.
+     */
+    public static HealthBookStorage storageFor(Path filePath) {
+        return BinaryHealthBookStorage.isBinaryFile(filePath)
+                ? new BinaryHealthBookStorage(filePath)
+                : new XmlHealthBookStorage(filePath);
+    }
+
+    /**
+     * Converts the file named by the first argument into the file named by the second.
+     */
+    public static void main(String[] args) throws DataConversionException, IOException {
+        if (args.length != 2) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+        convert(Paths.get(args[0]), Paths.get(args[1]));
+    }
+}
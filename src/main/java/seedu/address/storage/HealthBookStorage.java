@@ -43,4 +43,11 @@ public interface HealthBookStorage {
      */
     void saveAddressBook(ReadOnlyHealthBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Prepares a save of the given {@link ReadOnlyHealthBook} to the storage, to be written later.
+     * Changes made to {@code addressBook} after this returns are not part of the save.
+     * @param addressBook cannot be null.
+     */
+    PendingSave prepareSave(ReadOnlyHealthBook addressBook);
+
 }
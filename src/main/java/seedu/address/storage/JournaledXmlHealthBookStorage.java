@@ -0,0 +1,404 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.logging.Logger;
+
+import javax.xml.bind.JAXBException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.HealthBook;
+import seedu.address.model.ReadOnlyHealthBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentSeries;
+import seedu.address.model.history.ListEdit;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access HealthBook data stored as an xml snapshot file, followed by a journal of the changes made since
+ * the snapshot was written.
+ * <p>
+ * Saving the HealthBook appends only the persons and appointments that changed since the last save to the journal, one
+ * {@link XmlJournalEntry} per line. Appointment series are only kept in the snapshot, as they rarely change, so a save
+ * that adds or removes a series writes a new snapshot. Once the journal holds {@code compactionThreshold} entries, or
+ * has grown larger than the snapshot, the next save compacts it by writing a new snapshot. Reading the HealthBook
+ * replays the journal on top of the snapshot, stopping at the first entry that is incomplete, such as one cut short by
+ * a crash.
+ * <p>
+ * Each snapshot has a new generation, and journal entries record the generation they follow, so that entries left
+ * over from an older snapshot are never replayed. Once a write fails, the journal entries prepared before the failure
+ * are not written either, as each of them only holds the changes since the save before it; the next save writes a new
+ * snapshot instead.
+ * Saving to or reading from any other file behaves as in {@link XmlHealthBookStorage}.
+ */
+public class JournaledXmlHealthBookStorage extends XmlHealthBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 200;
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledXmlHealthBookStorage.class);
+
+    private final Path journalPath;
+    private final int compactionThreshold;
+
+    /** Generation of the snapshot file that the journal continues. */
+    private long generation;
+    private int journalEntryCount;
+    private long journalSize;
+    private long snapshotSize;
+    /** Whether the journal has entries that will never be replayed, and should be compacted away. */
+    private boolean hasUnusableEntries;
+    /** Number of writes that have failed, so that saves prepared before a failure can tell that it happened. */
+    private int failedWriteCount;
+
+    /** Contents of the HealthBook as of the last save, or null if nothing has been saved or read yet. */
+    private SavedList<Person> savedPersons;
+    private SavedList<Appointment> savedAppointments;
+    private List<AppointmentSeries> savedSeries;
+    private int savedAppointmentCounter;
+
+    public JournaledXmlHealthBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public JournaledXmlHealthBookStorage(Path filePath, int compactionThreshold) {
+        super(filePath);
+        if (compactionThreshold < 1) {
+            throw new IllegalArgumentException("Compaction threshold must be positive: " + compactionThreshold);
+        }
+        this.journalPath = filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_EXTENSION);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public Path getJournalFilePath() {
+        return journalPath;
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyHealthBook> readAddressBook(Path filePath)
+            throws DataConversionException, FileNotFoundException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return super.readAddressBook(filePath);
+        }
+
+        if (!Files.exists(filePath)) {
+            logger.info("HealthBook file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            StreamingXmlHealthBookReader snapshot = StreamingXmlHealthBookReader.read(filePath, person -> {});
+            generation = snapshot.getJournalGeneration();
+            replayJournal(snapshot);
+            HealthBook healthBook = snapshot.toModelType();
+            snapshotSize = sizeOf(filePath);
+            setSaved(healthBook);
+            return Optional.of(healthBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyHealthBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            super.saveAddressBook(addressBook, filePath);
+            return;
+        }
+        prepareSave(addressBook).write();
+    }
+
+    /**
+     * Works out the changes since the previous save as a journal entry, or as a new snapshot if the journal is due
+     * to be compacted. Saves must be written in the order they are prepared. A journal entry fails to be written if
+     * any write before it has failed.
+     */
+    @Override
+    public synchronized PendingSave prepareSave(ReadOnlyHealthBook addressBook) {
+        requireNonNull(addressBook);
+        SavedList<Person> persons = new SavedList<>(addressBook.getPersonList(), ContentFingerprint::of);
+        SavedList<Appointment> appointments =
+                new SavedList<>(addressBook.getAppointmentList(), ContentFingerprint::of);
+        if (savedPersons == null || hasUnusableEntries || journalEntryCount >= compactionThreshold
+                || journalSize > snapshotSize || !savedSeries.equals(addressBook.getAppointmentSeriesList())) {
+            return prepareSnapshot(addressBook, persons, appointments);
+        }
+
+        List<XmlAdaptedListEdit> personEdits = savedPersons.diff(persons, XmlAdaptedListEdit::ofPersons);
+        List<XmlAdaptedListEdit> appointmentEdits =
+                savedAppointments.diff(appointments, XmlAdaptedListEdit::ofAppointments);
+        boolean isCounterChanged = addressBook.getAppointmentCounter() != savedAppointmentCounter;
+        if (personEdits.isEmpty() && appointmentEdits.isEmpty() && !isCounterChanged) {
+            return () -> {};
+        }
+
+        XmlJournalEntry entry = new XmlJournalEntry(generation, personEdits, appointmentEdits,
+                isCounterChanged ? addressBook.getAppointmentCounter() : null);
+        journalEntryCount++;
+        setSaved(persons, appointments, savedSeries, addressBook.getAppointmentCounter());
+        int failedWritesBefore = failedWriteCount;
+        return () -> appendToJournal(entry, failedWritesBefore);
+    }
+
+    /**
+     * Applies the entries of the journal that follow the snapshot read by {@code snapshot} to it, in order.
+     * Replaying stops at the first entry that is incomplete or cannot be read, as nothing after it can be applied.
+     */
+    private void replayJournal(StreamingXmlHealthBookReader snapshot) throws FileNotFoundException {
+        journalEntryCount = 0;
+        journalSize = sizeOf(journalPath);
+        hasUnusableEntries = false;
+        if (journalSize == 0) {
+            return;
+        }
+
+        String journal;
+        try {
+            journal = new String(Files.readAllBytes(journalPath), StandardCharsets.UTF_8);
+        } catch (IOException ioe) {
+            logger.warning("Unable to read journal " + journalPath + ": " + ioe.getMessage());
+            hasUnusableEntries = true;
+            return;
+        }
+
+        int lineStart = 0;
+        for (int lineEnd = journal.indexOf('\n'); lineEnd != -1; lineEnd = journal.indexOf('\n', lineStart)) {
+            String line = journal.substring(lineStart, lineEnd);
+            lineStart = lineEnd + 1;
+            try {
+                XmlJournalEntry entry = XmlUtil.getDataFromString(line, XmlJournalEntry.class);
+                if (entry.getGeneration() != generation) {
+                    hasUnusableEntries = true;
+                    continue;
+                }
+                snapshot.applyJournalEntry(entry);
+                journalEntryCount++;
+            } catch (JAXBException | IllegalValueException e) {
+                logger.warning("Stopped replaying journal " + journalPath + " at an unreadable entry: " + e);
+                hasUnusableEntries = true;
+                return;
+            }
+        }
+        if (lineStart < journal.length()) {
+            logger.warning("Ignored an incomplete entry at the end of journal " + journalPath);
+            hasUnusableEntries = true;
+        }
+    }
+
+    /**
+     * Starts a new generation with {@code addressBook} as its snapshot, and returns the save that writes it.
+     */
+    private PendingSave prepareSnapshot(ReadOnlyHealthBook addressBook, SavedList<Person> persons,
+                                        SavedList<Appointment> appointments) {
+        XmlSerializableHealthBook xmlAddressBook = new XmlSerializableHealthBook(addressBook);
+        generation = Math.max(generation + 1, System.currentTimeMillis());
+        xmlAddressBook.setJournalGeneration(generation);
+        journalEntryCount = 0;
+        journalSize = 0;
+        hasUnusableEntries = false;
+        setSaved(persons, appointments, new ArrayList<>(addressBook.getAppointmentSeriesList()),
+                addressBook.getAppointmentCounter());
+        return () -> writeSnapshot(xmlAddressBook);
+    }
+
+    /**
+     * Appends {@code entry} to the journal as a single line, and waits for it to reach the disk.
+     * Nothing is appended if any write has failed since {@code failedWritesBefore} writes had failed, as the entry
+     * would then follow changes that are not in the file, or follow the incomplete line of the failed entry.
+     */
+    private void appendToJournal(XmlJournalEntry entry, int failedWritesBefore) throws IOException {
+        synchronized (this) {
+            if (failedWriteCount != failedWritesBefore) {
+                throw new IOException("Not appending to journal " + journalPath + " after an earlier save failed");
+            }
+        }
+        String line;
+        try {
+            line = XmlUtil.convertDataToString(entry);
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+        // The entry must fit on one line, and character references keep line breaks in values when it is read back.
+        byte[] bytes = (line.replace("\r", "&#xD;").replace("\n", "&#xA;") + "\n").getBytes(StandardCharsets.UTF_8);
+        try {
+            Files.write(journalPath, bytes, StandardOpenOption.CREATE, StandardOpenOption.APPEND,
+                    StandardOpenOption.DSYNC);
+        } catch (IOException ioe) {
+            discardSaved();
+            throw ioe;
+        }
+        synchronized (this) {
+            journalSize += bytes.length;
+        }
+    }
+
+    /**
+     * Replaces the snapshot file with {@code xmlAddressBook}, and empties the journal.
+     * The snapshot is written to a temporary file first, so that a crash leaves either the old or the new snapshot.
+     */
+    private void writeSnapshot(XmlSerializableHealthBook xmlAddressBook) throws IOException {
+        Path filePath = getAddressBookFilePath();
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try {
+            FileUtil.createIfMissing(tempPath);
+            XmlFileStorage.saveDataToFile(tempPath, xmlAddressBook);
+            try {
+                Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+            // Entries left in the journal belong to the old generation, so they are never replayed even if this fails.
+            Files.deleteIfExists(journalPath);
+        } catch (IOException ioe) {
+            discardSaved();
+            throw ioe;
+        }
+        synchronized (this) {
+            snapshotSize = sizeOf(filePath);
+        }
+    }
+
+    /**
+     * Forgets what was last saved after a failed write, so that the next save writes a complete snapshot, and the
+     * journal entries already prepared are not written.
+     */
+    private synchronized void discardSaved() {
+        failedWriteCount++;
+        savedPersons = null;
+        savedAppointments = null;
+    }
+
+    private void setSaved(ReadOnlyHealthBook addressBook) {
+        setSaved(new SavedList<>(addressBook.getPersonList(), ContentFingerprint::of),
+                new SavedList<>(addressBook.getAppointmentList(), ContentFingerprint::of),
+                new ArrayList<>(addressBook.getAppointmentSeriesList()), addressBook.getAppointmentCounter());
+    }
+
+    private void setSaved(SavedList<Person> persons, SavedList<Appointment> appointments,
+                          List<AppointmentSeries> series, int appointmentCounter) {
+        savedPersons = persons;
+        savedAppointments = appointments;
+        savedSeries = series;
+        savedAppointmentCounter = appointmentCounter;
+    }
+
+    private static long sizeOf(Path path) {
+        try {
+            return Files.exists(path) ? Files.size(path) : 0;
+        } catch (IOException ioe) {
+            return 0;
+        }
+    }
+
+    /**
+     * The elements of a list as of a save, with the fingerprints of their contents at that time.
+     * Elements are changed in place as well as replaced, so an element is unchanged only if it is the same object
+     * with the same fingerprint.
+     */
+    private static class SavedList<T> {
+
+        private final List<T> elements;
+        private final long[] fingerprints;
+
+        SavedList(List<T> elements, ToLongFunction<T> fingerprint) {
+            this.elements = new ArrayList<>(elements);
+            this.fingerprints = new long[elements.size()];
+            for (int i = 0; i < fingerprints.length; i++) {
+                fingerprints[i] = fingerprint.applyAsLong(this.elements.get(i));
+            }
+        }
+
+        /**
+         * Returns the edits that turn this list into {@code current} when applied in order, each converted with
+         * {@code adapter}. Unchanged elements are matched by walking both lists together, so a change to a single
+         * element results in a single edit wherever it is in the list.
+         */
+        <R> List<R> diff(SavedList<T> current, Function<ListEdit<T>, R> adapter) {
+            int oldEnd = elements.size();
+            int newEnd = current.elements.size();
+            int start = 0;
+            while (start < oldEnd && start < newEnd && isUnchanged(start, current, start)) {
+                start++;
+            }
+            while (oldEnd > start && newEnd > start && isUnchanged(oldEnd - 1, current, newEnd - 1)) {
+                oldEnd--;
+                newEnd--;
+            }
+
+            Map<T, Integer> newPositions = new IdentityHashMap<>();
+            for (int j = start; j < newEnd; j++) {
+                newPositions.put(current.elements.get(j), j);
+            }
+
+            List<R> edits = new ArrayList<>();
+            int i = start;
+            int j = start;
+            int editStart = -1;
+            int removedStart = -1;
+            while (i < oldEnd || j < newEnd) {
+                if (i < oldEnd && j < newEnd && elements.get(i) == current.elements.get(j)
+                        && fingerprints[i] == current.fingerprints[j]) {
+                    if (editStart != -1) {
+                        edits.add(adapter.apply(createEdit(editStart, removedStart, i, current, j)));
+                        editStart = -1;
+                    }
+                    i++;
+                    j++;
+                    continue;
+                }
+
+                if (editStart == -1) {
+                    editStart = j;
+                    removedStart = i;
+                }
+                Integer newPosition = i < oldEnd ? newPositions.get(elements.get(i)) : null;
+                if (i < oldEnd && j < newEnd && elements.get(i) == current.elements.get(j)) {
+                    // Changed in place.
+                    i++;
+                    j++;
+                } else if (i < oldEnd && (newPosition == null || newPosition < j)) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            if (editStart != -1) {
+                edits.add(adapter.apply(createEdit(editStart, removedStart, i, current, j)));
+            }
+            return edits;
+        }
+
+        private boolean isUnchanged(int index, SavedList<T> current, int currentIndex) {
+            return elements.get(index) == current.elements.get(currentIndex)
+                    && fingerprints[index] == current.fingerprints[currentIndex];
+        }
+
+        private ListEdit<T> createEdit(int from, int removedStart, int removedEnd, SavedList<T> current, int addedEnd) {
+            return new ListEdit<>(from, elements.subList(removedStart, removedEnd),
+                    current.elements.subList(from, addedEnd));
+        }
+    }
+}
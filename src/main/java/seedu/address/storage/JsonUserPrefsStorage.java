@@ -3,16 +3,21 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.logging.Logger;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.VersionedHealthBook;
 
 /**
  * A class to access UserPrefs stored in the hard disk as a json file
  */
 public class JsonUserPrefsStorage implements UserPrefsStorage {
 
+    private static final Logger logger = LogsCenter.getLogger(JsonUserPrefsStorage.class);
+
     private Path filePath;
 
     public JsonUserPrefsStorage(Path filePath) {
@@ -31,11 +36,18 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
 
     /**
      * Similar to {@link #readUserPrefs()}
+     * An undo history limit that is negative is replaced by the default limit.
      * @param prefsFilePath location of the data. Cannot be null.
      * @throws DataConversionException if the file format is not as expected.
      */
     public Optional<UserPrefs> readUserPrefs(Path prefsFilePath) throws DataConversionException {
-        return JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        Optional<UserPrefs> prefs = JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        prefs.filter(userPrefs -> userPrefs.getUndoHistoryLimit() < 0).ifPresent(userPrefs -> {
+            logger.warning("Undo history limit in " + prefsFilePath + " cannot be negative: "
+                    + userPrefs.getUndoHistoryLimit() + ". Using " + VersionedHealthBook.DEFAULT_HISTORY_LIMIT);
+            userPrefs.setUndoHistoryLimit(VersionedHealthBook.DEFAULT_HISTORY_LIMIT);
+        });
+        return prefs;
     }
 
     @Override
@@ -0,0 +1,44 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.HealthBook;
+
+/**
+ * A class to access HealthBook data stored in a compact binary file, for very large health books.
+ * <p>
+ * The file is memory-mapped instead of read, and only the fields shown in the person list are decoded when it is
+ * opened. The medical history and past appointments of each patient are decoded from the mapped file when they are
+ * first needed, such as when the patient is selected, so that the details of patients who are never looked at are
+ * neither read from the disk nor kept in memory. The details of such patients are copied from the mapped file when
+ * the HealthBook is saved.
+ * <p>
+ * Saving replaces the file while it is still mapped, which some platforms such as Windows do not allow.
+ */
+public class MappedBinaryHealthBookStorage extends BinaryHealthBookStorage {
+
+    public MappedBinaryHealthBookStorage(Path filePath) {
+        super(filePath);
+    }
+
+    /**
+     * Returns true if this platform allows a file to be replaced while it is memory-mapped.
+     */
+    public static boolean isSupported() {
+        return !System.getProperty("os.name", "").startsWith("Windows");
+    }
+
+    @Override
+    protected HealthBook readFile(Path filePath) throws IOException, IllegalValueException {
+        // The mapping stays valid after the channel is closed, and until the buffer is garbage collected.
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return BinaryHealthBookCodec.decodeLazily(buffer);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+/**
+ * A save of the HealthBook that has been prepared from the data as it was at that time, and can be written to
+ * storage later, from any thread.
+ */
+@FunctionalInterface
+public interface PendingSave {
+
+    /**
+     * Writes the prepared save to storage.
+     * @throws IOException if there was any problem writing to storage.
+     */
+    void write() throws IOException;
+}
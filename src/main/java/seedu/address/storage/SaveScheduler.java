@@ -0,0 +1,257 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyHealthBook;
+
+/**
+ * Saves the HealthBook in the background, writing a burst of changes to storage once.
+ * <p>
+ * The first change after a save opens a window of {@code debounceMillis}, and every change requested within the
+ * window is saved together when it closes. The save is then prepared on the thread that changes the model, given
+ * by {@code modelExecutor}, so that it sees the model between commands. Only writing the prepared save to storage
+ * happens on the background thread. {@link #flush()} saves any change still waiting without waiting for the window.
+ * <p>
+ * A prepared save may only hold the changes since the save before it, so once a write fails, the saves prepared before
+ * the failure are discarded instead of written. The latest HealthBook is then prepared again on the model executor, and
+ * written in full, as storage forgets what it saved when a write fails.
+ * <p>
+ * The number of changes that were saved together, and the time taken by each write, are kept for instrumentation.
+ */
+public class SaveScheduler {
+
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 250;
+
+    private static final Logger logger = LogsCenter.getLogger(SaveScheduler.class);
+
+    private final HealthBookStorage storage;
+    private final Executor modelExecutor;
+    private final long debounceMillis;
+    private final Consumer<IOException> errorHandler;
+    private final LongConsumer writeHandler;
+    private final ScheduledExecutorService writer;
+    private final LatencyHistogram writeLatencies = new LatencyHistogram();
+
+    /** The latest changed HealthBook that has not been prepared for saving yet, or null if there is none. */
+    private ReadOnlyHealthBook pendingData;
+    /** The HealthBook of the latest prepared save, to be saved again if that save is discarded. */
+    private ReadOnlyHealthBook preparedData;
+    /** Whether saves were discarded after a failed write, and the latest HealthBook is still to be saved again. */
+    private boolean isResaveNeeded;
+    private long requestCount;
+    private long preparedCount;
+    private long writeCount;
+    private long failedWriteCount;
+    private long discardedWriteCount;
+
+    /**
+     * Creates a scheduler that saves to {@code storage}, and passes any failure to write to {@code errorHandler} on
+     * the {@code modelExecutor}.
+     */
+    public SaveScheduler(HealthBookStorage storage, Executor modelExecutor, long debounceMillis,
+                         Consumer<IOException> errorHandler) {
+        this(storage, modelExecutor, debounceMillis, errorHandler, writeNanos -> { });
+    }
+
+    /**
+     * Creates a scheduler that saves to {@code storage}, passes any failure to write to {@code errorHandler} on the
+     * {@code modelExecutor}, and passes the time taken by each successful write to {@code writeHandler} on the
+     * background thread.
+     */
+    public SaveScheduler(HealthBookStorage storage, Executor modelExecutor, long debounceMillis,
+                         Consumer<IOException> errorHandler, LongConsumer writeHandler) {
+        requireNonNull(storage);
+        requireNonNull(modelExecutor);
+        requireNonNull(errorHandler);
+        requireNonNull(writeHandler);
+        if (debounceMillis < 0) {
+            throw new IllegalArgumentException("Debounce window cannot be negative: " + debounceMillis);
+        }
+        this.storage = storage;
+        this.modelExecutor = modelExecutor;
+        this.debounceMillis = debounceMillis;
+        this.errorHandler = errorHandler;
+        this.writeHandler = writeHandler;
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "HealthBook save");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Requests that {@code data} is saved once the current window closes.
+     * {@code data} must only be changed on the thread of the model executor.
+     */
+    public synchronized void requestSave(ReadOnlyHealthBook data) {
+        requireNonNull(data);
+        requestCount++;
+        if (pendingData == null) {
+            writer.schedule(() -> modelExecutor.execute(this::prepareAndWrite), debounceMillis, TimeUnit.MILLISECONDS);
+        }
+        pendingData = data;
+    }
+
+    /**
+     * Saves any change that is still waiting to be saved, and waits until every save requested so far is written.
+     * Must be called on the thread of the model executor.
+     */
+    public void flush() {
+        prepareAndWrite();
+        awaitWrites();
+        // Saves discarded after a failed write are saved again before returning
+        resave();
+        awaitWrites();
+        logger.info("Saved HealthBook changes: " + getStatistics());
+    }
+
+    /**
+     * Saves any change that is still waiting to be saved, and stops the background thread.
+     * No saves can be requested afterwards.
+     */
+    public void close() {
+        flush();
+        writer.shutdown();
+    }
+
+    public synchronized long getRequestCount() {
+        return requestCount;
+    }
+
+    public synchronized long getWriteCount() {
+        return writeCount;
+    }
+
+    /**
+     * Returns the number of requested saves that did not need a write of their own, because they were written
+     * together with another request.
+     */
+    public synchronized long getCoalescedCount() {
+        return requestCount - preparedCount - (pendingData == null ? 0 : 1);
+    }
+
+    public LatencyHistogram getWriteLatencies() {
+        return writeLatencies;
+    }
+
+    /**
+     * Returns a summary of the saves so far, for logging.
+     */
+    public synchronized String getStatistics() {
+        return String.format("%d changes, %d writes (%d coalesced, %d failed, %d discarded), write latency %s",
+                requestCount, writeCount, getCoalescedCount(), failedWriteCount, discardedWriteCount, writeLatencies);
+    }
+
+    /**
+     * Prepares the waiting change for saving on the current thread, and hands the prepared save to the background
+     * thread to write. Does nothing if no change is waiting, such as when it was flushed already.
+     */
+    private void prepareAndWrite() {
+        ReadOnlyHealthBook data;
+        synchronized (this) {
+            data = pendingData;
+            if (data == null) {
+                return;
+            }
+            pendingData = null;
+            preparedCount++;
+        }
+        prepareAndWrite(data);
+    }
+
+    /**
+     * Prepares the HealthBook of the latest prepared save again, after saves were discarded because a write failed.
+     * Does nothing if no save needs to be repeated, or if a change is waiting, as its save will be complete anyway.
+     */
+    private void resave() {
+        ReadOnlyHealthBook data;
+        synchronized (this) {
+            if (!isResaveNeeded) {
+                return;
+            }
+            isResaveNeeded = false;
+            if (pendingData != null) {
+                return;
+            }
+            data = preparedData;
+        }
+        prepareAndWrite(data);
+    }
+
+    private void prepareAndWrite(ReadOnlyHealthBook data) {
+        long failedWritesBefore;
+        synchronized (this) {
+            preparedData = data;
+            failedWritesBefore = failedWriteCount;
+        }
+        PendingSave save = storage.prepareSave(data);
+        writer.execute(() -> write(save, failedWritesBefore));
+    }
+
+    /**
+     * Waits until every save handed to the background thread so far is written.
+     */
+    private void awaitWrites() {
+        try {
+            writer.submit(() -> {}).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            throw new AssertionError("Unexpected exception " + ee.getMessage(), ee);
+        }
+    }
+
+    /**
+     * Writes {@code save} on the background thread, recording how long it took or reporting why it failed.
+     * The save is discarded if any write has failed since {@code failedWritesBefore} writes had failed.
+     */
+    private void write(PendingSave save, long failedWritesBefore) {
+        boolean isDiscarded;
+        boolean isResaveRequested = false;
+        synchronized (this) {
+            isDiscarded = failedWriteCount != failedWritesBefore;
+            if (isDiscarded) {
+                discardedWriteCount++;
+                isResaveRequested = !isResaveNeeded;
+                isResaveNeeded = true;
+            }
+        }
+        if (isDiscarded) {
+            if (isResaveRequested) {
+                logger.warning("Discarded HealthBook saves prepared before a failed save, saving it again in full");
+                modelExecutor.execute(this::resave);
+            }
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            save.write();
+        } catch (IOException ioe) {
+            logger.warning("Failed to save HealthBook: " + ioe.getMessage());
+            synchronized (this) {
+                failedWriteCount++;
+            }
+            modelExecutor.execute(() -> errorHandler.accept(ioe));
+            return;
+        }
+        long writeNanos = System.nanoTime() - start;
+        writeLatencies.record(writeNanos);
+        synchronized (this) {
+            writeCount++;
+        }
+        writeHandler.accept(writeNanos);
+    }
+}
@@ -36,4 +36,10 @@ public interface Storage extends HealthBookStorage, UserPrefsStorage {
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleAddressBookChangedEvent(HealthBookChangedEvent abce);
+
+    /**
+     * Saves any change to the Address Book that is still waiting to be saved in the background, and waits until it
+     * is written to the hard disk.
+     */
+    void flushAddressBook();
 }
@@ -3,14 +3,17 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
 import seedu.address.commons.core.ComponentManager;
+import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.HealthBookChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
+import seedu.address.commons.events.storage.HealthBookSavedEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyHealthBook;
 import seedu.address.model.UserPrefs;
@@ -23,9 +26,29 @@ public class StorageManager extends ComponentManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private HealthBookStorage healthBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private SaveScheduler saveScheduler;
 
     public StorageManager(HealthBookStorage healthBookStorage, UserPrefsStorage userPrefsStorage) {
-        super();
+        this(healthBookStorage, userPrefsStorage, EventsCenter.Category.SYNCHRONOUS);
+    }
+
+    /**
+     * Creates a {@code StorageManager} that saves changes to the HealthBook in the background, coalescing the changes
+     * made within {@code debounceMillis} of each other into one save.
+     * The saves are prepared on {@code modelExecutor}, which must run tasks on the thread that changes the model, so
+     * changes are handled in the storage category of the {@code EventsCenter}, off the thread that changes the model.
+     */
+    public StorageManager(HealthBookStorage healthBookStorage, UserPrefsStorage userPrefsStorage,
+                          Executor modelExecutor, long debounceMillis) {
+        this(healthBookStorage, userPrefsStorage, EventsCenter.Category.STORAGE);
+        this.saveScheduler = new SaveScheduler(healthBookStorage, modelExecutor, debounceMillis,
+                exception -> raise(new DataSavingExceptionEvent(exception)),
+                writeNanos -> raise(new HealthBookSavedEvent(writeNanos)));
+    }
+
+    private StorageManager(HealthBookStorage healthBookStorage, UserPrefsStorage userPrefsStorage,
+                           EventsCenter.Category eventCategory) {
+        super(EventsCenter.getInstance(), eventCategory);
         this.healthBookStorage = healthBookStorage;
         this.userPrefsStorage = userPrefsStorage;
     }
@@ -77,16 +100,35 @@ public class StorageManager extends ComponentManager implements Storage {
         healthBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public PendingSave prepareSave(ReadOnlyHealthBook addressBook) {
+        return healthBookStorage.prepareSave(addressBook);
+    }
+
 
     @Override
     @Subscribe
     public void handleAddressBookChangedEvent(HealthBookChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        if (saveScheduler != null) {
+            saveScheduler.requestSave(event.data);
+            return;
+        }
         try {
+            long start = System.nanoTime();
             saveAddressBook(event.data);
+            raise(new HealthBookSavedEvent(System.nanoTime() - start));
         } catch (IOException e) {
             raise(new DataSavingExceptionEvent(e));
         }
     }
 
+    @Override
+    public void flushAddressBook() {
+        if (saveScheduler != null) {
+            eventsCenter.awaitHandled(EventsCenter.Category.STORAGE);
+            saveScheduler.flush();
+        }
+    }
+
 }
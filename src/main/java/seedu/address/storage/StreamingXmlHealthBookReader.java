@@ -0,0 +1,248 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.HealthBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentSeries;
+import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Reads a HealthBook saved as a {@code XmlSerializableHealthBook} one person, appointment or appointment series at a
+ * time.
+ * <p>
+ * Each element is converted to the model as soon as it is parsed, so only the model is kept in memory instead of
+ * the whole document and its adapted copy, and each person can be handed to a listener before the rest of the file
+ * is read.
+ */
+public class StreamingXmlHealthBookReader {
+
+    private static final String ROOT_ELEMENT = "addressbook";
+    private static final String PERSON_ELEMENT = "persons";
+    private static final String APPOINTMENT_ELEMENT = "appointments";
+    private static final String SERIES_ELEMENT = "series";
+    private static final String APPOINTMENT_COUNTER_ELEMENT = "appointmentCounter";
+    private static final String JOURNAL_GENERATION_ELEMENT = "journalGeneration";
+
+    private final List<Person> persons = new ArrayList<>();
+    private final List<Appointment> appointments = new ArrayList<>();
+    private final List<AppointmentSeries> appointmentSeries = new ArrayList<>();
+    private int appointmentCounter = XmlSerializableHealthBook.DEFAULT_APPOINTMENT_COUNTER;
+    private long journalGeneration;
+
+    private StreamingXmlHealthBookReader() {}
+
+    /**
+     * Reads the HealthBook in {@code file}, passing each person to {@code personListener} as soon as it is read.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if a person or appointment in the file violates data constraints.
+     */
+    public static StreamingXmlHealthBookReader read(Path file, Consumer<Person> personListener)
+            throws DataConversionException, FileNotFoundException, IllegalValueException {
+        requireNonNull(file);
+        requireNonNull(personListener);
+
+        StreamingXmlHealthBookReader healthBookReader = new StreamingXmlHealthBookReader();
+        try (InputStream in = Files.newInputStream(file)) {
+            XMLStreamReader reader = createInputFactory().createXMLStreamReader(in);
+            try {
+                healthBookReader.readDocument(reader, personListener);
+            } finally {
+                reader.close();
+            }
+        } catch (NoSuchFileException e) {
+            throw new FileNotFoundException("File not found : " + file);
+        } catch (IOException | XMLStreamException | JAXBException | NumberFormatException e) {
+            throw new DataConversionException(e);
+        }
+        return healthBookReader;
+    }
+
+    /**
+     * Returns the generation of the journal that continues the file read, or 0 if it was not saved with one.
+     */
+    public long getJournalGeneration() {
+        return journalGeneration;
+    }
+
+    /**
+     * Applies the edits in {@code entry} to the HealthBook read.
+     * The edits are checked and converted before any of them is applied, so the HealthBook is unchanged if they
+     * are invalid.
+     *
+     * @throws IllegalValueException if an edit refers to positions outside the list it edits, or adds an element
+     * that violates data constraints.
+     */
+    public void applyJournalEntry(XmlJournalEntry entry) throws IllegalValueException {
+        List<List<Person>> addedPersons = new ArrayList<>();
+        int size = persons.size();
+        for (XmlAdaptedListEdit edit : entry.getPersonEdits()) {
+            size = checkEdit(size, edit, edit.getPersons().size());
+            List<Person> added = new ArrayList<>();
+            for (XmlAdaptedPerson person : edit.getPersons()) {
+                added.add(person.toModelType());
+            }
+            addedPersons.add(added);
+        }
+
+        List<List<Appointment>> addedAppointments = new ArrayList<>();
+        size = appointments.size();
+        for (XmlAdaptedListEdit edit : entry.getAppointmentEdits()) {
+            size = checkEdit(size, edit, edit.getAppointments().size());
+            List<Appointment> added = new ArrayList<>();
+            for (XmlAdaptedAppointment appointment : edit.getAppointments()) {
+                added.add(appointment.toModelType());
+            }
+            addedAppointments.add(added);
+        }
+
+        applyEdits(persons, entry.getPersonEdits(), addedPersons);
+        applyEdits(appointments, entry.getAppointmentEdits(), addedAppointments);
+        if (entry.getAppointmentCounter() != null) {
+            appointmentCounter = entry.getAppointmentCounter();
+        }
+    }
+
+    /**
+     * Returns the HealthBook read as the model's {@code HealthBook} object.
+     *
+     * @throws IllegalValueException if there are duplicate persons or overlapping appointment series.
+     */
+    public HealthBook toModelType() throws IllegalValueException {
+        HealthBook healthBook = new HealthBook();
+        try {
+            healthBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(XmlSerializableHealthBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        healthBook.setAppointments(appointments);
+        try {
+            healthBook.setAppointmentSeries(appointmentSeries);
+        } catch (DuplicateAppointmentException dae) {
+            throw new IllegalValueException(XmlSerializableHealthBook.MESSAGE_DUPLICATE_SERIES);
+        }
+        healthBook.setAppointmentCounter(appointmentCounter);
+        return healthBook;
+    }
+
+    /**
+     * Reads the children of the root element in turn. Elements that a {@code XmlSerializableHealthBook} does not
+     * have are skipped, as JAXB does.
+     */
+    private void readDocument(XMLStreamReader reader, Consumer<Person> personListener)
+            throws XMLStreamException, JAXBException, IllegalValueException {
+        reader.nextTag();
+        if (!ROOT_ELEMENT.equals(reader.getLocalName())) {
+            throw new XMLStreamException("Unexpected root element " + reader.getLocalName(), reader.getLocation());
+        }
+
+        reader.nextTag();
+        while (reader.isStartElement()) {
+            switch (reader.getLocalName()) {
+            case PERSON_ELEMENT:
+                Person person = XmlUtil.getDataFromReader(reader, XmlAdaptedPerson.class).toModelType();
+                persons.add(person);
+                personListener.accept(person);
+                break;
+            case APPOINTMENT_ELEMENT:
+                appointments.add(XmlUtil.getDataFromReader(reader, XmlAdaptedAppointment.class).toModelType());
+                break;
+            case SERIES_ELEMENT:
+                appointmentSeries.add(
+                        XmlUtil.getDataFromReader(reader, XmlAdaptedAppointmentSeries.class).toModelType());
+                break;
+            case APPOINTMENT_COUNTER_ELEMENT:
+                appointmentCounter = Integer.parseInt(reader.getElementText().trim());
+                reader.next();
+                break;
+            case JOURNAL_GENERATION_ELEMENT:
+                journalGeneration = Long.parseLong(reader.getElementText().trim());
+                reader.next();
+                break;
+            default:
+                skipElement(reader);
+            }
+            skipToTag(reader);
+        }
+    }
+
+    /**
+     * Moves {@code reader} from the start of an element to just past its end.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 0;
+        do {
+            if (reader.isStartElement()) {
+                depth++;
+            } else if (reader.isEndElement()) {
+                depth--;
+            }
+            reader.next();
+        } while (depth > 0);
+    }
+
+    /**
+     * Moves {@code reader} past any text, comments and processing instructions to the next start or end tag.
+     */
+    private static void skipToTag(XMLStreamReader reader) throws XMLStreamException {
+        while (!reader.isStartElement() && !reader.isEndElement()
+                && reader.getEventType() != XMLStreamConstants.END_DOCUMENT) {
+            reader.next();
+        }
+    }
+
+    /**
+     * Returns the size of a list of {@code size} elements after {@code edit}, which adds {@code addedCount} elements.
+     *
+     * @throws IllegalValueException if {@code edit} refers to positions outside the list.
+     */
+    private static int checkEdit(int size, XmlAdaptedListEdit edit, int addedCount) throws IllegalValueException {
+        if (edit.getFrom() < 0 || edit.getRemovedCount() < 0 || edit.getFrom() + edit.getRemovedCount() > size) {
+            throw new IllegalValueException(XmlSerializableHealthBook.MESSAGE_INVALID_EDIT);
+        }
+        return size + addedCount - edit.getRemovedCount();
+    }
+
+    /**
+     * Replaces the elements removed by each of {@code edits} with the matching elements of {@code added}, in order.
+     */
+    private static <T> void applyEdits(List<T> list, List<XmlAdaptedListEdit> edits, List<List<T>> added) {
+        for (int i = 0; i < edits.size(); i++) {
+            XmlAdaptedListEdit edit = edits.get(i);
+            list.subList(edit.getFrom(), edit.getFrom() + edit.getRemovedCount()).clear();
+            list.addAll(edit.getFrom(), added.get(i));
+        }
+    }
+
+    /**
+     * Returns a factory for readers that do not resolve DTDs or external entities.
+     */
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.address.storage;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+import javax.xml.bind.annotation.XmlElement;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.appointment.AppointmentId;
+import seedu.address.model.appointment.AppointmentSeries;
+import seedu.address.model.doctor.Doctor;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+
+/**
+ * JAXB-friendly adapted version of the AppointmentSeries.
+ * Only the recurrence rule is stored, not the occurrences.
+ */
+public class XmlAdaptedAppointmentSeries {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Appointment series' %s field is missing!";
+    public static final String MESSAGE_INVALID_START = "Appointment series' start is not a valid date and time!";
+
+    @XmlElement(required = true)
+    private int firstAppointmentId;
+    @XmlElement(required = true)
+    private String doctor;
+    @XmlElement(required = true)
+    private String doctorPhone;
+    @XmlElement(required = true)
+    private String patient;
+    @XmlElement(required = true)
+    private String patientPhone;
+    @XmlElement(required = true)
+    private String start;
+    @XmlElement(required = true)
+    private int intervalDays;
+    @XmlElement(required = true)
+    private int count;
+
+    /**
+     * Constructs an XmlAdaptedAppointmentSeries.
+     * This is the no-arg constructor that is required by JAXB.
+     */
+    public XmlAdaptedAppointmentSeries() {}
+
+    /**
+     * Converts a given AppointmentSeries into this class for JAXB use.
+     */
+    public XmlAdaptedAppointmentSeries(AppointmentSeries source) {
+        firstAppointmentId = source.getFirstAppointmentId();
+        doctor = source.getDoctor();
+        doctorPhone = source.getDoctorPhone();
+        patient = source.getPatient();
+        patientPhone = source.getPatientPhone();
+        start = source.getStart().toString();
+        intervalDays = source.getIntervalDays();
+        count = source.getCount();
+    }
+
+    /**
+     * Converts this jaxb-friendly adapted series object into the model's AppointmentSeries object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted series
+     */
+    public AppointmentSeries toModelType() throws IllegalValueException {
+        if (firstAppointmentId == 0) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    AppointmentId.class.getSimpleName()));
+        }
+        if (doctor == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    Doctor.class.getSimpleName()));
+        }
+        if (patient == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    Patient.class.getSimpleName()));
+        }
+        if (!Name.isValidName(doctor) || !Name.isValidName(patient)) {
+            throw new IllegalValueException(Name.MESSAGE_NAME_CONSTRAINTS);
+        }
+        if (doctorPhone == null || patientPhone == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    Phone.class.getSimpleName()));
+        }
+        if (!Phone.isValidPhone(doctorPhone) || !Phone.isValidPhone(patientPhone)) {
+            throw new IllegalValueException(Phone.MESSAGE_PHONE_CONSTRAINTS);
+        }
+        if (start == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    LocalDateTime.class.getSimpleName()));
+        }
+        final LocalDateTime firstDateTime;
+        try {
+            firstDateTime = LocalDateTime.parse(start);
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_START);
+        }
+        if (!AppointmentSeries.isValidIntervalDays(intervalDays) || !AppointmentSeries.isValidCount(count)) {
+            throw new IllegalValueException(AppointmentSeries.MESSAGE_SERIES_CONSTRAINTS);
+        }
+        return new AppointmentSeries(firstAppointmentId, doctor, doctorPhone, patient, patientPhone, firstDateTime,
+                intervalDays, count);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof XmlAdaptedAppointmentSeries)) {
+            return false;
+        }
+
+        XmlAdaptedAppointmentSeries otherSeries = (XmlAdaptedAppointmentSeries) other;
+        return firstAppointmentId == otherSeries.firstAppointmentId
+                && intervalDays == otherSeries.intervalDays
+                && count == otherSeries.count
+                && doctor.equals(otherSeries.doctor)
+                && doctorPhone.equals(otherSeries.doctorPhone)
+                && patient.equals(otherSeries.patient)
+                && patientPhone.equals(otherSeries.patientPhone)
+                && start.equals(otherSeries.start);
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.storage;
+
+import java.util.Arrays;
+
+import javax.xml.bind.annotation.XmlElement;
+
+import seedu.address.calendar.CalendarOperation;
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * JAXB-friendly adapted version of the CalendarOperation.
+ */
+public class XmlAdaptedCalendarOperation {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Calendar change's %s field is missing!";
+    public static final String MESSAGE_INVALID_KIND = "Calendar change's kind is not one of "
+            + Arrays.toString(CalendarOperation.Kind.values()) + "!";
+
+    @XmlElement(required = true)
+    private String kind;
+    @XmlElement(required = true)
+    private String userName;
+    @XmlElement(required = true)
+    private XmlAdaptedAppointment appointment;
+
+    /**
+     * Constructs an XmlAdaptedCalendarOperation.
+     * This is the no-arg constructor that is required by JAXB.
+     */
+    public XmlAdaptedCalendarOperation() {}
+
+    /**
+     * Converts a given CalendarOperation into this class for JAXB use.
+     */
+    public XmlAdaptedCalendarOperation(CalendarOperation source) {
+        kind = source.getKind().name();
+        userName = source.getUserName();
+        appointment = new XmlAdaptedAppointment(source.getAppointment());
+    }
+
+    /**
+     * Converts this jaxb-friendly adapted calendar change into the model's CalendarOperation object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted calendar change
+     */
+    public CalendarOperation toModelType() throws IllegalValueException {
+        if (kind == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "kind"));
+        }
+        final CalendarOperation.Kind modelKind;
+        try {
+            modelKind = CalendarOperation.Kind.valueOf(kind);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_KIND);
+        }
+        if (userName == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "userName"));
+        }
+        if (appointment == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "appointment"));
+        }
+        return new CalendarOperation(modelKind, userName, appointment.toModelType());
+    }
+}
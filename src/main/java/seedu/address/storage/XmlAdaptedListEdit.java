@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.history.ListEdit;
+import seedu.address.model.person.Person;
+
+/**
+ * JAXB-friendly version of a {@code ListEdit} to the persons or appointments of the HealthBook.
+ * Only the number of elements removed is kept, since a journal replays the edit and never reverts it.
+ */
+public class XmlAdaptedListEdit {
+
+    @XmlAttribute(required = true)
+    private int from;
+    @XmlAttribute(required = true)
+    private int removed;
+    @XmlElement(name = "person")
+    private List<XmlAdaptedPerson> persons = new ArrayList<>();
+    @XmlElement(name = "appointment")
+    private List<XmlAdaptedAppointment> appointments = new ArrayList<>();
+
+    /**
+     * Constructs an XmlAdaptedListEdit.
+     * This is the no-arg constructor that is required by JAXB.
+     */
+    public XmlAdaptedListEdit() {}
+
+    private XmlAdaptedListEdit(int from, int removed) {
+        this.from = from;
+        this.removed = removed;
+    }
+
+    /**
+     * Converts a given edit to the persons of a HealthBook into this class for JAXB use.
+     */
+    public static XmlAdaptedListEdit ofPersons(ListEdit<Person> source) {
+        XmlAdaptedListEdit edit = new XmlAdaptedListEdit(source.getFrom(), source.getRemoved().size());
+        edit.persons = source.getAdded().stream().map(XmlAdaptedPerson::new).collect(Collectors.toList());
+        return edit;
+    }
+
+    /**
+     * Converts a given edit to the appointments of a HealthBook into this class for JAXB use.
+     */
+    public static XmlAdaptedListEdit ofAppointments(ListEdit<Appointment> source) {
+        XmlAdaptedListEdit edit = new XmlAdaptedListEdit(source.getFrom(), source.getRemoved().size());
+        edit.appointments = source.getAdded().stream().map(XmlAdaptedAppointment::new).collect(Collectors.toList());
+        return edit;
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public int getRemovedCount() {
+        return removed;
+    }
+
+    public List<XmlAdaptedPerson> getPersons() {
+        return persons;
+    }
+
+    public List<XmlAdaptedAppointment> getAppointments() {
+        return appointments;
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Logger;
+
+import javax.xml.bind.JAXBException;
+
+import seedu.address.calendar.CalendarOperation;
+import seedu.address.calendar.CalendarQueueStorage;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.XmlUtil;
+
+/**
+ * A class to access the calendar changes waiting to be sent, stored as an xml file on the hard disk.
+ * The file is replaced through a temporary file, so that a crash leaves either the old or the new queue.
+ * A file that is moved aside gets the suffix {@link #MOVED_ASIDE_SUFFIX}, replacing any file moved aside before.
+ */
+public class XmlCalendarQueueStorage implements CalendarQueueStorage {
+
+    public static final String DEFAULT_FILE_NAME = "calendarqueue.xml";
+    public static final String MOVED_ASIDE_SUFFIX = ".bad";
+
+    private static final Logger logger = LogsCenter.getLogger(XmlCalendarQueueStorage.class);
+
+    private final Path filePath;
+
+    public XmlCalendarQueueStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public List<CalendarOperation> readOperations() throws DataConversionException, IOException {
+        if (!Files.exists(filePath)) {
+            return Collections.emptyList();
+        }
+
+        try {
+            return XmlUtil.getDataFromFile(filePath, XmlSerializableCalendarQueue.class).toModelType();
+        } catch (JAXBException e) {
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveOperations(List<CalendarOperation> operations) throws IOException {
+        requireNonNull(operations);
+        if (operations.isEmpty()) {
+            Files.deleteIfExists(filePath);
+            return;
+        }
+
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        FileUtil.createIfMissing(tempPath);
+        try {
+            XmlUtil.saveDataToFile(tempPath, new XmlSerializableCalendarQueue(operations));
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+        try {
+            Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @Override
+    public void moveAside() throws IOException {
+        if (!Files.exists(filePath)) {
+            return;
+        }
+        Path asidePath = filePath.resolveSibling(filePath.getFileName() + MOVED_ASIDE_SUFFIX);
+        Files.move(filePath, asidePath, StandardCopyOption.REPLACE_EXISTING);
+        logger.warning("Moved " + filePath + " aside to " + asidePath);
+    }
+}
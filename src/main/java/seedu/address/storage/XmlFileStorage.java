@@ -6,7 +6,9 @@ import java.nio.file.Path;
 import javax.xml.bind.JAXBException;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.HealthBook;
 
 /**
  * Stores addressbook data in an XML file
@@ -36,4 +38,14 @@ public class XmlFileStorage {
         }
     }
 
+    /**
+     * Returns the address book in the file, reading it one person or appointment at a time.
+     *
+     * @throws IllegalValueException if a person or appointment in the file violates data constraints.
+     */
+    public static HealthBook loadHealthBookFromSaveFile(Path file) throws DataConversionException,
+            FileNotFoundException, IllegalValueException {
+        return StreamingXmlHealthBookReader.read(file, person -> {}).toModelType();
+    }
+
 }
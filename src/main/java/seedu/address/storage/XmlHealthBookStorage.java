@@ -51,9 +51,8 @@ public class XmlHealthBookStorage implements HealthBookStorage {
             return Optional.empty();
         }
 
-        XmlSerializableHealthBook xmlAddressBook = XmlFileStorage.loadDataFromSaveFile(filePath);
         try {
-            return Optional.of(xmlAddressBook.toModelType());
+            return Optional.of(XmlFileStorage.loadHealthBookFromSaveFile(filePath));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -77,4 +76,14 @@ public class XmlHealthBookStorage implements HealthBookStorage {
         XmlFileStorage.saveDataToFile(filePath, new XmlSerializableHealthBook(addressBook));
     }
 
+    @Override
+    public PendingSave prepareSave(ReadOnlyHealthBook addressBook) {
+        requireNonNull(addressBook);
+        XmlSerializableHealthBook xmlAddressBook = new XmlSerializableHealthBook(addressBook);
+        return () -> {
+            FileUtil.createIfMissing(filePath);
+            XmlFileStorage.saveDataToFile(filePath, xmlAddressBook);
+        };
+    }
+
 }
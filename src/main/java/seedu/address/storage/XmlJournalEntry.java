@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * A change to the HealthBook that is appended to the journal of a {@link JournaledXmlHealthBookStorage}.
+ * The edits to each list are applied in order, and the appointment counter is only present if it changed.
+ */
+@XmlRootElement(name = "change")
+public class XmlJournalEntry {
+
+    @XmlAttribute(required = true)
+    private long generation;
+    @XmlElement(name = "persons")
+    private List<XmlAdaptedListEdit> personEdits = new ArrayList<>();
+    @XmlElement(name = "appointments")
+    private List<XmlAdaptedListEdit> appointmentEdits = new ArrayList<>();
+    @XmlElement
+    private Integer appointmentCounter;
+
+    /**
+     * Creates an empty XmlJournalEntry.
+     * This empty constructor is required for marshalling.
+     */
+    public XmlJournalEntry() {}
+
+    public XmlJournalEntry(long generation, List<XmlAdaptedListEdit> personEdits,
+                           List<XmlAdaptedListEdit> appointmentEdits, Integer appointmentCounter) {
+        this.generation = generation;
+        this.personEdits = new ArrayList<>(personEdits);
+        this.appointmentEdits = new ArrayList<>(appointmentEdits);
+        this.appointmentCounter = appointmentCounter;
+    }
+
+    /**
+     * Returns the generation of the snapshot that this entry was written after.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    public List<XmlAdaptedListEdit> getPersonEdits() {
+        return personEdits;
+    }
+
+    public List<XmlAdaptedListEdit> getAppointmentEdits() {
+        return appointmentEdits;
+    }
+
+    /**
+     * Returns the new appointment counter, or null if it did not change.
+     */
+    public Integer getAppointmentCounter() {
+        return appointmentCounter;
+    }
+}
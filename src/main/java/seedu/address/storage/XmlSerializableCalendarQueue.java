@@ -0,0 +1,51 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import seedu.address.calendar.CalendarOperation;
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * The calendar changes waiting to be sent, in a form that is serializable to XML format.
+ */
+@XmlRootElement(name = "calendarqueue")
+public class XmlSerializableCalendarQueue {
+
+    @XmlElement(name = "change")
+    private List<XmlAdaptedCalendarOperation> operations;
+
+    /**
+     * Creates an empty XmlSerializableCalendarQueue.
+     * This empty constructor is required for marshalling.
+     */
+    public XmlSerializableCalendarQueue() {
+        operations = new ArrayList<>();
+    }
+
+    /**
+     * Conversion
+     */
+    public XmlSerializableCalendarQueue(List<CalendarOperation> src) {
+        this();
+        operations.addAll(src.stream().map(XmlAdaptedCalendarOperation::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts the calendar changes into the model's {@code CalendarOperation} objects, in the same order.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the
+     *     {@code XmlAdaptedCalendarOperation}.
+     */
+    public List<CalendarOperation> toModelType() throws IllegalValueException {
+        List<CalendarOperation> modelOperations = new ArrayList<>();
+        for (XmlAdaptedCalendarOperation operation : operations) {
+            modelOperations.add(operation.toModelType());
+        }
+        return modelOperations;
+    }
+}
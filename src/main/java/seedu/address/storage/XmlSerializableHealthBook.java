@@ -11,6 +11,8 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.HealthBook;
 import seedu.address.model.ReadOnlyHealthBook;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentSeries;
+import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
 import seedu.address.model.doctor.Doctor;
 import seedu.address.model.patient.Patient;
 import seedu.address.model.person.Person;
@@ -23,13 +25,21 @@ import seedu.address.model.tag.Tag;
 public class XmlSerializableHealthBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_SERIES = "Appointment series list contains overlapping series.";
+    public static final String MESSAGE_INVALID_EDIT = "Journal entry edits positions outside the list.";
+
+    static final int DEFAULT_APPOINTMENT_COUNTER = 10000;
 
     @XmlElement
     private List<XmlAdaptedPerson> persons;
     @XmlElement
     private List<XmlAdaptedAppointment> appointments;
+    @XmlElement(name = "series")
+    private List<XmlAdaptedAppointmentSeries> appointmentSeries;
     @XmlElement
     private int appointmentCounter;
+    @XmlElement
+    private Long journalGeneration;
 
     /**
      * Creates an empty XmlSerializableHealthBook.
@@ -38,7 +48,8 @@ public class XmlSerializableHealthBook {
     public XmlSerializableHealthBook() {
         persons = new ArrayList<>();
         appointments = new ArrayList<>();
-        appointmentCounter = 10000;
+        appointmentSeries = new ArrayList<>();
+        appointmentCounter = DEFAULT_APPOINTMENT_COUNTER;
     }
 
     /**
@@ -49,9 +60,15 @@ public class XmlSerializableHealthBook {
         persons.addAll(src.getPersonList().stream().map(XmlAdaptedPerson::new).collect(Collectors.toList()));
         appointments.addAll(src.getAppointmentList().stream().map(XmlAdaptedAppointment::new)
                 .collect(Collectors.toList()));
+        appointmentSeries.addAll(src.getAppointmentSeriesList().stream().map(XmlAdaptedAppointmentSeries::new)
+                .collect(Collectors.toList()));
         appointmentCounter = src.getAppointmentCounter();
     }
 
+    void setJournalGeneration(long journalGeneration) {
+        this.journalGeneration = journalGeneration;
+    }
+
     /**
      * Converts this addressbook into the model's {@code HealthBook} object.
      *
@@ -77,6 +94,15 @@ public class XmlSerializableHealthBook {
             Appointment appointment = a.toModelType();
             healthBook.addAppointment(appointment);
         }
+        List<AppointmentSeries> series = new ArrayList<>();
+        for (XmlAdaptedAppointmentSeries s : appointmentSeries) {
+            series.add(s.toModelType());
+        }
+        try {
+            healthBook.setAppointmentSeries(series);
+        } catch (DuplicateAppointmentException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_SERIES);
+        }
         healthBook.setAppointmentCounter(appointmentCounter);
         return healthBook;
     }
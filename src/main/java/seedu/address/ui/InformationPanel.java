@@ -3,7 +3,9 @@ package seedu.address.ui;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
@@ -18,6 +20,7 @@ import javafx.scene.paint.Color;
 import javafx.scene.text.Text;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentSeries;
 import seedu.address.model.appointment.Prescription;
 import seedu.address.model.doctor.Doctor;
 import seedu.address.model.patient.Allergy;
@@ -193,7 +196,7 @@ public class InformationPanel extends UiPart<Region> {
     /**
      * Loads a patient's information on the panel.
      */
-    private void loadPatientInformation(Patient patient) {
+    private void loadPatientInformation(Patient patient, List<AppointmentSeries> series) {
         Iterator<Allergy> allergiesItr = patient.getMedicalHistory().getAllergies().iterator();
         Iterator<Condition> conditionsItr = patient.getMedicalHistory().getConditions().iterator();
         Iterator<Appointment> upcomingAppointmentItr = patient.getUpcomingAppointments().iterator();
@@ -216,21 +219,39 @@ public class InformationPanel extends UiPart<Region> {
         while (pastAppointmentItr.hasNext()) {
             pastAppointmentList.add(pastAppointmentItr.next());
         }
+        addUpcomingOccurrences(upcomingAppointmentList, series);
         setConnections(allergiesList, conditionsList, upcomingAppointmentList, pastAppointmentList);
     }
 
     /**
      * Loads a doctor's information on the panel.
      */
-    private void loadDoctorInformation(Doctor doctor) {
+    private void loadDoctorInformation(Doctor doctor, List<AppointmentSeries> series) {
         Iterator<Appointment> upcomingAppointmentItr = doctor.getUpcomingAppointments().iterator();
         ObservableList<Appointment> upcomingAppointmentList = FXCollections.observableArrayList();
         while (upcomingAppointmentItr.hasNext()) {
             upcomingAppointmentList.add(upcomingAppointmentItr.next());
         }
+        addUpcomingOccurrences(upcomingAppointmentList, series);
         setConnections(upcomingAppointmentList);
     }
 
+    /**
+     * Adds the occurrences of {@code series} that have not ended yet to {@code upcomingAppointmentList}, and sorts it
+     * by time. Past occurrences are never created.
+     */
+    private void addUpcomingOccurrences(ObservableList<Appointment> upcomingAppointmentList,
+                                        List<AppointmentSeries> series) {
+        if (series.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (AppointmentSeries appointmentSeries : series) {
+            upcomingAppointmentList.addAll(appointmentSeries.getOccurrencesFrom(now));
+        }
+        upcomingAppointmentList.sort(Comparator.comparing(Appointment::getDateTime));
+    }
+
     /**
      * Clear information on the panel.
      */
@@ -239,13 +260,14 @@ public class InformationPanel extends UiPart<Region> {
     }
 
     /**
-     * Changes panel between doctor and patient.
+     * Changes panel between doctor and patient, showing the upcoming occurrences of the person's {@code series}
+     * among their upcoming appointments.
      */
-    public void changePanel(Person person) {
+    public void changePanel(Person person, List<AppointmentSeries> series) {
         if (person instanceof Patient) {
-            loadPatientInformation((Patient) person);
+            loadPatientInformation((Patient) person, series);
         } else if (person instanceof Doctor) {
-            loadDoctorInformation((Doctor) person);
+            loadDoctorInformation((Doctor) person, series);
         } else {
             clearInformation();
         }
@@ -1,6 +1,7 @@
 package seedu.address.ui;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -207,13 +208,15 @@ public class MainWindow extends UiPart<Stage> {
         if (event.getNewSelection() instanceof Patient) {
             informationPanel = new InformationPanel("InformationPanel.fxml");
             informationPlaceholder.getChildren().add(informationPanel.getRoot());
-            informationPanel.changePanel(event.getNewSelection());
+            informationPanel.changePanel(event.getNewSelection(),
+                    logic.getAppointmentSeries(event.getNewSelection()));
         } else if (event.getNewSelection() instanceof Doctor) {
             informationPanel = new InformationPanel("InformationPanelDoctor.fxml");
             informationPlaceholder.getChildren().add(informationPanel.getRoot());
-            informationPanel.changePanel(event.getNewSelection());
+            informationPanel.changePanel(event.getNewSelection(),
+                    logic.getAppointmentSeries(event.getNewSelection()));
         } else {
-            informationPanel.changePanel(null);
+            informationPanel.changePanel(null, Collections.emptyList());
         }
     }
 }
@@ -72,6 +72,7 @@ public class TestApp extends MainApp {
      * Returns a defensive copy of the address book data stored inside the storage file.
      */
     public HealthBook readStorageAddressBook() {
+        storage.flushAddressBook();
         try {
             return new HealthBook(storage.readAddressBook().get());
         } catch (DataConversionException dce) {
@@ -0,0 +1,144 @@
+package seedu.address.calendar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.api.client.auth.oauth2.Credential;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.services.calendar.Calendar;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.model.appointment.Appointment;
+
+/**
+ * Tests {@code GoogleCalendarManager} against a fake calendar API served on the loopback address.
+ */
+public class GoogleCalendarManagerTest {
+
+    private static final String CARL = "Carl Kurz93333333";
+    private static final String EVENTS_PATH = "/calendar/v3/calendars/primary/events";
+    private static final String NOT_FOUND_BODY = "{\"error\":{\"code\":404,\"message\":\"Not Found\"}}";
+    private static final String GONE_BODY = "{\"error\":{\"code\":410,\"message\":\"Resource has been deleted\"}}";
+
+    private final List<String> requests = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> authorizedUsers = Collections.synchronizedList(new ArrayList<>());
+    private HttpServer server;
+    private GoogleCalendarManager manager;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+
+        String rootUrl = "http://localhost:" + server.getAddress().getPort() + "/";
+        manager = new GoogleCalendarManager(new NetHttpTransport(), rootUrl) {
+            @Override
+            public Credential getCredentials(NetHttpTransport httpTransport, String userName) {
+                authorizedUsers.add(userName);
+                return null;
+            }
+        };
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void addAppointment_sameDoctorTwice_clientAndCredentialsReused() throws Exception {
+        Appointment appointment = new Appointment(10000, "Carl Kurz", "Amy Bee", LocalDateTime.of(2018, 12, 3, 9, 0));
+        manager.addAppointment(CARL, appointment);
+        manager.addAppointment(CARL, appointment);
+
+        assertEquals(Collections.singletonList(CARL), authorizedUsers);
+        // Each event is looked up, found missing and inserted
+        assertEquals(4, requests.size());
+        assertTrue(requests.get(0).startsWith("GET " + EVENTS_PATH + "/"));
+        assertEquals("POST " + EVENTS_PATH, requests.get(1));
+        assertEquals(requests.get(0), requests.get(2));
+        assertEquals(2, manager.getLatencies(GoogleCalendarManager.Call.ADD_APPOINTMENT).getCount());
+        assertEquals(1, manager.getClientCacheMisses());
+    }
+
+    @Test
+    public void deleteAppointment_eventGone_ignored() throws Exception {
+        manager.deleteAppointment(CARL, new Appointment(10000, "Carl Kurz", "Amy Bee",
+                LocalDateTime.of(2018, 12, 3, 9, 0)));
+
+        assertEquals(1, requests.size());
+        assertEquals(1, manager.getLatencies(GoogleCalendarManager.Call.DELETE_APPOINTMENT).getCount());
+    }
+
+    @Test
+    public void getService_moreDoctorsThanCached_leastRecentlyUsedEvicted() throws Exception {
+        Calendar first = manager.getService("Doctor 0");
+        for (int i = 1; i < GoogleCalendarManager.MAX_CACHED_CLIENTS; i++) {
+            manager.getService("Doctor " + i);
+        }
+        assertSame(first, manager.getService("Doctor 0"));
+        assertEquals(1, manager.getClientCacheHits());
+
+        // Doctor 1 is now the least recently used, and makes way for one more doctor
+        manager.getService("Doctor " + GoogleCalendarManager.MAX_CACHED_CLIENTS);
+        manager.getService("Doctor 0");
+        manager.getService("Doctor 1");
+
+        assertEquals(2, manager.getClientCacheHits());
+        assertEquals(GoogleCalendarManager.MAX_CACHED_CLIENTS + 2, authorizedUsers.size());
+        assertEquals("Doctor 1", authorizedUsers.get(authorizedUsers.size() - 1));
+    }
+
+    /**
+     * Answers like the calendar API of a calendar without events: events are not found when looked up or deleted,
+     * and are created when inserted.
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        requests.add(method + " " + exchange.getRequestURI().getPath());
+        try (InputStream body = exchange.getRequestBody()) {
+            while (body.read() != -1) {
+                // Read the whole request so that the connection can be reused
+            }
+        }
+
+        switch (method) {
+        case "GET":
+            respond(exchange, 404, NOT_FOUND_BODY);
+            break;
+        case "DELETE":
+            respond(exchange, 410, GONE_BODY);
+            break;
+        default:
+            respond(exchange, 200, "{}");
+            break;
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
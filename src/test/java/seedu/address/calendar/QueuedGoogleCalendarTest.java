@@ -0,0 +1,351 @@
+package seedu.address.calendar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.api.client.auth.oauth2.Credential;
+import com.google.api.client.http.javanet.NetHttpTransport;
+
+import seedu.address.calendar.exceptions.CalendarChangesRejectedException;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.storage.XmlCalendarQueueStorage;
+
+public class QueuedGoogleCalendarTest {
+
+    private static final long LONG_DELAY_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    private static final String CARL = "Carl Kurz93333333";
+    private static final String DANA = "Dana Lim94444444";
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final List<QueuedGoogleCalendar> queues = new ArrayList<>();
+
+    @After
+    public void tearDown() {
+        queues.forEach(QueuedGoogleCalendar::close);
+    }
+
+    @Test
+    public void addAppointment_calendarBusy_returnsAndBatchesLaterChanges() throws Exception {
+        CalendarStub calendar = new CalendarStub(4);
+        calendar.blockFirstSync = new CountDownLatch(1);
+        QueuedGoogleCalendar queue = create(calendar, new CalendarQueueStorageStub(), LONG_DELAY_MILLIS);
+
+        queue.addAppointment(CARL, appointment(10000));
+        assertTrue(calendar.firstSyncStarted.await(10, TimeUnit.SECONDS));
+        // The calendar has not answered the first change, but the next changes are taken in without waiting
+        queue.addAppointment(CARL, appointment(10001));
+        queue.deleteAppointment(CARL, appointment(10000));
+        queue.addAppointment(DANA, appointment(10002));
+        assertEquals(4, queue.getPendingCount());
+        calendar.blockFirstSync.countDown();
+
+        assertTrue(calendar.allSent.await(10, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList(Collections.singletonList(add(CARL, 10000)),
+                Arrays.asList(add(CARL, 10001), delete(CARL, 10000)),
+                Collections.singletonList(add(DANA, 10002))), calendar.batches);
+        assertEquals(Arrays.asList(CARL, CARL, DANA), calendar.userNames);
+    }
+
+    @Test
+    public void addAppointment_moreThanBatchSize_sentInBatches() throws Exception {
+        int count = QueuedGoogleCalendar.MAX_BATCH_SIZE + 1;
+        CalendarStub calendar = new CalendarStub(count);
+        calendar.blockFirstSync = new CountDownLatch(1);
+        QueuedGoogleCalendar queue = create(calendar, new CalendarQueueStorageStub(), LONG_DELAY_MILLIS);
+
+        queue.addAppointment(CARL, appointment(10000));
+        assertTrue(calendar.firstSyncStarted.await(10, TimeUnit.SECONDS));
+        for (int i = 1; i < count; i++) {
+            queue.addAppointment(CARL, appointment(10000 + i));
+        }
+        calendar.blockFirstSync.countDown();
+
+        assertTrue(calendar.allSent.await(10, TimeUnit.SECONDS));
+        assertEquals(2, calendar.batches.size());
+        assertEquals(QueuedGoogleCalendar.MAX_BATCH_SIZE, calendar.batches.get(1).size());
+    }
+
+    @Test
+    public void syncAppointments_calendarFails_retriedUntilSent() throws Exception {
+        CalendarStub calendar = new CalendarStub(1);
+        calendar.failuresLeft = 3;
+        QueuedGoogleCalendar queue = create(calendar, new CalendarQueueStorageStub(), 1);
+
+        queue.addAppointment(CARL, appointment(10000));
+
+        assertTrue(calendar.allSent.await(10, TimeUnit.SECONDS));
+        assertEquals(4, calendar.attempts);
+        assertEquals(1, calendar.batches.size());
+    }
+
+    @Test
+    public void addAppointment_batchBeingSent_queueStoredWithoutWaiting() throws Exception {
+        CalendarStub calendar = new CalendarStub(2);
+        calendar.blockFirstSync = new CountDownLatch(1);
+        CalendarQueueStorageStub storage = new CalendarQueueStorageStub();
+        QueuedGoogleCalendar queue = create(calendar, storage, LONG_DELAY_MILLIS);
+
+        queue.addAppointment(CARL, appointment(10000));
+        assertTrue(calendar.firstSyncStarted.await(10, TimeUnit.SECONDS));
+        queue.addAppointment(CARL, appointment(10001));
+
+        assertTrue(storage.awaitSave(Arrays.asList(add(CARL, 10000), add(CARL, 10001))));
+        calendar.blockFirstSync.countDown();
+        assertTrue(calendar.allSent.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void syncAppointments_oneDoctorFails_otherDoctorsSent() throws Exception {
+        CalendarStub calendar = new CalendarStub(1);
+        calendar.offlineUserName = CARL;
+        QueuedGoogleCalendar queue = create(calendar, new CalendarQueueStorageStub(), LONG_DELAY_MILLIS);
+
+        queue.addAppointment(CARL, appointment(10000));
+        assertTrue(calendar.firstSyncStarted.await(10, TimeUnit.SECONDS));
+        queue.addAppointment(DANA, appointment(10001));
+
+        assertTrue(calendar.allSent.await(10, TimeUnit.SECONDS));
+        queue.close();
+        assertEquals(Collections.singletonList(Collections.singletonList(add(DANA, 10001))), calendar.batches);
+        assertEquals(1, queue.getPendingCount());
+    }
+
+    @Test
+    public void syncAppointments_changeRejected_keptAsideAndOtherChangesSent() throws Exception {
+        CalendarStub calendar = new CalendarStub(2);
+        calendar.blockFirstSync = new CountDownLatch(1);
+        calendar.rejectedAppointmentId = 10000;
+        CalendarQueueStorageStub storage = new CalendarQueueStorageStub();
+        QueuedGoogleCalendar queue = create(calendar, storage, LONG_DELAY_MILLIS);
+
+        queue.addAppointment(CARL, appointment(10000));
+        assertTrue(calendar.firstSyncStarted.await(10, TimeUnit.SECONDS));
+        queue.addAppointment(CARL, appointment(10001));
+        queue.addAppointment(CARL, appointment(10002));
+        calendar.blockFirstSync.countDown();
+
+        assertTrue(calendar.allSent.await(10, TimeUnit.SECONDS));
+        queue.close();
+        assertEquals(Collections.singletonList(add(CARL, 10000)), queue.getRejectedOperations());
+        assertEquals(0, queue.getPendingCount());
+        assertTrue(storage.readOperations().isEmpty());
+        assertEquals(2, calendar.attempts);
+    }
+
+    @Test
+    public void syncAppointments_unexpectedError_batchKeptAside() throws Exception {
+        CalendarStub calendar = new CalendarStub(1);
+        calendar.blockFirstSync = new CountDownLatch(1);
+        calendar.unexpectedErrorsLeft = 1;
+        QueuedGoogleCalendar queue = create(calendar, new CalendarQueueStorageStub(), LONG_DELAY_MILLIS);
+
+        queue.addAppointment(CARL, appointment(10000));
+        assertTrue(calendar.firstSyncStarted.await(10, TimeUnit.SECONDS));
+        queue.deleteAppointment(CARL, appointment(10000));
+        queue.addAppointment(CARL, appointment(10001));
+        calendar.blockFirstSync.countDown();
+
+        assertTrue(calendar.allSent.await(10, TimeUnit.SECONDS));
+        queue.close();
+        assertEquals(Collections.singletonList(add(CARL, 10000)), queue.getRejectedOperations());
+        assertEquals(2, calendar.attempts);
+    }
+
+    @Test
+    public void getRetryDelayMillis_repeatedFailures_doublesUpToMaximum() {
+        QueuedGoogleCalendar queue = create(new CalendarStub(0), new CalendarQueueStorageStub(),
+                QueuedGoogleCalendar.INITIAL_RETRY_DELAY_MILLIS);
+        assertEquals(1000, queue.getRetryDelayMillis(1));
+        assertEquals(2000, queue.getRetryDelayMillis(2));
+        assertEquals(8000, queue.getRetryDelayMillis(4));
+        assertEquals(QueuedGoogleCalendar.MAX_RETRY_DELAY_MILLIS, queue.getRetryDelayMillis(20));
+        assertEquals(QueuedGoogleCalendar.MAX_RETRY_DELAY_MILLIS, queue.getRetryDelayMillis(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void close_calendarOffline_changesStoredAndSentOnNextStart() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve(XmlCalendarQueueStorage.DEFAULT_FILE_NAME);
+        CalendarStub offline = new CalendarStub(2);
+        offline.failuresLeft = Integer.MAX_VALUE;
+        QueuedGoogleCalendar queue = create(offline, new XmlCalendarQueueStorage(file), LONG_DELAY_MILLIS);
+        queue.addAppointment(CARL, appointment(10000));
+        queue.deleteAppointment(CARL, appointment(10000));
+        queue.close();
+
+        assertEquals(Arrays.asList(add(CARL, 10000), delete(CARL, 10000)),
+                new XmlCalendarQueueStorage(file).readOperations());
+
+        CalendarStub online = new CalendarStub(2);
+        QueuedGoogleCalendar restarted = create(online, new XmlCalendarQueueStorage(file), LONG_DELAY_MILLIS);
+        assertTrue(online.allSent.await(10, TimeUnit.SECONDS));
+        assertEquals(Collections.singletonList(Arrays.asList(add(CARL, 10000), delete(CARL, 10000))),
+                online.batches);
+        restarted.close();
+        assertTrue(new XmlCalendarQueueStorage(file).readOperations().isEmpty());
+    }
+
+    @Test
+    public void constructor_unreadableQueueFile_fileMovedAsideAndNotReplaced() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve(XmlCalendarQueueStorage.DEFAULT_FILE_NAME);
+        Files.write(file, Collections.singletonList("<calendarqueue>"));
+        CalendarStub offline = new CalendarStub(1);
+        offline.failuresLeft = Integer.MAX_VALUE;
+        QueuedGoogleCalendar queue = create(offline, new XmlCalendarQueueStorage(file), LONG_DELAY_MILLIS);
+        queue.addAppointment(CARL, appointment(10000));
+        queue.close();
+
+        Path asideFile = file.resolveSibling(file.getFileName() + XmlCalendarQueueStorage.MOVED_ASIDE_SUFFIX);
+        assertEquals(Collections.singletonList("<calendarqueue>"), Files.readAllLines(asideFile));
+        assertEquals(Collections.singletonList(add(CARL, 10000)), new XmlCalendarQueueStorage(file).readOperations());
+    }
+
+    private QueuedGoogleCalendar create(GoogleCalendar calendar, CalendarQueueStorage storage,
+                                        long initialRetryDelayMillis) {
+        QueuedGoogleCalendar queue = new QueuedGoogleCalendar(calendar, storage, initialRetryDelayMillis);
+        queues.add(queue);
+        return queue;
+    }
+
+    private static Appointment appointment(int id) {
+        return new Appointment(id, "Carl Kurz", "Amy Bee", LocalDateTime.of(2018, 12, 3, 9, 0).plusHours(id % 8));
+    }
+
+    private static CalendarOperation add(String userName, int id) {
+        return new CalendarOperation(CalendarOperation.Kind.ADD, userName, appointment(id));
+    }
+
+    private static CalendarOperation delete(String userName, int id) {
+        return new CalendarOperation(CalendarOperation.Kind.DELETE, userName, appointment(id));
+    }
+
+    /**
+     * A calendar that records the batches it is sent, and can be made to fail or to wait before answering.
+     */
+    private static class CalendarStub implements GoogleCalendar {
+        private final List<List<CalendarOperation>> batches = Collections.synchronizedList(new ArrayList<>());
+        private final List<String> userNames = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch firstSyncStarted = new CountDownLatch(1);
+        private final CountDownLatch allSent;
+        private CountDownLatch blockFirstSync;
+        private volatile int failuresLeft;
+        private volatile int unexpectedErrorsLeft;
+        private volatile int attempts;
+        /** The doctor whose calendar cannot be reached, or null if every calendar can be. */
+        private volatile String offlineUserName;
+        /** The ID of the appointment whose changes the calendar rejects, or 0 if it rejects none. */
+        private volatile int rejectedAppointmentId;
+
+        CalendarStub(int expectedChanges) {
+            allSent = new CountDownLatch(expectedChanges);
+        }
+
+        @Override
+        public Credential getCredentials(NetHttpTransport httpTransport, String userName) {
+            return null;
+        }
+
+        @Override
+        public void registerDoctor(String userName) {}
+
+        @Override
+        public void addAppointment(String userName, Appointment appointment) {
+            throw new AssertionError("Changes should be sent in batches.");
+        }
+
+        @Override
+        public void deleteAppointment(String userName, Appointment appointment) {
+            throw new AssertionError("Changes should be sent in batches.");
+        }
+
+        @Override
+        public void syncAppointments(String userName, List<CalendarOperation> operations) throws IOException {
+            attempts++;
+            firstSyncStarted.countDown();
+            if (blockFirstSync != null) {
+                try {
+                    blockFirstSync.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException ie) {
+                    throw new IOException(ie);
+                }
+                blockFirstSync = null;
+            }
+            if (failuresLeft > 0 || userName.equals(offlineUserName)) {
+                failuresLeft--;
+                throw new IOException("Calendar is offline");
+            }
+            if (unexpectedErrorsLeft > 0) {
+                unexpectedErrorsLeft--;
+                throw new IllegalStateException("Unexpected error");
+            }
+            List<CalendarOperation> rejected = operations.stream()
+                    .filter(operation -> operation.getAppointment().getAppointmentId() == rejectedAppointmentId)
+                    .collect(Collectors.toList());
+            if (!rejected.isEmpty()) {
+                operations.stream().filter(operation -> !rejected.contains(operation))
+                        .forEach(operation -> allSent.countDown());
+                throw new CalendarChangesRejectedException(rejected, "Appointment cannot be added");
+            }
+            batches.add(new ArrayList<>(operations));
+            userNames.add(userName);
+            operations.forEach(operation -> allSent.countDown());
+        }
+    }
+
+    /**
+     * A calendar queue storage that keeps the queue in memory.
+     */
+    private static class CalendarQueueStorageStub implements CalendarQueueStorage {
+        private final BlockingQueue<List<CalendarOperation>> saves = new LinkedBlockingQueue<>();
+        private List<CalendarOperation> operations = Collections.emptyList();
+
+        @Override
+        public synchronized List<CalendarOperation> readOperations() {
+            return operations;
+        }
+
+        @Override
+        public synchronized void saveOperations(List<CalendarOperation> operations) {
+            this.operations = new ArrayList<>(operations);
+            saves.add(this.operations);
+        }
+
+        @Override
+        public void moveAside() {
+            throw new AssertionError("The stored queue is always readable.");
+        }
+
+        /**
+         * Returns true if {@code operations} are saved within a few seconds.
+         */
+        boolean awaitSave(List<CalendarOperation> operations) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            for (long left = deadline - System.nanoTime(); left > 0; left = deadline - System.nanoTime()) {
+                if (operations.equals(saves.poll(left, TimeUnit.NANOSECONDS))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
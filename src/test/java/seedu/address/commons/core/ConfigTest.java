@@ -16,7 +16,9 @@ public class ConfigTest {
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "App title : Health Book\n"
                 + "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Appointment duration in minutes : 30\n"
+                + "Command statistics file Location : null";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
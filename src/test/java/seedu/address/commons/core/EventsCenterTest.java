@@ -0,0 +1,129 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.events.BaseEvent;
+
+public class EventsCenterTest {
+
+    private final EventsCenter eventsCenter = EventsCenter.getInstance();
+    private final List<String> handled = Collections.synchronizedList(new ArrayList<>());
+    private final List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void post_eventPostedByHandler_handledAfterPostedEvent() {
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            public void handle(TestEvent event) {
+                handled.add("first " + event);
+                if (event.name.equals("outer")) {
+                    eventsCenter.post(new TestEvent("inner"));
+                }
+            }
+        });
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            public void handle(TestEvent event) {
+                handled.add("second " + event);
+            }
+        });
+
+        eventsCenter.post(new TestEvent("outer"));
+
+        assertEquals(Arrays.asList("first outer", "second outer", "first inner", "second inner"), handled);
+    }
+
+    @Test
+    public void post_storageHandlerAfterStart_handledInOrderOnAnotherThread() {
+        RecordingHandler handler = new RecordingHandler();
+        eventsCenter.registerHandler(handler, EventsCenter.Category.STORAGE);
+        eventsCenter.startAsyncDispatch(Runnable::run);
+
+        for (int i = 0; i < 100; i++) {
+            eventsCenter.post(new TestEvent(String.valueOf(i)));
+        }
+        eventsCenter.awaitHandled(EventsCenter.Category.STORAGE);
+
+        assertEquals(100, handled.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(String.valueOf(i), handled.get(i));
+            assertNotEquals(Thread.currentThread(), threads.get(i));
+        }
+        assertEquals(0, eventsCenter.getQueuedCount(EventsCenter.Category.STORAGE));
+        assertEquals(100, eventsCenter.getHandlerLatencies(RecordingHandler.class).getCount());
+    }
+
+    @Test
+    public void post_uiHandler_handledOnUiExecutor() {
+        List<Runnable> uiTasks = new ArrayList<>();
+        eventsCenter.registerHandler(new RecordingHandler(), EventsCenter.Category.UI);
+        eventsCenter.startAsyncDispatch(uiTasks::add);
+
+        eventsCenter.post(new TestEvent("shown"));
+        assertEquals(Collections.emptyList(), handled);
+        assertEquals(1, eventsCenter.getQueuedCount(EventsCenter.Category.UI));
+
+        uiTasks.forEach(Runnable::run);
+        assertEquals(Collections.singletonList("shown"), handled);
+        assertEquals(0, eventsCenter.getQueuedCount(EventsCenter.Category.UI));
+        assertEquals(1, eventsCenter.getMaxQueuedCount(EventsCenter.Category.UI));
+    }
+
+    @Test
+    public void stopAsyncDispatch_eventsWaiting_handledBeforeStopReturns() {
+        eventsCenter.registerHandler(new RecordingHandler(), EventsCenter.Category.ANALYTICS);
+        eventsCenter.startAsyncDispatch(Runnable::run);
+        eventsCenter.post(new TestEvent("before"));
+
+        eventsCenter.stopAsyncDispatch();
+        assertEquals(Collections.singletonList("before"), handled);
+
+        // Handled on the posting thread again
+        eventsCenter.post(new TestEvent("after"));
+        assertEquals(Arrays.asList("before", "after"), handled);
+        assertEquals(Thread.currentThread(), threads.get(1));
+    }
+
+    /**
+     * Records the events it handles and the threads it handles them on.
+     */
+    private class RecordingHandler {
+        @Subscribe
+        public void handle(TestEvent event) {
+            threads.add(Thread.currentThread());
+            handled.add(event.name);
+        }
+    }
+
+    /**
+     * An event with a name.
+     */
+    private static class TestEvent extends BaseEvent {
+        private final String name;
+
+        TestEvent(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class LatencyHistogramTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    public void getPercentileNanos_nothingRecorded_returnsZero() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentileNanos(50));
+        assertEquals(0, histogram.getMeanNanos());
+    }
+
+    @Test
+    public void getPercentileNanos_smallDurations_exact() {
+        for (long nanos = 0; nanos < 10; nanos++) {
+            histogram.record(nanos);
+        }
+        assertEquals(4, histogram.getPercentileNanos(50));
+        assertEquals(9, histogram.getPercentileNanos(100));
+        assertEquals(0, histogram.getPercentileNanos(0));
+    }
+
+    @Test
+    public void getPercentileNanos_largeDurations_withinBucketWidth() {
+        for (int millis = 1; millis <= 100; millis++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+        assertWithinBucketWidth(TimeUnit.MILLISECONDS.toNanos(50), histogram.getPercentileNanos(50));
+        assertWithinBucketWidth(TimeUnit.MILLISECONDS.toNanos(90), histogram.getPercentileNanos(90));
+        assertWithinBucketWidth(TimeUnit.MILLISECONDS.toNanos(99), histogram.getPercentileNanos(99));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), histogram.getPercentileNanos(100));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), histogram.getMaxNanos());
+        assertEquals(100, histogram.getCount());
+    }
+
+    @Test
+    public void record_largestDuration_recorded() {
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.getPercentileNanos(50));
+    }
+
+    @Test
+    public void record_negativeDuration_recordedAsZero() {
+        histogram.record(-5);
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getMaxNanos());
+    }
+
+    @Test
+    public void clear_afterRecording_empty() {
+        histogram.record(1000);
+        histogram.clear();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentileNanos(99));
+    }
+
+    @Test
+    public void getPercentileNanos_invalidPercentile_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        histogram.getPercentileNanos(101);
+    }
+
+    private void assertWithinBucketWidth(long expected, long actual) {
+        assertTrue(actual + " is below " + expected, actual >= expected);
+        assertTrue(actual + " is too far above " + expected, actual <= expected + expected / 16);
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.commons.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 import java.io.FileNotFoundException;
 import java.nio.file.Path;
@@ -16,6 +17,7 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import seedu.address.model.HealthBook;
+import seedu.address.model.person.Person;
 import seedu.address.storage.XmlAdaptedPerson;
 import seedu.address.storage.XmlAdaptedTag;
 import seedu.address.storage.XmlSerializableHealthBook;
@@ -140,10 +142,42 @@ public class XmlUtilTest {
         assertEquals(dataToWrite, dataFromFile);
     }
 
+    @Test
+    public void saveDataToFile_afterCachesCleared_dataSaved() throws Exception {
+        FileUtil.createFile(TEMP_FILE);
+        XmlSerializableHealthBook dataToWrite = new XmlSerializableHealthBook(
+                new AddressBookBuilder().withPerson(new PersonBuilder().build()).build());
+        XmlUtil.saveDataToFile(TEMP_FILE, dataToWrite);
+
+        XmlUtil.clearCaches();
+        assertEquals(dataToWrite, XmlUtil.getDataFromFile(TEMP_FILE, XmlSerializableHealthBook.class));
+        XmlUtil.saveDataToFile(TEMP_FILE, dataToWrite);
+        assertEquals(dataToWrite, XmlUtil.getDataFromFile(TEMP_FILE, XmlSerializableHealthBook.class));
+    }
+
+    @Test
+    public void convertDataToString_afterSavingToFile_singleElementReadBack() throws Exception {
+        FileUtil.createFile(TEMP_FILE);
+        XmlUtil.saveDataToFile(TEMP_FILE, new XmlSerializableHealthBook(new HealthBook()));
+
+        // The marshaller shared with saveDataToFile must not keep the file settings
+        XmlAdaptedPerson person = new XmlAdaptedPersonWithRootElement(new PersonBuilder().build());
+        String xml = XmlUtil.convertDataToString(person);
+        assertFalse(xml.startsWith("<?xml"));
+        assertFalse(xml.contains("\n"));
+        assertEquals(person, XmlUtil.getDataFromString(xml, XmlAdaptedPersonWithRootElement.class));
+    }
+
     /**
      * Test class annotated with {@code XmlRootElement} to allow unmarshalling of .xml data to {@code XmlAdaptedPerson}
      * objects.
      */
     @XmlRootElement(name = "person")
-    private static class XmlAdaptedPersonWithRootElement extends XmlAdaptedPerson {}
+    private static class XmlAdaptedPersonWithRootElement extends XmlAdaptedPerson {
+        private XmlAdaptedPersonWithRootElement() {}
+
+        private XmlAdaptedPersonWithRootElement(Person source) {
+            super(source);
+        }
+    }
 }
@@ -0,0 +1,73 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.events.storage.HealthBookSavedEvent;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+public class CommandMetricsTest {
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final CommandMetrics metrics = new CommandMetrics();
+
+    @Test
+    public void getSummary_severalCommandWords_slowestFirst() {
+        metrics.recordRun("list", true);
+        metrics.record("list", CommandMetrics.Phase.EXECUTE, 1_000);
+        metrics.recordRun("clear", false);
+        metrics.record("clear", CommandMetrics.Phase.EXECUTE, 5_000_000);
+
+        String[] lines = metrics.getSummary().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("clear: 1 run(s), 1 failed; execute p50 5.000, p99 5.000", lines[0]);
+        assertTrue(lines[1].startsWith("list: 1 run(s), 0 failed; execute p50 0.001"));
+        assertEquals(Arrays.asList("clear", "list"), metrics.getCommandWords());
+    }
+
+    @Test
+    public void handleHealthBookSavedEvent_afterChange_countedUnderLastChangingCommand() {
+        // Saved before any command changed the model
+        metrics.handleHealthBookSavedEvent(new HealthBookSavedEvent(1_000));
+        assertTrue(metrics.getCommandWords().isEmpty());
+
+        metrics.record("add-appointment", CommandMetrics.Phase.MUTATE, 1_000);
+        metrics.record("list", CommandMetrics.Phase.EXECUTE, 1_000);
+        metrics.handleHealthBookSavedEvent(new HealthBookSavedEvent(2_000));
+
+        assertEquals(1, metrics.getLatencies("add-appointment", CommandMetrics.Phase.SAVE).getCount());
+        assertEquals(0, metrics.getLatencies("list", CommandMetrics.Phase.SAVE).getCount());
+    }
+
+    @Test
+    public void writeTo_csvAndJsonFiles_formatFollowsExtension() throws Exception {
+        metrics.recordRun("list", true);
+        metrics.record("list", CommandMetrics.Phase.PARSE, 2_000_000);
+
+        Path csvFile = testFolder.getRoot().toPath().resolve("stats").resolve("commands.csv");
+        metrics.writeTo(csvFile);
+        String[] rows = FileUtil.readFromFile(csvFile).split("\n");
+        assertEquals(1 + CommandMetrics.Phase.values().length, rows.length);
+        assertEquals("list,1,0,parse,1,2.000,2.000,2.000,2.000,2.000", rows[1]);
+        assertEquals("list,1,0,execute,0,0.000,0.000,0.000,0.000,0.000", rows[2]);
+
+        Path jsonFile = testFolder.getRoot().toPath().resolve("commands.json");
+        metrics.writeTo(jsonFile);
+        Map<?, ?> list = (Map<?, ?>) JsonUtil.fromJsonString(FileUtil.readFromFile(jsonFile), Map.class).get("list");
+        assertEquals(1, list.get("runs"));
+        assertEquals(0, list.get("failures"));
+        Map<?, ?> parse = (Map<?, ?>) ((Map<?, ?>) list.get("phases")).get("parse");
+        assertEquals(1, parse.get("count"));
+        assertEquals(2.0, parse.get("meanMs"));
+    }
+}
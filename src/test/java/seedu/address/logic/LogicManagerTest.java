@@ -3,10 +3,13 @@ package seedu.address.logic;
 import static org.junit.Assert.assertEquals;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Arrays;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
@@ -38,6 +41,29 @@ public class LogicManagerTest {
         assertHistoryCorrect(listCommand);
     }
 
+    @Test
+    public void execute_commands_timeRecordedByCommandWord() throws Exception {
+        logic.execute(ClearCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        try {
+            logic.execute("uicfhmowqewca");
+        } catch (ParseException pe) {
+            // The time taken to fail is recorded too
+        }
+
+        CommandMetrics metrics = logic.getCommandMetrics();
+        assertEquals(Arrays.asList(CommandMetrics.INVALID_COMMAND_WORD, ClearCommand.COMMAND_WORD,
+                ListCommand.COMMAND_WORD), metrics.getCommandWords());
+        assertEquals(1, metrics.getLatencies(ClearCommand.COMMAND_WORD, CommandMetrics.Phase.MUTATE).getCount());
+        assertEquals(1, metrics.getLatencies(ClearCommand.COMMAND_WORD, CommandMetrics.Phase.COMMIT).getCount());
+        assertEquals(1, metrics.getLatencies(ListCommand.COMMAND_WORD, CommandMetrics.Phase.EXECUTE).getCount());
+        // Filtering the list does not change the model
+        assertEquals(0, metrics.getLatencies(ListCommand.COMMAND_WORD, CommandMetrics.Phase.MUTATE).getCount());
+        assertEquals(1, metrics.getFailureCount(CommandMetrics.INVALID_COMMAND_WORD));
+        assertEquals(0, metrics.getLatencies(CommandMetrics.INVALID_COMMAND_WORD,
+                CommandMetrics.Phase.EXECUTE).getCount());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -0,0 +1,132 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.GOOGLE_CALENDAR_STUB;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+
+import java.time.LocalDateTime;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.HealthBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentSeries;
+import seedu.address.model.doctor.Doctor;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.DoctorBuilder;
+import seedu.address.testutil.PatientBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code AddAppointmentSeriesCommand}, and for the
+ * checks of other booking commands against appointment series.
+ */
+public class AddAppointmentSeriesCommandTest {
+    private static final LocalDateTime NINE = LocalDateTime.of(2018, 12, 3, 9, 0);
+
+    private final CommandHistory commandHistory = new CommandHistory();
+    private Model model;
+    private Patient amy;
+    private Patient bob;
+    private Doctor carl;
+
+    @Before
+    public void setUp() {
+        amy = new PatientBuilder().withName("Amy Bee").withPhone("91111111").build();
+        bob = new PatientBuilder().withName("Bob Choo").withPhone("92222222").build();
+        carl = new DoctorBuilder().withName("Carl Kurz").withPhone("93333333").build();
+        HealthBook healthBook = new HealthBook();
+        healthBook.addPatient(amy);
+        healthBook.addPatient(bob);
+        healthBook.addDoctor(carl);
+        model = new ModelManager(healthBook, new UserPrefs());
+    }
+
+    @Test
+    public void execute_weeklySeries_addedAsOneSeries() throws Exception {
+        int counter = model.getAppointmentCounter();
+        CommandResult result = weekly(amy, NINE, 52).execute(model, commandHistory, GOOGLE_CALENDAR_STUB);
+
+        AppointmentSeries series = new AppointmentSeries(counter, "Carl Kurz", "93333333", "Amy Bee", "91111111", NINE,
+                7, 52);
+        assertEquals(String.format(AddAppointmentSeriesCommand.MESSAGE_SUCCESS, 52, series), result.feedbackToUser);
+        assertEquals(series, model.getAddressBook().getAppointmentSeriesList().get(0));
+        assertEquals(series, model.getAppointmentSeries(carl).get(0));
+        assertEquals(series, model.getAppointmentSeries(amy).get(0));
+        assertTrue(model.getAppointmentSeries(bob).isEmpty());
+        assertTrue(model.getAddressBook().getAppointmentList().isEmpty());
+        assertEquals(counter + 52, model.getAppointmentCounter());
+
+        model.undoAddressBook();
+        assertTrue(model.getAddressBook().getAppointmentSeriesList().isEmpty());
+        assertTrue(model.getAppointmentSeries(amy).isEmpty());
+        assertEquals(counter, model.getAddressBook().getAppointmentCounter());
+    }
+
+    @Test
+    public void execute_clashWithUpcomingAppointment_throwsCommandException() throws Exception {
+        new AddAppointmentCommand(new Name("Bob Choo"), null, new Name("Carl Kurz"), null, NINE.plusWeeks(20))
+                .execute(model, commandHistory, GOOGLE_CALENDAR_STUB);
+
+        assertCommandFailure(weekly(amy, NINE.plusMinutes(15), 52), model, commandHistory,
+                AddAppointmentCommand.MESSAGE_DOCTOR_CLASH_APPOINTMENT);
+    }
+
+    @Test
+    public void execute_clashWithOtherSeries_throwsCommandException() throws Exception {
+        weekly(amy, NINE, 52).execute(model, commandHistory, GOOGLE_CALENDAR_STUB);
+
+        assertCommandFailure(weekly(bob, NINE.plusWeeks(51), 4), model, commandHistory,
+                AddAppointmentCommand.MESSAGE_DOCTOR_CLASH_APPOINTMENT);
+    }
+
+    @Test
+    public void execute_appointmentOnOccurrence_throwsCommandException() throws Exception {
+        weekly(amy, NINE, 52).execute(model, commandHistory, GOOGLE_CALENDAR_STUB);
+
+        assertCommandFailure(new AddAppointmentCommand(new Name("Bob Choo"), null, new Name("Carl Kurz"), null,
+                NINE.plusWeeks(40)), model, commandHistory, AddAppointmentCommand.MESSAGE_DOCTOR_CLASH_APPOINTMENT);
+
+        new AddAppointmentCommand(new Name("Bob Choo"), null, new Name("Carl Kurz"), null,
+                NINE.plusWeeks(40).plusMinutes(30)).execute(model, commandHistory, GOOGLE_CALENDAR_STUB);
+        Appointment booked = bob.getUpcomingAppointments().get(0);
+        assertEquals(model.getAppointmentCounter() - 1, booked.getAppointmentId());
+    }
+
+    @Test
+    public void execute_deletePatient_seriesRemoved() throws Exception {
+        weekly(amy, NINE, 52).execute(model, commandHistory, GOOGLE_CALENDAR_STUB);
+        model.deletePerson(amy);
+        assertTrue(model.getAppointmentSeries(carl).isEmpty());
+    }
+
+    @Test
+    public void execute_doctorNamedAsPatient_seriesKeptApart() throws Exception {
+        Doctor doctorAmy = new DoctorBuilder().withName("Amy Bee").withPhone("95555555").build();
+        model.addDoctor(doctorAmy);
+        weekly(amy, NINE, 52).execute(model, commandHistory, GOOGLE_CALENDAR_STUB);
+
+        // Patient Amy's series at the same time is not a clash for doctor Amy
+        new AddAppointmentSeriesCommand(new BookingRequest(bob.getName(), null, doctorAmy.getName(),
+                new Phone("95555555"), NINE), 7, 52).execute(model, commandHistory, GOOGLE_CALENDAR_STUB);
+        assertEquals(1, model.getAppointmentSeries(doctorAmy).size());
+        assertEquals(1, model.getAppointmentSeries(amy).size());
+
+        model.deletePerson(amy);
+        assertTrue(model.getAppointmentSeries(carl).isEmpty());
+        assertEquals(1, model.getAppointmentSeries(doctorAmy).size());
+        assertEquals(1, model.getAddressBook().getAppointmentSeriesList().size());
+    }
+
+    private static AddAppointmentSeriesCommand weekly(Patient patient, LocalDateTime first, int count) {
+        return new AddAppointmentSeriesCommand(new BookingRequest(patient.getName(), null, new Name("Carl Kurz"),
+                null, first), 7, count);
+    }
+}
@@ -54,6 +54,10 @@ public class FindCommandTest {
 
         // different person -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // search with the same words -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand("first")));
+        assertTrue(new FindCommand("first").equals(new FindCommand("first")));
     }
 
     @Test
@@ -76,6 +80,20 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_searchQuery_personsFoundBestMatchFirst() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        FindCommand command = new FindCommand("kurz");
+        expectedModel.updateFilteredPersonListBySearch("kurz", FindCommand.MAX_SEARCH_RESULTS);
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+        // Fiona Kunz is one letter away
+        assertEquals(Arrays.asList(CARL, FIONA), model.getFilteredPersonList());
+
+        // A new filter lists persons in their usual order again
+        model.updateFilteredPersonListByName(Arrays.asList("Kunz", "Kurz"));
+        assertEquals(Arrays.asList(CARL, FIONA), model.getFilteredPersonList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
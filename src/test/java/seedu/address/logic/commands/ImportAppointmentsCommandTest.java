@@ -0,0 +1,109 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.GOOGLE_CALENDAR_STUB;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.HealthBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.doctor.Doctor;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.person.Name;
+import seedu.address.testutil.DoctorBuilder;
+import seedu.address.testutil.PatientBuilder;
+
+/**
+ * Contains integration tests for ImportAppointmentsCommand and the BatchBooking it runs.
+ */
+public class ImportAppointmentsCommandTest {
+    private static final LocalDateTime NINE = LocalDateTime.of(2018, 12, 20, 9, 0);
+
+    private final CommandHistory commandHistory = new CommandHistory();
+    private Model model;
+    private Patient amy;
+    private Patient bob;
+    private Doctor carl;
+    private Doctor dana;
+
+    @Before
+    public void setUp() {
+        amy = new PatientBuilder().withName("Amy Bee").withPhone("91111111").build();
+        bob = new PatientBuilder().withName("Bob Choo").withPhone("92222222").build();
+        carl = new DoctorBuilder().withName("Carl Kurz").withPhone("93333333").build();
+        dana = new DoctorBuilder().withName("Dana Lim").withPhone("94444444").build();
+        HealthBook healthBook = new HealthBook();
+        healthBook.addPatient(amy);
+        healthBook.addPatient(bob);
+        healthBook.addDoctor(carl);
+        healthBook.addDoctor(dana);
+        model = new ModelManager(healthBook, new UserPrefs());
+    }
+
+    @Test
+    public void execute_validRequests_allBookedAsOneCommit() throws Exception {
+        int counter = model.getAppointmentCounter();
+        ImportAppointmentsCommand command = new ImportAppointmentsCommand(Arrays.asList(request(amy, carl, NINE),
+                request(bob, carl, NINE.plusMinutes(30)), request(amy, dana, NINE.plusHours(1))));
+
+        CommandResult result = command.execute(model, commandHistory, GOOGLE_CALENDAR_STUB);
+
+        assertEquals(String.format(ImportAppointmentsCommand.MESSAGE_SUCCESS, 3), result.feedbackToUser);
+        assertEquals(3, model.getAddressBook().getAppointmentList().size());
+        assertEquals(counter + 3, model.getAppointmentCounter());
+        assertEquals(2, amy.getUpcomingAppointments().size());
+        assertEquals(2, carl.getUpcomingAppointments().size());
+        assertEquals(counter + 1, bob.getUpcomingAppointments().get(0).getAppointmentId());
+
+        model.undoAddressBook();
+        assertTrue(model.getAddressBook().getAppointmentList().isEmpty());
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_clashWithinBatch_nothingBooked() {
+        ImportAppointmentsCommand command = new ImportAppointmentsCommand(Arrays.asList(
+                request(amy, carl, NINE), request(amy, dana, NINE.plusMinutes(15))));
+
+        assertCommandFailure(command, model, commandHistory, String.format(BatchBooking.MESSAGE_INVALID_BOOKING, 2,
+                request(amy, dana, NINE.plusMinutes(15)), AddAppointmentCommand.MESSAGE_PATIENT_CLASH_APPOINTMENT));
+        assertTrue(amy.getUpcomingAppointments().isEmpty());
+        assertTrue(carl.getUpcomingAppointments().isEmpty());
+    }
+
+    @Test
+    public void execute_clashWithExistingAppointment_nothingBooked() throws Exception {
+        new ImportAppointmentsCommand(Collections.singletonList(request(amy, carl, NINE)))
+                .execute(model, commandHistory, GOOGLE_CALENDAR_STUB);
+
+        ImportAppointmentsCommand command = new ImportAppointmentsCommand(Arrays.asList(
+                request(bob, dana, NINE), request(bob, carl, NINE.plusMinutes(20))));
+        assertCommandFailure(command, model, commandHistory, String.format(BatchBooking.MESSAGE_INVALID_BOOKING, 2,
+                request(bob, carl, NINE.plusMinutes(20)), AddAppointmentCommand.MESSAGE_DOCTOR_CLASH_APPOINTMENT));
+        assertTrue(bob.getUpcomingAppointments().isEmpty());
+    }
+
+    @Test
+    public void execute_unknownPatient_throwsCommandException() {
+        BookingRequest unknown = new BookingRequest(new Name("Zed Zoo"), null, carl.getName(), null, NINE);
+        ImportAppointmentsCommand command = new ImportAppointmentsCommand(Collections.singletonList(unknown));
+
+        assertCommandFailure(command, model, commandHistory, String.format(BatchBooking.MESSAGE_INVALID_BOOKING, 1,
+                unknown, AddAppointmentCommand.MESSAGE_INVALID_PATIENT));
+    }
+
+    private static BookingRequest request(Patient patient, Doctor doctor, LocalDateTime dateTime) {
+        return new BookingRequest(patient.getName(), null, doctor.getName(), doctor.getPhone(), dateTime);
+    }
+}
@@ -8,6 +8,8 @@ import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -22,9 +24,12 @@ import seedu.address.model.HealthBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyHealthBook;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentSeries;
 import seedu.address.model.doctor.Doctor;
 import seedu.address.model.patient.Patient;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 import seedu.address.testutil.DoctorBuilder;
 import seedu.address.testutil.GoogleCalendarStub;
 
@@ -119,6 +124,21 @@ class RegisterDoctorCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addAppointments(List<Appointment> appointments) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addAppointmentSeries(AppointmentSeries series) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<AppointmentSeries> getAppointmentSeries(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteAppointment(Appointment appointment, Patient patient, Doctor doctor) {
             throw new AssertionError("This method should not be called.");
@@ -169,6 +189,36 @@ class RegisterDoctorCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Person> getFilteredPersons(Name name, Phone phone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Patient> getFilteredPatientWithAppointment(Appointment appointment) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Doctor> getFilteredDoctorWithAppointment(Appointment appointment) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonListByName(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonListBySearch(String query, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> searchPersons(String query, int limit, Predicate<Person> filter) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Appointment> getFilteredAppointmentList() {
             throw new AssertionError("This method should not be called.");
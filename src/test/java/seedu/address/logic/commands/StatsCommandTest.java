@@ -0,0 +1,48 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.CommandMetrics;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+    private CommandHistory history = new CommandHistory();
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_noCommandsEntered_noStats() {
+        assertCommandSuccess(new StatsCommand(), model, history, StatsCommand.MESSAGE_NO_STATS, expectedModel);
+    }
+
+    @Test
+    public void execute_commandsEntered_statsShown() {
+        CommandMetrics metrics = history.getMetrics();
+        metrics.recordRun(ListCommand.COMMAND_WORD, true);
+        metrics.record(ListCommand.COMMAND_WORD, CommandMetrics.Phase.EXECUTE, 1_000);
+
+        assertCommandSuccess(new StatsCommand(), model, history,
+                String.format(StatsCommand.MESSAGE_SUCCESS, metrics.getSummary()), expectedModel);
+        assertCommandSuccess(new StatsCommand(ListCommand.COMMAND_WORD), model, history,
+                metrics.getDetails(ListCommand.COMMAND_WORD), expectedModel);
+        assertCommandFailure(new StatsCommand(ClearCommand.COMMAND_WORD), model, history,
+                String.format(StatsCommand.MESSAGE_NO_STATS_FOR_COMMAND, ClearCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand statsCommand = new StatsCommand();
+
+        assertTrue(statsCommand.equals(statsCommand));
+        assertTrue(statsCommand.equals(new StatsCommand("")));
+        assertFalse(statsCommand.equals(new StatsCommand(ListCommand.COMMAND_WORD)));
+        assertFalse(statsCommand.equals(null));
+    }
+}
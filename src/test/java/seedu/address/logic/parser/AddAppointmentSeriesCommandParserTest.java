@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDateTime;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.AddAppointmentSeriesCommand;
+import seedu.address.logic.commands.BookingRequest;
+import seedu.address.model.appointment.AppointmentSeries;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+
+public class AddAppointmentSeriesCommandParserTest {
+    private static final LocalDateTime FIRST = LocalDateTime.of(2018, 10, 17, 15, 0);
+
+    private AddAppointmentSeriesCommandParser parser = new AddAppointmentSeriesCommandParser();
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        assertParseSuccess(parser, " np/John Doe pp/98765432 nd/Mary Jane pd/98765434 d/2018-10-17 15:00 ev/7 cnt/52",
+                new AddAppointmentSeriesCommand(new BookingRequest(new Name("John Doe"), new Phone("98765432"),
+                        new Name("Mary Jane"), new Phone("98765434"), FIRST), 7, 52));
+    }
+
+    @Test
+    public void parse_missingInterval_failure() {
+        assertParseFailure(parser, " np/John Doe nd/Mary Jane d/2018-10-17 15:00 cnt/52",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddAppointmentSeriesCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidRule_failure() {
+        assertParseFailure(parser, " np/John Doe nd/Mary Jane d/2018-10-17 15:00 ev/0 cnt/52",
+                AppointmentSeries.MESSAGE_SERIES_CONSTRAINTS);
+        assertParseFailure(parser, " np/John Doe nd/Mary Jane d/2018-10-17 15:00 ev/7 cnt/1001",
+                AppointmentSeries.MESSAGE_SERIES_CONSTRAINTS);
+    }
+}
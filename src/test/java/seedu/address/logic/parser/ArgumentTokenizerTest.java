@@ -136,6 +136,37 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingStart_longestPrefixRecognized() {
+        Prefix p = new Prefix("p/");
+        Prefix pp = new Prefix("pp/");
+        ArgumentTokenizer tokenizer = new ArgumentTokenizer(p, pp);
+
+        ArgumentMultimap argMultimap = tokenizer.tokenizeArguments(" pp/ 123 p/456 pp/789");
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, pp, "123", "789");
+        assertArgumentPresent(argMultimap, p, "456");
+
+        // Not a prefix although it starts with one
+        argMultimap = tokenizer.tokenizeArguments("preamble p/ a px/b");
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, p, "a px/b");
+        assertArgumentAbsent(argMultimap, pp);
+    }
+
+    @Test
+    public void tokenize_tokenizerReused_sameAsNewTokenizer() {
+        ArgumentTokenizer tokenizer = new ArgumentTokenizer(pSlash, dashT, hatQ);
+        String argsString = "SomePreambleString -t dashT-Value ^Q ^Q -t another dashT value p/ pSlash value -t";
+
+        tokenizer.tokenizeArguments("Different Preamble String ^Q111 -t dashT-Value p/pSlash value");
+        ArgumentMultimap argMultimap = tokenizer.tokenizeArguments(argsString);
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, pSlash, "pSlash value");
+        assertArgumentPresent(argMultimap, dashT, "dashT-Value", "another dashT value", "");
+        assertArgumentPresent(argMultimap, hatQ, "", "");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
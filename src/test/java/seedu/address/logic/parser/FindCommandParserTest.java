@@ -31,4 +31,10 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_searchQuery_returnsFindCommand() {
+        assertParseSuccess(parser, " s/ Alce 9435 ", new FindCommand("Alce 9435"));
+        assertParseFailure(parser, " s/  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
 }
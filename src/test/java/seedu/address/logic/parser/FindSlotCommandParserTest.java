@@ -0,0 +1,55 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.FindSlotCommand;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+
+public class FindSlotCommandParserTest {
+    private static final LocalDateTime FROM = LocalDateTime.of(2018, 10, 17, 9, 0);
+    private static final LocalDateTime UNTIL = LocalDateTime.of(2018, 10, 17, 18, 0);
+
+    private FindSlotCommandParser parser = new FindSlotCommandParser();
+
+    @Test
+    public void parse_windowOnly_defaultsUsed() {
+        assertParseSuccess(parser, " d/2018-10-17 09:00 ed/2018-10-17 18:00",
+                new FindSlotCommand(FROM, UNTIL, null, FindSlotCommand.DEFAULT_SLOT_COUNT, null, null, null, null));
+    }
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        assertParseSuccess(parser, " d/2018-10-17 09:00 ed/2018-10-17 18:00 du/45 cnt/3 nd/Mary Jane pd/98765434"
+                        + " np/John Doe pp/98765432",
+                new FindSlotCommand(FROM, UNTIL, Duration.ofMinutes(45), 3, new Name("Mary Jane"),
+                        new Phone("98765434"), new Name("John Doe"), new Phone("98765432")));
+    }
+
+    @Test
+    public void parse_missingEnd_failure() {
+        assertParseFailure(parser, " d/2018-10-17 09:00",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindSlotCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_endBeforeStart_failure() {
+        assertParseFailure(parser, " d/2018-10-17 18:00 ed/2018-10-17 09:00",
+                FindSlotCommandParser.MESSAGE_INVALID_WINDOW);
+    }
+
+    @Test
+    public void parse_invalidCount_failure() {
+        assertParseFailure(parser, " d/2018-10-17 09:00 ed/2018-10-17 18:00 cnt/0",
+                ParserUtil.MESSAGE_INVALID_SLOT_COUNT);
+        assertParseFailure(parser, " d/2018-10-17 09:00 ed/2018-10-17 18:00 du/-5",
+                ParserUtil.MESSAGE_INVALID_DURATION);
+    }
+}
@@ -58,6 +58,7 @@ import seedu.address.logic.commands.RegisterDoctorCommand;
 import seedu.address.logic.commands.RegisterPatientCommand;
 import seedu.address.logic.commands.RemarkCommand;
 import seedu.address.logic.commands.SelectCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.ViewDoctorCommand;
 import seedu.address.logic.commands.ViewPatientCommand;
@@ -144,6 +145,13 @@ public class HealthBookParserTest {
         }
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertEquals(new StatsCommand(), parser.parseCommand(StatsCommand.COMMAND_WORD));
+        assertEquals(new StatsCommand(ListCommand.COMMAND_WORD),
+                parser.parseCommand(StatsCommand.COMMAND_WORD + "  " + ListCommand.COMMAND_WORD + " "));
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
@@ -0,0 +1,67 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.logic.commands.BookingRequest;
+import seedu.address.logic.commands.ImportAppointmentsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+
+public class ImportAppointmentsCommandParserTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private ImportAppointmentsCommandParser parser = new ImportAppointmentsCommandParser();
+
+    @Test
+    public void parse_validFile_returnsImportAppointmentsCommand() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("appointments.csv");
+        Files.write(file, Arrays.asList("# patient,phone,doctor,phone,date",
+                "John Doe,98765432,Mary Jane,,2018-10-17 15:00", "", "Jane Doe,,Mary Jane,98765434,2018-10-17 15:30"));
+
+        ImportAppointmentsCommand expected = new ImportAppointmentsCommand(Arrays.asList(
+                new BookingRequest(new Name("John Doe"), new Phone("98765432"), new Name("Mary Jane"), null,
+                        LocalDateTime.of(2018, 10, 17, 15, 0)),
+                new BookingRequest(new Name("Jane Doe"), null, new Name("Mary Jane"), new Phone("98765434"),
+                        LocalDateTime.of(2018, 10, 17, 15, 30))));
+        assertParseSuccess(parser, " " + file, expected);
+    }
+
+    @Test
+    public void parse_emptyArgs_failure() {
+        assertParseFailure(parser, "  ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportAppointmentsCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_missingFile_failure() {
+        String missing = testFolder.getRoot().toPath().resolve("missing.csv").toString();
+        assertParseFailure(parser, missing, String.format(ImportAppointmentsCommandParser.MESSAGE_UNREADABLE_FILE,
+                missing));
+    }
+
+    @Test
+    public void parseRequests_wrongFieldCount_throwsParseExceptionWithLineNumber() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(String.format(ImportAppointmentsCommandParser.MESSAGE_INVALID_LINE, 2,
+                ImportAppointmentsCommandParser.MESSAGE_WRONG_FIELD_COUNT));
+        ImportAppointmentsCommandParser.parseRequests(Arrays.asList("", "John Doe,Mary Jane,2018-10-17 15:00"));
+    }
+}
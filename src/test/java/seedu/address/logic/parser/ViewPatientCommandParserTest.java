@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SEARCH;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalPatientsAndDoctors.ALICE_PATIENT;
@@ -29,4 +30,10 @@ public class ViewPatientCommandParserTest {
         assertParseSuccess(parser, userInput, expectedViewPatientCommand);
     }
 
+    @Test
+    public void parse_searchQuery_returnsViewPatientCommand() {
+        assertParseSuccess(parser, " " + PREFIX_SEARCH + "alce paulin",
+                new ViewPatientCommand("alce paulin"));
+    }
+
 }
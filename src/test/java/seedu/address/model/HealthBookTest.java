@@ -9,6 +9,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -22,8 +23,13 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentSeries;
+import seedu.address.model.doctor.Doctor;
+import seedu.address.model.patient.Patient;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.testutil.DoctorBuilder;
+import seedu.address.testutil.PatientBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class HealthBookTest {
@@ -44,6 +50,71 @@ public class HealthBookTest {
         healthBook.resetData(null);
     }
 
+    @Test
+    public void removePerson_doctorWithAppointments_appointmentsRemovedFromPatients() {
+        Doctor doctor = new DoctorBuilder().withName("Mary Jane").withPhone("93726272").build();
+        Patient amy = new PatientBuilder().withName("Amy Bee").withPhone("91111111").build();
+        Patient bob = new PatientBuilder().withName("Bob Choo").withPhone("92222222").build();
+        healthBook.addDoctor(doctor);
+        healthBook.addPatient(amy);
+        healthBook.addPatient(bob);
+        // As add-appointment does, the doctor and the patient take on the appointment before the health book
+        Appointment amyAppointment = book(doctor, amy, 10000);
+        Appointment bobAppointment = book(doctor, bob, 10001);
+        Appointment otherAppointment = new Appointment(10002, "Someone Else", "Amy Bee",
+                LocalDateTime.of(2018, 12, 3, 11, 0));
+        amy.addUpcomingAppointment(otherAppointment);
+        healthBook.addAppointment(otherAppointment);
+
+        healthBook.removePerson(doctor);
+
+        assertEquals(Collections.singletonList(otherAppointment), amy.getUpcomingAppointments());
+        assertTrue(bob.getUpcomingAppointments().isEmpty());
+        assertFalse(healthBook.getAppointmentList().contains(amyAppointment));
+        assertFalse(healthBook.getAppointmentList().contains(bobAppointment));
+        assertEquals(Arrays.asList(amy, bob), healthBook.getPersonList());
+    }
+
+    @Test
+    public void removePerson_doctorMovedUpByEarlierRemoval_appointmentsRemovedFromPatients() {
+        Patient amy = new PatientBuilder().withName("Amy Bee").withPhone("91111111").build();
+        Doctor doctor = new DoctorBuilder().withName("Mary Jane").withPhone("93726272").build();
+        Patient bob = new PatientBuilder().withName("Bob Choo").withPhone("92222222").build();
+        healthBook.addPatient(amy);
+        healthBook.addDoctor(doctor);
+        healthBook.addPatient(bob);
+        Appointment bobAppointment = book(doctor, bob, 10000);
+
+        // The doctor and Bob move up one place in the list
+        healthBook.removePerson(amy);
+        healthBook.removePerson(doctor);
+
+        assertTrue(bob.getUpcomingAppointments().isEmpty());
+        assertFalse(healthBook.getAppointmentList().contains(bobAppointment));
+        assertEquals(Collections.singletonList(bob), healthBook.getPersonList());
+    }
+
+    @Test
+    public void removePerson_patientNamedAsDoctor_doctorSeriesKept() {
+        Patient patientAlex = new PatientBuilder().withName("Alex Yeoh").withPhone("91111111").build();
+        Doctor doctorAlex = new DoctorBuilder().withName("Alex Yeoh").withPhone("93333333").build();
+        healthBook.addPatient(patientAlex);
+        healthBook.addDoctor(doctorAlex);
+        AppointmentSeries patientSeries = new AppointmentSeries(10000, "Mary Jane", "93726272", "Alex Yeoh",
+                "91111111", LocalDateTime.of(2018, 12, 3, 9, 0), 7, 52);
+        AppointmentSeries doctorSeries = new AppointmentSeries(10052, "Alex Yeoh", "93333333", "Bob Choo",
+                "92222222", LocalDateTime.of(2018, 12, 3, 9, 0), 7, 52);
+        healthBook.addAppointmentSeries(patientSeries);
+        healthBook.addAppointmentSeries(doctorSeries);
+        assertEquals(Collections.singletonList(patientSeries), healthBook.getAppointmentSeriesOf(patientAlex));
+        assertEquals(Collections.singletonList(doctorSeries), healthBook.getAppointmentSeriesOf(doctorAlex));
+
+        healthBook.removePerson(patientAlex);
+
+        assertEquals(Collections.singletonList(doctorSeries), healthBook.getAppointmentSeriesList());
+        assertEquals(Collections.singletonList(doctorSeries), healthBook.getAppointmentSeriesOf(doctorAlex));
+    }
+
     @Test
     public void resetData_withValidReadOnlyAddressBook_replacesData() {
         HealthBook newData = getTypicalAddressBook();
@@ -94,12 +165,22 @@ public class HealthBookTest {
         healthBook.getPersonList().remove(0);
     }
 
+    private Appointment book(Doctor doctor, Patient patient, int appointmentId) {
+        Appointment appointment = new Appointment(appointmentId, doctor.getName().fullName, patient.getName().fullName,
+                LocalDateTime.of(2018, 12, 3, 9, 0).plusHours(appointmentId % 8));
+        doctor.addUpcomingAppointment(appointment);
+        patient.addUpcomingAppointment(appointment);
+        healthBook.addAppointment(appointment);
+        return appointment;
+    }
+
     /**
      * A stub ReadOnlyHealthBook whose persons list can violate interface constraints.
      */
     private static class HealthBookStub implements ReadOnlyHealthBook {
         private final ObservableList<Person> persons = FXCollections.observableArrayList();
         private final ObservableList<Appointment> appointments = FXCollections.observableArrayList();
+        private final ObservableList<AppointmentSeries> appointmentSeries = FXCollections.observableArrayList();
         private int appointmentCounter;
 
         HealthBookStub(Collection<Person> persons) {
@@ -116,6 +197,11 @@ public class HealthBookTest {
             return appointments;
         }
 
+        @Override
+        public ObservableList<AppointmentSeries> getAppointmentSeriesList() {
+            return appointmentSeries;
+        }
+
         @Override
         public int getAppointmentCounter() {
             return appointmentCounter;
@@ -0,0 +1,59 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Checks that a large health book is loaded into the model in full.
+ * The time taken is measured by {@code ModelManagerStartupBenchmark}, as it depends on the machine.
+ */
+public class ModelManagerPerformanceTest {
+    private static final int PERSON_COUNT = 100_000;
+
+    @Test
+    public void constructor_hundredThousandPersons_allPersonsAndAppointmentsListed() {
+        ModelManager modelManager = new ModelManager(createHealthBook(PERSON_COUNT), new UserPrefs());
+
+        assertEquals(PERSON_COUNT, modelManager.getFilteredPersonList().size());
+        assertEquals(PERSON_COUNT, modelManager.getFilteredAppointmentList().size());
+    }
+
+    /**
+     * Returns a health book with {@code size} patients, each with one upcoming appointment.
+     */
+    private static HealthBook createHealthBook(int size) {
+        List<Person> persons = new ArrayList<>(size);
+        List<Appointment> appointments = new ArrayList<>(size);
+        LocalDateTime start = LocalDateTime.of(2018, 11, 1, 9, 0);
+        for (int i = 0; i < size; i++) {
+            Patient patient = new Patient(new Name("Patient " + i), new Phone(String.valueOf(80000000 + i)),
+                    new Email("patient" + i + "@example.com"), new Address("Blk " + i + " Clementi Ave 3"),
+                    SampleDataUtil.EMPTY_REMARK, SampleDataUtil.getTagSet("Patient"), "123");
+            Appointment appointment = new Appointment(10000 + i, "Doctor", patient.getName().fullName,
+                    start.plusMinutes(30L * i));
+            patient.addUpcomingAppointment(appointment);
+            persons.add(patient);
+            appointments.add(appointment);
+        }
+
+        HealthBook healthBook = new HealthBook();
+        healthBook.setPersons(persons);
+        healthBook.setAppointments(appointments);
+        healthBook.setAppointmentCounter(10000 + size);
+        return healthBook;
+    }
+}
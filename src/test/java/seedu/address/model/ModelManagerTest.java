@@ -1,5 +1,6 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
@@ -8,13 +9,18 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.model.person.Name;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
     @Rule
@@ -45,6 +51,22 @@ public class ModelManagerTest {
         modelManager.getFilteredPersonList().remove(0);
     }
 
+    @Test
+    public void getFilteredPersons_namesakes_onlyShownPersonsWithPhoneFound() {
+        Person otherAlice = new PersonBuilder(ALICE).withPhone("81234567").build();
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(otherAlice)
+                .withPerson(BENSON).build(), new UserPrefs());
+        Name aliceName = new Name(ALICE.getName().fullName.toUpperCase());
+
+        assertEquals(Arrays.asList(ALICE, otherAlice), modelManager.getFilteredPersons(aliceName, null));
+        assertEquals(Collections.singletonList(otherAlice),
+                modelManager.getFilteredPersons(aliceName, new Phone("81234567")));
+        assertTrue(modelManager.getFilteredPersons(aliceName, BENSON.getPhone()).isEmpty());
+
+        modelManager.updateFilteredPersonList(person -> person.getPhone().equals(ALICE.getPhone()));
+        assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredPersons(aliceName, null));
+    }
+
     @Test
     public void equals() {
         HealthBook healthBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -4,6 +4,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.CARL;
@@ -14,7 +15,9 @@ import java.util.List;
 
 import org.junit.Test;
 
+import seedu.address.model.appointment.Appointment;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.AppointmentBuilder;
 
 public class VersionedHealthBookTest {
 
@@ -207,6 +210,84 @@ public class VersionedHealthBookTest {
         assertThrows(VersionedHealthBook.NoRedoableStateException.class, versionedAddressBook::redo);
     }
 
+    @Test
+    public void undo_personLevelChanges_restoresEachCommittedState() {
+        VersionedHealthBook versionedAddressBook = new VersionedHealthBook(addressBookWithAmy);
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+        versionedAddressBook.updatePerson(AMY, CARL);
+        versionedAddressBook.commit();
+        versionedAddressBook.removePerson(BOB);
+        versionedAddressBook.commit();
+
+        assertAddressBookListStatus(versionedAddressBook,
+                Arrays.asList(addressBookWithAmy,
+                        new AddressBookBuilder().withPerson(AMY).withPerson(BOB).build(),
+                        new AddressBookBuilder().withPerson(CARL).withPerson(BOB).build()),
+                addressBookWithCarl,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_discardsChanges() {
+        VersionedHealthBook versionedAddressBook = prepareAddressBookList(emptyAddressBook, addressBookWithAmy);
+        versionedAddressBook.addPerson(BOB);
+
+        versionedAddressBook.undo();
+        assertEquals(emptyAddressBook, new HealthBook(versionedAddressBook));
+        versionedAddressBook.redo();
+        assertEquals(addressBookWithAmy, new HealthBook(versionedAddressBook));
+    }
+
+    @Test
+    public void undo_appointmentAddedAndCounterIncremented_restoresAppointmentsAndCounter() {
+        VersionedHealthBook versionedAddressBook = new VersionedHealthBook(emptyAddressBook);
+        Appointment appointment = new AppointmentBuilder().build();
+        int counter = versionedAddressBook.getAppointmentCounter();
+        versionedAddressBook.addAppointment(appointment);
+        versionedAddressBook.setAppointmentCounter(counter + 1);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertTrue(versionedAddressBook.getAppointmentList().isEmpty());
+        assertEquals(counter, versionedAddressBook.getAppointmentCounter());
+
+        versionedAddressBook.redo();
+        assertEquals(Collections.singletonList(appointment), versionedAddressBook.getAppointmentList());
+        assertEquals(counter + 1, versionedAddressBook.getAppointmentCounter());
+    }
+
+    @Test
+    public void commit_historyLimitReached_oldestStateDropped() {
+        VersionedHealthBook versionedAddressBook = new VersionedHealthBook(emptyAddressBook, 2);
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(ALICE);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        versionedAddressBook.undo();
+        assertEquals(addressBookWithAmy, new HealthBook(versionedAddressBook));
+        assertFalse(versionedAddressBook.canUndo());
+    }
+
+    @Test
+    public void commit_zeroHistoryLimit_cannotUndo() {
+        VersionedHealthBook versionedAddressBook = new VersionedHealthBook(emptyAddressBook, 0);
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+
+        assertFalse(versionedAddressBook.canUndo());
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void constructor_negativeHistoryLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionedHealthBook(emptyAddressBook, -1));
+    }
+
     @Test
     public void equals() {
         VersionedHealthBook versionedAddressBook = prepareAddressBookList(addressBookWithAmy, addressBookWithBob);
@@ -0,0 +1,76 @@
+package seedu.address.model.appointment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class AppointmentIdMapTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final AppointmentIdMap map = new AppointmentIdMap();
+
+    @Test
+    public void get_absentId_returnsNotFound() {
+        assertEquals(AppointmentIdMap.NOT_FOUND, map.get(10000));
+    }
+
+    @Test
+    public void put_existingId_replacesPosition() {
+        map.put(10000, 1);
+        map.put(10000, 2);
+        assertEquals(2, map.get(10000));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void put_manyIds_allFoundAfterResize() {
+        for (int i = 0; i < 5000; i++) {
+            map.put(10000 + i, i);
+        }
+        assertEquals(5000, map.size());
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(i, map.get(10000 + i));
+        }
+    }
+
+    @Test
+    public void remove_idsInterleaved_remainingIdsStillFound() {
+        for (int i = 0; i < 1000; i++) {
+            map.put(10000 + i, i);
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            map.remove(10000 + i);
+        }
+        assertEquals(500, map.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 2 == 0 ? AppointmentIdMap.NOT_FOUND : i, map.get(10000 + i));
+        }
+    }
+
+    @Test
+    public void remove_absentId_doesNothing() {
+        map.put(10000, 0);
+        map.remove(10001);
+        assertTrue(map.containsKey(10000));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void clear_removesAllIds() {
+        map.put(10000, 0);
+        map.clear();
+        assertFalse(map.containsKey(10000));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void put_reservedId_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        map.put(Integer.MIN_VALUE, 0);
+    }
+}
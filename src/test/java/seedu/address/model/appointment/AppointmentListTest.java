@@ -0,0 +1,117 @@
+package seedu.address.model.appointment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.testutil.AppointmentBuilder;
+
+public class AppointmentListTest {
+    private static final Appointment FIRST = new AppointmentBuilder().withAppointmentId(10000).build();
+    private static final Appointment SECOND = new AppointmentBuilder().withAppointmentId(10001).build();
+    private static final Appointment THIRD = new AppointmentBuilder().withAppointmentId(10002).build();
+    private static final Appointment SECOND_WITH_COMMENTS =
+            new AppointmentBuilder(SECOND).withComments("Follow up").build();
+
+    @Test
+    public void of_appointmentList_returnsSameList() {
+        AppointmentList appointmentList = new AppointmentList();
+        assertSame(appointmentList, AppointmentList.of(appointmentList));
+    }
+
+    @Test
+    public void of_otherList_returnsIndexedCopy() {
+        List<Appointment> appointments = new ArrayList<>(Arrays.asList(FIRST, SECOND));
+        AppointmentList appointmentList = AppointmentList.of(appointments);
+        assertEquals(appointments, appointmentList);
+        assertEquals(1, appointmentList.indexOfId(SECOND.getAppointmentId()));
+    }
+
+    @Test
+    public void indexOfId_afterInsertionsAndRemovals_returnsCurrentPositions() {
+        AppointmentList appointmentList = new AppointmentList(Arrays.asList(FIRST, THIRD));
+        appointmentList.add(1, SECOND);
+        assertEquals(0, appointmentList.indexOfId(FIRST.getAppointmentId()));
+        assertEquals(1, appointmentList.indexOfId(SECOND.getAppointmentId()));
+        assertEquals(2, appointmentList.indexOfId(THIRD.getAppointmentId()));
+
+        appointmentList.remove(FIRST);
+        assertEquals(-1, appointmentList.indexOfId(FIRST.getAppointmentId()));
+        assertEquals(0, appointmentList.indexOfId(SECOND.getAppointmentId()));
+        assertEquals(1, appointmentList.indexOfId(THIRD.getAppointmentId()));
+    }
+
+    @Test
+    public void removeById_duplicateIds_removesFirstAndFindsNext() {
+        AppointmentList appointmentList = new AppointmentList(Arrays.asList(SECOND, FIRST, SECOND_WITH_COMMENTS));
+        assertSame(SECOND, appointmentList.removeById(SECOND.getAppointmentId()));
+        assertSame(SECOND_WITH_COMMENTS, appointmentList.findById(SECOND.getAppointmentId()));
+        assertEquals(0, appointmentList.indexOfId(FIRST.getAppointmentId()));
+
+        assertSame(SECOND_WITH_COMMENTS, appointmentList.removeById(SECOND.getAppointmentId()));
+        assertFalse(appointmentList.containsId(SECOND.getAppointmentId()));
+        assertNull(appointmentList.removeById(SECOND.getAppointmentId()));
+    }
+
+    @Test
+    public void set_differentId_reindexesBothIds() {
+        AppointmentList appointmentList = new AppointmentList(Arrays.asList(FIRST, SECOND));
+        appointmentList.set(1, THIRD);
+        assertFalse(appointmentList.containsId(SECOND.getAppointmentId()));
+        assertEquals(1, appointmentList.indexOfId(THIRD.getAppointmentId()));
+    }
+
+    @Test
+    public void iteratorRemove_removesFromIndex() {
+        AppointmentList appointmentList = new AppointmentList(Arrays.asList(FIRST, SECOND, THIRD));
+        Iterator<Appointment> iterator = appointmentList.iterator();
+        iterator.next();
+        iterator.remove();
+        assertFalse(appointmentList.containsId(FIRST.getAppointmentId()));
+        assertEquals(1, appointmentList.indexOfId(THIRD.getAppointmentId()));
+    }
+
+    @Test
+    public void contains_equalAppointmentOnly_returnsTrue() {
+        AppointmentList appointmentList = new AppointmentList(Arrays.asList(FIRST, SECOND));
+        assertTrue(appointmentList.contains(SECOND));
+        assertFalse(appointmentList.contains(THIRD));
+        assertFalse(appointmentList.contains(new AppointmentBuilder(SECOND).withDateTime("2018-11-30 12:00").build()));
+    }
+
+    @Test
+    public void clear_emptiesIndex() {
+        AppointmentList appointmentList = new AppointmentList(Arrays.asList(FIRST, SECOND));
+        appointmentList.clear();
+        assertTrue(appointmentList.isEmpty());
+        assertFalse(appointmentList.containsId(FIRST.getAppointmentId()));
+    }
+
+    @Test
+    public void hasClash_afterChanges_matchesCurrentAppointments() {
+        Appointment morning = new AppointmentBuilder(FIRST).withDateTime("2018-10-30 09:00").build();
+        Appointment noon = new AppointmentBuilder(SECOND).withDateTime("2018-10-30 12:00").build();
+        Appointment noonClash = new AppointmentBuilder().withDateTime("2018-10-30 12:15").build();
+        Appointment morningClash = new AppointmentBuilder().withDateTime("2018-10-30 08:45").build();
+
+        AppointmentList appointmentList = new AppointmentList(Arrays.asList(morning));
+        assertTrue(appointmentList.hasClash(morningClash));
+        assertFalse(appointmentList.hasClash(noonClash));
+
+        appointmentList.set(0, noon);
+        assertFalse(appointmentList.hasClash(morningClash));
+        assertTrue(appointmentList.hasClash(noonClash));
+
+        appointmentList.removeById(noon.getAppointmentId());
+        assertFalse(appointmentList.hasClash(noonClash));
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.model.appointment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class AppointmentSeriesTest {
+
+    private static final LocalDateTime NINE = LocalDateTime.of(2018, 12, 3, 9, 0);
+    private static final AppointmentSeries WEEKLY = new AppointmentSeries(10000, "Carl Kurz", "93333333", "Amy Bee",
+            "91111111", NINE, 7, 52);
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructor_zeroCount_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new AppointmentSeries(10000, "Carl Kurz", "93333333", "Amy Bee", "91111111", NINE, 7, 0);
+    }
+
+    @Test
+    public void getOccurrences_weekly_numberedAndSpacedByRule() {
+        List<Appointment> occurrences = WEEKLY.getOccurrences();
+        assertEquals(52, occurrences.size());
+        assertEquals(10000, occurrences.get(0).getAppointmentId());
+        assertEquals(NINE, occurrences.get(0).getDateTime());
+        assertEquals(10051, occurrences.get(51).getAppointmentId());
+        assertEquals(NINE.plusWeeks(51), occurrences.get(51).getDateTime());
+        assertEquals("Amy Bee", occurrences.get(51).getPatient());
+        assertEquals(WEEKLY.getLastAppointmentId(), occurrences.get(51).getAppointmentId());
+    }
+
+    @Test
+    public void getOccurrencesFrom_midSeries_onlyOccurrencesNotEnded() {
+        List<Appointment> occurrences = WEEKLY.getOccurrencesFrom(NINE.plusWeeks(10).plusMinutes(10));
+        assertEquals(42, occurrences.size());
+        assertEquals(NINE.plusWeeks(10), occurrences.get(0).getDateTime());
+
+        assertEquals(52, WEEKLY.getOccurrencesFrom(NINE.minusYears(1)).size());
+        assertTrue(WEEKLY.getOccurrencesFrom(NINE.plusYears(2)).isEmpty());
+    }
+
+    @Test
+    public void firstStartAfter() {
+        long start = NINE.toEpochSecond(ZoneOffset.UTC);
+        long week = 7 * 24 * 60 * 60;
+        assertEquals(start, WEEKLY.firstStartAfter(start - 1));
+        assertEquals(start + week, WEEKLY.firstStartAfter(start));
+        assertEquals(start + 51 * week, WEEKLY.firstStartAfter(start + 50 * week + 1));
+        assertEquals(Long.MAX_VALUE, WEEKLY.firstStartAfter(start + 51 * week));
+    }
+
+    @Test
+    public void hasClash_appointment() {
+        assertTrue(WEEKLY.hasClash(new Appointment(1, "Dana Lim", "Amy Bee", NINE.plusWeeks(30).plusMinutes(15))));
+        assertFalse(WEEKLY.hasClash(new Appointment(1, "Dana Lim", "Amy Bee", NINE.plusWeeks(30).plusMinutes(30))));
+        assertFalse(WEEKLY.hasClash(new Appointment(1, "Dana Lim", "Amy Bee", NINE.plusWeeks(30).plusDays(1))));
+        assertFalse(WEEKLY.hasClash(new Appointment(1, "Dana Lim", "Amy Bee", NINE.plusWeeks(52))));
+    }
+
+    @Test
+    public void hasClash_series() {
+        // Every other week on the same day and time clashes on the first occurrence
+        assertTrue(WEEKLY.hasClash(new AppointmentSeries(20000, "Dana Lim", "94444444", "Amy Bee", "91111111",
+                NINE, 14, 10)));
+        // Every 10 days from the next day falls on the same weekday once every 70 days
+        assertTrue(WEEKLY.hasClash(new AppointmentSeries(20000, "Dana Lim", "94444444", "Amy Bee", "91111111",
+                NINE.plusDays(1), 10, 10)));
+        // Only ever on the day after
+        assertFalse(WEEKLY.hasClash(new AppointmentSeries(20000, "Dana Lim", "94444444", "Amy Bee", "91111111",
+                NINE.plusDays(1), 7, 60)));
+        // Starts after the last occurrence
+        assertFalse(WEEKLY.hasClash(new AppointmentSeries(20000, "Dana Lim", "94444444", "Amy Bee", "91111111",
+                NINE.plusWeeks(52), 7, 5)));
+    }
+
+    @Test
+    public void isSameSeries_overlappingIds_true() {
+        assertTrue(WEEKLY.isSameSeries(new AppointmentSeries(10051, "Dana Lim", "94444444", "Bob Choo", "92222222",
+                NINE, 1, 1)));
+        assertFalse(WEEKLY.isSameSeries(new AppointmentSeries(10052, "Carl Kurz", "93333333", "Amy Bee", "91111111",
+                NINE, 7, 52)));
+    }
+}
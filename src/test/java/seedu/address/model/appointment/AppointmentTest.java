@@ -1,8 +1,11 @@
 package seedu.address.model.appointment;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.time.Duration;
+
 import org.junit.Test;
 
 import seedu.address.testutil.AppointmentBuilder;
@@ -50,4 +53,26 @@ public class AppointmentTest {
         assertTrue(appointmentBase.hasClashAppointment(appointmentEndTimeClash));
         assertFalse(appointmentBase.hasClashAppointment(appointmentRightAfter));
     }
+
+    @Test
+    public void hasClashAppointment_longerDuration() {
+        Appointment appointmentBase = new AppointmentBuilder().withDateTime("2018-10-30 12:00").build();
+        Appointment appointmentAfter = new AppointmentBuilder().withDateTime("2018-10-30 12:45").build();
+        Appointment appointmentHourAfter = new AppointmentBuilder().withDateTime("2018-10-30 13:00").build();
+
+        try {
+            Appointment.setDuration(Duration.ofHours(1));
+            assertEquals(Duration.ofHours(1), Appointment.getDuration());
+            assertTrue(appointmentBase.hasClashAppointment(appointmentAfter));
+            assertFalse(appointmentBase.hasClashAppointment(appointmentHourAfter));
+        } finally {
+            Appointment.setDuration(Appointment.DEFAULT_DURATION);
+        }
+        assertFalse(appointmentBase.hasClashAppointment(appointmentAfter));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setDuration_zero_throwsIllegalArgumentException() {
+        Appointment.setDuration(Duration.ZERO);
+    }
 }
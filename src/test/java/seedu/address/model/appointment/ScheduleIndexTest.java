@@ -0,0 +1,58 @@
+package seedu.address.model.appointment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ScheduleIndexTest {
+    private static final long DURATION = 30;
+
+    @Test
+    public void hasClash_emptyIndex_returnsFalse() {
+        assertFalse(new ScheduleIndex().hasClash(0, DURATION));
+    }
+
+    @Test
+    public void hasClash_overlappingOrAdjacent() {
+        ScheduleIndex index = new ScheduleIndex();
+        index.add(100);
+        index.add(200);
+
+        assertTrue(index.hasClash(100, DURATION));
+        assertTrue(index.hasClash(71, DURATION));
+        assertTrue(index.hasClash(129, DURATION));
+        assertTrue(index.hasClash(199, DURATION));
+        assertFalse(index.hasClash(70, DURATION));
+        assertFalse(index.hasClash(130, DURATION));
+        assertFalse(index.hasClash(170, DURATION));
+    }
+
+    @Test
+    public void add_manyOutOfOrder_keptSorted() {
+        ScheduleIndex index = new ScheduleIndex();
+        for (int i = 20; i > 0; i--) {
+            index.add(i * 100);
+        }
+        assertEquals(20, index.size());
+        for (int i = 1; i <= 20; i++) {
+            assertTrue(index.hasClash(i * 100 + 10, DURATION));
+            assertFalse(index.hasClash(i * 100 + 50, DURATION));
+        }
+    }
+
+    @Test
+    public void remove_sameStartAddedTwice_removesOne() {
+        ScheduleIndex index = new ScheduleIndex();
+        index.add(100);
+        index.add(100);
+        index.remove(100);
+        assertTrue(index.hasClash(100, DURATION));
+        index.remove(100);
+        assertFalse(index.hasClash(100, DURATION));
+
+        index.remove(100);
+        assertEquals(0, index.size());
+    }
+}
@@ -110,6 +110,37 @@ public class UniqueAppointmentListTest {
         assertEquals(expectedUniqueAppointmentList, uniqueAppointmentList);
     }
 
+    @Test
+    public void remove_appointmentBeforeOtherAppointments_otherAppointmentsStillFound() {
+        Appointment appointmentFour = new AppointmentBuilder().withAppointmentId(12346).build();
+        uniqueAppointmentList.add(APPOINTMENT_ONE);
+        uniqueAppointmentList.add(appointmentFour);
+        uniqueAppointmentList.remove(APPOINTMENT_ONE);
+        assertFalse(uniqueAppointmentList.contains(APPOINTMENT_ONE));
+        assertTrue(uniqueAppointmentList.contains(appointmentFour));
+
+        uniqueAppointmentList.remove(appointmentFour);
+        assertEquals(new UniqueAppointmentList(), uniqueAppointmentList);
+    }
+
+    @Test
+    public void setToComplete_appointmentWithSameIdButDifferentFields_throwsAppointmentNotFoundException() {
+        uniqueAppointmentList.add(APPOINTMENT_ONE);
+        Appointment editedAppointmentOne =
+                new AppointmentBuilder(APPOINTMENT_ONE).withDateTime("2018-10-30 21:00").build();
+        thrown.expect(AppointmentNotFoundException.class);
+        uniqueAppointmentList.setToComplete(editedAppointmentOne);
+    }
+
+    @Test
+    public void setAppointment_editedAppointmentHasDifferentId_indexesNewId() {
+        Appointment appointmentFour = new AppointmentBuilder().withAppointmentId(12346).build();
+        uniqueAppointmentList.add(APPOINTMENT_ONE);
+        uniqueAppointmentList.setAppointment(APPOINTMENT_ONE, appointmentFour);
+        assertFalse(uniqueAppointmentList.contains(APPOINTMENT_ONE));
+        assertTrue(uniqueAppointmentList.contains(appointmentFour));
+    }
+
     @Test
     public void setAppointments_nullUniqueAppointmentList_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
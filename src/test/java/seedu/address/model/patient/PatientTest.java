@@ -1,10 +1,13 @@
 package seedu.address.model.patient;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Collections;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -143,4 +146,30 @@ public class PatientTest {
         assertTrue(patient.hasClashForAppointment(appointmentEndTimeClash));
         assertFalse(patient.hasClashForAppointment(appointmentRightAfter));
     }
+
+    @Test
+    public void getMedicalHistory_detailsLoader_loadedOnceWhenFirstNeeded() {
+        Patient source = new PatientBuilder().withMedicalHistory("milk", "asthma").build();
+        Appointment pastAppointment = new AppointmentBuilder().withAppointmentId(123).build();
+        Appointment upcomingAppointment = new AppointmentBuilder().build();
+        int[] loadCount = {0};
+        Patient patient = new Patient(source.getName(), source.getPhone(), source.getEmail(), source.getAddress(),
+                source.getRemark(), source.getTags(), source.getTelegramId(),
+                Collections.singletonList(upcomingAppointment), () -> {
+                    loadCount[0]++;
+                    return new PatientDetails(Collections.singletonList(pastAppointment),
+                            source.getMedicalHistory());
+                });
+
+        // Upcoming appointments do not need the details
+        assertTrue(patient.hasAppointment(upcomingAppointment.getAppointmentId()));
+        assertEquals(0, loadCount[0]);
+        assertTrue(patient.getDetailsLoader().isPresent());
+
+        assertEquals(source.getMedicalHistory(), patient.getMedicalHistory());
+        assertTrue(patient.hasAppointment(pastAppointment.getAppointmentId()));
+        assertEquals(Collections.singletonList(pastAppointment), patient.getPastAppointments());
+        assertEquals(1, loadCount[0]);
+        assertFalse(patient.getDetailsLoader().isPresent());
+    }
 }
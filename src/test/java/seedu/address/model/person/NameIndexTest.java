@@ -0,0 +1,65 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameIndexTest {
+
+    private final UniquePersonList persons = new UniquePersonList();
+    private final NameIndex index = persons.getNameIndex();
+
+    @Test
+    public void getPersonsWithAnyWord_wordsInDifferentCase_unionOfMatches() {
+        persons.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+
+        assertEquals(asSet(ALICE), index.getPersonsWithAnyWord(Collections.singletonList("aLiCe")));
+        assertEquals(asSet(ALICE, CARL), index.getPersonsWithAnyWord(Arrays.asList("PAULINE", "kurz", "Kunz")));
+        assertTrue(index.getPersonsWithAnyWord(Arrays.asList("Ali", "Meie")).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithAnyWord_listChanged_indexFollows() {
+        persons.add(ALICE);
+        persons.add(BENSON);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Kurz").build();
+        persons.setPerson(ALICE, renamedAlice);
+        persons.remove(BENSON);
+
+        assertEquals(asSet(renamedAlice), index.getPersonsWithAnyWord(Collections.singletonList("kurz")));
+        assertTrue(index.getPersonsWithAnyWord(Arrays.asList("Pauline", "Benson")).isEmpty());
+
+        // As when an edit is undone
+        persons.replaceRange(0, 1, Arrays.asList(ALICE, BENSON));
+        assertEquals(asSet(ALICE, BENSON), index.getPersonsWithAnyWord(Arrays.asList("Pauline", "Benson", "Kurz")));
+    }
+
+    @Test
+    public void anyWordMatcher_listChanged_matchesChangedList() {
+        persons.add(ALICE);
+        Predicate<Person> matcher = index.anyWordMatcher(Collections.singletonList("kurz"));
+        assertFalse(matcher.test(ALICE));
+
+        persons.add(CARL);
+        assertTrue(matcher.test(CARL));
+        persons.remove(CARL);
+        assertFalse(matcher.test(CARL));
+    }
+
+    private static Set<Person> asSet(Person... persons) {
+        return new HashSet<>(Arrays.asList(persons));
+    }
+}
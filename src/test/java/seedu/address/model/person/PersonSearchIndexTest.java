@@ -0,0 +1,82 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final UniquePersonList persons = new UniquePersonList();
+
+    @Test
+    public void search_prefixesOfAnyField_personsFound() {
+        persons.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+
+        assertEquals(Collections.singletonList(ALICE), search("pau", 10, person -> true));
+        // Phone, email and address
+        assertEquals(Collections.singletonList(ALICE), search("9435", 10, person -> true));
+        assertEquals(Collections.singletonList(DANIEL), search("CORNEL", 10, person -> true));
+        assertEquals(Collections.singletonList(BENSON), search("clementi", 10, person -> true));
+        assertTrue(search("zzz", 10, person -> true).isEmpty());
+    }
+
+    @Test
+    public void search_misspelledWords_closestFirst() {
+        persons.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA, GEORGE));
+
+        // Kurz is one letter away from Kunz, as Meier is from Meyer
+        assertEquals(Arrays.asList(FIONA, CARL), search("kunz", 10, person -> true));
+        assertEquals(Arrays.asList(DANIEL, ELLE, BENSON), search("Daniel Meyer", 10, person -> true));
+        assertEquals(Collections.singletonList(ALICE), search("Pualine", 10, person -> true));
+        // Short words are only matched as typed
+        assertTrue(search("bs", 10, person -> true).isEmpty());
+    }
+
+    @Test
+    public void search_limitAndFilter_applied() {
+        persons.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA, GEORGE));
+
+        assertEquals(Arrays.asList(ELLE, FIONA), search("948", 2, person -> true));
+        assertEquals(Collections.singletonList(GEORGE),
+                search("948", 10, person -> person.getName().fullName.startsWith("G")));
+    }
+
+    @Test
+    public void search_listChanged_indexFollows() {
+        persons.add(CARL);
+        Person renamedCarl = new PersonBuilder(CARL).withName("Carl Kunz").build();
+        persons.setPerson(CARL, renamedCarl);
+
+        assertEquals(Collections.singletonList(renamedCarl), search("kunz", 10, person -> true));
+        persons.remove(renamedCarl);
+        assertTrue(search("kunz", 10, person -> true).isEmpty());
+        assertTrue(search("heinz", 10, person -> true).isEmpty());
+    }
+
+    @Test
+    public void editDistance() {
+        assertEquals(0, PersonSearchIndex.editDistance("kurz", "kurz"));
+        assertEquals(1, PersonSearchIndex.editDistance("kurz", "kunz"));
+        assertEquals(2, PersonSearchIndex.editDistance("pauline", "pualine"));
+        assertEquals(4, PersonSearchIndex.editDistance("", "kurz"));
+    }
+
+    private List<Person> search(String query, int limit, Predicate<Person> filter) {
+        return persons.getSearchIndex().search(query, limit, filter);
+    }
+}
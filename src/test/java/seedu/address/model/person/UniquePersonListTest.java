@@ -2,22 +2,35 @@ package seedu.address.model.person;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.testutil.TypicalPatientsAndDoctors.ALICE_PATIENT;
+import static seedu.address.testutil.TypicalPatientsAndDoctors.BENSON_DOCTOR;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.history.ListEdit;
+import seedu.address.model.patient.Patient;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.testutil.AppointmentBuilder;
+import seedu.address.testutil.PatientBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -51,6 +64,13 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSameNameInDifferentCase_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person upperCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        assertTrue(uniquePersonList.contains(upperCaseAlice));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -139,6 +159,48 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personBeforeOtherPersons_otherPersonsStillFound() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.remove(CARL);
+        uniquePersonList.setPerson(BOB, ALICE);
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        thrown.expect(PersonNotFoundException.class);
+        uniquePersonList.remove(editedAlice);
+    }
+
+    @Test
+    public void findPatient_patientInList_returnsPatient() {
+        uniquePersonList.add(BENSON_DOCTOR);
+        uniquePersonList.add(ALICE_PATIENT);
+        assertSame(ALICE_PATIENT, uniquePersonList.findPatient(ALICE_PATIENT));
+    }
+
+    @Test
+    public void findPatient_patientNotInList_throwsPersonNotFoundException() {
+        uniquePersonList.add(BENSON_DOCTOR);
+        thrown.expect(PersonNotFoundException.class);
+        uniquePersonList.findPatient(ALICE_PATIENT);
+    }
+
+    @Test
+    public void findDoctor_doctorInList_returnsDoctor() {
+        uniquePersonList.add(ALICE_PATIENT);
+        uniquePersonList.add(BENSON_DOCTOR);
+        assertSame(BENSON_DOCTOR, uniquePersonList.findDoctor(BENSON_DOCTOR));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -177,6 +239,65 @@ public class UniquePersonListTest {
         uniquePersonList.setPersons(listWithDuplicatePersons);
     }
 
+    @Test
+    public void replaceRange_rangeInMiddle_replacesPersonsAndKeepsOthersFound() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        uniquePersonList.replaceRange(1, 2, Arrays.asList(AMY, BENSON));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(ALICE, AMY, BENSON, CARL));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(BOB));
+        uniquePersonList.remove(CARL);
+        assertTrue(uniquePersonList.contains(BENSON));
+    }
+
+    @Test
+    public void replaceRange_appointmentOwnerMoved_ownerStillFound() {
+        Appointment appointment = new AppointmentBuilder().withAppointmentId(10001).withPatient("Mary Tan").build();
+        Patient mary = new PatientBuilder().withName("Mary Tan").withPhone("81234567").withAppointment(appointment)
+                .build();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, mary));
+        uniquePersonList.replaceRange(0, 2, Collections.singletonList(CARL));
+        assertEquals(Optional.of(mary), uniquePersonList.findPatientWithAppointment(10001));
+        uniquePersonList.remove(CARL);
+        assertEquals(Optional.of(mary), uniquePersonList.findPatientWithAppointment(10001));
+        uniquePersonList.remove(mary);
+        assertEquals(Optional.empty(), uniquePersonList.findPatientWithAppointment(10001));
+    }
+
+    @Test
+    public void replaceRange_personSameAsPersonOutsideRange_throwsDuplicatePersonException() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.replaceRange(1, 2, Collections.singletonList(ALICE));
+    }
+
+    @Test
+    public void setEditRecorder_changesMade_editsReplayToSameList() {
+        List<ListEdit<Person>> edits = new ArrayList<>();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setEditRecorder(edits::add);
+        uniquePersonList.add(BOB);
+        uniquePersonList.setPerson(ALICE, AMY);
+        uniquePersonList.remove(BOB);
+
+        UniquePersonList replayedList = new UniquePersonList();
+        replayedList.add(ALICE);
+        for (ListEdit<Person> edit : edits) {
+            replayedList.replaceRange(edit.getFrom(), edit.getFrom() + edit.getRemoved().size(), edit.getAdded());
+        }
+        assertEquals(uniquePersonList, replayedList);
+
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            ListEdit<Person> inverse = edits.get(i).inverse();
+            replayedList.replaceRange(inverse.getFrom(), inverse.getFrom() + inverse.getRemoved().size(),
+                    inverse.getAdded());
+        }
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        assertEquals(expectedUniquePersonList, replayedList);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -0,0 +1,105 @@
+package seedu.address.model.schedule;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.doctor.Doctor;
+import seedu.address.model.patient.Patient;
+import seedu.address.testutil.AppointmentBuilder;
+import seedu.address.testutil.DoctorBuilder;
+import seedu.address.testutil.PatientBuilder;
+
+public class FreeSlotFinderTest {
+    private static final LocalDateTime NINE = LocalDateTime.of(2018, 10, 30, 9, 0);
+    private static final LocalDateTime NOON = LocalDateTime.of(2018, 10, 30, 12, 0);
+
+    private final Doctor amy = new DoctorBuilder().withName("Amy Bee").withPhone("91111111")
+            .withAppointment(at("2018-10-30 09:00"), at("2018-10-30 09:30"), at("2018-10-30 10:45")).build();
+    private final Doctor bob = new DoctorBuilder().withName("Bob Choo").withPhone("92222222")
+            .withAppointment(at("2018-10-30 09:00")).build();
+
+    @Test
+    public void find_oneDoctor_skipsAppointmentsWithinWindow() {
+        List<FreeSlot> slots = new FreeSlotFinder(NINE, NOON, Appointment.DEFAULT_DURATION, 3)
+                .find(Collections.singletonList(amy));
+        assertEquals(Arrays.asList(new FreeSlot(amy, time(10, 0)), new FreeSlot(amy, time(11, 15))), slots);
+    }
+
+    @Test
+    public void find_severalDoctors_earliestFirst() {
+        List<FreeSlot> slots = new FreeSlotFinder(NINE, NOON, Appointment.DEFAULT_DURATION, 4)
+                .find(Arrays.asList(amy, bob));
+        assertEquals(Arrays.asList(new FreeSlot(bob, time(9, 30)), new FreeSlot(amy, time(10, 0)),
+                new FreeSlot(bob, time(10, 0)), new FreeSlot(bob, time(10, 30))), slots);
+    }
+
+    @Test
+    public void find_withPatient_skipsPatientAppointments() {
+        Patient patient = new PatientBuilder().withAppointment(at("2018-10-30 09:40")).build();
+        List<FreeSlot> slots = new FreeSlotFinder(NINE, NOON, Appointment.DEFAULT_DURATION, 1)
+                .find(Collections.singletonList(bob), patient);
+        assertEquals(Collections.singletonList(new FreeSlot(bob, time(10, 10))), slots);
+    }
+
+    @Test
+    public void find_longerSlots_fitBetweenAppointments() {
+        List<FreeSlot> slots = new FreeSlotFinder(NINE, NOON, Duration.ofMinutes(45), 2)
+                .find(Collections.singletonList(amy));
+        assertEquals(Arrays.asList(new FreeSlot(amy, time(10, 0)), new FreeSlot(amy, time(11, 15))), slots);
+    }
+
+    @Test
+    public void find_windowFull_noSlots() {
+        assertTrue(new FreeSlotFinder(NINE, time(10, 0), Appointment.DEFAULT_DURATION, 5)
+                .find(Collections.singletonList(amy)).isEmpty());
+        assertTrue(new FreeSlotFinder(NINE, NOON, Appointment.DEFAULT_DURATION, 5)
+                .find(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void find_manyDoctors_sameAsOneByOne() {
+        List<Doctor> doctors = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            DoctorBuilder builder = new DoctorBuilder().withName("Doctor " + i).withPhone(String.valueOf(90000000 + i));
+            for (int j = 0; j < 8; j++) {
+                builder.withAppointment(new AppointmentBuilder().withAppointmentId(10000 + 8 * i + j)
+                        .withDateTime(String.format("2018-10-30 %02d:%02d", 9 + j % 3, (i * 7 + j * 13) % 60))
+                        .build());
+            }
+            doctors.add(builder.build());
+        }
+
+        FreeSlotFinder finder = new FreeSlotFinder(NINE, time(18, 0), Appointment.DEFAULT_DURATION, 20);
+        List<FreeSlot> expected = new ArrayList<>();
+        for (Doctor doctor : doctors) {
+            expected.addAll(finder.find(Collections.singletonList(doctor)));
+        }
+        expected.sort((a, b) -> a.getStart().compareTo(b.getStart()) != 0
+                ? a.getStart().compareTo(b.getStart())
+                : Integer.compare(doctors.indexOf(a.getDoctor()), doctors.indexOf(b.getDoctor())));
+        assertEquals(expected.subList(0, 20), finder.find(doctors));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_zeroCount_throwsIllegalArgumentException() {
+        new FreeSlotFinder(NINE, NOON, Appointment.DEFAULT_DURATION, 0);
+    }
+
+    private static Appointment at(String dateTime) {
+        return new AppointmentBuilder().withDateTime(dateTime).build();
+    }
+
+    private static LocalDateTime time(int hour, int minute) {
+        return LocalDateTime.of(2018, 10, 30, hour, minute);
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.HealthBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.patient.Patient;
+import seedu.address.storage.XmlHealthBookStorage;
+
+public class SampleDataGeneratorTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void constructor_patientsWithoutDoctors_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new SampleDataGenerator(10, 0);
+    }
+
+    @Test
+    public void withAppointmentsPerPatient_negative_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new SampleDataGenerator(10, 1).withAppointmentsPerPatient(-1);
+    }
+
+    @Test
+    public void generate_sameSizes_sameHealthBook() {
+        HealthBook healthBook = new SampleDataGenerator(50, 3).generate();
+
+        assertEquals(53, healthBook.getPersonList().size());
+        assertEquals(100, healthBook.getAppointmentList().size());
+        assertEquals(new SampleDataGenerator(50, 3).generate(), healthBook);
+    }
+
+    @Test
+    public void generate_differentSeed_differentHealthBook() {
+        assertNotEquals(new SampleDataGenerator(50, 3).generate(),
+                new SampleDataGenerator(50, 3).withSeed(7).generate());
+    }
+
+    @Test
+    public void generate_shapeGiven_appointmentsPrescriptionsAndMedicalHistoryGenerated() {
+        HealthBook healthBook = new SampleDataGenerator(20, 2)
+                .withAppointmentsPerPatient(3)
+                .withPrescriptionsPerAppointment(4)
+                .withMedicalHistoryEntries(15)
+                .generate();
+
+        assertEquals(60, healthBook.getAppointmentList().size());
+        for (Appointment appointment : healthBook.getAppointmentList()) {
+            assertEquals(4, appointment.getPrescriptions().size());
+        }
+        Patient patient = (Patient) healthBook.getPersonList().get(2);
+        assertEquals(8, patient.getMedicalHistory().getAllergies().size());
+        assertEquals(7, patient.getMedicalHistory().getConditions().size());
+    }
+
+    @Test
+    public void generate_savedAndReadBack_valid() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("Generated.xml");
+        HealthBook healthBook = new SampleDataGenerator(200, 5).withMedicalHistoryEntries(20).generate();
+        XmlHealthBookStorage storage = new XmlHealthBookStorage(filePath);
+
+        storage.saveAddressBook(healthBook);
+        assertEquals(healthBook, new HealthBook(storage.readAddressBook().get()));
+    }
+}
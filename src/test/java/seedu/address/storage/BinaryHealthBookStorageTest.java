@@ -0,0 +1,143 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPatientsAndDoctors.getTypicalAddressBookWithPatientAndDoctor;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.HealthBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentSeries;
+import seedu.address.model.appointment.ConsumptionPerDay;
+import seedu.address.model.appointment.Dosage;
+import seedu.address.model.appointment.MedicineName;
+import seedu.address.model.appointment.Prescription;
+import seedu.address.model.patient.Patient;
+import seedu.address.testutil.AppointmentBuilder;
+import seedu.address.testutil.PatientBuilder;
+
+public class BinaryHealthBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private BinaryHealthBookStorage storage;
+    private HealthBook healthBook;
+    private Patient patient;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempHealthBook" + BinaryHealthBookStorage.FILE_EXTENSION);
+        storage = new BinaryHealthBookStorage(filePath);
+
+        healthBook = getTypicalAddressBookWithPatientAndDoctor();
+        Appointment upcoming = new AppointmentBuilder().withAppointmentId(10001).withPatient("Mary Tan")
+                .withPrescriptions(new ArrayList<>(Collections.singletonList(new Prescription(10001,
+                        new MedicineName("Panadol"), new Dosage("2"), new ConsumptionPerDay("3"))))).build();
+        Appointment past = new AppointmentBuilder().withAppointmentId(10002).withPatient("Mary Tan")
+                .withDateTime("2018-10-01 09:30").withStatus("COMPLETED").build();
+        patient = new PatientBuilder().withName("Mary Tan").withPhone("81234567")
+                .withMedicalHistory("milk", "asthma").withAppointment(upcoming).build();
+        patient.getPastAppointments().add(new AppointmentBuilder(past).withComments("Follow up").build());
+        healthBook.addPatient(patient);
+        healthBook.addAppointment(upcoming);
+        healthBook.addAppointment(past);
+        healthBook.addAppointmentSeries(new AppointmentSeries(10003, "Fiona Kunz", "9482427", "Mary Tan", "81234567",
+                LocalDateTime.of(2018, 12, 3, 9, 0), 7, 52));
+        healthBook.setAppointmentCounter(10055);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_allInOrder_readBackSame() throws Exception {
+        storage.saveAddressBook(healthBook);
+        HealthBook readBack = new HealthBook(storage.readAddressBook().get());
+
+        assertEquals(healthBook, readBack);
+        assertEquals(healthBook.getAppointmentList(), readBack.getAppointmentList());
+        assertEquals(healthBook.getAppointmentCounter(), readBack.getAppointmentCounter());
+        assertEquals(healthBook.getAppointmentSeriesList(), readBack.getAppointmentSeriesList());
+        Appointment appointment = readBack.getAppointmentList().get(0);
+        assertEquals(healthBook.getAppointmentList().get(0).getPrescriptions().get(0).toString(),
+                appointment.getPrescriptions().get(0).toString());
+
+        Patient readBackPatient = (Patient) readBack.getPersonList().get(healthBook.getPersonList().indexOf(patient));
+        assertEquals(patient.getTelegramId(), readBackPatient.getTelegramId());
+        assertEquals(patient.getMedicalHistory(), readBackPatient.getMedicalHistory());
+        assertEquals(patient.getUpcomingAppointments(), readBackPatient.getUpcomingAppointments());
+        assertEquals("Follow up", readBackPatient.getPastAppointments().get(0).getComments());
+        // Appointments kept by a person are separate objects, as when read from XML
+        assertNotSame(appointment, readBackPatient.getUpcomingAppointments().get(0));
+    }
+
+    @Test
+    public void saveAddressBook_prepareSave_writtenOnlyOnWrite() throws Exception {
+        PendingSave save = storage.prepareSave(healthBook);
+        assertFalse(Files.exists(filePath));
+        save.write();
+        assertEquals(healthBook, new HealthBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_sameHealthBook_smallerThanXml() throws Exception {
+        Path xmlPath = testFolder.getRoot().toPath().resolve("TempHealthBook.xml");
+        new XmlHealthBookStorage(xmlPath).saveAddressBook(healthBook);
+        storage.saveAddressBook(healthBook);
+        assertTrue(Files.size(filePath) * 4 < Files.size(xmlPath));
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataConversionException() throws Exception {
+        storage.saveAddressBook(healthBook);
+        byte[] data = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(data, data.length - 1));
+        thrown.expect(DataConversionException.class);
+        storage.readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_xmlFile_throwsDataConversionException() throws Exception {
+        new XmlHealthBookStorage(filePath).saveAddressBook(healthBook);
+        thrown.expect(DataConversionException.class);
+        storage.readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_newerVersion_throwsDataConversionException() throws Exception {
+        storage.saveAddressBook(healthBook);
+        byte[] data = Files.readAllBytes(filePath);
+        data[BinaryHealthBookCodec.MAGIC.length] = BinaryHealthBookCodec.VERSION + 1;
+        Files.write(filePath, data);
+        thrown.expect(DataConversionException.class);
+        storage.readAddressBook();
+    }
+
+    @Test
+    public void isBinaryFile() {
+        assertTrue(BinaryHealthBookStorage.isBinaryFile(filePath));
+        assertFalse(BinaryHealthBookStorage.isBinaryFile(filePath.resolveSibling("healthbook.xml")));
+    }
+}
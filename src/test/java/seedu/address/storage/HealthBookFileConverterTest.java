@@ -0,0 +1,54 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPatientsAndDoctors.getTypicalAddressBookWithPatientAndDoctor;
+
+import java.io.FileNotFoundException;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.HealthBook;
+
+public class HealthBookFileConverterTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void convert_xmlToBinaryAndBack_sameHealthBook() throws Exception {
+        HealthBook healthBook = getTypicalAddressBookWithPatientAndDoctor();
+        Path xmlPath = testFolder.getRoot().toPath().resolve("HealthBook.xml");
+        Path binaryPath = testFolder.getRoot().toPath().resolve("HealthBook" + BinaryHealthBookStorage.FILE_EXTENSION);
+        Path convertedXmlPath = testFolder.getRoot().toPath().resolve("Converted.xml");
+        new XmlHealthBookStorage(xmlPath).saveAddressBook(healthBook);
+
+        HealthBookFileConverter.convert(xmlPath, binaryPath);
+        assertEquals(healthBook, new HealthBook(new BinaryHealthBookStorage(binaryPath).readAddressBook().get()));
+
+        HealthBookFileConverter.convert(binaryPath, convertedXmlPath);
+        assertEquals(healthBook, new HealthBook(new XmlHealthBookStorage(convertedXmlPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void convert_missingSource_throwsFileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        HealthBookFileConverter.convert(testFolder.getRoot().toPath().resolve("missing.xml"),
+                testFolder.getRoot().toPath().resolve("HealthBook" + BinaryHealthBookStorage.FILE_EXTENSION));
+    }
+
+    @Test
+    public void storageFor_extension_matchingFormat() {
+        assertTrue(HealthBookFileConverter.storageFor(testFolder.getRoot().toPath().resolve("a.hbk"))
+                instanceof BinaryHealthBookStorage);
+        assertTrue(HealthBookFileConverter.storageFor(testFolder.getRoot().toPath().resolve("a.xml"))
+                instanceof XmlHealthBookStorage);
+    }
+}
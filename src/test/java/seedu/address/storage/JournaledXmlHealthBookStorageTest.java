@@ -0,0 +1,211 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static seedu.address.testutil.TypicalPatientsAndDoctors.FIONA_DOCTOR;
+import static seedu.address.testutil.TypicalPatientsAndDoctors.IONA_PATIENT;
+import static seedu.address.testutil.TypicalPatientsAndDoctors.getTypicalAddressBookWithPatientAndDoctor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.HealthBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentSeries;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.person.Remark;
+import seedu.address.testutil.AppointmentBuilder;
+import seedu.address.testutil.PatientBuilder;
+
+public class JournaledXmlHealthBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private Path journalPath;
+    private HealthBook healthBook;
+    private JournaledXmlHealthBookStorage storage;
+
+    @Before
+    public void setUp() throws Exception {
+        filePath = testFolder.getRoot().toPath().resolve("TempHealthBook.xml");
+        healthBook = getTypicalAddressBookWithPatientAndDoctor();
+        storage = new JournaledXmlHealthBookStorage(filePath);
+        journalPath = storage.getJournalFilePath();
+        storage.saveAddressBook(healthBook);
+    }
+
+    @Test
+    public void constructor_nonPositiveThreshold_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new JournaledXmlHealthBookStorage(filePath, 0);
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotOnly() throws Exception {
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(journalPath));
+        assertEquals(healthBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_nothingAppended() throws Exception {
+        storage.saveAddressBook(healthBook);
+        assertFalse(Files.exists(journalPath));
+    }
+
+    @Test
+    public void saveAddressBook_personAdded_appendsSmallEntry() throws Exception {
+        long snapshotSize = Files.size(filePath);
+        healthBook.addPatient(IONA_PATIENT);
+        storage.saveAddressBook(healthBook);
+
+        assertEquals(snapshotSize, Files.size(filePath));
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertTrue(Files.size(journalPath) < snapshotSize);
+        assertEquals(healthBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_seriesAdded_writesSnapshot() throws Exception {
+        healthBook.addPatient(IONA_PATIENT);
+        storage.saveAddressBook(healthBook);
+        healthBook.addAppointmentSeries(new AppointmentSeries(20000, "Fiona Kunz", "9482427", "Iona Porter", "9482224",
+                LocalDateTime.of(2018, 12, 3, 9, 0), 7, 52));
+        storage.saveAddressBook(healthBook);
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(healthBook, readBack());
+        assertEquals(healthBook.getAppointmentSeriesList(), readBack().getAppointmentSeriesList());
+    }
+
+    @Test
+    public void saveAddressBook_personsChangedInPlaceAndReplaced_changesReadBack() throws Exception {
+        Patient patient = new PatientBuilder().withName("Mary Tan").withPhone("81234567").build();
+        healthBook.addPatient(patient);
+        storage.saveAddressBook(healthBook);
+
+        Appointment appointment = new AppointmentBuilder().withPatient("Mary Tan").build();
+        patient.addUpcomingAppointment(appointment);
+        healthBook.addAppointment(appointment);
+        healthBook.setAppointmentCounter(healthBook.getAppointmentCounter() + 1);
+        healthBook.updatePerson(FIONA_DOCTOR, new PatientBuilder().withName("Fiona Lim")
+                .withRemark("Moved\nwards").build());
+        storage.saveAddressBook(healthBook);
+
+        assertEquals(2, Files.readAllLines(journalPath).size());
+        HealthBook readBack = readBack();
+        assertEquals(healthBook, readBack);
+        Patient readBackPatient = (Patient) readBack.getPersonList().get(healthBook.getPersonList().indexOf(patient));
+        assertEquals(patient.getUpcomingAppointments(), readBackPatient.getUpcomingAppointments());
+        assertTrue(readBack.getPersonList().stream()
+                .anyMatch(person -> person.getRemark().equals(new Remark("Moved\nwards"))));
+    }
+
+    @Test
+    public void saveAddressBook_thresholdReached_compactsJournal() throws Exception {
+        storage = new JournaledXmlHealthBookStorage(filePath, 2);
+        healthBook = new HealthBook(storage.readAddressBook().get());
+
+        healthBook.addPatient(IONA_PATIENT);
+        storage.saveAddressBook(healthBook);
+        healthBook.setAppointmentCounter(healthBook.getAppointmentCounter() + 1);
+        storage.saveAddressBook(healthBook);
+        assertEquals(2, Files.readAllLines(journalPath).size());
+
+        healthBook.removePerson(IONA_PATIENT);
+        storage.saveAddressBook(healthBook);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(healthBook, readBack());
+    }
+
+    @Test
+    public void prepareSave_earlierQueuedAppendFailed_laterAppendNotWritten() throws Exception {
+        healthBook.addPatient(IONA_PATIENT);
+        PendingSave firstSave = storage.prepareSave(healthBook);
+        healthBook.setAppointmentCounter(healthBook.getAppointmentCounter() + 1);
+        PendingSave secondSave = storage.prepareSave(healthBook);
+
+        // The journal cannot be appended to while a directory is in its place
+        Files.createDirectory(journalPath);
+        assertWriteFails(firstSave);
+        Files.delete(journalPath);
+        assertWriteFails(secondSave);
+        assertFalse(Files.exists(journalPath));
+
+        storage.saveAddressBook(healthBook);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(healthBook, readBack());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_entryIgnored() throws Exception {
+        healthBook.addPatient(IONA_PATIENT);
+        storage.saveAddressBook(healthBook);
+        HealthBook expected = new HealthBook(healthBook);
+
+        healthBook.setAppointmentCounter(healthBook.getAppointmentCounter() + 1);
+        storage.saveAddressBook(healthBook);
+        byte[] journal = Files.readAllBytes(journalPath);
+        Files.write(journalPath, Arrays.copyOf(journal, journal.length - 10));
+
+        assertEquals(expected, readBack());
+    }
+
+    @Test
+    public void readAddressBook_entriesFromOlderSnapshot_entriesIgnored() throws Exception {
+        healthBook.addPatient(IONA_PATIENT);
+        storage.saveAddressBook(healthBook);
+        String staleEntry = new String(Files.readAllBytes(journalPath), StandardCharsets.UTF_8);
+
+        // A new snapshot that is written without the old journal being removed
+        JournaledXmlHealthBookStorage compactingStorage = new JournaledXmlHealthBookStorage(filePath, 1);
+        compactingStorage.readAddressBook();
+        healthBook.removePerson(IONA_PATIENT);
+        compactingStorage.saveAddressBook(healthBook);
+        Files.write(journalPath, staleEntry.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE);
+
+        assertEquals(healthBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesPlainXml() throws Exception {
+        Path otherPath = testFolder.getRoot().toPath().resolve("OtherHealthBook.xml");
+        storage.saveAddressBook(healthBook, otherPath);
+        assertEquals(healthBook, new HealthBook(new XmlHealthBookStorage(otherPath).readAddressBook().get()));
+        assertFalse(Files.exists(otherPath.resolveSibling("OtherHealthBook.xml.journal")));
+    }
+
+    private void assertWriteFails(PendingSave save) {
+        try {
+            save.write();
+            fail("Expected the save to fail");
+        } catch (IOException ioe) {
+            // expected
+        }
+    }
+
+    /**
+     * Reads the health book back with a new storage, as the application does when it starts.
+     */
+    private HealthBook readBack() throws Exception {
+        return new HealthBook(new JournaledXmlHealthBookStorage(filePath).readAddressBook().get());
+    }
+}
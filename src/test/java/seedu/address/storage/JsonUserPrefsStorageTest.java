@@ -15,6 +15,7 @@ import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.VersionedHealthBook;
 
 public class JsonUserPrefsStorageTest {
 
@@ -79,6 +80,13 @@ public class JsonUserPrefsStorageTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void readUserPrefs_negativeUndoHistoryLimit_defaultLimitUsed() throws DataConversionException {
+        UserPrefs actual = readUserPrefs("NegativeUndoHistoryLimitUserPrefs.json").get();
+        assertEquals(VersionedHealthBook.DEFAULT_HISTORY_LIMIT, actual.getUndoHistoryLimit());
+        assertEquals(getTypicalUserPrefs(), actual);
+    }
+
     private UserPrefs getTypicalUserPrefs() {
         UserPrefs userPrefs = new UserPrefs();
         userPrefs.setGuiSettings(1000, 500, 300, 100);
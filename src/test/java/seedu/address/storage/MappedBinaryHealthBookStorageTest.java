@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPatientsAndDoctors.getTypicalAddressBookWithPatientAndDoctor;
+
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.HealthBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AppointmentBuilder;
+import seedu.address.testutil.PatientBuilder;
+
+public class MappedBinaryHealthBookStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private HealthBook healthBook;
+    private Patient patient;
+
+    @Before
+    public void setUp() throws Exception {
+        filePath = testFolder.getRoot().toPath().resolve("TempHealthBook" + BinaryHealthBookStorage.FILE_EXTENSION);
+        healthBook = getTypicalAddressBookWithPatientAndDoctor();
+        Appointment past = new AppointmentBuilder().withAppointmentId(10002).withPatient("Mary Tan")
+                .withStatus("COMPLETED").withComments("Follow up").build();
+        patient = new PatientBuilder().withName("Mary Tan").withPhone("81234567")
+                .withMedicalHistory("milk", "asthma").build();
+        patient.getPastAppointments().add(past);
+        healthBook.addPatient(patient);
+        new BinaryHealthBookStorage(filePath).saveAddressBook(healthBook);
+    }
+
+    @Test
+    public void readAddressBook_detailsLoadedWhenFirstNeeded() throws Exception {
+        HealthBook readBack = new HealthBook(new MappedBinaryHealthBookStorage(filePath).readAddressBook().get());
+        assertEquals(healthBook, readBack);
+        for (Person person : readBack.getPersonList()) {
+            if (person instanceof Patient) {
+                assertTrue(((Patient) person).getDetailsLoader().isPresent());
+            }
+        }
+
+        Patient readBackPatient = getReadBackPatient(readBack);
+        assertEquals(patient.getMedicalHistory(), readBackPatient.getMedicalHistory());
+        assertFalse(readBackPatient.getDetailsLoader().isPresent());
+        assertEquals(patient.getPastAppointments(), readBackPatient.getPastAppointments());
+        assertEquals("Follow up", readBackPatient.getPastAppointments().get(0).getComments());
+    }
+
+    @Test
+    public void saveAddressBook_detailsNotLoaded_detailsKept() throws Exception {
+        MappedBinaryHealthBookStorage storage = new MappedBinaryHealthBookStorage(filePath);
+        HealthBook readBack = new HealthBook(storage.readAddressBook().get());
+        Patient otherPatient = (Patient) readBack.getPersonList().get(0);
+        otherPatient.addAllergy("pollen");
+        storage.saveAddressBook(readBack);
+
+        HealthBook savedBack = new HealthBook(new BinaryHealthBookStorage(filePath).readAddressBook().get());
+        assertEquals(healthBook, savedBack);
+        Patient savedBackPatient = getReadBackPatient(savedBack);
+        assertEquals(patient.getMedicalHistory(), savedBackPatient.getMedicalHistory());
+        assertEquals(patient.getPastAppointments(), savedBackPatient.getPastAppointments());
+        assertEquals(otherPatient.getMedicalHistory(),
+                ((Patient) savedBack.getPersonList().get(0)).getMedicalHistory());
+    }
+
+    private Patient getReadBackPatient(HealthBook readBack) {
+        return (Patient) readBack.getPersonList().get(healthBook.getPersonList().indexOf(patient));
+    }
+}
@@ -0,0 +1,178 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.HealthBook;
+import seedu.address.model.ReadOnlyHealthBook;
+
+public class SaveSchedulerTest {
+
+    private static final long LONG_WINDOW_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final HealthBookStorageStub storage = new HealthBookStorageStub();
+    private final List<IOException> errors = new ArrayList<>();
+
+    @Test
+    public void constructor_negativeWindow_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new SaveScheduler(storage, Runnable::run, -1, errors::add);
+    }
+
+    @Test
+    public void flush_burstOfChanges_writtenOnce() {
+        SaveScheduler scheduler = new SaveScheduler(storage, Runnable::run, LONG_WINDOW_MILLIS, errors::add);
+        HealthBook latest = new HealthBook();
+        scheduler.requestSave(new HealthBook());
+        scheduler.requestSave(new HealthBook());
+        scheduler.requestSave(latest);
+        scheduler.flush();
+
+        assertEquals(1, storage.written.size());
+        assertSame(latest, storage.written.get(0));
+        assertEquals(3, scheduler.getRequestCount());
+        assertEquals(1, scheduler.getWriteCount());
+        assertEquals(2, scheduler.getCoalescedCount());
+        assertEquals(1, scheduler.getWriteLatencies().getCount());
+        assertTrue(errors.isEmpty());
+    }
+
+    @Test
+    public void flush_nothingRequested_nothingWritten() {
+        SaveScheduler scheduler = new SaveScheduler(storage, Runnable::run, LONG_WINDOW_MILLIS, errors::add);
+        scheduler.flush();
+        assertTrue(storage.written.isEmpty());
+        assertEquals(0, scheduler.getCoalescedCount());
+    }
+
+    @Test
+    public void requestSave_windowCloses_writtenInBackground() throws Exception {
+        SaveScheduler scheduler = new SaveScheduler(storage, Runnable::run, 10, errors::add);
+        HealthBook data = new HealthBook();
+        scheduler.requestSave(data);
+
+        assertTrue(storage.writeLatch.await(10, TimeUnit.SECONDS));
+        assertSame(data, storage.written.get(0));
+        scheduler.close();
+        assertEquals(1, storage.written.size());
+    }
+
+    @Test
+    public void flush_writeFails_errorReported() {
+        storage.shouldFail = true;
+        SaveScheduler scheduler = new SaveScheduler(storage, Runnable::run, LONG_WINDOW_MILLIS, errors::add);
+        scheduler.requestSave(new HealthBook());
+        scheduler.flush();
+
+        assertEquals(1, errors.size());
+        assertEquals(0, scheduler.getWriteCount());
+        assertEquals(0, scheduler.getWriteLatencies().getCount());
+    }
+
+    @Test
+    public void flush_writeFailsWithSaveQueuedBehind_queuedSaveDiscardedAndLatestSavedAgain() throws Exception {
+        storage.failuresLeft = 1;
+        storage.firstWriteHeld = true;
+        SaveScheduler scheduler = new SaveScheduler(storage, Runnable::run, 0, errors::add);
+        scheduler.requestSave(new HealthBook());
+        assertTrue(storage.heldWriteLatch.await(10, TimeUnit.SECONDS));
+
+        // Prepared while the first save is being written, which then fails
+        HealthBook latest = new HealthBook();
+        scheduler.requestSave(latest);
+        scheduler.flush();
+
+        assertEquals(1, errors.size());
+        assertEquals(1, storage.written.size());
+        assertSame(latest, storage.written.get(0));
+        assertEquals(3, storage.preparedCount);
+        assertEquals(1, scheduler.getWriteCount());
+    }
+
+    /**
+     * A stub that records the HealthBooks it is asked to save, instead of writing them.
+     */
+    private static class HealthBookStorageStub implements HealthBookStorage {
+        private final List<ReadOnlyHealthBook> written = new ArrayList<>();
+        private final CountDownLatch writeLatch = new CountDownLatch(1);
+        private final CountDownLatch heldWriteLatch = new CountDownLatch(1);
+        private final CountDownLatch secondPrepareLatch = new CountDownLatch(1);
+        private boolean shouldFail;
+        private int failuresLeft;
+        /** Whether the first save waits to be written until another save is prepared. */
+        private boolean firstWriteHeld;
+        private int preparedCount;
+
+        @Override
+        public Path getAddressBookFilePath() {
+            return Paths.get("dummy");
+        }
+
+        @Override
+        public Optional<ReadOnlyHealthBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyHealthBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyHealthBook addressBook) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyHealthBook addressBook, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public synchronized PendingSave prepareSave(ReadOnlyHealthBook addressBook) {
+            preparedCount++;
+            boolean isHeld = firstWriteHeld && preparedCount == 1;
+            if (preparedCount > 1) {
+                secondPrepareLatch.countDown();
+            }
+            return () -> {
+                if (isHeld) {
+                    heldWriteLatch.countDown();
+                    awaitSecondPrepare();
+                }
+                if (shouldFail || failuresLeft-- > 0) {
+                    throw new IOException("dummy exception");
+                }
+                written.add(addressBook);
+                writeLatch.countDown();
+            };
+        }
+
+        private void awaitSecondPrepare() throws IOException {
+            try {
+                if (!secondPrepareLatch.await(10, TimeUnit.SECONDS)) {
+                    throw new AssertionError("No other save was prepared");
+                }
+            } catch (InterruptedException ie) {
+                throw new IOException(ie);
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
@@ -8,6 +9,7 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -83,6 +85,17 @@ public class StorageManagerTest {
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
+    @Test
+    public void handleAddressBookChangedEvent_savedInBackground_writtenOnFlush() throws Exception {
+        Storage storage = new StorageManager(new XmlHealthBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), Runnable::run, TimeUnit.MINUTES.toMillis(10));
+        HealthBook original = getTypicalAddressBook();
+        storage.handleAddressBookChangedEvent(new HealthBookChangedEvent(original));
+        assertFalse(storage.readAddressBook().isPresent());
+
+        storage.flushAddressBook();
+        assertEquals(original, new HealthBook(storage.readAddressBook().get()));
+    }
 
     /**
      * A Stub class to throw an exception when the save method is called
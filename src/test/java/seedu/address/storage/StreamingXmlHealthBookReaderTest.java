@@ -0,0 +1,124 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPatientsAndDoctors.IONA_PATIENT;
+import static seedu.address.testutil.TypicalPatientsAndDoctors.getTypicalAddressBookWithPatientAndDoctor;
+
+import java.io.FileNotFoundException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.HealthBook;
+import seedu.address.model.history.ListEdit;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.TypicalPersons;
+
+public class StreamingXmlHealthBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlSerializableHealthBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsHealthBook.xml");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonHealthBook.xml");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonHealthBook.xml");
+    private static final Path NOT_XML_FILE =
+            Paths.get("src", "test", "data", "XmlHealthBookStorageTest", "NotXmlFormatHealthBook.xml");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        List<Person> personsRead = new ArrayList<>();
+        HealthBook healthBook = StreamingXmlHealthBookReader.read(TYPICAL_PERSONS_FILE, personsRead::add)
+                .toModelType();
+        assertEquals(TypicalPersons.getTypicalAddressBook(), healthBook);
+        assertEquals(healthBook.getPersonList(), personsRead);
+    }
+
+    @Test
+    public void read_savedHealthBook_sameAsSaved() throws Exception {
+        HealthBook original = getTypicalAddressBookWithPatientAndDoctor();
+        Path file = testFolder.getRoot().toPath().resolve("HealthBook.xml");
+        new XmlHealthBookStorage(file).saveAddressBook(original);
+
+        HealthBook healthBook = StreamingXmlHealthBookReader.read(file, person -> {}).toModelType();
+        assertEquals(original, healthBook);
+        assertEquals(original.getAppointmentList(), healthBook.getAppointmentList());
+        assertEquals(original.getAppointmentCounter(), healthBook.getAppointmentCounter());
+    }
+
+    @Test
+    public void read_unknownElements_elementsSkipped() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("HealthBook.xml");
+        String xml = new String(Files.readAllBytes(TYPICAL_PERSONS_FILE), StandardCharsets.UTF_8)
+                .replaceFirst("<persons>", "<!-- comment --><unknown><persons/>text</unknown><persons>");
+        Files.write(file, xml.getBytes(StandardCharsets.UTF_8));
+
+        HealthBook healthBook = StreamingXmlHealthBookReader.read(file, person -> {}).toModelType();
+        assertEquals(TypicalPersons.getTypicalAddressBook(), healthBook);
+    }
+
+    @Test
+    public void read_missingFile_throwsFileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        StreamingXmlHealthBookReader.read(testFolder.getRoot().toPath().resolve("missing.xml"), person -> {});
+    }
+
+    @Test
+    public void read_notXmlFormat_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        StreamingXmlHealthBookReader.read(NOT_XML_FILE, person -> {});
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        StreamingXmlHealthBookReader.read(INVALID_PERSON_FILE, person -> {});
+    }
+
+    @Test
+    public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
+        StreamingXmlHealthBookReader reader = StreamingXmlHealthBookReader.read(DUPLICATE_PERSON_FILE, person -> {});
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlSerializableHealthBook.MESSAGE_DUPLICATE_PERSON);
+        reader.toModelType();
+    }
+
+    @Test
+    public void applyJournalEntry_personAdded_personInHealthBook() throws Exception {
+        StreamingXmlHealthBookReader reader = StreamingXmlHealthBookReader.read(TYPICAL_PERSONS_FILE, person -> {});
+        HealthBook expected = TypicalPersons.getTypicalAddressBook();
+        int end = expected.getPersonList().size();
+        reader.applyJournalEntry(new XmlJournalEntry(0, Collections.singletonList(XmlAdaptedListEdit.ofPersons(
+                new ListEdit<>(end, Collections.emptyList(), Collections.singletonList(IONA_PATIENT)))),
+                Collections.emptyList(), null));
+
+        expected.addPatient(IONA_PATIENT);
+        assertEquals(expected, reader.toModelType());
+    }
+
+    @Test
+    public void applyJournalEntry_editOutsideList_throwsIllegalValueException() throws Exception {
+        StreamingXmlHealthBookReader reader = StreamingXmlHealthBookReader.read(TYPICAL_PERSONS_FILE, person -> {});
+        int end = TypicalPersons.getTypicalAddressBook().getPersonList().size();
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlSerializableHealthBook.MESSAGE_INVALID_EDIT);
+        reader.applyJournalEntry(new XmlJournalEntry(0, Collections.singletonList(XmlAdaptedListEdit.ofPersons(
+                new ListEdit<>(end + 1, Collections.emptyList(), Collections.singletonList(IONA_PATIENT)))),
+                Collections.emptyList(), null));
+    }
+}